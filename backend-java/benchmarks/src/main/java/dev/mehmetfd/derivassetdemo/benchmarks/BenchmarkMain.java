@@ -0,0 +1,65 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The type Benchmark main, runs the benchmarks like the JMH launcher with other defaults.
+ * <p>
+ * Takes the usual JMH options, e.g. a regular expression of the benchmarks to run or
+ * {@code -prof}. Unless told otherwise the results are written as JSON to
+ * {@code results/<version>.json}, one file per version of the application, so runs of different
+ * releases can be compared, and the GC profiler reports the bytes allocated per operation.
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {
+  }
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args the JMH options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException            if a benchmark fails
+   * @throws IOException                if the results directory can not be created
+   */
+  public static void main(String[] args)
+      throws CommandLineOptionException, RunnerException, IOException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+        || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+        || commandLineOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+      Path result = Path.of("results", (version != null ? version : "development") + ".json");
+      Files.createDirectories(result.getParent());
+      options.result(result.toString());
+    }
+    if (commandLineOptions.getProfilers().isEmpty()) {
+      options.addProfiler(GCProfiler.class);
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+/**
+ * The type Cache value benchmark, the values of the Redis entity caches.
+ * <p>
+ * Encodes and decodes Authors and Books with the value serializer of the default cache
+ * configuration the application's caches use, JDK serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueBenchmark {
+
+  /**
+   * The cached value, author or book.
+   */
+  @Param({"author", "book"})
+  public String payload;
+
+  /**
+   * The length of the data of each Book.
+   */
+  @Param({"1000", "100000"})
+  public int dataLength;
+
+  private SerializationPair<Object> serializationPair;
+  private Object value;
+  private byte[] encoded;
+
+  /**
+   * Creates the value and its encoding.
+   */
+  @Setup
+  public void setup() {
+    this.serializationPair = RedisCacheConfiguration.defaultCacheConfig(
+        getClass().getClassLoader()).getValueSerializationPair();
+    this.value = Payloads.value(this.payload, this.dataLength);
+    this.encoded = this.serializationPair.getWriter().write(this.value).array();
+  }
+
+  /**
+   * Encode the value.
+   *
+   * @return the encoded value
+   */
+  @Benchmark
+  public Object encode() {
+    return this.serializationPair.getWriter().write(this.value);
+  }
+
+  /**
+   * Decode the value.
+   *
+   * @return the decoded value
+   */
+  @Benchmark
+  public Object decode() {
+    return this.serializationPair.getReader().read(ByteBuffer.wrap(this.encoded));
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Entity equality benchmark, equals and hashCode of Authors and Books.
+ * <p>
+ * Authors compare and hash every field, their Books included; Books compare and hash every field
+ * but the Author, of which they take the id only. The data of Books is an array and compared and
+ * hashed by identity, so the copies share it. Equality is checked against an equal copy, so every
+ * field is compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityEqualityBenchmark {
+
+  private static final int DATA_LENGTH = 1000;
+
+  private Author author;
+  private Author authorCopy;
+  private Book book;
+  private Book bookCopy;
+
+  /**
+   * Creates the entities and their copies.
+   */
+  @Setup
+  public void setup() {
+    this.author = Payloads.author(DATA_LENGTH);
+    this.authorCopy = Payloads.author(DATA_LENGTH);
+    for (int i = 0; i < Payloads.BOOKS_PER_AUTHOR; i++) {
+      this.authorCopy.getBooks().get(i).setData(this.author.getBooks().get(i).getData());
+    }
+    this.book = this.author.getBooks().get(0);
+    this.bookCopy = this.authorCopy.getBooks().get(0);
+  }
+
+  /**
+   * Compare equal Authors.
+   *
+   * @return whether they are equal
+   */
+  @Benchmark
+  public boolean authorEquals() {
+    return this.author.equals(this.authorCopy);
+  }
+
+  /**
+   * Hash an Author.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int authorHashCode() {
+    return this.author.hashCode();
+  }
+
+  /**
+   * Compare equal Books.
+   *
+   * @return whether they are equal
+   */
+  @Benchmark
+  public boolean bookEquals() {
+    return this.book.equals(this.bookCopy);
+  }
+
+  /**
+   * Hash a Book.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int bookHashCode() {
+    return this.book.hashCode();
+  }
+}
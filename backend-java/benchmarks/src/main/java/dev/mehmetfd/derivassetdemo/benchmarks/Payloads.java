@@ -0,0 +1,88 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * The type Payloads, the values the benchmarks work on, generated from a fixed seed.
+ */
+final class Payloads {
+
+  /**
+   * The Books of each generated Author.
+   */
+  static final int BOOKS_PER_AUTHOR = 5;
+
+  private Payloads() {
+  }
+
+  /**
+   * Generates an Author with its Books.
+   *
+   * @param dataLength the length of the data of each Book
+   * @return the Author
+   */
+  static Author author(int dataLength) {
+    Random random = new Random(49);
+    Author author = new Author();
+    author.setId(1L);
+    author.setName("Author");
+    author.setYearBorn(1000);
+    for (int i = 0; i < BOOKS_PER_AUTHOR; i++) {
+      Book book = new Book();
+      book.setId((long) i + 1);
+      book.setName("Book" + i);
+      book.setYearPublished(2000 + i);
+      book.setAuthor(author);
+      byte[] data = new byte[dataLength];
+      random.nextBytes(data);
+      book.setData(data);
+      author.getBooks().add(book);
+    }
+    return author;
+  }
+
+  /**
+   * Generates a value.
+   *
+   * @param payload    author, book, authorOverview or bookOverview
+   * @param dataLength the length of the data of each Book
+   * @return the value, the overviews as the proxies Spring Data's projection factory makes, the
+   * one of the Author with the stats of its Books as the overview endpoint returns it
+   */
+  static Object value(String payload, int dataLength) {
+    Author author = author(dataLength);
+    Book book = author.getBooks().get(0);
+    SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+    return switch (payload) {
+      case "author" -> author;
+      case "book" -> book;
+      case "authorOverview" -> {
+        Map<String, Object> overview = new HashMap<>();
+        overview.put("id", author.getId());
+        overview.put("name", author.getName());
+        overview.put("yearBorn", author.getYearBorn());
+        overview.put("bookCount", (long) BOOKS_PER_AUTHOR);
+        overview.put("totalDataBytes", (long) BOOKS_PER_AUTHOR * dataLength);
+        overview.put("minYearPublished", 2000);
+        overview.put("maxYearPublished", 2000 + BOOKS_PER_AUTHOR - 1);
+        yield projectionFactory.createProjection(AuthorOverviewWithStatsProjection.class,
+            overview);
+      }
+      case "bookOverview" -> projectionFactory.createProjection(BookOverviewProjection.class,
+          Map.of("id", book.getId(), "name", book.getName(), "yearPublished",
+              book.getYearPublished()));
+      default -> throw new IllegalArgumentException("Unknown payload " + payload);
+    };
+  }
+}
@@ -0,0 +1,258 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Persistence benchmark, the repository calls of the application against a seeded
+ * catalog.
+ * <p>
+ * Starts the JPA layer of {@link PersistenceBenchmarkApplication} against an in-memory H2
+ * database, or a PostgreSQL with {@code -p database=postgresql}, whose catalog is deleted and
+ * seeded with {@code authors} Authors of {@code booksPerAuthor} Books each, with
+ * {@code blobSize} bytes of data per Book. Reads pick a random Author or Book; inserted Books are
+ * deleted after every iteration so the catalog keeps its shape. Deleting measures the cascade
+ * of an Author to its Books only, the Author is inserted before each invocation.
+ * <p>
+ * The PostgreSQL connection is read from system properties of the forked JVM, see
+ * {@link PersistenceBenchmarkApplication#start}; pass them with {@code -jvmArgsAppend}. Its URL
+ * has no default, it has to name a database of its own for the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+
+  private static final long SEED = 50;
+  private static final int AUTHORS_PER_TRANSACTION = 100;
+
+  /**
+   * The database, h2 or postgresql.
+   */
+  @Param({"h2"})
+  public String database;
+
+  /**
+   * Whether Hibernate's second-level and query caches are used.
+   */
+  @Param({"false"})
+  public boolean secondLevelCache;
+
+  /**
+   * The number of seeded Authors.
+   */
+  @Param({"100", "1000"})
+  public int authors;
+
+  /**
+   * The number of Books of each seeded Author.
+   */
+  @Param({"10"})
+  public int booksPerAuthor;
+
+  /**
+   * The length of the data of each Book.
+   */
+  @Param({"1024", "16384"})
+  public int blobSize;
+
+  private ConfigurableApplicationContext context;
+  private AuthorRepository authorRepository;
+  private BookRepository bookRepository;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private long[] authorIds;
+  private long[] bookIds;
+  private long lastSeededBookId;
+  private byte[] data;
+
+  /**
+   * Starts the JPA layer and seeds the catalog.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    this.context = PersistenceBenchmarkApplication.start(this.database, this.secondLevelCache);
+    this.authorRepository = this.context.getBean(AuthorRepository.class);
+    this.bookRepository = this.context.getBean(BookRepository.class);
+    this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+    this.transactionTemplate = new TransactionTemplate(
+        this.context.getBean(PlatformTransactionManager.class));
+
+    // The stats of the Authors are deleted with them
+    this.jdbcTemplate.update("DELETE FROM book");
+    this.jdbcTemplate.update("DELETE FROM author");
+    Random random = new Random(SEED);
+    this.data = new byte[this.blobSize];
+    random.nextBytes(this.data);
+    this.authorIds = new long[this.authors];
+    this.bookIds = new long[this.authors * this.booksPerAuthor];
+    for (int first = 0; first < this.authors; first += AUTHORS_PER_TRANSACTION) {
+      seed(random, first, Math.min(first + AUTHORS_PER_TRANSACTION, this.authors));
+    }
+    for (long bookId : this.bookIds) {
+      this.lastSeededBookId = Math.max(this.lastSeededBookId, bookId);
+    }
+  }
+
+  private void seed(Random random, int firstAuthor, int lastAuthor) {
+    this.transactionTemplate.executeWithoutResult(status -> {
+      for (int i = firstAuthor; i < lastAuthor; i++) {
+        Author author = author("Author" + i, 1000 + random.nextInt(1000));
+        this.authorIds[i] = author.getId();
+        for (int j = 0; j < this.booksPerAuthor; j++) {
+          byte[] bookData = new byte[this.blobSize];
+          random.nextBytes(bookData);
+          Book book = book(author, "Book" + j, 1000 + random.nextInt(1000), bookData);
+          this.bookIds[i * this.booksPerAuthor + j] = book.getId();
+        }
+      }
+    });
+  }
+
+  private Author author(String name, int yearBorn) {
+    Author author = new Author();
+    author.setName(name);
+    author.setYearBorn(yearBorn);
+    return this.authorRepository.save(author);
+  }
+
+  private Book book(Author author, String name, int yearPublished, byte[] bookData) {
+    Book book = new Book();
+    book.setName(name);
+    book.setYearPublished(yearPublished);
+    book.setAuthor(author);
+    book.setData(bookData);
+    return this.bookRepository.save(book);
+  }
+
+  /**
+   * Deletes the Books inserted during the iteration.
+   */
+  @TearDown(Level.Iteration)
+  public void deleteInsertedBooks() {
+    List<Long> insertedBookIds = this.jdbcTemplate.queryForList(
+        "SELECT id FROM book WHERE id > ?", Long.class, this.lastSeededBookId);
+    this.transactionTemplate.executeWithoutResult(
+        status -> this.bookRepository.deleteAllById(insertedBookIds));
+  }
+
+  /**
+   * Closes the context.
+   */
+  @TearDown(Level.Trial)
+  public void close() {
+    this.context.close();
+  }
+
+  private long randomAuthorId() {
+    return this.authorIds[ThreadLocalRandom.current().nextInt(this.authorIds.length)];
+  }
+
+  /**
+   * Find an Author with its Books.
+   *
+   * @return the Author
+   */
+  @Benchmark
+  public Object findAuthorById() {
+    return this.authorRepository.findById(randomAuthorId()).orElseThrow();
+  }
+
+  /**
+   * Get the overview of an Author with its stats.
+   *
+   * @return the overview
+   */
+  @Benchmark
+  public Object getAuthorOverviewById() {
+    return this.authorRepository.getAuthorOverviewById(randomAuthorId()).orElseThrow();
+  }
+
+  /**
+   * Get the overview of a Book.
+   *
+   * @return the overview
+   */
+  @Benchmark
+  public Object getBookOverviewById() {
+    return this.bookRepository.getBookOverviewById(
+        this.bookIds[ThreadLocalRandom.current().nextInt(this.bookIds.length)]).orElseThrow();
+  }
+
+  /**
+   * Insert a Book of a random Author.
+   *
+   * @return the inserted Book
+   */
+  @Benchmark
+  public Object insertBook() {
+    return this.transactionTemplate.execute(status -> book(
+        this.authorRepository.getReferenceById(randomAuthorId()), "Book", 2000, this.data));
+  }
+
+  /**
+   * Delete an Author along with its Books.
+   *
+   * @param insertedAuthor the Author to delete
+   */
+  @Benchmark
+  public void deleteAuthor(InsertedAuthor insertedAuthor) {
+    this.transactionTemplate.executeWithoutResult(
+        status -> this.authorRepository.deleteById(insertedAuthor.id));
+  }
+
+  /**
+   * An Author with {@code booksPerAuthor} Books, inserted before each invocation.
+   */
+  @State(Scope.Thread)
+  public static class InsertedAuthor {
+
+    private long id;
+
+    /**
+     * Inserts the Author and its Books.
+     *
+     * @param benchmark the benchmark
+     */
+    @Setup(Level.Invocation)
+    public void insert(PersistenceBenchmark benchmark) {
+      this.id = benchmark.transactionTemplate.execute(status -> {
+        Author author = benchmark.author("Author", 1000);
+        for (int i = 0; i < benchmark.booksPerAuthor; i++) {
+          benchmark.book(author, "Book" + i, 2000, benchmark.data);
+        }
+        return author.getId();
+      });
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import dev.mehmetfd.derivassetdemo.services.stats.AuthorStatsListener;
+import dev.mehmetfd.derivassetdemo.services.stats.AuthorStatsService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * The type Persistence benchmark application, the JPA layer of the application without its web,
+ * cache and service layers.
+ * <p>
+ * Entities, repositories, migrations and Hibernate settings are the application's, the
+ * {@link AuthorStatsService} included, so inserts and deletes maintain the stats of Authors as
+ * they do in the application.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {RedisAutoConfiguration.class,
+    RedisRepositoriesAutoConfiguration.class})
+@EntityScan("dev.mehmetfd.derivassetdemo.models")
+@EnableJpaRepositories("dev.mehmetfd.derivassetdemo.repositories")
+@Import({AuthorStatsListener.class, AuthorStatsService.class})
+class PersistenceBenchmarkApplication {
+
+  /**
+   * Starts the JPA layer against a database.
+   *
+   * @param database         h2 for an in-memory H2 database, postgresql for the database of the
+   *                         required {@code benchmark.postgresql.url} system property, with the
+   *                         {@code benchmark.postgresql.username} and
+   *                         {@code benchmark.postgresql.password} system properties
+   * @param secondLevelCache whether Hibernate's second-level and query caches are used
+   * @return the started context
+   */
+  static ConfigurableApplicationContext start(String database, boolean secondLevelCache) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    switch (database) {
+      case "h2" -> {
+        properties.put("spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect",
+            "org.hibernate.dialect.H2Dialect");
+      }
+      case "postgresql" -> {
+        // The catalog is deleted, so there is no default that could point at a database in use
+        String url = System.getProperty("benchmark.postgresql.url");
+        if (url == null || url.isBlank()) {
+          throw new IllegalStateException("benchmark.postgresql.url is required, its catalog is"
+              + " deleted, e.g. jdbc:postgresql://localhost:5432/library-management-benchmark"
+              + "?reWriteBatchedInserts=true");
+        }
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username",
+            System.getProperty("benchmark.postgresql.username", "dbuser"));
+        properties.put("spring.datasource.password",
+            System.getProperty("benchmark.postgresql.password", "dbpassword"));
+      }
+      default -> throw new IllegalArgumentException("Unknown database " + database);
+    }
+    properties.put("spring.jpa.properties.hibernate.cache.use_second_level_cache",
+        secondLevelCache);
+    properties.put("spring.jpa.properties.hibernate.cache.use_query_cache", secondLevelCache);
+    properties.put("spring.main.banner-mode", "off");
+    properties.put("logging.level.root", "WARN");
+    // As arguments, default properties would not override the application's
+    String[] arguments = properties.entrySet().stream()
+        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+        .toArray(String[]::new);
+    return new SpringApplicationBuilder(PersistenceBenchmarkApplication.class)
+        .web(WebApplicationType.NONE)
+        .run(arguments);
+  }
+}
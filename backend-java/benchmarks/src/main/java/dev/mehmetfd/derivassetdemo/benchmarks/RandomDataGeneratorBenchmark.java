@@ -0,0 +1,49 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type Random data generator benchmark, the data generated for every new Book.
+ * <p>
+ * The length is random up to the maximum, so the time per operation is the mean over lengths up
+ * to it; {@code 1000000} is the maximum of new Books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomDataGeneratorBenchmark {
+
+  /**
+   * The maximum length of the data.
+   */
+  @Param({"1000", "100000", "1000000"})
+  public int maxLength;
+
+  /**
+   * Generate the data.
+   *
+   * @return the data
+   */
+  @Benchmark
+  public byte[] generateBytes() {
+    return RandomDataGenerator.generateBytes(this.maxLength);
+  }
+}
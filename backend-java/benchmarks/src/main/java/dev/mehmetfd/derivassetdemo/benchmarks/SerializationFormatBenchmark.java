@@ -0,0 +1,102 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.mehmetfd.derivassetdemo.serialization.BinaryFormatConfiguration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The type Serialization format benchmark, compares the cost and the size of the response
+ * formats.
+ * <p>
+ * Serializes the payloads to JSON, CBOR and Smile with the mappers of
+ * {@link BinaryFormatConfiguration}. The size of the serialized payload is logged when each trial
+ * is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+      SerializationFormatBenchmark.class);
+
+  /**
+   * The format, json, cbor or smile.
+   */
+  @Param({"json", "cbor", "smile"})
+  public String format;
+
+  /**
+   * The serialized value, author, book, authorOverview or bookOverview.
+   */
+  @Param({"author", "book", "authorOverview", "bookOverview"})
+  public String payload;
+
+  /**
+   * The length of the data of each Book.
+   */
+  @Param({"1000", "100000"})
+  public int dataLength;
+
+  private ObjectWriter writer;
+  private Object value;
+
+  /**
+   * Creates the writer and the value and logs the size of the serialized value.
+   *
+   * @throws JsonProcessingException if the value can not be serialized
+   */
+  @Setup
+  public void setup() throws JsonProcessingException {
+    this.writer = objectMapper(this.format).writer();
+    this.value = Payloads.value(this.payload, this.dataLength);
+    logger.info("{} {} with {} B of data per Book: {} B", this.format, this.payload,
+        this.dataLength, this.writer.writeValueAsBytes(this.value).length);
+  }
+
+  /**
+   * Serialize the value.
+   *
+   * @return the serialized value
+   * @throws JsonProcessingException if the value can not be serialized
+   */
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return this.writer.writeValueAsBytes(this.value);
+  }
+
+  private static ObjectMapper objectMapper(String format) {
+    BinaryFormatConfiguration configuration = new BinaryFormatConfiguration();
+    return switch (format) {
+      case "json" -> Jackson2ObjectMapperBuilder.json().build();
+      case "cbor" -> configuration.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+          .getObjectMapper();
+      case "smile" -> configuration.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+          .getObjectMapper();
+      default -> throw new IllegalArgumentException("Unknown format " + format);
+    };
+  }
+}
@@ -0,0 +1,89 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.mehmetfd.derivassetdemo.serialization.AuthorOverviewSerializer;
+import dev.mehmetfd.derivassetdemo.serialization.AuthorSerializer;
+import dev.mehmetfd.derivassetdemo.serialization.BookOverviewSerializer;
+import dev.mehmetfd.derivassetdemo.serialization.BookSerializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The type Streaming serializer benchmark, compares the bean serializers with the hand-written
+ * ones.
+ * <p>
+ * Writes the payloads as JSON to a discarding stream, as a response body is written, once with
+ * the bean serializers Jackson builds and once with the serializers the application registers as
+ * JSON components. The GC profiler reports the bytes allocated per response as
+ * {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingSerializerBenchmark {
+
+  /**
+   * The serializers, bean or streaming.
+   */
+  @Param({"bean", "streaming"})
+  public String serializers;
+
+  /**
+   * The serialized value, author, book, authorOverview or bookOverview.
+   */
+  @Param({"author", "book", "authorOverview", "bookOverview"})
+  public String payload;
+
+  /**
+   * The length of the data of each Book.
+   */
+  @Param({"1000", "100000"})
+  public int dataLength;
+
+  private ObjectWriter writer;
+  private Object value;
+
+  /**
+   * Creates the writer and the value.
+   */
+  @Setup
+  public void setup() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if (this.serializers.equals("streaming")) {
+      builder.serializers(new AuthorSerializer(), new BookSerializer(),
+          new AuthorOverviewSerializer(), new BookOverviewSerializer());
+    }
+    this.writer = builder.build().writer();
+    this.value = Payloads.value(this.payload, this.dataLength);
+  }
+
+  /**
+   * Write the value.
+   *
+   * @throws IOException if the value can not be written
+   */
+  @Benchmark
+  public void serialize() throws IOException {
+    this.writer.writeValue(OutputStream.nullOutputStream(), this.value);
+  }
+}
@@ -0,0 +1,24 @@
+#!/bin/sh
+# Extracts the application jar to run from a plain class path and trains an AppCDS archive with
+# the classes loaded while the context refreshes.
+# Usage: build-cds-archive.sh <application jar> <output directory>
+set -e
+
+jar_file=$(realpath "$1")
+output_directory=$2
+
+rm -rf "$output_directory"
+mkdir -p "$output_directory"
+cd "$output_directory"
+jar -xf "$jar_file"
+
+# Class data sharing only archives classes of the application class loader and of jars, so the
+# application classes get a jar of their own that lists the dependencies in its manifest
+{
+  echo "Main-Class: dev.mehmetfd.derivassetdemo.DerivassetDemoApplication"
+  echo "Class-Path: $(ls BOOT-INF/lib/*.jar | tr '\n' ' ')" | fold -w 70 | sed '2,$s/^/ /'
+} > manifest.txt
+jar -cfm application.jar manifest.txt -C BOOT-INF/classes .
+
+java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+  -Dspring.profiles.active=training,fast-startup -jar application.jar
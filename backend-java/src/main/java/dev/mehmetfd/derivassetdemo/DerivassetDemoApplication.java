@@ -8,27 +8,41 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * The type Derivasset demo application.
+ * <p>
+ * R2DBC is only on the classpath in the {@code reactive} build profile, where it belongs to the
+ * reactive application; it is excluded by name so the servlet application starts in both builds.
+ * <p>
+ * The steps of the startup are buffered and served as a timeline by the {@code startup} actuator
+ * endpoint.
  *
  * @author Mehmet F. Dogan (<a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a>)
  */
 @EnableCaching
-@SpringBootApplication
+@EnableScheduling
+@SpringBootApplication(
+    excludeName = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration")
 public class DerivassetDemoApplication {
 
+  private static final int STARTUP_STEPS_CAPACITY = 4096;
+
   /**
    * The entry point of application.
    *
    * @param args the input arguments
    */
   public static void main(String[] args) {
-    SpringApplication.run(DerivassetDemoApplication.class, args);
+    SpringApplication application = new SpringApplication(DerivassetDemoApplication.class);
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+    application.run(args);
   }
 
   @Bean
@@ -0,0 +1,47 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * The type Allocation accounting configuration.
+ * <p>
+ * Active unless {@code app.allocation.enabled} is {@code false}, only on JVMs reporting the
+ * allocation of threads and only while requests run on platform threads, as the allocation of
+ * virtual threads is not reported. Accounts the bytes every request allocates through
+ * {@link AllocationAccountingFilter}, right after the server timing filter.
+ */
+@Configuration
+@ConditionalOnExpression("${app.allocation.enabled:true}"
+    + " and !${spring.threads.virtual.enabled:false}"
+    + " and T(dev.mehmetfd.derivassetdemo.allocation.ThreadAllocation).isSupported()")
+public class AllocationAccountingConfiguration {
+
+  /**
+   * The allocation accounting filter of every request.
+   *
+   * @param meterRegistry    the meter registry
+   * @param baselineRequests the requests of a route its baseline is the mean of
+   * @param growthFactor     the factor of the baseline beyond which a route is growing
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<AllocationAccountingFilter> allocationAccountingFilter(
+      MeterRegistry meterRegistry,
+      @Value("${app.allocation.baseline-requests:100}") int baselineRequests,
+      @Value("${app.allocation.growth-factor:1.5}") double growthFactor) {
+    FilterRegistrationBean<AllocationAccountingFilter> registration = new FilterRegistrationBean<>(
+        new AllocationAccountingFilter(meterRegistry, baselineRequests, growthFactor));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
@@ -0,0 +1,197 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Allocation accounting filter.
+ * <p>
+ * Gives every request its {@link RequestAllocation}, measured through {@link AllocationContext}
+ * on the request thread, the async dispatch thread and the executor threads the request hands
+ * work to, and records it once the response is complete as the
+ * {@code http.server.requests.allocation} distribution with a percentile histogram, tagged with
+ * the method and the route like {@code http.server.requests}. Each route has its
+ * {@link AllocationBaseline}; its recent allocation relative to the baseline is published as
+ * {@code http.server.requests.allocation.growth} and a route starting to grow beyond the growth
+ * factor is logged as a warning. Requests that were partly served by threads that cannot be
+ * measured, such as virtual threads, are not recorded.
+ */
+public class AllocationAccountingFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(AllocationAccountingFilter.class);
+
+  private static final String COMPLETION_ATTRIBUTE =
+      AllocationAccountingFilter.class.getName() + ".completion";
+
+  private final MeterRegistry meterRegistry;
+  private final int baselineRequests;
+  private final double growthFactor;
+  private final Map<String, Map<String, Route>> routes = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new Allocation accounting filter.
+   *
+   * @param meterRegistry    the meter registry
+   * @param baselineRequests the requests of a route its baseline is the mean of
+   * @param growthFactor     the factor of the baseline beyond which a route is growing
+   */
+  public AllocationAccountingFilter(MeterRegistry meterRegistry, int baselineRequests,
+      double growthFactor) {
+    this.meterRegistry = meterRegistry;
+    this.baselineRequests = baselineRequests;
+    this.growthFactor = growthFactor;
+  }
+
+  /**
+   * Gets the baseline of a route.
+   *
+   * @param method the method
+   * @param uri    the route
+   * @return the baseline, {@code null} if the route was not requested yet
+   */
+  public AllocationBaseline getBaseline(String method, String uri) {
+    Map<String, Route> routesByMethod = this.routes.get(uri);
+    Route route = routesByMethod != null ? routesByMethod.get(method) : null;
+    return route != null ? route.baseline : null;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion == null) {
+      if (isAsyncDispatch(request)) {
+        filterChain.doFilter(request, response);
+        return;
+      }
+      completion = new Completion(request.getMethod());
+      request.setAttribute(COMPLETION_ATTRIBUTE, completion);
+    }
+    AllocationContext.start(completion.allocation);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      AllocationContext.stop();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      if (pattern != null) {
+        completion.uri = pattern.toString();
+      }
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(completion);
+      } else {
+        completion.record();
+      }
+    }
+  }
+
+  private Route route(String method, String uri) {
+    Map<String, Route> routesByMethod = this.routes.get(uri);
+    if (routesByMethod == null) {
+      routesByMethod = this.routes.computeIfAbsent(uri, key -> new ConcurrentHashMap<>());
+    }
+    Route route = routesByMethod.get(method);
+    if (route == null) {
+      route = routesByMethod.computeIfAbsent(method, key -> new Route(method, uri));
+    }
+    return route;
+  }
+
+  private class Route {
+
+    private final String name;
+    private final DistributionSummary allocation;
+    private final AllocationBaseline baseline;
+
+    Route(String method, String uri) {
+      this.name = method + " " + uri;
+      this.allocation = DistributionSummary.builder("http.server.requests.allocation")
+          .description("Bytes allocated per request")
+          .baseUnit(BaseUnits.BYTES)
+          .tags("method", method, "uri", uri)
+          .publishPercentileHistogram()
+          .register(meterRegistry);
+      this.baseline = new AllocationBaseline(baselineRequests, growthFactor);
+      Gauge.builder("http.server.requests.allocation.growth", this.baseline,
+              AllocationBaseline::getGrowth)
+          .description("Recent bytes allocated per request relative to the baseline of the route")
+          .tags("method", method, "uri", uri)
+          .register(meterRegistry);
+    }
+
+    void record(long bytes) {
+      this.allocation.record(bytes);
+      if (!this.baseline.record(bytes)) {
+        return;
+      }
+      if (this.baseline.isGrowing()) {
+        logger.warn("{}: allocation grew to {} bytes per request, {} times its baseline of {}",
+            this.name, (long) this.baseline.getRecentBytes(),
+            String.format("%.2f", this.baseline.getGrowth()),
+            (long) this.baseline.getBaselineBytes());
+      } else {
+        logger.info("{}: allocation back to {} bytes per request, baseline {}", this.name,
+            (long) this.baseline.getRecentBytes(), (long) this.baseline.getBaselineBytes());
+      }
+    }
+  }
+
+  private class Completion implements AsyncListener {
+
+    private final String method;
+    private final RequestAllocation allocation = new RequestAllocation();
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private volatile String uri = "UNKNOWN";
+
+    Completion(String method) {
+      this.method = method;
+    }
+
+    void record() {
+      if (this.recorded.compareAndSet(false, true) && this.allocation.isMeasured()) {
+        route(this.method, this.uri).record(this.allocation.getBytes());
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      record();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
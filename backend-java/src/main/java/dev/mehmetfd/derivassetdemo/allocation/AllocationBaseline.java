@@ -0,0 +1,98 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+/**
+ * The type Allocation baseline, tells whether the allocation of a route grows.
+ * <p>
+ * The mean of the first requests of the route is its baseline. Later requests feed an
+ * exponentially weighted mean of the recent allocation, and the route is growing while that
+ * mean exceeds the baseline by the growth factor. Recording is synchronized, it happens once per
+ * request.
+ */
+public class AllocationBaseline {
+
+  private static final double RECENT_WEIGHT = 0.05;
+
+  private final int baselineRequests;
+  private final double growthFactor;
+  private long requests;
+  private double total;
+  private double baselineBytes = Double.NaN;
+  private double recentBytes = Double.NaN;
+  private boolean growing;
+
+  /**
+   * Instantiates a new Allocation baseline.
+   *
+   * @param baselineRequests the requests the baseline is the mean of
+   * @param growthFactor     the factor of the baseline beyond which the route is growing
+   */
+  public AllocationBaseline(int baselineRequests, double growthFactor) {
+    this.baselineRequests = Math.max(1, baselineRequests);
+    this.growthFactor = growthFactor;
+  }
+
+  /**
+   * Records the allocation of a request.
+   *
+   * @param bytes the bytes the request allocated
+   * @return {@code true} if the route started or stopped growing
+   */
+  public synchronized boolean record(long bytes) {
+    if (this.requests < this.baselineRequests) {
+      this.requests++;
+      this.total += bytes;
+      if (this.requests == this.baselineRequests) {
+        this.baselineBytes = this.total / this.requests;
+        this.recentBytes = this.baselineBytes;
+      }
+      return false;
+    }
+    this.recentBytes += (bytes - this.recentBytes) * RECENT_WEIGHT;
+    boolean growingNow = this.recentBytes > this.baselineBytes * this.growthFactor;
+    if (growingNow == this.growing) {
+      return false;
+    }
+    this.growing = growingNow;
+    return true;
+  }
+
+  /**
+   * Whether the recent allocation exceeds the baseline by the growth factor.
+   *
+   * @return {@code true} if growing
+   */
+  public synchronized boolean isGrowing() {
+    return this.growing;
+  }
+
+  /**
+   * Gets the baseline.
+   *
+   * @return the mean bytes per request, {@code NaN} until established
+   */
+  public synchronized double getBaselineBytes() {
+    return this.baselineBytes;
+  }
+
+  /**
+   * Gets the recent allocation.
+   *
+   * @return the weighted mean bytes per request, {@code NaN} until the baseline is established
+   */
+  public synchronized double getRecentBytes() {
+    return this.recentBytes;
+  }
+
+  /**
+   * Gets the recent allocation relative to the baseline.
+   *
+   * @return the growth, {@code NaN} until the baseline is established
+   */
+  public synchronized double getGrowth() {
+    return this.baselineBytes > 0 ? this.recentBytes / this.baselineBytes : Double.NaN;
+  }
+}
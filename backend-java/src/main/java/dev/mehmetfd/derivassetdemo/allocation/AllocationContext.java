@@ -0,0 +1,94 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * The type Allocation context, measures what the current thread allocates for a
+ * {@link RequestAllocation}.
+ * <p>
+ * Started and stopped by {@link AllocationAccountingFilter} on the request thread. Registered
+ * with the {@link ContextRegistry}, so a task a request hands off to an executor measures its
+ * thread from the moment the context is restored there until it is cleared again, and the bytes
+ * the task allocated are charged to the request as well. A thread that cannot be measured, such
+ * as a virtual thread, marks the request as unmeasured instead.
+ */
+public final class AllocationContext {
+
+  private static final ThreadLocal<Measurement> CURRENT = new ThreadLocal<>();
+
+  static {
+    ContextRegistry.getInstance().registerThreadLocalAccessor(new Accessor());
+  }
+
+  private AllocationContext() {
+  }
+
+  /**
+   * Gets the request allocation the current thread allocates for.
+   *
+   * @return the request allocation, {@code null} outside of a measured request
+   */
+  public static RequestAllocation current() {
+    Measurement measurement = CURRENT.get();
+    return measurement != null ? measurement.allocation() : null;
+  }
+
+  static void start(RequestAllocation allocation) {
+    stop();
+    CURRENT.set(new Measurement(allocation, ThreadAllocation.currentThreadAllocatedBytes()));
+  }
+
+  static void stop() {
+    Measurement measurement = CURRENT.get();
+    if (measurement != null) {
+      CURRENT.remove();
+      long endBytes = ThreadAllocation.currentThreadAllocatedBytes();
+      if (measurement.startBytes() < 0 || endBytes < 0) {
+        measurement.allocation().markUnmeasured();
+      } else {
+        measurement.allocation().add(endBytes - measurement.startBytes());
+      }
+    }
+  }
+
+  private record Measurement(RequestAllocation allocation, long startBytes) {
+  }
+
+  private static class Accessor implements ThreadLocalAccessor<RequestAllocation> {
+
+    @Override
+    public Object key() {
+      return AllocationContext.class.getName();
+    }
+
+    @Override
+    public RequestAllocation getValue() {
+      return current();
+    }
+
+    @Override
+    public void setValue(RequestAllocation value) {
+      start(value);
+    }
+
+    @Override
+    public void setValue() {
+      stop();
+    }
+
+    @Override
+    public void restore(RequestAllocation previousValue) {
+      start(previousValue);
+    }
+
+    @Override
+    public void restore() {
+      stop();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The type Request allocation, the bytes allocated on behalf of one request, summed over every
+ * thread that worked for it.
+ */
+public class RequestAllocation {
+
+  private final AtomicLong bytes = new AtomicLong();
+  private volatile boolean measured = true;
+
+  /**
+   * Adds bytes allocated for the request.
+   *
+   * @param allocated the allocated bytes
+   */
+  public void add(long allocated) {
+    this.bytes.addAndGet(allocated);
+  }
+
+  /**
+   * Marks the request as not measured, as a thread that worked for it could not be measured.
+   */
+  public void markUnmeasured() {
+    this.measured = false;
+  }
+
+  /**
+   * Whether every thread that worked for the request was measured.
+   *
+   * @return {@code true} if the bytes are the allocation of the whole request
+   */
+  public boolean isMeasured() {
+    return this.measured;
+  }
+
+  /**
+   * Gets the bytes allocated so far.
+   *
+   * @return the allocated bytes
+   */
+  public long getBytes() {
+    return this.bytes.get();
+  }
+}
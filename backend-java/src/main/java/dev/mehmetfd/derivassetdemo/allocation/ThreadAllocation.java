@@ -0,0 +1,60 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The type Thread allocation, reads the bytes the current thread allocated from the JVM.
+ * <p>
+ * Relies on the {@code com.sun.management} extension of the {@link ThreadMXBean} HotSpot and
+ * OpenJ9 provide; other JVMs report nothing. Virtual threads are not measured either, the JVM
+ * reports their allocation as {@code -1}.
+ */
+public final class ThreadAllocation {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
+  private ThreadAllocation() {
+  }
+
+  private static com.sun.management.ThreadMXBean threadMxBean() {
+    ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    if (!(threadMxBean instanceof com.sun.management.ThreadMXBean allocationMxBean)
+        || !allocationMxBean.isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    if (!allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+      try {
+        allocationMxBean.setThreadAllocatedMemoryEnabled(true);
+      } catch (UnsupportedOperationException | SecurityException exception) {
+        return null;
+      }
+    }
+    return allocationMxBean.isThreadAllocatedMemoryEnabled() ? allocationMxBean : null;
+  }
+
+  /**
+   * Whether the JVM reports the bytes allocated per thread and reporting is enabled.
+   *
+   * @return {@code true} if supported
+   */
+  public static boolean isSupported() {
+    return THREAD_MX_BEAN != null;
+  }
+
+  /**
+   * Gets the bytes the current thread allocated since it started.
+   *
+   * @return the allocated bytes, {@code -1} if not supported or the current thread is virtual
+   */
+  public static long currentThreadAllocatedBytes() {
+    if (THREAD_MX_BEAN == null || Thread.currentThread().isVirtual()) {
+      return -1;
+    }
+    return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+  }
+}
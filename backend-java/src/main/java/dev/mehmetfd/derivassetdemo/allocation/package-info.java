@@ -0,0 +1,8 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+/**
+ * Accounting of the bytes allocated by the requests
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
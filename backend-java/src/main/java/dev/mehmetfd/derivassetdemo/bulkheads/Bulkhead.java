@@ -0,0 +1,61 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * The bulkheads the endpoints are isolated in, each with its own share of the request threads
+ * and its own database pool.
+ */
+public enum Bulkhead {
+  /**
+   * Reads of whole entities and their data, marked with {@link ContentHeavy}.
+   */
+  CONTENT("content"),
+  /**
+   * Every other read, such as overviews, search and stats.
+   */
+  METADATA("metadata"),
+  /**
+   * Every request that is not a {@code GET} or a {@code HEAD}.
+   */
+  WRITE("write");
+
+  private final String name;
+
+  Bulkhead(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the name used in properties and metric tags.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the bulkhead of a request.
+   *
+   * @param method        the HTTP method of the request
+   * @param handlerMethod the handler method of the request
+   * @return the bulkhead
+   */
+  public static Bulkhead of(String method, HandlerMethod handlerMethod) {
+    if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+      return WRITE;
+    }
+    if (handlerMethod.hasMethodAnnotation(ContentHeavy.class)
+        || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ContentHeavy.class)) {
+      return CONTENT;
+    }
+    return METADATA;
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The type Bulkhead configuration.
+ * <p>
+ * Active unless {@code app.bulkheads.enabled} is {@code false}. Every request runs in one of the
+ * {@link Bulkhead}s, each with its own number of requests in flight, so clients saturating the
+ * content-heavy endpoints are rejected there while the overviews keep their threads. The slots,
+ * the requests in flight and the rejections of each bulkhead are published as
+ * {@code http.server.bulkhead.max-concurrent}, {@code http.server.bulkhead.in-flight} and
+ * {@code http.server.bulkhead.rejections}, tagged with the bulkhead. Tasks a request submits run
+ * in its bulkhead too, which {@link BulkheadDataSourceConfiguration} picks the database pool by.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.bulkheads.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfiguration implements WebMvcConfigurer {
+
+  private final Map<Bulkhead, BulkheadSlots> slots = new EnumMap<>(Bulkhead.class);
+
+  /**
+   * Instantiates a new Bulkhead configuration.
+   *
+   * @param meterRegistry         the meter registry
+   * @param contentMaxConcurrent  the requests in flight of the content bulkhead
+   * @param metadataMaxConcurrent the requests in flight of the metadata bulkhead
+   * @param writeMaxConcurrent    the requests in flight of the write bulkhead
+   */
+  @Autowired
+  public BulkheadConfiguration(MeterRegistry meterRegistry,
+      @Value("${app.bulkheads.content.max-concurrent:20}") int contentMaxConcurrent,
+      @Value("${app.bulkheads.metadata.max-concurrent:100}") int metadataMaxConcurrent,
+      @Value("${app.bulkheads.write.max-concurrent:40}") int writeMaxConcurrent) {
+    this.slots.put(Bulkhead.CONTENT, new BulkheadSlots(contentMaxConcurrent));
+    this.slots.put(Bulkhead.METADATA, new BulkheadSlots(metadataMaxConcurrent));
+    this.slots.put(Bulkhead.WRITE, new BulkheadSlots(writeMaxConcurrent));
+    this.slots.forEach((bulkhead, bulkheadSlots) -> {
+      Gauge.builder("http.server.bulkhead.max-concurrent", bulkheadSlots,
+              BulkheadSlots::getMaxConcurrent)
+          .description("Requests a bulkhead admits in flight at once")
+          .tag("bulkhead", bulkhead.getName())
+          .register(meterRegistry);
+      Gauge.builder("http.server.bulkhead.in-flight", bulkheadSlots, BulkheadSlots::getInFlight)
+          .description("Requests in flight in a bulkhead")
+          .tag("bulkhead", bulkhead.getName())
+          .register(meterRegistry);
+      FunctionCounter.builder("http.server.bulkhead.rejections", bulkheadSlots,
+              BulkheadSlots::getRejections)
+          .description("Requests rejected by a full bulkhead")
+          .tag("bulkhead", bulkhead.getName())
+          .register(meterRegistry);
+    });
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new BulkheadInterceptor(this.slots));
+  }
+}
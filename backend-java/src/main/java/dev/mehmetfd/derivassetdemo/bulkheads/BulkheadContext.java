@@ -0,0 +1,44 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * The type Bulkhead context, holds the bulkhead of the request the current thread works for.
+ * <p>
+ * Set by {@link BulkheadInterceptor} on the request thread and registered with the
+ * {@link ContextRegistry}, so the work a request hands off to an executor, e.g. streaming a
+ * response, stays in its bulkhead.
+ */
+public final class BulkheadContext {
+
+  private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+  static {
+    ContextRegistry.getInstance().registerThreadLocalAccessor(BulkheadContext.class.getName(),
+        CURRENT::get, CURRENT::set, CURRENT::remove);
+  }
+
+  private BulkheadContext() {
+  }
+
+  /**
+   * Gets the bulkhead of the current thread.
+   *
+   * @return the bulkhead, {@code null} outside of a request
+   */
+  public static Bulkhead current() {
+    return CURRENT.get();
+  }
+
+  static void set(Bulkhead bulkhead) {
+    CURRENT.set(bulkhead);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
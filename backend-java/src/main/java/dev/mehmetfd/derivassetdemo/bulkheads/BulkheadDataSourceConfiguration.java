@@ -0,0 +1,281 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.mehmetfd.derivassetdemo.datasource.ReadWriteRoutingDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * The type Bulkhead data source configuration.
+ * <p>
+ * Only active when {@code app.bulkheads.pools.enabled} is {@code true}. Each {@link Bulkhead} gets
+ * its own connection pool of {@code app.bulkheads.<bulkhead>.pool-size} connections, so slow reads
+ * of Book data wait for connections of their own instead of the ones the overviews and writes
+ * need. Everything outside of a request uses the default pool of
+ * {@code app.bulkheads.default.pool-size} connections, which only opens them while such work
+ * runs. Every pool is built from {@code spring.datasource.*} and configured by
+ * {@code spring.datasource.hikari.*}, but for its name and size.
+ * <p>
+ * When a read replica is configured with {@code app.datasource.replica.url}, the read bulkheads
+ * get a second pool each on the replica, and the routing of {@link ReadWriteRoutingDataSource}
+ * picks between the pools of the bulkhead: read-only transactions use the replica pool, every
+ * other transaction the primary pool. The pools are published as {@code hikaricp.connections.*},
+ * tagged with the pool name.
+ */
+@Configuration
+@ConditionalOnExpression("${app.bulkheads.enabled:true} and ${app.bulkheads.pools.enabled:false}")
+public class BulkheadDataSourceConfiguration {
+
+  /**
+   * Settings shared by the pools, bound from {@code spring.datasource.hikari.*}.
+   *
+   * @return the settings
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariConfig bulkheadHikariConfig() {
+    return new HikariConfig();
+  }
+
+  /**
+   * Default data source, used outside of requests.
+   *
+   * @param dataSourceProperties the spring.datasource properties
+   * @param hikariConfig         the settings shared by the pools
+   * @param poolSize             the maximum pool size
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource defaultDataSource(DataSourceProperties dataSourceProperties,
+      @Qualifier("bulkheadHikariConfig") HikariConfig hikariConfig,
+      @Value("${app.bulkheads.default.pool-size:4}") int poolSize) {
+    HikariDataSource dataSource = pool(hikariConfig, dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+        dataSourceProperties.determineDriverClassName(), "default", poolSize);
+    dataSource.setMinimumIdle(0);
+    return dataSource;
+  }
+
+  /**
+   * Data source of the content bulkhead.
+   *
+   * @param dataSourceProperties the spring.datasource properties
+   * @param hikariConfig         the settings shared by the pools
+   * @param poolSize             the maximum pool size
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource contentDataSource(DataSourceProperties dataSourceProperties,
+      @Qualifier("bulkheadHikariConfig") HikariConfig hikariConfig,
+      @Value("${app.bulkheads.content.pool-size:4}") int poolSize) {
+    return pool(hikariConfig, dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+        dataSourceProperties.determineDriverClassName(), Bulkhead.CONTENT.getName(), poolSize);
+  }
+
+  /**
+   * Data source of the metadata bulkhead.
+   *
+   * @param dataSourceProperties the spring.datasource properties
+   * @param hikariConfig         the settings shared by the pools
+   * @param poolSize             the maximum pool size
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource metadataDataSource(DataSourceProperties dataSourceProperties,
+      @Qualifier("bulkheadHikariConfig") HikariConfig hikariConfig,
+      @Value("${app.bulkheads.metadata.pool-size:6}") int poolSize) {
+    return pool(hikariConfig, dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+        dataSourceProperties.determineDriverClassName(), Bulkhead.METADATA.getName(), poolSize);
+  }
+
+  /**
+   * Data source of the write bulkhead.
+   *
+   * @param dataSourceProperties the spring.datasource properties
+   * @param hikariConfig         the settings shared by the pools
+   * @param poolSize             the maximum pool size
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource writeDataSource(DataSourceProperties dataSourceProperties,
+      @Qualifier("bulkheadHikariConfig") HikariConfig hikariConfig,
+      @Value("${app.bulkheads.write.pool-size:4}") int poolSize) {
+    return pool(hikariConfig, dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+        dataSourceProperties.determineDriverClassName(), Bulkhead.WRITE.getName(), poolSize);
+  }
+
+  /**
+   * Routing data source used by JPA and JDBC.
+   *
+   * @param defaultDataSource         the default data source
+   * @param contentDataSource         the data source of the content bulkhead
+   * @param metadataDataSource        the data source of the metadata bulkhead
+   * @param writeDataSource           the data source of the write bulkhead
+   * @param replicaDataSource         the default data source on the replica, if configured
+   * @param replicaContentDataSource  the data source of the content bulkhead on the replica
+   * @param replicaMetadataDataSource the data source of the metadata bulkhead on the replica
+   * @return the data source
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("defaultDataSource") DataSource defaultDataSource,
+      @Qualifier("contentDataSource") DataSource contentDataSource,
+      @Qualifier("metadataDataSource") DataSource metadataDataSource,
+      @Qualifier("writeDataSource") DataSource writeDataSource,
+      @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+      @Qualifier("replicaContentDataSource") ObjectProvider<DataSource> replicaContentDataSource,
+      @Qualifier("replicaMetadataDataSource")
+      ObjectProvider<DataSource> replicaMetadataDataSource) {
+    Map<Object, Object> primaryDataSources = new HashMap<>();
+    primaryDataSources.put(Bulkhead.CONTENT, contentDataSource);
+    primaryDataSources.put(Bulkhead.METADATA, metadataDataSource);
+    primaryDataSources.put(Bulkhead.WRITE, writeDataSource);
+    DataSource primary = bulkheadRouting(primaryDataSources, defaultDataSource);
+
+    DataSource replicaDefault = replicaDataSource.getIfAvailable();
+    if (replicaDefault == null) {
+      return primary;
+    }
+    Map<Object, Object> replicaDataSources = new HashMap<>();
+    replicaDataSources.put(Bulkhead.CONTENT, replicaContentDataSource.getObject());
+    replicaDataSources.put(Bulkhead.METADATA, replicaMetadataDataSource.getObject());
+    return readWriteRouting(primary, bulkheadRouting(replicaDataSources, replicaDefault));
+  }
+
+  static DataSource bulkheadRouting(Map<Object, Object> targetDataSources,
+      DataSource defaultDataSource) {
+    BulkheadRoutingDataSource routingDataSource = new BulkheadRoutingDataSource();
+    routingDataSource.setTargetDataSources(targetDataSources);
+    routingDataSource.setDefaultTargetDataSource(defaultDataSource);
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  static DataSource readWriteRouting(DataSource primary, DataSource replica) {
+    Map<Object, Object> targetDataSources = new HashMap<>();
+    targetDataSources.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+    targetDataSources.put(ReadWriteRoutingDataSource.REPLICA, replica);
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+    routingDataSource.setTargetDataSources(targetDataSources);
+    routingDataSource.setDefaultTargetDataSource(primary);
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  static HikariDataSource pool(HikariConfig hikariConfig, String url, String username,
+      String password, String driverClassName, String name, int maximumPoolSize) {
+    HikariDataSource dataSource = new HikariDataSource();
+    hikariConfig.copyStateTo(dataSource);
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    if (driverClassName != null && !driverClassName.isBlank()) {
+      dataSource.setDriverClassName(driverClassName);
+    }
+    dataSource.setPoolName(name);
+    dataSource.setMaximumPoolSize(maximumPoolSize);
+    return dataSource;
+  }
+
+  /**
+   * The type Replica pools, only active when a read replica is configured.
+   */
+  @Configuration
+  @ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+  static class ReplicaPools {
+
+    private final HikariConfig hikariConfig;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String driverClassName;
+
+    /**
+     * Instantiates new Replica pools.
+     *
+     * @param hikariConfig    the settings shared by the pools
+     * @param url             the replica url
+     * @param username        the replica username
+     * @param password        the replica password
+     * @param driverClassName the replica driver class name
+     */
+    ReplicaPools(@Qualifier("bulkheadHikariConfig") HikariConfig hikariConfig,
+        @Value("${app.datasource.replica.url}") String url,
+        @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+        String username,
+        @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+        String password,
+        @Value("${app.datasource.replica.driver-class-name:"
+            + "${spring.datasource.driver-class-name:}}") String driverClassName) {
+      this.hikariConfig = hikariConfig;
+      this.url = url;
+      this.username = username;
+      this.password = password;
+      this.driverClassName = driverClassName;
+    }
+
+    /**
+     * Default data source on the replica, used by read-only transactions outside of the read
+     * bulkheads.
+     *
+     * @param poolSize the maximum pool size
+     * @return the data source
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(
+        @Value("${app.datasource.replica.maximum-pool-size:10}") int poolSize) {
+      return replicaPool("replica", poolSize);
+    }
+
+    /**
+     * Data source of the content bulkhead on the replica.
+     *
+     * @param poolSize the maximum pool size
+     * @return the data source
+     */
+    @Bean
+    public HikariDataSource replicaContentDataSource(
+        @Value("${app.bulkheads.content.pool-size:4}") int poolSize) {
+      return replicaPool("replica-" + Bulkhead.CONTENT.getName(), poolSize);
+    }
+
+    /**
+     * Data source of the metadata bulkhead on the replica.
+     *
+     * @param poolSize the maximum pool size
+     * @return the data source
+     */
+    @Bean
+    public HikariDataSource replicaMetadataDataSource(
+        @Value("${app.bulkheads.metadata.pool-size:6}") int poolSize) {
+      return replicaPool("replica-" + Bulkhead.METADATA.getName(), poolSize);
+    }
+
+    private HikariDataSource replicaPool(String name, int poolSize) {
+      HikariDataSource dataSource = pool(this.hikariConfig, this.url, this.username,
+          this.password, this.driverClassName, name, poolSize);
+      dataSource.setReadOnly(true);
+      return dataSource;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+/**
+ * The type Bulkhead full exception, thrown when a request finds every slot of its bulkhead
+ * taken.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+  /**
+   * Instantiates a new Bulkhead full exception.
+   *
+   * @param bulkhead the bulkhead
+   */
+  public BulkheadFullException(Bulkhead bulkhead) {
+    super("Bulkhead " + bulkhead.getName() + " is full");
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * The type Bulkhead interceptor.
+ * <p>
+ * Puts every request in its {@link Bulkhead}, takes a slot of it or throws
+ * {@link BulkheadFullException}, and exposes the bulkhead through {@link BulkheadContext} while
+ * the request is handled. A request keeps its slot until its response is complete, including
+ * asynchronous and streaming responses.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+  private final Map<Bulkhead, BulkheadSlots> slots;
+
+  /**
+   * Instantiates a new Bulkhead interceptor.
+   *
+   * @param slots the slots of every bulkhead
+   */
+  public BulkheadInterceptor(Map<Bulkhead, BulkheadSlots> slots) {
+    this.slots = slots;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+    if (permit == null) {
+      if (request.getDispatcherType() != DispatcherType.REQUEST) {
+        return true;
+      }
+      Bulkhead bulkhead = Bulkhead.of(request.getMethod(), handlerMethod);
+      BulkheadSlots bulkheadSlots = this.slots.get(bulkhead);
+      if (!bulkheadSlots.tryAcquire()) {
+        throw new BulkheadFullException(bulkhead);
+      }
+      permit = new Permit(bulkhead, bulkheadSlots);
+      request.setAttribute(PERMIT_ATTRIBUTE, permit);
+    }
+    BulkheadContext.set(permit.bulkhead);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    BulkheadContext.clear();
+    Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+    if (permit != null) {
+      request.getAsyncContext().addListener(permit);
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception exception) {
+    BulkheadContext.clear();
+    Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+    if (permit != null && !request.isAsyncStarted()) {
+      permit.release();
+    }
+  }
+
+  private static class Permit implements AsyncListener {
+
+    private final Bulkhead bulkhead;
+    private final BulkheadSlots slots;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Permit(Bulkhead bulkhead, BulkheadSlots slots) {
+      this.bulkhead = bulkhead;
+      this.slots = slots;
+    }
+
+    void release() {
+      if (this.released.compareAndSet(false, true)) {
+        this.slots.release();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
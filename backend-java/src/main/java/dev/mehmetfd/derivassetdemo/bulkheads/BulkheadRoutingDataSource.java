@@ -0,0 +1,22 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * The type Bulkhead routing data source.
+ * <p>
+ * Hands out connections from the pool of the bulkhead the current thread works for, see
+ * {@link BulkheadContext}, and from the default pool to work outside of any request, such as
+ * migrations, imports and the write-behind workers.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return BulkheadContext.current();
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Bulkhead slots, the requests one bulkhead may have in flight at once.
+ * <p>
+ * A request either takes a slot right away or is rejected; it never waits, so a full bulkhead
+ * does not hold request threads the other bulkheads need.
+ */
+public class BulkheadSlots {
+
+  private final int maxConcurrent;
+  private final Semaphore semaphore;
+  private final LongAdder rejections = new LongAdder();
+
+  /**
+   * Instantiates new Bulkhead slots.
+   *
+   * @param maxConcurrent the number of slots
+   */
+  public BulkheadSlots(int maxConcurrent) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("A bulkhead needs at least one slot");
+    }
+    this.maxConcurrent = maxConcurrent;
+    this.semaphore = new Semaphore(maxConcurrent);
+  }
+
+  /**
+   * Takes a slot if one is free.
+   *
+   * @return {@code true} if a slot was taken, then {@link #release()} must follow
+   */
+  public boolean tryAcquire() {
+    if (this.semaphore.tryAcquire()) {
+      return true;
+    }
+    this.rejections.increment();
+    return false;
+  }
+
+  /**
+   * Frees a slot.
+   */
+  public void release() {
+    this.semaphore.release();
+  }
+
+  /**
+   * Gets the number of slots.
+   *
+   * @return the number of slots
+   */
+  public int getMaxConcurrent() {
+    return this.maxConcurrent;
+  }
+
+  /**
+   * Gets the number of requests in flight.
+   *
+   * @return the number of requests in flight
+   */
+  public int getInFlight() {
+    return this.maxConcurrent - this.semaphore.availablePermits();
+  }
+
+  /**
+   * Gets the number of rejected requests.
+   *
+   * @return the number of rejected requests
+   */
+  public long getRejections() {
+    return this.rejections.sum();
+  }
+}
@@ -0,0 +1,25 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts the reads of a handler method, or of every handler method of a controller, in the
+ * {@link Bulkhead#CONTENT} bulkhead.
+ * <p>
+ * Meant for handlers whose responses carry the data of Books, which may be many megabytes each,
+ * so a client pulling them can only take the threads and connections of that bulkhead.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ContentHeavy {
+
+}
@@ -4,8 +4,12 @@
  */
 package dev.mehmetfd.derivassetdemo.controllers.author_controller;
 
+import dev.mehmetfd.derivassetdemo.bulkheads.ContentHeavy;
+import dev.mehmetfd.derivassetdemo.execution.RunOnRequestThread;
 import dev.mehmetfd.derivassetdemo.models.Author;
-import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import dev.mehmetfd.derivassetdemo.queries.QueryBudget;
+import dev.mehmetfd.derivassetdemo.serialization.BinaryFormatConfiguration;
 import dev.mehmetfd.derivassetdemo.services.AuthorService;
 import jakarta.validation.Valid;
 import java.util.Optional;
@@ -46,7 +50,10 @@ public class AuthorController {
    * @param authorId the author id
    * @return the author by id
    */
-  @GetMapping(value = "/{authorId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  @ContentHeavy
+  @QueryBudget(statements = 2)
+  @GetMapping(value = "/{authorId}", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
   public ResponseEntity<Author> getAuthorById(@PathVariable Long authorId) {
     Optional<Author> authorOptional = authorService.getAuthor(authorId);
     return authorOptional.map(ResponseEntity::ok)
@@ -59,7 +66,11 @@ public class AuthorController {
    * @param authorId the author id
    * @return the author by id cached
    */
-  @GetMapping(value = "/{authorId}/cached", produces = MediaType.APPLICATION_JSON_VALUE)
+  @ContentHeavy
+  @RunOnRequestThread
+  @QueryBudget(statements = 2)
+  @GetMapping(value = "/{authorId}/cached", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
   public ResponseEntity<Author> getAuthorByIdCached(@PathVariable Long authorId) {
     Optional<Author> authorOptional = authorService.getAuthorCached(authorId);
     return authorOptional.map(ResponseEntity::ok)
@@ -72,11 +83,13 @@ public class AuthorController {
    * @param authorId the author id
    * @return the author overview by id
    */
-  @GetMapping(value = "/{authorId}/overview", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<AuthorOverviewProjection> getAuthorOverviewById(
+  @QueryBudget(statements = 1)
+  @GetMapping(value = "/{authorId}/overview", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
+  public ResponseEntity<AuthorOverviewWithStatsProjection> getAuthorOverviewById(
       @PathVariable Long authorId) {
-    Optional<AuthorOverviewProjection> authorOverviewOptional = authorService.getAuthorOverview(
-        authorId);
+    Optional<AuthorOverviewWithStatsProjection> authorOverviewOptional =
+        authorService.getAuthorOverview(authorId);
     return authorOverviewOptional.map(ResponseEntity::ok)
         .orElseGet(() -> ResponseEntity.notFound().build());
   }
@@ -104,14 +117,15 @@ public class AuthorController {
    * @return the response entity
    */
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<AuthorOverviewProjection> createAuthor(
+  public ResponseEntity<AuthorOverviewWithStatsProjection> createAuthor(
       @RequestBody @Valid CreateAuthorRequestDTO requestObject) {
     Author author = new Author();
     author.setName(requestObject.name);
     author.setYearBorn(requestObject.yearBorn);
     Optional<Author> savedAuthorOptional = authorService.saveAuthor(author);
     if (savedAuthorOptional.isPresent()) {
-      AuthorOverviewProjection authorOverview = authorService.getAuthorOverview(savedAuthorOptional.get().getId()).get();
+      AuthorOverviewWithStatsProjection authorOverview = authorService.getAuthorOverview(
+          savedAuthorOptional.get().getId()).get();
       return ResponseEntity.ok(authorOverview);
     }
     return ResponseEntity.notFound().build();
@@ -4,13 +4,23 @@
  */
 package dev.mehmetfd.derivassetdemo.controllers.book_controller;
 
+import dev.mehmetfd.derivassetdemo.bulkheads.ContentHeavy;
+import dev.mehmetfd.derivassetdemo.execution.RunOnRequestThread;
 import dev.mehmetfd.derivassetdemo.models.Book;
 import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import dev.mehmetfd.derivassetdemo.queries.QueryBudget;
+import dev.mehmetfd.derivassetdemo.serialization.BinaryFormatConfiguration;
 import dev.mehmetfd.derivassetdemo.services.BookService;
+import dev.mehmetfd.derivassetdemo.services.content.BookContentService;
+import dev.mehmetfd.derivassetdemo.services.writebehind.BookCreationTicket;
+import dev.mehmetfd.derivassetdemo.services.writebehind.BookWriteBehindService;
 import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +30,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The type Book controller.
@@ -30,14 +41,23 @@ public class BookController {
 
   private final BookService bookService;
 
+  private final BookWriteBehindService bookWriteBehindService;
+
+  private final BookContentService bookContentService;
+
   /**
    * Instantiates a new Book controller.
    *
-   * @param bookService the book service
+   * @param bookService            the book service
+   * @param bookWriteBehindService the book write behind service
+   * @param bookContentService     the book content service
    */
   @Autowired
-  public BookController(BookService bookService) {
+  public BookController(BookService bookService, BookWriteBehindService bookWriteBehindService,
+      BookContentService bookContentService) {
     this.bookService = bookService;
+    this.bookWriteBehindService = bookWriteBehindService;
+    this.bookContentService = bookContentService;
   }
 
   /**
@@ -46,7 +66,10 @@ public class BookController {
    * @param bookId the book id
    * @return the book by id
    */
-  @GetMapping(value = "/{bookId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  @ContentHeavy
+  @QueryBudget(statements = 2)
+  @GetMapping(value = "/{bookId}", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
   public ResponseEntity<Book> getBookById(@PathVariable Long bookId) {
     Optional<Book> bookOptional = bookService.getBook(bookId);
     return bookOptional.map(ResponseEntity::ok)
@@ -59,20 +82,49 @@ public class BookController {
    * @param bookId the book id
    * @return the book by id cached
    */
-  @GetMapping(value = "/{bookId}/cached", produces = MediaType.APPLICATION_JSON_VALUE)
+  @ContentHeavy
+  @RunOnRequestThread
+  @QueryBudget(statements = 2)
+  @GetMapping(value = "/{bookId}/cached", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
   public ResponseEntity<Book> getBookByIdCached(@PathVariable Long bookId) {
     Optional<Book> bookOptional = bookService.getCachedBook(bookId);
     return bookOptional.map(ResponseEntity::ok)
         .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
+  /**
+   * Streams the data of a book without loading the book. The headers are set once the length is
+   * read, in the transaction the data is read in, so the Content-Length always matches the data.
+   *
+   * @param bookId   the book id
+   * @param response the response, not committed before the data is written
+   * @return the data of the book
+   */
+  @ContentHeavy
+  @GetMapping(value = "/{bookId}/content", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public StreamingResponseBody getBookContent(@PathVariable Long bookId,
+      HttpServletResponse response) {
+    return outputStream -> {
+      Optional<Long> written = bookContentService.writeContent(bookId, outputStream, length -> {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+      });
+      if (written.isEmpty()) {
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+      }
+    };
+  }
+
   /**
    * Gets book overview by id.
    *
    * @param bookId the book id
    * @return the book overview by id
    */
-  @GetMapping(value = "/{bookId}/overview", produces = MediaType.APPLICATION_JSON_VALUE)
+  @QueryBudget(statements = 1)
+  @GetMapping(value = "/{bookId}/overview", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfiguration.APPLICATION_SMILE_VALUE})
   public ResponseEntity<BookOverviewProjection> getBookOverviewById(
       @PathVariable Long bookId) {
     Optional<BookOverviewProjection> bookOverviewOptional = bookService.getBookOverview(
@@ -109,7 +161,7 @@ public class BookController {
     Book book = new Book();
     book.setName(requestObject.name);
     book.setYearPublished(requestObject.yearPublished);
-    book.setData(RandomDataGenerator.generateBytes(1000000));
+    book.setData(RandomDataGenerator.generateBytes(RandomDataGenerator.BOOK_DATA_MAX_LENGTH));
     Optional<Book> savedBookOptional = bookService.saveBook(requestObject.authorId, book);
     if (savedBookOptional.isPresent()) {
       BookOverviewProjection bookOverview = bookService.getBookOverview(savedBookOptional.get().getId()).get();
@@ -117,4 +169,37 @@ public class BookController {
     }
     return ResponseEntity.notFound().build();
   }
+
+  /**
+   * Queues the creation of a book.
+   *
+   * @param requestObject the request object
+   * @return the response entity, {@code 202 Accepted} with the ticket of the creation or
+   * {@code 503 Service Unavailable} if too many creations are queued
+   */
+  @PostMapping(value = "/async", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BookCreationTicket> createBookAsync(
+      @RequestBody @Valid CreateBookRequestDTO requestObject) {
+    Optional<BookCreationTicket> ticketOptional = bookWriteBehindService.submit(requestObject.name,
+        requestObject.yearPublished, requestObject.authorId);
+    return ticketOptional.map(ticket -> ResponseEntity.accepted()
+            .header(HttpHeaders.LOCATION, "/books/tickets/" + ticket.getId())
+            .body(ticket))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .build());
+  }
+
+  /**
+   * Gets the ticket of a queued book creation.
+   *
+   * @param ticketId the ticket id
+   * @return the ticket
+   */
+  @GetMapping(value = "/tickets/{ticketId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BookCreationTicket> getBookCreationTicket(@PathVariable String ticketId) {
+    Optional<BookCreationTicket> ticketOptional = bookWriteBehindService.getTicket(ticketId);
+    return ticketOptional.map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
 }
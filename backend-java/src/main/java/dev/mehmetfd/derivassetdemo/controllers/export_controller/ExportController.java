@@ -0,0 +1,57 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers.export_controller;
+
+import dev.mehmetfd.derivassetdemo.bulkheads.ContentHeavy;
+import dev.mehmetfd.derivassetdemo.services.transfer.CatalogExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * The type Export controller.
+ */
+@RestController
+@ContentHeavy
+@RequestMapping("/export")
+public class ExportController {
+
+  private final CatalogExportService catalogExportService;
+
+  /**
+   * Instantiates a new Export controller.
+   *
+   * @param catalogExportService the catalog export service
+   */
+  @Autowired
+  public ExportController(CatalogExportService catalogExportService) {
+    this.catalogExportService = catalogExportService;
+  }
+
+  /**
+   * Exports every Author and Book as NDJSON, written while the rows are read.
+   *
+   * @param includeData whether the Base64 encoded data of the Books is included
+   * @return the streaming body
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(defaultValue = "false") boolean includeData) {
+    StreamingResponseBody body = outputStream ->
+        this.catalogExportService.export(outputStream, includeData);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("catalog.ndjson").build().toString())
+        .body(body);
+  }
+}
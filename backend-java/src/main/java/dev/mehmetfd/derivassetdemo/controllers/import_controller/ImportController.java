@@ -0,0 +1,112 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers.import_controller;
+
+import dev.mehmetfd.derivassetdemo.execution.RunOnRequestThread;
+import dev.mehmetfd.derivassetdemo.services.transfer.CatalogImportService;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportFormat;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportJob;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The type Import controller.
+ * <p>
+ * Imports run for as long as their upload, so they are read on the threads of the import service,
+ * which bounds them, while the request is asynchronous, instead of holding a request or database
+ * executor thread. The other endpoints only read the jobs held in memory.
+ */
+@RunOnRequestThread
+@RestController
+@RequestMapping("/import")
+public class ImportController {
+
+  private static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final CatalogImportService catalogImportService;
+
+  /**
+   * Instantiates a new Import controller.
+   *
+   * @param catalogImportService the catalog import service
+   */
+  @Autowired
+  public ImportController(CatalogImportService catalogImportService) {
+    this.catalogImportService = catalogImportService;
+  }
+
+  /**
+   * Imports Authors and Books from NDJSON, read while they are written.
+   *
+   * @param body the request body
+   * @return the import job, once finished
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<ImportJob>> importNdjson(InputStream body) {
+    return toResponse(this.catalogImportService.importCatalog(body, ImportFormat.NDJSON));
+  }
+
+  /**
+   * Imports Books from CSV, read while they are written.
+   *
+   * @param body the request body
+   * @return the import job, once finished
+   */
+  @PostMapping(consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<ImportJob>> importCsv(InputStream body) {
+    return toResponse(this.catalogImportService.importCatalog(body, ImportFormat.CSV));
+  }
+
+  /**
+   * Gets the running and the recently finished imports.
+   *
+   * @return the import jobs, most recently started first
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<ImportJob>> getImportJobs() {
+    return ResponseEntity.ok(this.catalogImportService.getJobs());
+  }
+
+  /**
+   * Gets the progress of an import.
+   *
+   * @param jobId the job id
+   * @return the import job
+   */
+  @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ImportJob> getImportJob(@PathVariable String jobId) {
+    return this.catalogImportService.getJob(jobId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  private static CompletableFuture<ResponseEntity<ImportJob>> toResponse(
+      Optional<CompletableFuture<ImportJob>> jobOptional) {
+    if (jobOptional.isEmpty()) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, "5")
+          .build());
+    }
+    return jobOptional.get().thenApply(job -> {
+      if (job.getStatus() == ImportJob.Status.FAILED) {
+        return ResponseEntity.unprocessableEntity().body(job);
+      }
+      return ResponseEntity.ok(job);
+    });
+  }
+}
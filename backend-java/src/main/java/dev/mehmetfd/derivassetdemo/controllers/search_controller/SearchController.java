@@ -0,0 +1,51 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers.search_controller;
+
+import dev.mehmetfd.derivassetdemo.services.search.SearchResult;
+import dev.mehmetfd.derivassetdemo.services.search.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The type Search controller.
+ */
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+  private final SearchService searchService;
+
+  /**
+   * Instantiates a new Search controller.
+   *
+   * @param searchService the search service
+   */
+  @Autowired
+  public SearchController(SearchService searchService) {
+    this.searchService = searchService;
+  }
+
+  /**
+   * Searches Authors and Books by name.
+   *
+   * @param q     the prefix or substring to search for
+   * @param limit the maximum number of results per entity type
+   * @return the search result
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<SearchResult> search(@RequestParam String q,
+      @RequestParam(defaultValue = "10") int limit) {
+    if (q.isBlank() || limit <= 0) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(this.searchService.search(q, limit));
+  }
+}
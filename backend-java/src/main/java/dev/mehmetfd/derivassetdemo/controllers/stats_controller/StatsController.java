@@ -0,0 +1,65 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers.stats_controller;
+
+import dev.mehmetfd.derivassetdemo.services.analytics.CatalogStatsService;
+import dev.mehmetfd.derivassetdemo.services.analytics.CountHistogram;
+import dev.mehmetfd.derivassetdemo.services.analytics.SizePercentiles;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The type Stats controller.
+ */
+@RestController
+@RequestMapping("/stats")
+public class StatsController {
+
+  private final CatalogStatsService catalogStatsService;
+
+  /**
+   * Instantiates a new Stats controller.
+   *
+   * @param catalogStatsService the catalog stats service
+   */
+  @Autowired
+  public StatsController(CatalogStatsService catalogStatsService) {
+    this.catalogStatsService = catalogStatsService;
+  }
+
+  /**
+   * Gets the number of Books published in each year.
+   *
+   * @return the histogram keyed by year
+   */
+  @GetMapping(value = "/books-per-year", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<CountHistogram> getBooksPerYear() {
+    return ResponseEntity.ok(this.catalogStatsService.getBooksPerYear());
+  }
+
+  /**
+   * Gets the number of Authors born in each decade.
+   *
+   * @return the histogram keyed by the first year of the decade
+   */
+  @GetMapping(value = "/authors-per-decade", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<CountHistogram> getAuthorsPerDecade() {
+    return ResponseEntity.ok(this.catalogStatsService.getAuthorsPerDecade());
+  }
+
+  /**
+   * Gets the percentiles of the data sizes of the Books.
+   *
+   * @return the percentiles in bytes
+   */
+  @GetMapping(value = "/book-data-sizes", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<SizePercentiles> getBookDataSizes() {
+    return ResponseEntity.ok(this.catalogStatsService.getBookDataSizes());
+  }
+}
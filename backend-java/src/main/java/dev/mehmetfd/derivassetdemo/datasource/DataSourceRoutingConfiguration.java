@@ -0,0 +1,104 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * The type Data source routing configuration.
+ * <p>
+ * Only active when {@code app.datasource.replica.url} is set and the bulkheads have no pools of
+ * their own, otherwise
+ * {@link dev.mehmetfd.derivassetdemo.bulkheads.BulkheadDataSourceConfiguration} routes between
+ * the primary and the replica pools of each bulkhead. The primary pool is built from the
+ * regular {@code spring.datasource.*} properties and the replica pool from
+ * {@code app.datasource.replica.*}. Hibernate already switches read-only sessions to manual flush,
+ * so read-only transactions never flush on the replica.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isEmpty()"
+    + " and !(${app.bulkheads.enabled:true} and ${app.bulkheads.pools.enabled:false})")
+public class DataSourceRoutingConfiguration {
+
+  /**
+   * Primary (read-write) data source.
+   *
+   * @param dataSourceProperties the spring.datasource properties
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  /**
+   * Replica (read-only) data source.
+   *
+   * @param url             the replica url
+   * @param username        the replica username
+   * @param password        the replica password
+   * @param driverClassName the replica driver class name
+   * @param maximumPoolSize the maximum pool size of the replica
+   * @return the data source
+   */
+  @Bean
+  public HikariDataSource replicaDataSource(
+      @Value("${app.datasource.replica.url}") String url,
+      @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+      @Value("${app.datasource.replica.driver-class-name:${spring.datasource.driver-class-name:}}")
+      String driverClassName,
+      @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica");
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    if (!driverClassName.isBlank()) {
+      dataSource.setDriverClassName(driverClassName);
+    }
+    dataSource.setMaximumPoolSize(maximumPoolSize);
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * Routing data source used by JPA.
+   *
+   * @param primaryDataSource the primary data source
+   * @param replicaDataSource the replica data source
+   * @return the data source
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    Map<Object, Object> targetDataSources = new HashMap<>();
+    targetDataSources.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+    targetDataSources.put(ReadWriteRoutingDataSource.REPLICA, replicaDataSource);
+
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+    routingDataSource.setTargetDataSources(targetDataSources);
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
@@ -0,0 +1,38 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The type Read write routing data source.
+ * <p>
+ * Routes connections of {@code @Transactional(readOnly = true)} transactions to the replica and
+ * everything else to the primary. It has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, since the read-only
+ * flag of a transaction is only known after the transaction manager has asked for a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * The lookup key of the primary DataSource.
+   */
+  public static final String PRIMARY = "primary";
+
+  /**
+   * The lookup key of the replica DataSource.
+   */
+  public static final String REPLICA = "replica";
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return REPLICA;
+    }
+    return PRIMARY;
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * The type Replication lag monitor.
+ * <p>
+ * Periodically measures how far the replica is behind the primary and publishes it as the
+ * {@code datasource.replica.lag} gauge in milliseconds. The gauge reports {@code -1} when the lag
+ * cannot be measured, e.g. when H2 is used as a stand-in for the replica.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicationLagMonitor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+
+  private static final String LAG_QUERY = "SELECT CASE WHEN pg_is_in_recovery() "
+      + "THEN COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) "
+      + "ELSE 0 END";
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final AtomicLong lagMillis = new AtomicLong(-1);
+
+  /**
+   * Instantiates a new Replication lag monitor.
+   *
+   * @param replicaDataSource the replica data source
+   * @param meterRegistry     the meter registry
+   */
+  public ReplicationLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+      MeterRegistry meterRegistry) {
+    this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    Gauge.builder("datasource.replica.lag", this.lagMillis, AtomicLong::get)
+        .description("Replication lag of the read replica")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Measures the replication lag.
+   */
+  @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5000}")
+  public void measureLag() {
+    try {
+      Double lag = this.replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+      this.lagMillis.set(lag == null ? -1 : lag.longValue());
+    } catch (DataAccessException exception) {
+      if (this.lagMillis.getAndSet(-1) != -1) {
+        logger.warn("Could not measure replication lag", exception);
+      }
+    }
+  }
+
+  /**
+   * Gets the last measured replication lag.
+   *
+   * @return the lag in milliseconds, {@code -1} if unknown
+   */
+  public long getLagMillis() {
+    return this.lagMillis.get();
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Collections;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * The type Async execution configuration.
+ * <p>
+ * Only active when {@code app.server.execution-mode} is {@code async}. Controllers are invoked on
+ * a bounded database executor through {@link OffloadingHandlerAdapter}, so Tomcat threads stay
+ * free for handlers that do not wait on the database. When both the threads and the queue of the
+ * executor are taken, requests are rejected with {@code 503} instead of queueing without bound.
+ * <p>
+ * The executor is deliberately not a bean, as any {@link java.util.concurrent.Executor} bean would
+ * replace the application task executor of Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.server.execution-mode", havingValue = "async")
+public class AsyncExecutionConfiguration {
+
+  /**
+   * Registers the offloading handler adapter.
+   *
+   * @param meterRegistry the meter registry
+   * @param poolSize      the number of executor threads, about the size of the database pool
+   * @param queueCapacity the number of invocations waiting for a thread before rejecting
+   * @param timeoutMillis the time an invocation may take before the request times out
+   * @param taskDecorator the task decorator, applied if there is exactly one
+   * @return the web mvc registrations
+   */
+  @Bean
+  public WebMvcRegistrations offloadingWebMvcRegistrations(MeterRegistry meterRegistry,
+      @Value("${app.server.database-executor.pool-size:10}") int poolSize,
+      @Value("${app.server.database-executor.queue-capacity:100}") int queueCapacity,
+      @Value("${app.server.database-executor.timeout:30000}") long timeoutMillis,
+      ObjectProvider<TaskDecorator> taskDecorator) {
+    ThreadPoolTaskExecutor databaseExecutor = new ThreadPoolTaskExecutor();
+    databaseExecutor.setCorePoolSize(poolSize);
+    databaseExecutor.setMaxPoolSize(poolSize);
+    databaseExecutor.setQueueCapacity(queueCapacity);
+    databaseExecutor.setThreadNamePrefix("database-");
+    databaseExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    databaseExecutor.setAwaitTerminationSeconds(30);
+    taskDecorator.ifUnique(databaseExecutor::setTaskDecorator);
+    databaseExecutor.initialize();
+    ExecutorServiceMetrics.monitor(meterRegistry, databaseExecutor.getThreadPoolExecutor(),
+        "database", Collections.emptyList());
+    return new WebMvcRegistrations() {
+      @Override
+      public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+        return new OffloadingHandlerAdapter(databaseExecutor, timeoutMillis);
+      }
+    };
+  }
+}
@@ -0,0 +1,65 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * The type Cancellable task executor, hands the one invocation of a request to the database
+ * executor and keeps its {@link Future}, so the invocation can be cancelled once the request timed
+ * out. An invocation still waiting in the queue is then never run, a running one is interrupted,
+ * which also ends its wait for a pooled connection.
+ */
+class CancellableTaskExecutor implements AsyncTaskExecutor {
+
+  private final AsyncTaskExecutor executor;
+  private volatile Future<?> future;
+  private volatile boolean cancelled;
+
+  /**
+   * Instantiates a new Cancellable task executor.
+   *
+   * @param executor the executor the invocation runs on
+   */
+  CancellableTaskExecutor(AsyncTaskExecutor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    submit(task);
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    return keep(this.executor.submit(task));
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    return keep(this.executor.submit(task));
+  }
+
+  /**
+   * Cancels the invocation, interrupting it if it is running.
+   */
+  void cancel() {
+    this.cancelled = true;
+    Future<?> submitted = this.future;
+    if (submitted != null) {
+      submitted.cancel(true);
+    }
+  }
+
+  private <T> Future<T> keep(Future<T> submitted) {
+    this.future = submitted;
+    if (this.cancelled) {
+      submitted.cancel(true);
+    }
+    return submitted;
+  }
+}
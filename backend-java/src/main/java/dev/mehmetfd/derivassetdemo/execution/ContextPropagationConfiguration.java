@@ -0,0 +1,32 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * The type Context propagation configuration.
+ * <p>
+ * Tasks handed to the task executors of Spring Boot, e.g. the one writing streaming responses,
+ * and to the database executor run with the thread locals of the thread that submitted them, as
+ * far as they are registered with the {@link io.micrometer.context.ContextRegistry}. That is how
+ * the state a request keeps in thread locals follows the work it hands off.
+ */
+@Configuration
+public class ContextPropagationConfiguration {
+
+  /**
+   * Task decorator propagating the registered thread locals.
+   *
+   * @return the task decorator
+   */
+  @Bean
+  public TaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+}
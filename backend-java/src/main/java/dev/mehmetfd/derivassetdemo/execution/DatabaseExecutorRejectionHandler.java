@@ -0,0 +1,35 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * The type Database executor rejection handler, answers requests the database executor has no
+ * room for with {@code 503} and a {@code Retry-After}.
+ */
+@RestControllerAdvice
+public class DatabaseExecutorRejectionHandler {
+
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  /**
+   * Handles a rejected invocation.
+   *
+   * @param exception the rejection
+   * @return the response
+   */
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<Void> handleTaskRejected(TaskRejectedException exception) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .build();
+  }
+}
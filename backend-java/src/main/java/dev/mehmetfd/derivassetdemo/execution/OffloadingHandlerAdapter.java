@@ -0,0 +1,119 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * The type Offloading handler adapter.
+ * <p>
+ * Resolves the arguments of a handler method on the request thread and invokes the method on the
+ * database executor as a {@link WebAsyncTask}, so the request thread returns to the container
+ * while the method waits on JDBC or Redis. The result is written after an async dispatch exactly
+ * as if the method had returned it directly. An invocation that takes longer than the timeout
+ * times the request out with {@code 503}, regardless of the async request timeout of Spring MVC,
+ * which is long enough for streaming responses. The timed out invocation is cancelled, so it does
+ * not keep a thread and a pooled connection while new work queues up behind it. Handlers that are
+ * already asynchronous and handlers annotated with {@link RunOnRequestThread} are invoked as
+ * usual. The executor is shut down with the adapter.
+ */
+public class OffloadingHandlerAdapter extends RequestMappingHandlerAdapter
+    implements DisposableBean {
+
+  private static final List<Class<?>> ASYNC_RETURN_TYPES = List.of(Callable.class,
+      WebAsyncTask.class, DeferredResult.class, CompletionStage.class,
+      StreamingResponseBody.class, ResponseBodyEmitter.class);
+
+  private final ThreadPoolTaskExecutor databaseExecutor;
+  private final long timeoutMillis;
+
+  /**
+   * Instantiates a new Offloading handler adapter.
+   *
+   * @param databaseExecutor the executor the handler methods are invoked on
+   * @param timeoutMillis    the time an invocation may take before the request times out
+   */
+  public OffloadingHandlerAdapter(ThreadPoolTaskExecutor databaseExecutor, long timeoutMillis) {
+    this.databaseExecutor = databaseExecutor;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  protected ServletInvocableHandlerMethod createInvocableHandlerMethod(
+      HandlerMethod handlerMethod) {
+    if (!isOffloaded(handlerMethod)) {
+      return super.createInvocableHandlerMethod(handlerMethod);
+    }
+    return new OffloadedHandlerMethod(handlerMethod, this.databaseExecutor, this.timeoutMillis);
+  }
+
+  @Override
+  public void destroy() {
+    this.databaseExecutor.shutdown();
+  }
+
+  static boolean isOffloaded(HandlerMethod handlerMethod) {
+    if (handlerMethod.hasMethodAnnotation(RunOnRequestThread.class)
+        || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(),
+        RunOnRequestThread.class)) {
+      return false;
+    }
+    MethodParameter returnType = handlerMethod.getReturnType();
+    Class<?> type = returnType.getParameterType();
+    if (HttpEntity.class.isAssignableFrom(type)) {
+      type = returnType.nested().getNestedParameterType();
+    }
+    for (Class<?> asyncType : ASYNC_RETURN_TYPES) {
+      if (asyncType.isAssignableFrom(type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class OffloadedHandlerMethod extends ServletInvocableHandlerMethod {
+
+    private final ThreadPoolTaskExecutor databaseExecutor;
+    private final long timeoutMillis;
+
+    OffloadedHandlerMethod(HandlerMethod handlerMethod, ThreadPoolTaskExecutor databaseExecutor,
+        long timeoutMillis) {
+      super(handlerMethod);
+      this.databaseExecutor = databaseExecutor;
+      this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected Object doInvoke(Object... args) {
+      CancellableTaskExecutor executor = new CancellableTaskExecutor(this.databaseExecutor);
+      WebAsyncTask<Object> task = new WebAsyncTask<>(this.timeoutMillis, executor,
+          () -> super.doInvoke(args));
+      task.onTimeout(() -> {
+        executor.cancel();
+        return CallableProcessingInterceptor.RESULT_NONE;
+      });
+      task.onError(() -> {
+        executor.cancel();
+        return CallableProcessingInterceptor.RESULT_NONE;
+      });
+      return task;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps a handler method, or every handler method of a controller, on the request thread when
+ * controllers run on the database executor.
+ * <p>
+ * Meant for handlers that are usually served without the database, e.g. from Redis, so they do
+ * not queue behind slow queries, and for long running handlers that would hold an executor thread
+ * for their whole duration.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RunOnRequestThread {
+
+}
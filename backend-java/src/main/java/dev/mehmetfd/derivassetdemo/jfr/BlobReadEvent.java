@@ -0,0 +1,35 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The type Blob read event, the data of a Book streamed from the database.
+ */
+@Name("dev.mehmetfd.derivassetdemo.BlobRead")
+@Label("Blob Read")
+@Category({"DerivAsset", "Persistence"})
+@StackTrace(false)
+public class BlobReadEvent extends Event {
+
+  /**
+   * The ID of the Book.
+   */
+  @Label("Book ID")
+  public long bookId;
+
+  /**
+   * The bytes read.
+   */
+  @Label("Bytes")
+  @DataAmount
+  public long bytes;
+}
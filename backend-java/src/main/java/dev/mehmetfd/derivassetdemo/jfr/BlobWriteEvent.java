@@ -0,0 +1,79 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The type Blob write event, the data of one Book or of a batch of Books written to the
+ * database.
+ * <p>
+ * The inserts of a transaction are sent when it commits, so the event ends with the transaction
+ * it began in, see {@link #commitWithTransaction(Runnable)}.
+ */
+@Name("dev.mehmetfd.derivassetdemo.BlobWrite")
+@Label("Blob Write")
+@Category({"DerivAsset", "Persistence"})
+@StackTrace(false)
+public class BlobWriteEvent extends Event {
+
+  /**
+   * The ID of the first Book written.
+   */
+  @Label("Book ID")
+  @Description("The ID of the Book, the first one of a batch")
+  public long bookId;
+
+  /**
+   * The Books written.
+   */
+  @Label("Books")
+  public int books;
+
+  /**
+   * The bytes of data written.
+   */
+  @Label("Bytes")
+  @DataAmount
+  public long bytes;
+
+  /**
+   * Ends and commits the event once the current transaction committed, so it times the inserts
+   * sent at commit. Outside of a transaction the write is already done and the event is ended and
+   * committed right away. Nothing is recorded for a transaction that rolled back.
+   *
+   * @param details sets the Books written, only run if the event is recorded
+   */
+  public void commitWithTransaction(Runnable details) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      endAndCommit(details);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          endAndCommit(details);
+        }
+      }
+    });
+  }
+
+  private void endAndCommit(Runnable details) {
+    end();
+    if (shouldCommit()) {
+      details.run();
+      commit();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The type Cache lookup event, a lookup of an entity in a cache of the cache manager.
+ */
+@Name("dev.mehmetfd.derivassetdemo.CacheLookup")
+@Label("Cache Lookup")
+@Description("Lookup of a cached entity, e.g. by the EntityCachingService")
+@Category({"DerivAsset", "Cache"})
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+  /**
+   * The name of the cache.
+   */
+  @Label("Cache")
+  public String cache;
+
+  /**
+   * The key, the ID of the entity for the entity caches.
+   */
+  @Label("Key")
+  public String key;
+
+  /**
+   * Whether the entity was found.
+   */
+  @Label("Hit")
+  public boolean hit;
+}
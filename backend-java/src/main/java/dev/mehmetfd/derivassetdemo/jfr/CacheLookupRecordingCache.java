@@ -0,0 +1,107 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache emitting a {@link CacheLookupEvent} for every lookup in the decorated cache. Lookups
+ * through {@link #get(Object, Callable)} are hits unless the loader had to run.
+ */
+public class CacheLookupRecordingCache implements Cache {
+
+  private final Cache cache;
+
+  /**
+   * Instantiates a new Cache lookup recording cache.
+   *
+   * @param cache the decorated cache
+   */
+  public CacheLookupRecordingCache(Cache cache) {
+    this.cache = cache;
+  }
+
+  private void commit(CacheLookupEvent event, Object key, boolean hit) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = this.cache.getName();
+      event.key = String.valueOf(key);
+      event.hit = hit;
+      event.commit();
+    }
+  }
+
+  @Override
+  public String getName() {
+    return this.cache.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this.cache.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    ValueWrapper valueWrapper = this.cache.get(key);
+    commit(event, key, valueWrapper != null);
+    return valueWrapper;
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    T value = this.cache.get(key, type);
+    commit(event, key, value != null);
+    return value;
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    boolean[] loaded = new boolean[1];
+    event.begin();
+    T value = this.cache.get(key, () -> {
+      loaded[0] = true;
+      return valueLoader.call();
+    });
+    commit(event, key, !loaded[0]);
+    return value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    this.cache.put(key, value);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    return this.cache.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    this.cache.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return this.cache.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    this.cache.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return this.cache.invalidate();
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Cache manager decorating the caches of another one with {@link CacheLookupRecordingCache}. The
+ * decorated caches are kept, so looking a cache up does not allocate.
+ */
+public class CacheLookupRecordingCacheManager implements CacheManager {
+
+  private final CacheManager cacheManager;
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new Cache lookup recording cache manager.
+   *
+   * @param cacheManager the decorated cache manager
+   */
+  public CacheLookupRecordingCacheManager(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    Cache cache = this.caches.get(name);
+    if (cache != null) {
+      return cache;
+    }
+    Cache target = this.cacheManager.getCache(name);
+    if (target == null) {
+      return null;
+    }
+    return this.caches.computeIfAbsent(name, key -> new CacheLookupRecordingCache(target));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return this.cacheManager.getCacheNames();
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The type Flight recording configuration.
+ * <p>
+ * Active unless {@code app.jfr.enabled} is {@code false}. Emits the events of this package for
+ * requests, lookups in the {@code cacheManager} caches, the entity caches of the
+ * EntityCachingService among them, and repository calls; the services reading and writing the
+ * data of Books emit their own. Recordings are taken through the {@code flightrecording}
+ * actuator endpoint. Events cost next to nothing while no recording enabled them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecordingConfiguration implements WebMvcConfigurer {
+
+  private static final String CACHE_MANAGER_BEAN_NAME = "cacheManager";
+
+  /**
+   * Decorates the caches of the cache manager and adds the interceptor to the repositories.
+   *
+   * @return the bean post processor
+   */
+  @Bean
+  public static BeanPostProcessor flightRecordingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+          repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+              repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                  proxyFactory.addAdvice(new RepositoryCallRecordingInterceptor(
+                      information.getRepositoryInterface()))));
+        }
+        return bean;
+      }
+
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (beanName.equals(CACHE_MANAGER_BEAN_NAME) && bean instanceof CacheManager cacheManager
+            && !(bean instanceof CacheLookupRecordingCacheManager)) {
+          return new CacheLookupRecordingCacheManager(cacheManager);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * The recording taken on demand.
+   *
+   * @param settings           the name of the JVM settings
+   * @param maxDurationSeconds the longest duration of a recording in seconds
+   * @return the flight recordings
+   */
+  @Bean
+  public FlightRecordings flightRecordings(
+      @Value("${app.jfr.settings:profile}") String settings,
+      @Value("${app.jfr.max-duration:600}") long maxDurationSeconds) {
+    return new FlightRecordings(settings, Duration.ofSeconds(maxDurationSeconds));
+  }
+
+  /**
+   * The endpoint taking recordings.
+   *
+   * @param flightRecordings the flight recordings
+   * @return the endpoint
+   */
+  @Bean
+  public FlightRecordingEndpoint flightRecordingEndpoint(FlightRecordings flightRecordings) {
+    return new FlightRecordingEndpoint(flightRecordings);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new RequestRecordingInterceptor());
+  }
+}
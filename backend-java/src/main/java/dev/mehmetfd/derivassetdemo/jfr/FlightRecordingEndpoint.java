@@ -0,0 +1,133 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * The type Flight recording endpoint, takes {@link FlightRecordings} on demand.
+ * <p>
+ * {@code POST /actuator/flightrecording} with {@code {"seconds": 60}} starts a recording,
+ * {@code DELETE} stops it early, {@code GET} tells its state and
+ * {@code GET /actuator/flightrecording/{id}} downloads what it recorded, to be opened with JDK
+ * Mission Control or {@code jfr print}.
+ */
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+  private static final long DEFAULT_SECONDS = 60;
+
+  private final FlightRecordings flightRecordings;
+
+  /**
+   * Instantiates a new Flight recording endpoint.
+   *
+   * @param flightRecordings the flight recordings
+   */
+  public FlightRecordingEndpoint(FlightRecordings flightRecordings) {
+    this.flightRecordings = flightRecordings;
+  }
+
+  /**
+   * Gets the status of the recording.
+   *
+   * @return the status
+   */
+  @ReadOperation
+  public Map<String, Object> status() {
+    return this.flightRecordings.getStatus();
+  }
+
+  /**
+   * Starts a recording.
+   *
+   * @param seconds the duration of the recording, 60 seconds if not given
+   * @return the status of the recording
+   * @throws IOException    if the settings can not be read
+   * @throws ParseException if the settings can not be parsed
+   */
+  @WriteOperation
+  public WebEndpointResponse<Map<String, Object>> start(@Nullable Long seconds)
+      throws IOException, ParseException {
+    if (seconds != null && seconds <= 0) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+    return new WebEndpointResponse<>(this.flightRecordings.start(
+        Duration.ofSeconds(seconds != null ? seconds : DEFAULT_SECONDS)));
+  }
+
+  /**
+   * Stops the recording early.
+   *
+   * @return the status of the recording
+   */
+  @DeleteOperation
+  public Map<String, Object> stop() {
+    return this.flightRecordings.stop();
+  }
+
+  /**
+   * Downloads a recording.
+   *
+   * @param id the ID of the recording
+   * @return the recording
+   * @throws IOException if the recording can not be written
+   */
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+    Path file = this.flightRecordings.dump(id);
+    if (file == null) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    return new WebEndpointResponse<>(new TemporaryFileSystemResource(file.toFile()));
+  }
+
+  /**
+   * A file deleted once it has been read.
+   */
+  private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+    private TemporaryFileSystemResource(File file) {
+      super(file);
+    }
+
+    @Override
+    public boolean isFile() {
+      // Makes the resource be written from its input stream
+      return false;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(getFile().toPath());
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * The type Flight recordings, the time-boxed recording taken on demand.
+ * <p>
+ * At most one recording exists at a time. It records the JVM with the given settings, e.g. GC and
+ * lock contention with {@code profile}, together with the events of this package, stops on its
+ * own once its duration is over and is kept until the next one starts, so it can be downloaded
+ * afterwards.
+ */
+public class FlightRecordings implements DisposableBean {
+
+  private static final List<Class<? extends Event>> EVENTS = List.of(RequestEvent.class,
+      CacheLookupEvent.class, RepositoryCallEvent.class, BlobReadEvent.class,
+      BlobWriteEvent.class);
+
+  static {
+    EVENTS.forEach(FlightRecorder::register);
+  }
+
+  private final String settings;
+  private final Duration maxDuration;
+  private Recording recording;
+
+  /**
+   * Instantiates new Flight recordings.
+   *
+   * @param settings    the name of the JVM settings, {@code default} or {@code profile}
+   * @param maxDuration the longest duration of a recording
+   */
+  public FlightRecordings(String settings, Duration maxDuration) {
+    this.settings = settings;
+    this.maxDuration = maxDuration;
+  }
+
+  /**
+   * Starts a recording, replacing the previous one.
+   *
+   * @param duration the duration, capped to the longest duration
+   * @return the status of the recording
+   * @throws IOException    if the settings can not be read
+   * @throws ParseException if the settings can not be parsed
+   */
+  public synchronized Map<String, Object> start(Duration duration)
+      throws IOException, ParseException {
+    if (this.recording != null) {
+      this.recording.close();
+    }
+    Recording started = new Recording(Configuration.getConfiguration(this.settings));
+    EVENTS.forEach(event -> started.enable(event).withoutStackTrace());
+    started.setName("derivasset-" + System.currentTimeMillis());
+    started.setToDisk(true);
+    started.setDuration(duration.compareTo(this.maxDuration) > 0 ? this.maxDuration : duration);
+    started.start();
+    this.recording = started;
+    return getStatus();
+  }
+
+  /**
+   * Stops the recording, keeping what it recorded.
+   *
+   * @return the status of the recording
+   */
+  public synchronized Map<String, Object> stop() {
+    if (this.recording != null && this.recording.getState() == RecordingState.RUNNING) {
+      this.recording.stop();
+    }
+    return getStatus();
+  }
+
+  /**
+   * Gets the status of the recording.
+   *
+   * @return the ID, name, state, start, duration and size of the recording, empty if there is
+   * none
+   */
+  public synchronized Map<String, Object> getStatus() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    if (this.recording != null) {
+      status.put("id", this.recording.getId());
+      status.put("name", this.recording.getName());
+      status.put("state", this.recording.getState().name());
+      status.put("startTime", String.valueOf(this.recording.getStartTime()));
+      status.put("duration", String.valueOf(this.recording.getDuration()));
+      status.put("size", this.recording.getSize());
+    }
+    return status;
+  }
+
+  /**
+   * Writes what a recording recorded so far to a new temporary file.
+   *
+   * @param id the ID of the recording
+   * @return the file, {@code null} if there is no such recording
+   * @throws IOException if the file can not be written
+   */
+  public synchronized Path dump(long id) throws IOException {
+    if (this.recording == null || this.recording.getId() != id) {
+      return null;
+    }
+    Path file = Files.createTempFile("flight-recording-" + id + "-", ".jfr");
+    try {
+      this.recording.dump(file);
+    } catch (IOException | IllegalStateException exception) {
+      Files.deleteIfExists(file);
+      throw exception;
+    }
+    return file;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (this.recording != null) {
+      this.recording.close();
+      this.recording = null;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The type Repository call event, a call of a Spring Data repository method.
+ */
+@Name("dev.mehmetfd.derivassetdemo.RepositoryCall")
+@Label("Repository Call")
+@Category({"DerivAsset", "Persistence"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+  /**
+   * The repository interface.
+   */
+  @Label("Repository")
+  public String repository;
+
+  /**
+   * The method called.
+   */
+  @Label("Method")
+  public String method;
+
+  /**
+   * The first argument if it is an ID.
+   */
+  @Label("Entity ID")
+  @Description("The first argument if it is a number, -1 otherwise")
+  public long entityId;
+
+  /**
+   * The entities returned.
+   */
+  @Label("Results")
+  @Description("Elements of a returned collection, 1 for other values present, 0 for none")
+  public int results;
+}
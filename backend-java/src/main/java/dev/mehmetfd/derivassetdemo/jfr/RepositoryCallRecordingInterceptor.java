@@ -0,0 +1,63 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import java.util.Collection;
+import java.util.Optional;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+/**
+ * The type Repository call recording interceptor, emits a {@link RepositoryCallEvent} for every
+ * call of a repository method. Calls are not recorded unless a recording enabled the event.
+ */
+public class RepositoryCallRecordingInterceptor implements MethodInterceptor {
+
+  private final String repository;
+
+  /**
+   * Instantiates a new Repository call recording interceptor.
+   *
+   * @param repositoryInterface the repository interface
+   */
+  public RepositoryCallRecordingInterceptor(Class<?> repositoryInterface) {
+    this.repository = repositoryInterface.getSimpleName();
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    RepositoryCallEvent event = new RepositoryCallEvent();
+    if (!event.isEnabled()) {
+      return invocation.proceed();
+    }
+    event.begin();
+    Object result = invocation.proceed();
+    event.end();
+    if (event.shouldCommit()) {
+      Object[] arguments = invocation.getArguments();
+      event.repository = this.repository;
+      event.method = invocation.getMethod().getName();
+      event.entityId = arguments.length > 0 && arguments[0] instanceof Number id
+          ? id.longValue() : -1;
+      event.results = results(result);
+      event.commit();
+    }
+    return result;
+  }
+
+  private static int results(Object result) {
+    if (result == null) {
+      return 0;
+    } else if (result instanceof Collection<?> collection) {
+      return collection.size();
+    } else if (result instanceof Slice<?> slice) {
+      return slice.getNumberOfElements();
+    } else if (result instanceof Optional<?> optional) {
+      return optional.isPresent() ? 1 : 0;
+    }
+    return 1;
+  }
+}
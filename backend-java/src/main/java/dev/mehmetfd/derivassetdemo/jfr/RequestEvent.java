@@ -0,0 +1,55 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The type Request event, the handling of a request from its handler being picked until its
+ * response is complete.
+ */
+@Name("dev.mehmetfd.derivassetdemo.Request")
+@Label("Request")
+@Category({"DerivAsset", "Web"})
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+  /**
+   * The method.
+   */
+  @Label("Method")
+  public String method;
+
+  /**
+   * The route.
+   */
+  @Label("Route")
+  public String uri;
+
+  /**
+   * The status of the response.
+   */
+  @Label("Status")
+  public int status;
+
+  /**
+   * The Author of the route.
+   */
+  @Label("Author ID")
+  @Description("The authorId path variable, -1 if there is none")
+  public long authorId;
+
+  /**
+   * The Book of the route.
+   */
+  @Label("Book ID")
+  @Description("The bookId path variable, -1 if there is none")
+  public long bookId;
+}
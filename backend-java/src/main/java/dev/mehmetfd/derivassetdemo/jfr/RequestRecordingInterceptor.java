@@ -0,0 +1,124 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Request recording interceptor.
+ * <p>
+ * Emits a {@link RequestEvent} for every request handled by a controller once its response is
+ * complete, including asynchronous and streaming responses, with the Author and Book of the
+ * route. Requests are not recorded unless a recording enabled the event.
+ */
+public class RequestRecordingInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String COMPLETION_ATTRIBUTE =
+      RequestRecordingInterceptor.class.getName() + ".completion";
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod)
+        || request.getDispatcherType() != DispatcherType.REQUEST
+        || request.getAttribute(COMPLETION_ATTRIBUTE) != null) {
+      return true;
+    }
+    RequestEvent event = new RequestEvent();
+    if (!event.isEnabled()) {
+      return true;
+    }
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables = (Map<String, String>) request.getAttribute(
+        HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    event.method = request.getMethod();
+    event.uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    event.authorId = id(variables, "authorId");
+    event.bookId = id(variables, "bookId");
+    event.begin();
+    request.setAttribute(COMPLETION_ATTRIBUTE, new Completion(event, response));
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion != null) {
+      request.getAsyncContext().addListener(completion);
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception exception) {
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion != null && !request.isAsyncStarted()) {
+      completion.commit();
+    }
+  }
+
+  private static long id(Map<String, String> variables, String name) {
+    String value = variables != null ? variables.get(name) : null;
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
+  private static class Completion implements AsyncListener {
+
+    private final RequestEvent event;
+    private final HttpServletResponse response;
+    private final AtomicBoolean committed = new AtomicBoolean();
+
+    Completion(RequestEvent event, HttpServletResponse response) {
+      this.event = event;
+      this.response = response;
+    }
+
+    void commit() {
+      if (!this.committed.compareAndSet(false, true)) {
+        return;
+      }
+      this.event.end();
+      if (this.event.shouldCommit()) {
+        this.event.status = this.response.getStatus();
+        this.event.commit();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      commit();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Adaptive concurrency limiter.
+ * <p>
+ * Admits requests while fewer than the limit are in flight and adapts the limit to the observed
+ * latency with a gradient: every window of completed requests, the average latency of the window
+ * is compared with a slowly moving long-term average. While the window is within
+ * {@code tolerance} times the long-term latency the limit grows by about its square root; when
+ * latency rises beyond that, the limit shrinks in proportion, by at most half per window. Changes
+ * are smoothed, bounded by the minimum and maximum limit, and the limit does not grow while
+ * less than half of it is used, so an idle period does not inflate it.
+ * <p>
+ * Admission is lock free; only the completion closing a window takes a lock.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private static final double MIN_GRADIENT = 0.5;
+  private static final int LONG_TERM_WINDOWS = 20;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final int windowSize;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder rejections = new LongAdder();
+  private volatile double limit;
+
+  private long windowNanos;
+  private int windowSamples;
+  private int windowMaxInFlight;
+  private double longTermNanos;
+
+  /**
+   * Instantiates a new Adaptive concurrency limiter.
+   *
+   * @param initialLimit the limit to start with
+   * @param minLimit     the lowest limit
+   * @param maxLimit     the highest limit
+   * @param tolerance    how many times the long-term latency is tolerated before shrinking
+   * @param smoothing    the weight of a new limit against the current one, between 0 and 1
+   * @param windowSize   the number of completed requests per window
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+      double tolerance, double smoothing, int windowSize) {
+    if (minLimit < 1 || maxLimit < minLimit || tolerance < 1 || smoothing <= 0 || smoothing > 1
+        || windowSize < 1) {
+      throw new IllegalArgumentException("Invalid concurrency limiter settings");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.smoothing = smoothing;
+    this.windowSize = windowSize;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Admits a request if fewer than the limit are in flight.
+   *
+   * @return {@code true} if admitted, then {@link #release(long)} must follow
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = this.inFlight.get();
+      if (current >= getLimit()) {
+        this.rejections.increment();
+        return false;
+      }
+      if (this.inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Completes an admitted request.
+   *
+   * @param latencyNanos the latency of the request
+   */
+  public void release(long latencyNanos) {
+    int inFlightBefore = this.inFlight.getAndDecrement();
+    synchronized (this) {
+      this.windowNanos += latencyNanos;
+      this.windowSamples++;
+      this.windowMaxInFlight = Math.max(this.windowMaxInFlight, inFlightBefore);
+      if (this.windowSamples < this.windowSize) {
+        return;
+      }
+      double shortTermNanos = (double) this.windowNanos / this.windowSamples;
+      int maxInFlight = this.windowMaxInFlight;
+      this.windowNanos = 0;
+      this.windowSamples = 0;
+      this.windowMaxInFlight = 0;
+      update(shortTermNanos, maxInFlight);
+    }
+  }
+
+  private void update(double shortTermNanos, int maxInFlight) {
+    if (this.longTermNanos == 0) {
+      this.longTermNanos = shortTermNanos;
+    } else {
+      this.longTermNanos += (shortTermNanos - this.longTermNanos) / LONG_TERM_WINDOWS;
+    }
+    // Recover faster once a slow period is over, instead of averaging it away
+    if (this.longTermNanos > 2 * shortTermNanos) {
+      this.longTermNanos = 0.95 * this.longTermNanos + 0.05 * shortTermNanos;
+    }
+    double currentLimit = this.limit;
+    if (maxInFlight < currentLimit / 2) {
+      return;
+    }
+    double gradient = Math.max(MIN_GRADIENT,
+        Math.min(1.0, this.tolerance * this.longTermNanos / Math.max(shortTermNanos, 1)));
+    double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+    newLimit = currentLimit * (1 - this.smoothing) + newLimit * this.smoothing;
+    this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+  }
+
+  /**
+   * Gets the current limit.
+   *
+   * @return the limit
+   */
+  public int getLimit() {
+    return (int) this.limit;
+  }
+
+  /**
+   * Gets the number of requests in flight.
+   *
+   * @return the number of requests in flight
+   */
+  public int getInFlight() {
+    return this.inFlight.get();
+  }
+
+  /**
+   * Gets the number of rejected requests.
+   *
+   * @return the number of rejected requests
+   */
+  public long getRejections() {
+    return this.rejections.sum();
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The type Concurrency limit configuration.
+ * <p>
+ * Active unless {@code app.limits.enabled} is {@code false}. The Author and the Book endpoints are
+ * limited as two groups with a limiter each, so a slow Book path sheds Book requests without
+ * taking the limit of the Authors down with it. The content of Books streams for as long as the
+ * client takes to read it, so it is limited as a third group; its latency would otherwise shrink
+ * the limit of every other Book endpoint. The limit, the requests in flight and the
+ * rejections of each group are published as {@code http.server.concurrency.limit},
+ * {@code http.server.concurrency.in-flight} and {@code http.server.concurrency.rejections},
+ * tagged with the group.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.limits.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+  private static final String CONTENT_PATH = "/books/*/content";
+
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new LinkedHashMap<>();
+
+  /**
+   * Instantiates a new Concurrency limit configuration.
+   *
+   * @param meterRegistry the meter registry
+   * @param initialLimit  the limit each group starts with
+   * @param minLimit      the lowest limit of a group
+   * @param maxLimit      the highest limit of a group
+   * @param tolerance     how many times the long-term latency is tolerated before shrinking
+   * @param smoothing     the weight of a new limit against the current one
+   * @param windowSize    the number of completed requests per window
+   */
+  @Autowired
+  public ConcurrencyLimitConfiguration(MeterRegistry meterRegistry,
+      @Value("${app.limits.initial-limit:20}") int initialLimit,
+      @Value("${app.limits.min-limit:4}") int minLimit,
+      @Value("${app.limits.max-limit:200}") int maxLimit,
+      @Value("${app.limits.tolerance:2.0}") double tolerance,
+      @Value("${app.limits.smoothing:0.2}") double smoothing,
+      @Value("${app.limits.window-size:20}") int windowSize) {
+    for (String group : new String[]{"authors", "books", "content"}) {
+      AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit,
+          maxLimit, tolerance, smoothing, windowSize);
+      Gauge.builder("http.server.concurrency.limit", limiter,
+              AdaptiveConcurrencyLimiter::getLimit)
+          .description("Requests admitted in flight at once")
+          .tag("group", group)
+          .register(meterRegistry);
+      Gauge.builder("http.server.concurrency.in-flight", limiter,
+              AdaptiveConcurrencyLimiter::getInFlight)
+          .description("Requests in flight")
+          .tag("group", group)
+          .register(meterRegistry);
+      FunctionCounter.builder("http.server.concurrency.rejections", limiter,
+              AdaptiveConcurrencyLimiter::getRejections)
+          .description("Requests rejected over the limit")
+          .tag("group", group)
+          .register(meterRegistry);
+      this.limiters.put(group, limiter);
+    }
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(interceptor("authors"))
+        .addPathPatterns("/authors", "/authors/**");
+    registry.addInterceptor(interceptor("books"))
+        .addPathPatterns("/books", "/books/**")
+        .excludePathPatterns(CONTENT_PATH);
+    registry.addInterceptor(interceptor("content"))
+        .addPathPatterns(CONTENT_PATH);
+  }
+
+  private ConcurrencyLimitInterceptor interceptor(String group) {
+    return new ConcurrencyLimitInterceptor(group, this.limiters.get(group));
+  }
+}
@@ -0,0 +1,21 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+/**
+ * The type Concurrency limit exceeded exception, thrown when a request is rejected by the limit
+ * of its endpoint group.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  /**
+   * Instantiates a new Concurrency limit exceeded exception.
+   *
+   * @param group the endpoint group
+   */
+  public ConcurrencyLimitExceededException(String group) {
+    super("Concurrency limit of " + group + " exceeded");
+  }
+}
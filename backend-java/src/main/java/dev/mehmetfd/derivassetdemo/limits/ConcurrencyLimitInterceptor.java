@@ -0,0 +1,101 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * The type Concurrency limit interceptor.
+ * <p>
+ * Admits the requests of one endpoint group through its {@link AdaptiveConcurrencyLimiter} and
+ * throws {@link ConcurrencyLimitExceededException} for the rest, before any controller runs. A
+ * request stays in flight until its response is complete, including asynchronous and streaming
+ * responses, whose latency is measured until the asynchronous processing completes.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+  private final String group;
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final String permitAttribute;
+
+  /**
+   * Instantiates a new Concurrency limit interceptor.
+   *
+   * @param group   the name of the endpoint group
+   * @param limiter the limiter of the endpoint group
+   */
+  public ConcurrencyLimitInterceptor(String group, AdaptiveConcurrencyLimiter limiter) {
+    this.group = group;
+    this.limiter = limiter;
+    this.permitAttribute = ConcurrencyLimitInterceptor.class.getName() + "." + group;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (request.getDispatcherType() != DispatcherType.REQUEST
+        || request.getAttribute(this.permitAttribute) != null) {
+      return true;
+    }
+    if (!this.limiter.tryAcquire()) {
+      throw new ConcurrencyLimitExceededException(this.group);
+    }
+    request.setAttribute(this.permitAttribute, new Permit());
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    Permit permit = (Permit) request.getAttribute(this.permitAttribute);
+    if (permit != null) {
+      request.getAsyncContext().addListener(permit);
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception exception) {
+    Permit permit = (Permit) request.getAttribute(this.permitAttribute);
+    if (permit != null && !request.isAsyncStarted()) {
+      permit.release();
+    }
+  }
+
+  private class Permit implements AsyncListener {
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    void release() {
+      if (this.released.compareAndSet(false, true)) {
+        limiter.release(System.nanoTime() - this.startNanos);
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * The type Concurrency limit rejection handler, answers requests over the limit of their endpoint
+ * group with {@code 503} and a {@code Retry-After}.
+ */
+@RestControllerAdvice
+public class ConcurrencyLimitRejectionHandler {
+
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  /**
+   * Handles a rejected request.
+   *
+   * @param exception the rejection
+   * @return the response
+   */
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<Void> handleConcurrencyLimitExceeded(
+      ConcurrencyLimitExceededException exception) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .build();
+  }
+}
@@ -8,9 +8,12 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.services.stats.AuthorStatsListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -24,12 +27,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Fetch;
 
 /**
  * The type Author.
  */
 @Entity
+@EntityListeners(AuthorStatsListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "author")
 public class Author implements Serializable {
   @Serial
   @Transient
@@ -47,6 +55,7 @@ public class Author implements Serializable {
   @NotNull
   @Column(nullable = false)
   @OneToMany(mappedBy = "author", cascade = CascadeType.REMOVE)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "author.books")
   private List<Book> books = new ArrayList<Book>();
 
   /**
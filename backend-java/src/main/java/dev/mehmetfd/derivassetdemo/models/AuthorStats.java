@@ -0,0 +1,144 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The type Author stats, maintained incrementally as Books are saved and deleted.
+ */
+@Entity
+@Table(name = "author_stats")
+public class AuthorStats implements Serializable {
+
+  @Serial
+  @Transient
+  private static final long serialVersionUID = 1L;
+
+  @Id
+  private Long authorId;
+  @Column(nullable = false)
+  private long bookCount;
+  @Column(nullable = false)
+  private long totalDataBytes;
+  private Integer minYearPublished;
+  private Integer maxYearPublished;
+
+  /**
+   * Instantiates a new Author stats.
+   */
+  public AuthorStats() {
+  }
+
+  /**
+   * Instantiates new Author stats of an Author without Books.
+   *
+   * @param authorId the author id
+   */
+  public AuthorStats(Long authorId) {
+    this.authorId = authorId;
+  }
+
+  /**
+   * Gets author id.
+   *
+   * @return the author id
+   */
+  public Long getAuthorId() {
+    return this.authorId;
+  }
+
+  /**
+   * Sets author id.
+   *
+   * @param authorId the author id
+   */
+  public void setAuthorId(Long authorId) {
+    this.authorId = authorId;
+  }
+
+  /**
+   * Gets book count.
+   *
+   * @return the book count
+   */
+  public long getBookCount() {
+    return this.bookCount;
+  }
+
+  /**
+   * Sets book count.
+   *
+   * @param bookCount the book count
+   */
+  public void setBookCount(long bookCount) {
+    this.bookCount = bookCount;
+  }
+
+  /**
+   * Gets total data bytes.
+   *
+   * @return the total data bytes
+   */
+  public long getTotalDataBytes() {
+    return this.totalDataBytes;
+  }
+
+  /**
+   * Sets total data bytes.
+   *
+   * @param totalDataBytes the total data bytes
+   */
+  public void setTotalDataBytes(long totalDataBytes) {
+    this.totalDataBytes = totalDataBytes;
+  }
+
+  /**
+   * Gets min year published.
+   *
+   * @return the min year published, {@code null} without Books
+   */
+  public Integer getMinYearPublished() {
+    return this.minYearPublished;
+  }
+
+  /**
+   * Sets min year published.
+   *
+   * @param minYearPublished the min year published
+   */
+  public void setMinYearPublished(Integer minYearPublished) {
+    this.minYearPublished = minYearPublished;
+  }
+
+  /**
+   * Gets max year published.
+   *
+   * @return the max year published, {@code null} without Books
+   */
+  public Integer getMaxYearPublished() {
+    return this.maxYearPublished;
+  }
+
+  /**
+   * Sets max year published.
+   *
+   * @param maxYearPublished the max year published
+   */
+  public void setMaxYearPublished(Integer maxYearPublished) {
+    this.maxYearPublished = maxYearPublished;
+  }
+
+  public String toString() {
+    return "AuthorStats(authorId=" + this.getAuthorId() + ", bookCount=" + this.getBookCount()
+        + ", totalDataBytes=" + this.getTotalDataBytes() + ")";
+  }
+}
@@ -7,9 +7,11 @@ package dev.mehmetfd.derivassetdemo.models;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import dev.mehmetfd.derivassetdemo.services.stats.AuthorStatsListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -19,12 +21,14 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedAttributeNode;
 import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
+import org.hibernate.annotations.BatchSize;
 
 
 /**
@@ -36,14 +40,23 @@ import java.util.Objects;
     @NamedAttributeNode("yearPublished")
 })
 @Entity
+@EntityListeners(AuthorStatsListener.class)
+@BatchSize(size = 32)
 public class Book implements Serializable {
 
+  /**
+   * The number of ids Hibernate takes from the sequence at once.
+   */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Serial
   @Transient
   private static final long serialVersionUID = 1L;
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+  @SequenceGenerator(name = "book_seq", sequenceName = "book_seq",
+      allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
   @NotBlank
   @Column(nullable = false)
@@ -181,9 +194,10 @@ public class Book implements Serializable {
     if (!Objects.equals(this$yearOfPublication, other$yearOfPublication)) {
       return false;
     }
-    final Object this$author = this.getAuthor();
-    final Object other$author = other.getAuthor();
-    if (!Objects.equals(this$author, other$author)) {
+    // The Author by its id only, as the Author compares its Books
+    final Object this$authorId = this.getAuthor() == null ? null : this.getAuthor().getId();
+    final Object other$authorId = other.getAuthor() == null ? null : other.getAuthor().getId();
+    if (!Objects.equals(this$authorId, other$authorId)) {
       return false;
     }
     final Object this$data = this.getData();
@@ -210,8 +224,8 @@ public class Book implements Serializable {
     result = result * PRIME + ($name == null ? 43 : $name.hashCode());
     final Object $yearOfPublication = this.getYearPublished();
     result = result * PRIME + ($yearOfPublication == null ? 43 : $yearOfPublication.hashCode());
-    final Object $author = this.getAuthor();
-    result = result * PRIME + ($author == null ? 43 : $author.hashCode());
+    final Object $authorId = this.getAuthor() == null ? null : this.getAuthor().getId();
+    result = result * PRIME + ($authorId == null ? 43 : $authorId.hashCode());
     final Object $data = this.getData();
     result = result * PRIME + ($data == null ? 43 : $data.hashCode());
     return result;
@@ -0,0 +1,13 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.models.projections;
+
+/**
+ * The interface for the Author overviews along with the stats of their Books.
+ */
+public interface AuthorOverviewWithStatsProjection extends AuthorOverviewProjection,
+    AuthorStatsProjection {
+
+}
@@ -0,0 +1,42 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.models.projections;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+
+/**
+ * The interface for the stats of the Books of an Author.
+ */
+public interface AuthorStatsProjection {
+
+  /**
+   * Gets the number of Books
+   *
+   * @return the number of {@link Book Books} of the {@link Author Author}
+   */
+  Long getBookCount();
+
+  /**
+   * Gets the total size of the data of the Books
+   *
+   * @return the total size of the data of the {@link Book Books} in bytes
+   */
+  Long getTotalDataBytes();
+
+  /**
+   * Gets the year the first Book was published
+   *
+   * @return the earliest year of publishing, {@code null} without {@link Book Books}
+   */
+  Integer getMinYearPublished();
+
+  /**
+   * Gets the year the last Book was published
+   *
+   * @return the latest year of publishing, {@code null} without {@link Book Books}
+   */
+  Integer getMaxYearPublished();
+}
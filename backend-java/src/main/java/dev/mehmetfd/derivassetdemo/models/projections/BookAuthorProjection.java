@@ -0,0 +1,21 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.models.projections;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+
+/**
+ * The interface for the Book overviews along with the ID of their Author.
+ */
+public interface BookAuthorProjection extends BookOverviewProjection {
+
+  /**
+   * Gets the ID of the Author of the Book
+   *
+   * @return the ID of the {@link Author Author} of the {@link Book Book}
+   */
+  Long getAuthorId();
+}
@@ -0,0 +1,228 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * The type Query accounting data source.
+ * <p>
+ * Connections handed out while the current thread works for a request, see
+ * {@link QueryStatsContext}, are wrapped so their statements, the rows fetched from their result
+ * sets and the bytes of the values read are recorded in the {@link QueryStats} of the request.
+ * Every other connection is handed out as it is, without any overhead. Bytes are the length of
+ * binary and character values and the width of the others, an estimate of what the driver
+ * decoded rather than of the traffic on the wire. Closing it closes the wrapped data source, so
+ * the pool still shuts down with the application context.
+ */
+public class QueryAccountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery",
+      "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+  /**
+   * Instantiates a new Query accounting data source.
+   *
+   * @param targetDataSource the data source to wrap
+   */
+  public QueryAccountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (getTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private static Connection wrap(Connection connection) {
+    QueryStats queryStats = QueryStatsContext.current();
+    if (queryStats == null) {
+      return connection;
+    }
+    return proxy(Connection.class, new ConnectionHandler(connection, queryStats));
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(QueryAccountingDataSource.class.getClassLoader(),
+        new Class<?>[]{type}, handler));
+  }
+
+  static long sizeOf(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof byte[] bytes) {
+      return bytes.length;
+    } else if (value instanceof CharSequence characters) {
+      return characters.length();
+    } else if (value instanceof Boolean || value instanceof Byte) {
+      return 1;
+    } else if (value instanceof Short) {
+      return 2;
+    } else if (value instanceof Integer || value instanceof Float) {
+      return 4;
+    }
+    return 8;
+  }
+
+  /**
+   * Handler of a JDBC object, delegating every method to the target. Proxies compare by identity,
+   * as Hibernate keeps statements and result sets in hash maps.
+   */
+  private abstract static class DelegatingHandler implements InvocationHandler {
+
+    private final Object target;
+    final QueryStats queryStats;
+
+    DelegatingHandler(Object target, QueryStats queryStats) {
+      this.target = target;
+      this.queryStats = queryStats;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          break;
+      }
+      Object result;
+      try {
+        result = method.invoke(this.target, args);
+      } catch (InvocationTargetException exception) {
+        throw exception.getCause();
+      }
+      return afterInvoke(method, args, result);
+    }
+
+    abstract Object afterInvoke(Method method, Object[] args, Object result);
+  }
+
+  private static class ConnectionHandler extends DelegatingHandler {
+
+    ConnectionHandler(Connection connection, QueryStats queryStats) {
+      super(connection, queryStats);
+    }
+
+    @Override
+    Object afterInvoke(Method method, Object[] args, Object result) {
+      String name = method.getName();
+      if (result instanceof Statement statement && (name.equals("createStatement")
+          || name.equals("prepareStatement") || name.equals("prepareCall"))) {
+        String sql = args != null && args.length > 0 && args[0] instanceof String string
+            ? string : null;
+        return proxy(method.getReturnType(), new StatementHandler(statement, sql,
+            this.queryStats));
+      }
+      return result;
+    }
+  }
+
+  private static class StatementHandler extends DelegatingHandler {
+
+    private final String sql;
+
+    StatementHandler(Statement statement, String sql, QueryStats queryStats) {
+      super(statement, queryStats);
+      this.sql = sql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (EXECUTE_METHODS.contains(method.getName())) {
+        String executed = args != null && args.length > 0 && args[0] instanceof String string
+            ? string : this.sql;
+        this.queryStats.recordStatement(executed != null ? executed : "batch");
+      }
+      return super.invoke(proxy, method, args);
+    }
+
+    @Override
+    Object afterInvoke(Method method, Object[] args, Object result) {
+      if (result instanceof ResultSet resultSet) {
+        return proxy(ResultSet.class, new ResultSetHandler(resultSet, this.queryStats));
+      }
+      return result;
+    }
+  }
+
+  private static class ResultSetHandler extends DelegatingHandler {
+
+    ResultSetHandler(ResultSet resultSet, QueryStats queryStats) {
+      super(resultSet, queryStats);
+    }
+
+    @Override
+    Object afterInvoke(Method method, Object[] args, Object result) {
+      String name = method.getName();
+      if (name.equals("next")) {
+        if (Boolean.TRUE.equals(result)) {
+          this.queryStats.recordRow();
+        }
+      } else if (name.startsWith("get") && args != null && args.length > 0) {
+        if (result instanceof InputStream inputStream) {
+          return new CountingInputStream(inputStream, this.queryStats);
+        }
+        this.queryStats.recordBytes(sizeOf(result));
+      }
+      return result;
+    }
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+
+    private final QueryStats queryStats;
+
+    CountingInputStream(InputStream inputStream, QueryStats queryStats) {
+      super(inputStream);
+      this.queryStats = queryStats;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = super.read();
+      if (read >= 0) {
+        this.queryStats.recordBytes(1);
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        this.queryStats.recordBytes(read);
+      }
+      return read;
+    }
+  }
+}
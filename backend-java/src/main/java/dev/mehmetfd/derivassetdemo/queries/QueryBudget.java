@@ -0,0 +1,32 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements a request to a handler method may issue.
+ * <p>
+ * A request issuing more is logged at warn level with its statements, rows and bytes and counted
+ * as {@code http.server.requests.sql.over-budget}. When collected, it is also reported to
+ * {@link QueryBudgetViolations}, which integration tests fail on. The budget is an upper bound for
+ * a cold second-level cache.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+  /**
+   * The number of statements a request may issue.
+   *
+   * @return the number of statements
+   */
+  int statements();
+}
@@ -0,0 +1,64 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The type Query budget violations, the latest requests that issued more statements than their
+ * {@link QueryBudget} since the last {@link #drain()}.
+ * <p>
+ * Only collected when {@code app.queries.violations.collect} is {@code true}, as tests do, and
+ * at most the capacity of them, older ones are dropped.
+ */
+public class QueryBudgetViolations {
+
+  private static final int DEFAULT_CAPACITY = 100;
+
+  private final int capacity;
+  private final Deque<String> violations = new ArrayDeque<>();
+
+  /**
+   * Instantiates new Query budget violations with the default capacity.
+   */
+  public QueryBudgetViolations() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Instantiates new Query budget violations.
+   *
+   * @param capacity the number of violations kept
+   */
+  public QueryBudgetViolations(int capacity) {
+    this.capacity = Math.max(1, capacity);
+  }
+
+  /**
+   * Reports a violation, dropping the oldest one if the capacity is reached.
+   *
+   * @param violation the description of the violation
+   */
+  public synchronized void report(String violation) {
+    if (this.violations.size() == this.capacity) {
+      this.violations.removeFirst();
+    }
+    this.violations.addLast(violation);
+  }
+
+  /**
+   * Removes and returns the violations reported so far.
+   *
+   * @return the violations
+   */
+  public synchronized List<String> drain() {
+    List<String> drained = new ArrayList<>(this.violations);
+    this.violations.clear();
+    return drained;
+  }
+}
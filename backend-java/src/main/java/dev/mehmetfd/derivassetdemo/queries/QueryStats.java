@@ -0,0 +1,149 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Query stats, the SQL statements, rows and bytes of one request.
+ * <p>
+ * Statements are also counted per SQL string, so the same statement issued again and again with
+ * different parameters, the signature of an N+1 fetch, can be found afterwards. A request may be
+ * served by more than one thread, e.g. when its response is streamed, so the counters are
+ * thread safe.
+ */
+public class QueryStats {
+
+  private final String route;
+  private final int budget;
+  private final QueryBudgetViolations violations;
+
+  private final AtomicLong statements = new AtomicLong();
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+  private volatile String overBudgetStatement;
+
+  /**
+   * Instantiates new Query stats.
+   *
+   * @param route      the method and the route of the request
+   * @param budget     the statements the request may issue, negative for no budget
+   * @param violations where to report exceeding the budget, {@code null} if violations are not
+   *                   collected
+   */
+  public QueryStats(String route, int budget, QueryBudgetViolations violations) {
+    this.route = route;
+    this.budget = budget;
+    this.violations = violations;
+  }
+
+  /**
+   * Records an executed statement.
+   *
+   * @param sql the SQL of the statement
+   */
+  public void recordStatement(String sql) {
+    long count = this.statements.incrementAndGet();
+    this.executions.computeIfAbsent(sql, key -> new LongAdder()).increment();
+    if (this.budget >= 0 && count == this.budget + 1L) {
+      this.overBudgetStatement = sql;
+      if (this.violations != null) {
+        this.violations.report(this.route + " issued more than " + this.budget
+            + " SQL statements, the next one was: " + sql);
+      }
+    }
+  }
+
+  /**
+   * Records a fetched row.
+   */
+  public void recordRow() {
+    this.rows.increment();
+  }
+
+  /**
+   * Records bytes read from a result set.
+   *
+   * @param count the number of bytes
+   */
+  public void recordBytes(long count) {
+    this.bytes.add(count);
+  }
+
+  /**
+   * Gets the method and the route of the request.
+   *
+   * @return the route
+   */
+  public String getRoute() {
+    return this.route;
+  }
+
+  /**
+   * Gets the statements the request may issue.
+   *
+   * @return the budget, negative for no budget
+   */
+  public int getBudget() {
+    return this.budget;
+  }
+
+  /**
+   * Gets the first statement issued over the budget.
+   *
+   * @return the SQL of the statement, {@code null} if the request kept to its budget
+   */
+  public String getOverBudgetStatement() {
+    return this.overBudgetStatement;
+  }
+
+  /**
+   * Gets the number of statements.
+   *
+   * @return the number of statements
+   */
+  public long getStatements() {
+    return this.statements.get();
+  }
+
+  /**
+   * Gets the number of rows fetched.
+   *
+   * @return the number of rows
+   */
+  public long getRows() {
+    return this.rows.sum();
+  }
+
+  /**
+   * Gets the number of bytes read.
+   *
+   * @return the number of bytes
+   */
+  public long getBytes() {
+    return this.bytes.sum();
+  }
+
+  /**
+   * Gets the statement executed most often, if it was executed at least as often as the
+   * threshold.
+   *
+   * @param threshold the number of executions
+   * @return {@link Optional}{@code <}{@link Map.Entry}{@code >} <ul> <li>{@link Optional}
+   * containing the SQL and its number of executions</li> <li>{@link Optional#empty()} if no
+   * statement reached the threshold</li> </ul>
+   */
+  public Optional<Map.Entry<String, Long>> getMostRepeatedStatement(int threshold) {
+    return this.executions.entrySet().stream()
+        .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+        .filter(entry -> entry.getValue() >= threshold)
+        .max(Map.Entry.comparingByValue());
+  }
+}
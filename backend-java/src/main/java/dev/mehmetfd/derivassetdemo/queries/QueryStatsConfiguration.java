@@ -0,0 +1,91 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The type Query stats configuration.
+ * <p>
+ * Active unless {@code app.queries.enabled} is {@code false}. Wraps the {@code dataSource} bean,
+ * whichever configuration built it, in a {@link QueryAccountingDataSource} and accounts the SQL of
+ * every request through {@link QueryStatsInterceptor}. Requests exceeding their
+ * {@link QueryBudget} are only collected as {@link QueryBudgetViolations} when
+ * {@code app.queries.violations.collect} is {@code true}, as in tests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfiguration implements WebMvcConfigurer {
+
+  private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+  private final MeterRegistry meterRegistry;
+  private final int repeatedStatementThreshold;
+  private final QueryBudgetViolations queryBudgetViolations;
+
+  /**
+   * Instantiates a new Query stats configuration.
+   *
+   * @param meterRegistry              the meter registry
+   * @param repeatedStatementThreshold the executions of one statement suspected as N+1
+   * @param collectViolations          whether requests exceeding their budget are collected
+   * @param violationsCapacity         the number of collected violations kept
+   */
+  @Autowired
+  public QueryStatsConfiguration(MeterRegistry meterRegistry,
+      @Value("${app.queries.repeated-statement-threshold:5}") int repeatedStatementThreshold,
+      @Value("${app.queries.violations.collect:false}") boolean collectViolations,
+      @Value("${app.queries.violations.capacity:100}") int violationsCapacity) {
+    this.meterRegistry = meterRegistry;
+    this.repeatedStatementThreshold = repeatedStatementThreshold;
+    this.queryBudgetViolations = collectViolations
+        ? new QueryBudgetViolations(violationsCapacity) : null;
+  }
+
+  /**
+   * Wraps the data source used by JPA and JDBC.
+   *
+   * @return the bean post processor
+   */
+  @Bean
+  public static BeanPostProcessor queryAccountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (beanName.equals(DATA_SOURCE_BEAN_NAME) && bean instanceof DataSource dataSource
+            && !(bean instanceof QueryAccountingDataSource)) {
+          return new QueryAccountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * The requests that exceeded their query budget, only collected when enabled.
+   *
+   * @return the query budget violations
+   */
+  @Bean
+  @ConditionalOnProperty(name = "app.queries.violations.collect", havingValue = "true")
+  public QueryBudgetViolations queryBudgetViolations() {
+    return this.queryBudgetViolations;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new QueryStatsInterceptor(this.meterRegistry,
+        this.queryBudgetViolations, this.repeatedStatementThreshold));
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * The type Query stats context, holds the {@link QueryStats} of the request the current thread
+ * works for.
+ * <p>
+ * Set by {@link QueryStatsInterceptor} on the request thread and registered with the
+ * {@link ContextRegistry}, so statements of work handed off to an executor are counted too.
+ */
+public final class QueryStatsContext {
+
+  private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+  static {
+    ContextRegistry.getInstance().registerThreadLocalAccessor(QueryStatsContext.class.getName(),
+        CURRENT::get, CURRENT::set, CURRENT::remove);
+  }
+
+  private QueryStatsContext() {
+  }
+
+  /**
+   * Gets the query stats of the current thread.
+   *
+   * @return the query stats, {@code null} outside of a request
+   */
+  public static QueryStats current() {
+    return CURRENT.get();
+  }
+
+  static void set(QueryStats queryStats) {
+    CURRENT.set(queryStats);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
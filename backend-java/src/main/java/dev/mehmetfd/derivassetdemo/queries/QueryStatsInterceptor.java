@@ -0,0 +1,182 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Query stats interceptor.
+ * <p>
+ * Gives every request its {@link QueryStats}, exposed through {@link QueryStatsContext} while the
+ * request is handled, and records them once the response is complete, including asynchronous
+ * and streaming responses. The statements, rows and bytes of each request are recorded as
+ * {@code http.server.requests.sql.statements}, {@code http.server.requests.sql.rows} and
+ * {@code http.server.requests.sql.bytes}, tagged with the method and the route like
+ * {@code http.server.requests}, and logged at debug level. A request executing the same statement
+ * at least the threshold times is logged as a suspected N+1 fetch and counted as
+ * {@code http.server.requests.sql.repeated}. A request exceeding its {@link QueryBudget} is logged
+ * at warn level with its statements, rows and bytes and counted as
+ * {@code http.server.requests.sql.over-budget}.
+ */
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+
+  private static final Logger logger = LoggerFactory.getLogger(QueryStatsInterceptor.class);
+
+  private static final String COMPLETION_ATTRIBUTE =
+      QueryStatsInterceptor.class.getName() + ".completion";
+
+  private final MeterRegistry meterRegistry;
+  private final QueryBudgetViolations violations;
+  private final int repeatedStatementThreshold;
+
+  /**
+   * Instantiates a new Query stats interceptor.
+   *
+   * @param meterRegistry              the meter registry
+   * @param violations                 where to report exceeded budgets, {@code null} if they
+   *                                   are not collected
+   * @param repeatedStatementThreshold the executions of one statement suspected as N+1
+   */
+  public QueryStatsInterceptor(MeterRegistry meterRegistry, QueryBudgetViolations violations,
+      int repeatedStatementThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.violations = violations;
+    this.repeatedStatementThreshold = repeatedStatementThreshold;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion == null) {
+      if (request.getDispatcherType() != DispatcherType.REQUEST) {
+        return true;
+      }
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+      QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+      completion = new Completion(Tags.of("method", request.getMethod(), "uri", uri),
+          new QueryStats(request.getMethod() + " " + uri,
+              budget != null ? budget.statements() : -1, this.violations));
+      request.setAttribute(COMPLETION_ATTRIBUTE, completion);
+    }
+    QueryStatsContext.set(completion.queryStats);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    QueryStatsContext.clear();
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion != null) {
+      request.getAsyncContext().addListener(completion);
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception exception) {
+    QueryStatsContext.clear();
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion != null && !request.isAsyncStarted()) {
+      completion.record();
+    }
+  }
+
+  private class Completion implements AsyncListener {
+
+    private final Tags tags;
+    private final QueryStats queryStats;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    Completion(Tags tags, QueryStats queryStats) {
+      this.tags = tags;
+      this.queryStats = queryStats;
+    }
+
+    void record() {
+      if (!this.recorded.compareAndSet(false, true)) {
+        return;
+      }
+      DistributionSummary.builder("http.server.requests.sql.statements")
+          .description("SQL statements executed per request")
+          .tags(this.tags)
+          .register(meterRegistry)
+          .record(this.queryStats.getStatements());
+      DistributionSummary.builder("http.server.requests.sql.rows")
+          .description("Rows fetched per request")
+          .tags(this.tags)
+          .register(meterRegistry)
+          .record(this.queryStats.getRows());
+      DistributionSummary.builder("http.server.requests.sql.bytes")
+          .description("Bytes of the values read from result sets per request")
+          .baseUnit(BaseUnits.BYTES)
+          .tags(this.tags)
+          .register(meterRegistry)
+          .record(this.queryStats.getBytes());
+      logger.debug("{}: {} statements, {} rows, {} bytes", this.queryStats.getRoute(),
+          this.queryStats.getStatements(), this.queryStats.getRows(),
+          this.queryStats.getBytes());
+      String overBudgetStatement = this.queryStats.getOverBudgetStatement();
+      if (overBudgetStatement != null) {
+        Counter.builder("http.server.requests.sql.over-budget")
+            .description("Requests executing more statements than their query budget")
+            .tags(this.tags)
+            .register(meterRegistry)
+            .increment();
+        logger.warn("{}: query budget of {} exceeded, {} statements, {} rows, {} bytes, the first"
+                + " one over it was {}", this.queryStats.getRoute(), this.queryStats.getBudget(),
+            this.queryStats.getStatements(), this.queryStats.getRows(),
+            this.queryStats.getBytes(), overBudgetStatement);
+      }
+      this.queryStats.getMostRepeatedStatement(repeatedStatementThreshold)
+          .ifPresent(statement -> {
+            Counter.builder("http.server.requests.sql.repeated")
+                .description("Requests executing one statement suspiciously often")
+                .tags(this.tags)
+                .register(meterRegistry)
+                .increment();
+            logger.warn("{}: suspected N+1, {} executions of {}", this.queryStats.getRoute(),
+                statement.getValue(), statement.getKey());
+          });
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      record();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
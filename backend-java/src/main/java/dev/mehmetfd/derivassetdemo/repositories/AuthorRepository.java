@@ -6,9 +6,16 @@ package dev.mehmetfd.derivassetdemo.repositories;
 
 import dev.mehmetfd.derivassetdemo.models.Author;
 import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -18,15 +25,25 @@ import org.springframework.stereotype.Repository;
 public interface AuthorRepository extends JpaRepository<Author, Long> {
 
   /**
-   * Gets Author overview by ID
+   * Gets Author overview by ID along with the stats of its Books
    *
    * @param authorId the {@link Long ID} of the Author
-   * @return {@link Optional}{@code <}{@link AuthorOverviewProjection}{@code >} <ul>
-   * <li>{@link Optional} containing the {@link AuthorOverviewProjection overview} found</li>
+   * @return {@link Optional}{@code <}{@link AuthorOverviewWithStatsProjection}{@code >} <ul>
+   * <li>{@link Optional} containing the {@link AuthorOverviewWithStatsProjection overview}
+   * found</li>
    * <li>{@link Optional#empty()} if an Author cannot be found with the given Author ID</li> </ul>
    * @throws IllegalArgumentException if the provided ID is null
    */
-  Optional<AuthorOverviewProjection> getAuthorOverviewById(Long authorId);
+  @Query("select a.id as id, a.name as name, a.yearBorn as yearBorn,"
+      + " coalesce(s.bookCount, 0L) as bookCount, coalesce(s.totalDataBytes, 0L) as totalDataBytes,"
+      + " s.minYearPublished as minYearPublished, s.maxYearPublished as maxYearPublished"
+      + " from Author a left join AuthorStats s on s.authorId = a.id where a.id = :authorId")
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "overview")
+  })
+  Optional<AuthorOverviewWithStatsProjection> getAuthorOverviewById(
+      @Param("authorId") Long authorId);
 
   /**
    * Retrieves an Author entity by its ID, along with its associated books fetched eagerly.
@@ -39,4 +56,28 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
    */
   @EntityGraph(attributePaths = {"books"})
   Optional<Author> findById(Long id);
-}
\ No newline at end of file
+
+  /**
+   * Streams the overviews of every Author. Must be consumed and closed inside a transaction.
+   *
+   * @return {@link Stream}{@code <}{@link AuthorOverviewProjection}{@code >} of every Author
+   */
+  @Query("select a.id as id, a.name as name, a.yearBorn as yearBorn from Author a")
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<AuthorOverviewProjection> streamAllOverviews();
+
+  /**
+   * Streams the year of birth of every Author. Must be consumed and closed inside a transaction.
+   *
+   * @return {@link Stream}{@code <}{@link Integer}{@code >} of the years, one per Author
+   */
+  @Query("select a.yearBorn from Author a")
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Integer> streamAllYearsBorn();
+}
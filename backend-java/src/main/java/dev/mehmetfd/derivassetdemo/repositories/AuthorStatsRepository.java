@@ -0,0 +1,79 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.repositories;
+
+import dev.mehmetfd.derivassetdemo.models.AuthorStats;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The interface Author Stats Repository.
+ */
+@Repository
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+
+  /**
+   * Adds saved Books to the stats of an Author.
+   *
+   * @param authorId  the {@link Long ID} of the Author
+   * @param bookCount the number of saved Books
+   * @param dataBytes the total data size of the saved Books
+   * @param minYear   the earliest year of publishing of the saved Books
+   * @param maxYear   the latest year of publishing of the saved Books
+   * @return the number of updated stats, {@code 0} if the Author has no stats yet
+   */
+  @Modifying
+  @Query("update AuthorStats s set s.bookCount = s.bookCount + :bookCount,"
+      + " s.totalDataBytes = s.totalDataBytes + :dataBytes,"
+      + " s.minYearPublished = case when s.minYearPublished is null"
+      + " or s.minYearPublished > :minYear then :minYear else s.minYearPublished end,"
+      + " s.maxYearPublished = case when s.maxYearPublished is null"
+      + " or s.maxYearPublished < :maxYear then :maxYear else s.maxYearPublished end"
+      + " where s.authorId = :authorId")
+  int addBooks(@Param("authorId") Long authorId, @Param("bookCount") long bookCount,
+      @Param("dataBytes") long dataBytes, @Param("minYear") Integer minYear,
+      @Param("maxYear") Integer maxYear);
+
+  /**
+   * Removes deleted Books from the stats of an Author and recomputes its range of years.
+   *
+   * @param authorId  the {@link Long ID} of the Author
+   * @param bookCount the number of deleted Books
+   * @param dataBytes the total data size of the deleted Books
+   * @return the number of updated stats, {@code 0} if the Author has no stats
+   */
+  @Modifying
+  @Query("update AuthorStats s set s.bookCount = s.bookCount - :bookCount,"
+      + " s.totalDataBytes = s.totalDataBytes - :dataBytes,"
+      + " s.minYearPublished = (select min(b.yearPublished) from Book b"
+      + " where b.author.id = s.authorId),"
+      + " s.maxYearPublished = (select max(b.yearPublished) from Book b"
+      + " where b.author.id = s.authorId)"
+      + " where s.authorId = :authorId")
+  int removeBooks(@Param("authorId") Long authorId, @Param("bookCount") long bookCount,
+      @Param("dataBytes") long dataBytes);
+
+  /**
+   * Finds the Authors whose stats are missing or do not match their Books.
+   *
+   * @return {@link List}{@code <}{@link Long}{@code >} of the IDs of the Authors
+   */
+  @Query(value = "SELECT a.id FROM author a"
+      + " LEFT JOIN author_stats s ON s.author_id = a.id"
+      + " LEFT JOIN (SELECT author_id, COUNT(*) AS book_count,"
+      + " SUM(OCTET_LENGTH(data)) AS total_data_bytes,"
+      + " MIN(year_published) AS min_year_published, MAX(year_published) AS max_year_published"
+      + " FROM book GROUP BY author_id) b ON b.author_id = a.id"
+      + " WHERE s.author_id IS NULL"
+      + " OR s.book_count <> COALESCE(b.book_count, 0)"
+      + " OR s.total_data_bytes <> COALESCE(b.total_data_bytes, 0)"
+      + " OR s.min_year_published IS DISTINCT FROM b.min_year_published"
+      + " OR s.max_year_published IS DISTINCT FROM b.max_year_published", nativeQuery = true)
+  List<Long> findAuthorIdsWithDriftedStats();
+}
@@ -6,10 +6,18 @@ package dev.mehmetfd.derivassetdemo.repositories;
 
 import dev.mehmetfd.derivassetdemo.models.Author;
 import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorStatsProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.BookAuthorProjection;
 import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -27,17 +35,75 @@ public interface BookRepository extends JpaRepository<Book, Long> {
    * <li>{@link Optional#empty()} if an Book cannot be found with the given Book ID</li> </ul>
    * @throws IllegalArgumentException if the provided ID is null
    */
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "overview")
+  })
   Optional<BookOverviewProjection> getBookOverviewById(Long bookId);
 
   /**
    * Retrieves a Book entity by its ID, along with its associated Author fetched eagerly.
    *
-   * @param id The {@link Long ID} of the Author to retrieve.
+   * @param id The {@link Long ID} of the Book to retrieve.
    * @return An {@link Optional} containing the {@link Book} entity with the given ID, and its
-   * associated books, if an author with the specified ID exists in the database. An empty
-   * {@link Optional} is returned if no author with the given ID is found.
+   * associated author, if a book with the specified ID exists in the database. An empty
+   * {@link Optional} is returned if no book with the given ID is found.
    * @throws IllegalArgumentException if the provided ID is null.
    */
-  //@EntityGraph(attributePaths = {"author"})
-  //Optional<Book> findById(Long id);
-}
\ No newline at end of file
+  @EntityGraph(attributePaths = {"author"})
+  Optional<Book> findById(Long id);
+
+  /**
+   * Streams the overviews of every Book along with their Author IDs, never their data. Must be
+   * consumed and closed inside a transaction.
+   *
+   * @return {@link Stream}{@code <}{@link BookAuthorProjection}{@code >} of every Book
+   */
+  @Query("select b.id as id, b.name as name, b.yearPublished as yearPublished,"
+      + " b.author.id as authorId from Book b")
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<BookAuthorProjection> streamAllOverviews();
+
+  /**
+   * Computes the stats of the Books of an Author. The data sizes are read from the column, the
+   * data itself is never loaded.
+   *
+   * @param authorId the {@link Long ID} of the Author
+   * @return {@link AuthorStatsProjection} of the Books of the Author
+   */
+  @Query(value = "SELECT COUNT(*) AS \"bookCount\","
+      + " COALESCE(SUM(OCTET_LENGTH(data)), 0) AS \"totalDataBytes\","
+      + " MIN(year_published) AS \"minYearPublished\","
+      + " MAX(year_published) AS \"maxYearPublished\""
+      + " FROM book WHERE author_id = :authorId", nativeQuery = true)
+  AuthorStatsProjection computeAuthorStats(@Param("authorId") Long authorId);
+
+  /**
+   * Streams the year of publishing of every Book. Must be consumed and closed inside a
+   * transaction.
+   *
+   * @return {@link Stream}{@code <}{@link Integer}{@code >} of the years, one per Book
+   */
+  @Query("select b.yearPublished from Book b")
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Integer> streamAllYearsPublished();
+
+  /**
+   * Streams the data size of every Book, read from the column without loading the data. Must be
+   * consumed and closed inside a transaction.
+   *
+   * @return {@link Stream}{@code <}{@link Number}{@code >} of the sizes in bytes, one per Book
+   */
+  @Query(value = "SELECT OCTET_LENGTH(data) FROM book", nativeQuery = true)
+  @QueryHints({
+      @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Number> streamAllDataSizes();
+}
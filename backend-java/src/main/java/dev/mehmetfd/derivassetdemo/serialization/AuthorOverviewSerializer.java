@@ -0,0 +1,59 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorStatsProjection;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * The type Author overview serializer.
+ * <p>
+ * Writes overviews straight to the generator instead of introspecting the projection proxies,
+ * with the stats of the Books when the overview carries them.
+ */
+@JsonComponent
+public class AuthorOverviewSerializer extends StdSerializer<AuthorOverviewProjection> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString YEAR_BORN = new SerializedString("yearBorn");
+  private static final SerializableString BOOK_COUNT = new SerializedString("bookCount");
+  private static final SerializableString TOTAL_DATA_BYTES = new SerializedString(
+      "totalDataBytes");
+  private static final SerializableString MIN_YEAR_PUBLISHED = new SerializedString(
+      "minYearPublished");
+  private static final SerializableString MAX_YEAR_PUBLISHED = new SerializedString(
+      "maxYearPublished");
+
+  /**
+   * Instantiates a new Author overview serializer.
+   */
+  public AuthorOverviewSerializer() {
+    super(AuthorOverviewProjection.class);
+  }
+
+  @Override
+  public void serialize(AuthorOverviewProjection author, JsonGenerator generator,
+      SerializerProvider provider) throws IOException {
+    generator.writeStartObject(author);
+    BookSerializer.writeNumber(generator, ID, author.getId());
+    BookSerializer.writeString(generator, NAME, author.getName());
+    BookSerializer.writeNumber(generator, YEAR_BORN, author.getYearBorn());
+    if (author instanceof AuthorStatsProjection stats) {
+      BookSerializer.writeNumber(generator, BOOK_COUNT, stats.getBookCount());
+      BookSerializer.writeNumber(generator, TOTAL_DATA_BYTES, stats.getTotalDataBytes());
+      BookSerializer.writeNumber(generator, MIN_YEAR_PUBLISHED, stats.getMinYearPublished());
+      BookSerializer.writeNumber(generator, MAX_YEAR_PUBLISHED, stats.getMaxYearPublished());
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * The type Author serializer.
+ * <p>
+ * Writes the same object as the bean serializer of {@link Author}, straight to the generator,
+ * with the Books written one by one by {@link BookSerializer} while the collection is iterated.
+ */
+@JsonComponent
+public class AuthorSerializer extends StdSerializer<Author> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString YEAR_BORN = new SerializedString("yearBorn");
+  private static final SerializableString BOOKS = new SerializedString("books");
+
+  private final BookSerializer bookSerializer = new BookSerializer();
+
+  /**
+   * Instantiates a new Author serializer.
+   */
+  public AuthorSerializer() {
+    super(Author.class);
+  }
+
+  @Override
+  public void serialize(Author author, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(author);
+    BookSerializer.writeNumber(generator, ID, author.getId());
+    BookSerializer.writeString(generator, NAME, author.getName());
+    BookSerializer.writeNumber(generator, YEAR_BORN, author.getYearBorn());
+    generator.writeFieldName(BOOKS);
+    List<Book> books = author.getBooks();
+    if (books == null) {
+      generator.writeNull();
+    } else {
+      generator.writeStartArray(books, books.size());
+      for (Book book : books) {
+        this.bookSerializer.serialize(book, generator, provider);
+      }
+      generator.writeEndArray();
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * The type Binary format configuration.
+ * <p>
+ * Registers CBOR and Smile next to JSON, so endpoints that list them in {@code produces} answer
+ * in the format the {@code Accept} header asks for, JSON staying the default. Both are written
+ * with the same Jackson configuration as JSON, but byte arrays such as the data of a Book are
+ * written as raw binary instead of base64. The OpenAPI document lists the binary media types
+ * with the same schemas as JSON.
+ */
+@Configuration
+public class BinaryFormatConfiguration {
+
+  /**
+   * The media type of Smile, as registered by Jackson.
+   */
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  /**
+   * CBOR message converter.
+   *
+   * @param objectMapperBuilder the object mapper builder configured by Spring Boot
+   * @return the message converter
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        objectMapperBuilder.factory(new CBORFactory()).build());
+  }
+
+  /**
+   * Smile message converter. Binary is written as is, not in the 7-bit encoding that keeps Smile
+   * free of the bytes {@code 0xFE} and {@code 0xFF}, which only matters for framed streams.
+   *
+   * @param objectMapperBuilder the object mapper builder configured by Spring Boot
+   * @return the message converter
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    SmileFactory smileFactory = SmileFactory.builder()
+        .disable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT)
+        .build();
+    return new MappingJackson2SmileHttpMessageConverter(
+        objectMapperBuilder.factory(smileFactory).build());
+  }
+}
@@ -0,0 +1,50 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.mehmetfd.derivassetdemo.models.projections.BookAuthorProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * The type Book overview serializer.
+ * <p>
+ * Writes overviews straight to the generator instead of introspecting the projection proxies,
+ * with the ID of the Author when the overview carries it.
+ */
+@JsonComponent
+public class BookOverviewSerializer extends StdSerializer<BookOverviewProjection> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString YEAR_PUBLISHED = new SerializedString("yearPublished");
+  private static final SerializableString AUTHOR_ID = new SerializedString("authorId");
+
+  /**
+   * Instantiates a new Book overview serializer.
+   */
+  public BookOverviewSerializer() {
+    super(BookOverviewProjection.class);
+  }
+
+  @Override
+  public void serialize(BookOverviewProjection book, JsonGenerator generator,
+      SerializerProvider provider) throws IOException {
+    generator.writeStartObject(book);
+    BookSerializer.writeNumber(generator, ID, book.getId());
+    BookSerializer.writeString(generator, NAME, book.getName());
+    BookSerializer.writeNumber(generator, YEAR_PUBLISHED, book.getYearPublished());
+    if (book instanceof BookAuthorProjection bookAuthor) {
+      BookSerializer.writeNumber(generator, AUTHOR_ID, bookAuthor.getAuthorId());
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * The type Book serializer.
+ * <p>
+ * Writes the same object as the bean serializer of {@link Book}, straight to the generator with
+ * pre-encoded field names. The data is written from the array as is; JSON generators encode it
+ * to base64 in slices of their output buffer, binary generators write it raw.
+ */
+@JsonComponent
+public class BookSerializer extends StdSerializer<Book> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString YEAR_PUBLISHED = new SerializedString("yearPublished");
+  private static final SerializableString DATA = new SerializedString("data");
+
+  /**
+   * Instantiates a new Book serializer.
+   */
+  public BookSerializer() {
+    super(Book.class);
+  }
+
+  @Override
+  public void serialize(Book book, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(book);
+    writeNumber(generator, ID, book.getId());
+    writeString(generator, NAME, book.getName());
+    writeNumber(generator, YEAR_PUBLISHED, book.getYearPublished());
+    generator.writeFieldName(DATA);
+    byte[] data = book.getData();
+    if (data == null) {
+      generator.writeNull();
+    } else {
+      generator.writeBinary(provider.getConfig().getBase64Variant(), data, 0, data.length);
+    }
+    generator.writeEndObject();
+  }
+
+  static void writeNumber(JsonGenerator generator, SerializableString name, Number value)
+      throws IOException {
+    generator.writeFieldName(name);
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof Integer intValue) {
+      generator.writeNumber(intValue.intValue());
+    } else {
+      generator.writeNumber(value.longValue());
+    }
+  }
+
+  static void writeString(JsonGenerator generator, SerializableString name, String value)
+      throws IOException {
+    generator.writeFieldName(name);
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeString(value);
+    }
+  }
+}
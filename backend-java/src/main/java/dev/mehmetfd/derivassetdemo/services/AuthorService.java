@@ -5,15 +5,19 @@
 package dev.mehmetfd.derivassetdemo.services;
 
 import dev.mehmetfd.derivassetdemo.models.Author;
-import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
 import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
 import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
 import dev.mehmetfd.derivassetdemo.services.caching.EntityCachingService;
+import dev.mehmetfd.derivassetdemo.services.search.SearchService;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The type Author Service.
@@ -26,17 +30,22 @@ public class AuthorService {
 
   private final EntityCachingService entityCachingService;
 
+  private final SearchService searchService;
+
   /**
    * Instantiates a new Author Service.
    *
    * @param authorRepository     the {@link AuthorRepository Author Repository} to be used with the
    *                             service.
    * @param entityCachingService the {@link EntityCachingService Entity Caching Service} to be used
+   * @param searchService        the {@link SearchService Search Service} to keep in sync
    */
   @Autowired
-  public AuthorService(AuthorRepository authorRepository, EntityCachingService entityCachingService) {
+  public AuthorService(AuthorRepository authorRepository, EntityCachingService entityCachingService,
+      SearchService searchService) {
     this.authorRepository = authorRepository;
     this.entityCachingService = entityCachingService;
+    this.searchService = searchService;
   }
 
   /**
@@ -53,6 +62,9 @@ public class AuthorService {
     }
     try {
       Author savedAuthor = this.authorRepository.save(author);
+      if (this.searchService != null) {
+        this.searchService.indexAuthor(savedAuthor);
+      }
       return Optional.of(savedAuthor);
     } catch (Exception exception) {
       return Optional.empty();
@@ -78,6 +90,9 @@ public class AuthorService {
       this.entityCachingService.evictAuthorFromCache(authorId);
     }
     this.authorRepository.deleteById(authorId);
+    if (this.searchService != null) {
+      this.searchService.removeAuthor(authorId);
+    }
     return true;
   }
 
@@ -89,6 +104,7 @@ public class AuthorService {
    * containing the found {@link Author}.</li>     <li>{@link Optional#empty()} if an Author cannot
    * be found with the given Author ID.</li> </ul>
    */
+  @Transactional(readOnly = true)
   public Optional<Author> getAuthor(Long authorId) {
     if (authorId == null) {
       return Optional.empty();
@@ -98,6 +114,40 @@ public class AuthorService {
     }
   }
 
+  /**
+   * Gets an Author to write Books of, from the primary database. Joins the transaction of the
+   * write, a read-only transaction would read from the replica, which may not have the Author yet
+   * right after it was created.
+   *
+   * @param authorId the ID of Author to be sought
+   * @return {@link Optional}{@code <}{@link Author}{@code >} <ul>     <li>{@link Optional}
+   * containing the found {@link Author}.</li>     <li>{@link Optional#empty()} if an Author cannot
+   * be found with the given Author ID.</li> </ul>
+   */
+  @Transactional
+  public Optional<Author> getAuthorForWrite(Long authorId) {
+    if (authorId == null) {
+      return Optional.empty();
+    }
+    return this.authorRepository.findById(authorId);
+  }
+
+  /**
+   * Gets Authors without their Books to write Books of, from the primary database, see
+   * {@link #getAuthorForWrite(Long)}.
+   *
+   * @param authorIds the IDs of Authors to be sought
+   * @return {@link List}{@code <}{@link Author}{@code >} of the Authors found, IDs that cannot be
+   * found are skipped
+   */
+  @Transactional
+  public List<Author> getAuthorsForWrite(Collection<Long> authorIds) {
+    if (authorIds == null || authorIds.isEmpty()) {
+      return List.of();
+    }
+    return this.authorRepository.findAllById(authorIds);
+  }
+
   /**
    * Gets an Author, uses Cache.
    *
@@ -114,14 +164,16 @@ public class AuthorService {
 
 
   /**
-   * Gets Author overview by ID
+   * Gets Author overview by ID, along with the stats of its Books
    *
    * @param authorId the ID of the Author
-   * @return {@link Optional}{@code <}{@link AuthorOverviewProjection}{@code >} <ul>
-   * <li>{@link Optional} containing the {@link AuthorOverviewProjection overview} found</li>
+   * @return {@link Optional}{@code <}{@link AuthorOverviewWithStatsProjection}{@code >} <ul>
+   * <li>{@link Optional} containing the {@link AuthorOverviewWithStatsProjection overview}
+   * found</li>
    * <li>{@link Optional#empty()} if an Author cannot be found with the given Author ID</li> </ul>
    */
-  public Optional<AuthorOverviewProjection> getAuthorOverview(Long authorId) {
+  @Transactional(readOnly = true)
+  public Optional<AuthorOverviewWithStatsProjection> getAuthorOverview(Long authorId) {
     if (authorId == null) {
       return Optional.empty();
     }
@@ -4,15 +4,21 @@
  */
 package dev.mehmetfd.derivassetdemo.services;
 
+import dev.mehmetfd.derivassetdemo.jfr.BlobWriteEvent;
 import dev.mehmetfd.derivassetdemo.models.Author;
 import dev.mehmetfd.derivassetdemo.models.Book;
 import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
 import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
 import dev.mehmetfd.derivassetdemo.services.caching.EntityCachingService;
+import dev.mehmetfd.derivassetdemo.services.search.SearchService;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 /**
  * The type Book Service.
@@ -24,6 +30,7 @@ public class BookService {
 
   private final AuthorService authorService;
   private EntityCachingService entityCachingService;
+  private final SearchService searchService;
 
   /**
    * Instantiates a new Book Service.
@@ -32,28 +39,33 @@ public class BookService {
    * @param bookRepository       the {@link BookRepository Book Repository} to be used with the
    *                             service.
    * @param entityCachingService the {@link EntityCachingService Entity Caching Service} to be used
+   * @param searchService        the {@link SearchService Search Service} to keep in sync
    */
   @Autowired
-  public BookService(AuthorService authorService, BookRepository bookRepository, EntityCachingService entityCachingService) {
+  public BookService(AuthorService authorService, BookRepository bookRepository, EntityCachingService entityCachingService,
+      SearchService searchService) {
     this.bookRepository = bookRepository;
     this.authorService = authorService;
     this.entityCachingService = entityCachingService;
+    this.searchService = searchService;
   }
 
   /**
-   * Saves Book and adds to Author.
+   * Saves Book and adds to Author. The Author is looked up in the same read-write transaction, on
+   * the primary database, so an Author created right before is found even if the replica lags.
    *
    * @param authorId the Author ID
    * @param book     the {@link Book Book}
    * @return the boolean
    */
+  @Transactional
   public Optional<Book> saveBook(Long authorId, Book book) {
     if (book == null) {
       return Optional.empty();
     } else if (book.getId() != null) {
       return Optional.empty();
     }
-    Optional<Author> foundAuthorOptional = this.authorService.getAuthor(authorId);
+    Optional<Author> foundAuthorOptional = this.authorService.getAuthorForWrite(authorId);
     if (foundAuthorOptional.isEmpty()) {
       return Optional.empty();
     }
@@ -64,6 +76,33 @@ public class BookService {
     return this.saveBook(book);
   }
 
+  /**
+   * Saves Books whose Authors are already set, in a single transaction. The inserts are sent to
+   * the database in JDBC batches.
+   *
+   * @param books the {@link Book Books} to be saved
+   * @return {@link List}{@code <}{@link Book}{@code >} of the saved Books, in the given order
+   */
+  public List<Book> saveBooks(List<Book> books) {
+    if (books == null || books.isEmpty()) {
+      return List.of();
+    }
+    BlobWriteEvent event = new BlobWriteEvent();
+    event.begin();
+    List<Book> savedBooks = this.bookRepository.saveAll(books);
+    commit(event, savedBooks);
+    if (this.entityCachingService != null) {
+      savedBooks.stream()
+          .map(book -> book.getAuthor().getId())
+          .distinct()
+          .forEach(this.entityCachingService::evictAuthorFromCache);
+    }
+    if (this.searchService != null) {
+      savedBooks.forEach(this.searchService::indexBook);
+    }
+    return savedBooks;
+  }
+
   /**
    * Deletes a Book if it exists
    *
@@ -83,6 +122,9 @@ public class BookService {
       this.entityCachingService.evictBookFromCache(bookId);
     }
     this.bookRepository.deleteById(bookId);
+    if (this.searchService != null) {
+      this.searchService.removeBook(bookId);
+    }
     return true;
   }
 
@@ -94,6 +136,7 @@ public class BookService {
    * the found {@link Book}.</li>     <li>{@link Optional#empty()} if an Book cannot be found with
    * the given Book ID.</li> </ul>
    */
+  @Transactional(readOnly = true)
   public Optional<Book> getBook(Long bookId) {
     if (bookId == null) {
       return Optional.empty();
@@ -129,6 +172,7 @@ public class BookService {
    * <li>{@link Optional} containing the {@link BookOverviewProjection overview} found</li>
    * <li>{@link Optional#empty()} if an Book cannot be found with the given Book ID</li> </ul>
    */
+  @Transactional(readOnly = true)
   public Optional<BookOverviewProjection> getBookOverview(Long bookId) {
     if (bookId == null) {
       return Optional.empty();
@@ -150,10 +194,43 @@ public class BookService {
       return Optional.empty();
     }
     try {
-      Book savedBook = this.bookRepository.save(book);
+      // Sequence ids defer the insert, flushing surfaces constraint violations here
+      BlobWriteEvent event = new BlobWriteEvent();
+      event.begin();
+      Book savedBook = this.bookRepository.saveAndFlush(book);
+      commit(event, List.of(savedBook));
+      if (this.searchService != null) {
+        this.searchService.indexBook(savedBook);
+      }
       return Optional.of(savedBook);
     } catch (Exception exception) {
+      setRollbackOnly();
       return Optional.empty();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Rolls the transaction of a failed write back quietly, the repository already marked it
+   * rollback-only and committing it would throw instead of returning the empty result.
+   */
+  private static void setRollbackOnly() {
+    try {
+      TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+    } catch (NoTransactionException exception) {
+      // Not called through the transactional proxy, the caller owns the transaction
+    }
+  }
+
+  private static void commit(BlobWriteEvent event, List<Book> savedBooks) {
+    if (savedBooks.isEmpty()) {
+      return;
+    }
+    event.commitWithTransaction(() -> {
+      event.bookId = savedBooks.get(0).getId();
+      event.books = savedBooks.size();
+      for (Book book : savedBooks) {
+        event.bytes += book.getData() != null ? book.getData().length : 0;
+      }
+    });
+  }
+}
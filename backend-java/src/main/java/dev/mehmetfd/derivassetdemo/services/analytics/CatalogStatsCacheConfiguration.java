@@ -0,0 +1,35 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+/**
+ * The type Catalog stats cache configuration, gives the stats a shorter time to live than the
+ * cached entities.
+ */
+@Configuration
+public class CatalogStatsCacheConfiguration {
+
+  /**
+   * Configures the time to live of the {@link CatalogStatsService#CACHE_NAME stats cache}.
+   *
+   * @param timeToLiveMillis how long the stats are cached
+   * @return the customizer of the cache manager
+   */
+  @Bean
+  public RedisCacheManagerBuilderCustomizer catalogStatsCacheCustomizer(
+      @Value("${app.stats.cache-ttl:30000}") long timeToLiveMillis) {
+    return builder -> builder.withCacheConfiguration(CatalogStatsService.CACHE_NAME,
+        RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(Duration.ofMillis(timeToLiveMillis))
+            .disableCachingNullValues());
+  }
+}
@@ -0,0 +1,122 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The type Catalog stats service.
+ * <p>
+ * Every stat streams a single column, never the Book data, and aggregates it with a
+ * {@link ParallelIntAggregator}. The results are cached for a short time by
+ * {@link CatalogStatsCacheConfiguration}, since each of them scans a whole table.
+ */
+@Service
+public class CatalogStatsService {
+
+  /**
+   * The name of the cache holding the stats.
+   */
+  public static final String CACHE_NAME = "catalog-stats";
+
+  private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9};
+  private static final String[] PERCENTILE_NAMES = {"p50", "p75", "p90", "p95", "p99", "p999"};
+
+  private final AuthorRepository authorRepository;
+  private final BookRepository bookRepository;
+  private final ForkJoinPool pool;
+  private final ParallelIntAggregator aggregator;
+
+  /**
+   * Instantiates a new Catalog stats service.
+   *
+   * @param authorRepository the author repository
+   * @param bookRepository   the book repository
+   * @param parallelism      the number of aggregating threads, the number of processors if not
+   *                         positive
+   * @param chunkSize        the number of rows aggregated per task
+   */
+  @Autowired
+  public CatalogStatsService(AuthorRepository authorRepository, BookRepository bookRepository,
+      @Value("${app.stats.parallelism:0}") int parallelism,
+      @Value("${app.stats.chunk-size:65536}") int chunkSize) {
+    this.authorRepository = authorRepository;
+    this.bookRepository = bookRepository;
+    int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    this.pool = new ForkJoinPool(threads);
+    this.aggregator = new ParallelIntAggregator(this.pool, chunkSize, threads * 2);
+  }
+
+  /**
+   * Stops the aggregating threads.
+   */
+  @PreDestroy
+  public void stop() {
+    this.pool.shutdownNow();
+  }
+
+  /**
+   * Counts the Books published in each year.
+   *
+   * @return {@link CountHistogram} keyed by year
+   */
+  @Cacheable(value = CACHE_NAME, key = "'books-per-year'", sync = true)
+  @Transactional(readOnly = true)
+  public CountHistogram getBooksPerYear() {
+    try (Stream<Integer> years = this.bookRepository.streamAllYearsPublished()) {
+      IntHistogram histogram = this.aggregator.aggregate(years, Integer::intValue,
+          () -> new IntHistogram(1));
+      return new CountHistogram(histogram.getTotal(), histogram.toCounts());
+    }
+  }
+
+  /**
+   * Counts the Authors born in each decade.
+   *
+   * @return {@link CountHistogram} keyed by the first year of the decade
+   */
+  @Cacheable(value = CACHE_NAME, key = "'authors-per-decade'", sync = true)
+  @Transactional(readOnly = true)
+  public CountHistogram getAuthorsPerDecade() {
+    try (Stream<Integer> years = this.authorRepository.streamAllYearsBorn()) {
+      IntHistogram histogram = this.aggregator.aggregate(years, Integer::intValue,
+          () -> new IntHistogram(10));
+      return new CountHistogram(histogram.getTotal(), histogram.toCounts());
+    }
+  }
+
+  /**
+   * Estimates the percentiles of the data sizes of the Books.
+   *
+   * @return {@link SizePercentiles} of the data sizes in bytes
+   */
+  @Cacheable(value = CACHE_NAME, key = "'book-data-sizes'", sync = true)
+  @Transactional(readOnly = true)
+  public SizePercentiles getBookDataSizes() {
+    try (Stream<Number> sizes = this.bookRepository.streamAllDataSizes()) {
+      LogLinearHistogram histogram = this.aggregator.aggregate(sizes, Number::intValue,
+          LogLinearHistogram::new);
+      Map<String, Long> percentiles = new LinkedHashMap<>();
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        percentiles.put(PERCENTILE_NAMES[i], (long) histogram.getPercentile(PERCENTILES[i]));
+      }
+      double mean = histogram.getTotal() == 0 ? 0 : (double) histogram.getSum()
+          / histogram.getTotal();
+      return new SizePercentiles(histogram.getTotal(), histogram.getMin(), histogram.getMax(),
+          mean, percentiles);
+    }
+  }
+}
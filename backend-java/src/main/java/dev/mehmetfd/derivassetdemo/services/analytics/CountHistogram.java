@@ -0,0 +1,50 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * The type Count histogram, the number of rows per bucket.
+ */
+public class CountHistogram implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final long total;
+  private final Map<Integer, Long> counts;
+
+  /**
+   * Instantiates a new Count histogram.
+   *
+   * @param total  the number of rows
+   * @param counts the number of rows keyed by the lowest value of their bucket, ascending
+   */
+  public CountHistogram(long total, Map<Integer, Long> counts) {
+    this.total = total;
+    this.counts = counts;
+  }
+
+  /**
+   * Gets the number of rows.
+   *
+   * @return the total
+   */
+  public long getTotal() {
+    return this.total;
+  }
+
+  /**
+   * Gets the non-empty buckets.
+   *
+   * @return the counts keyed by the lowest value of their bucket, ascending
+   */
+  public Map<Integer, Long> getCounts() {
+    return this.counts;
+  }
+}
@@ -0,0 +1,27 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+/**
+ * The interface for mergeable aggregates of int values.
+ *
+ * @param <A> the type of the accumulator itself
+ */
+interface IntAccumulator<A extends IntAccumulator<A>> {
+
+  /**
+   * Adds a value.
+   *
+   * @param value the value
+   */
+  void add(int value);
+
+  /**
+   * Adds every value of another accumulator.
+   *
+   * @param other the other accumulator, left unchanged
+   */
+  void merge(A other);
+}
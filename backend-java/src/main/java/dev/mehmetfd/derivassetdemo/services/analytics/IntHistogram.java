@@ -0,0 +1,118 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The type Int histogram, counts int values in buckets of a fixed width.
+ * <p>
+ * The counts are kept in a primitive array that grows to cover the buckets seen so far, so the
+ * memory depends on the range of the values, never on their number.
+ */
+final class IntHistogram implements IntAccumulator<IntHistogram> {
+
+  /**
+   * The maximum number of buckets between the lowest and the highest value.
+   */
+  static final int MAX_BUCKETS = 1 << 20;
+
+  private final int bucketWidth;
+  private int firstBucket;
+  private long[] counts = new long[0];
+  private long total;
+
+  /**
+   * Instantiates a new Int histogram.
+   *
+   * @param bucketWidth the width of the buckets, e.g. 10 to count decades of years
+   */
+  IntHistogram(int bucketWidth) {
+    if (bucketWidth <= 0) {
+      throw new IllegalArgumentException("Bucket width must be positive");
+    }
+    this.bucketWidth = bucketWidth;
+  }
+
+  @Override
+  public void add(int value) {
+    int bucket = Math.floorDiv(value, this.bucketWidth);
+    cover(bucket, bucket);
+    this.counts[bucket - this.firstBucket]++;
+    this.total++;
+  }
+
+  @Override
+  public void merge(IntHistogram other) {
+    if (other.total == 0) {
+      return;
+    }
+    cover(other.firstBucket, other.firstBucket + other.counts.length - 1);
+    int shift = other.firstBucket - this.firstBucket;
+    for (int i = 0; i < other.counts.length; i++) {
+      this.counts[shift + i] += other.counts[i];
+    }
+    this.total += other.total;
+  }
+
+  /**
+   * Gets the number of values.
+   *
+   * @return the number of values
+   */
+  long getTotal() {
+    return this.total;
+  }
+
+  /**
+   * Gets the non-empty buckets.
+   *
+   * @return the counts keyed by the lowest value of their bucket, in ascending order
+   */
+  Map<Integer, Long> toCounts() {
+    Map<Integer, Long> nonEmpty = new LinkedHashMap<>();
+    for (int i = 0; i < this.counts.length; i++) {
+      if (this.counts[i] != 0) {
+        nonEmpty.put((this.firstBucket + i) * this.bucketWidth, this.counts[i]);
+      }
+    }
+    return nonEmpty;
+  }
+
+  private void cover(int lowBucket, int highBucket) {
+    if (this.counts.length == 0) {
+      this.firstBucket = lowBucket;
+      this.counts = new long[highBucket - lowBucket + 1];
+      return;
+    }
+    int lastBucket = this.firstBucket + this.counts.length - 1;
+    if (lowBucket >= this.firstBucket && highBucket <= lastBucket) {
+      return;
+    }
+    long neededFirst = Math.min(lowBucket, this.firstBucket);
+    long neededLast = Math.max(highBucket, lastBucket);
+    long needed = neededLast - neededFirst + 1;
+    if (needed > MAX_BUCKETS) {
+      throw new IllegalStateException("Values span more than " + MAX_BUCKETS + " buckets");
+    }
+    // Grow by up to the current length so values arriving in order copy rarely
+    long slack = Math.min(this.counts.length, (MAX_BUCKETS - needed) / 2);
+    long newFirst = lowBucket < this.firstBucket
+        ? Math.max(neededFirst - slack, Integer.MIN_VALUE) : neededFirst;
+    long newLast = highBucket > lastBucket
+        ? Math.min(neededLast + slack, Integer.MAX_VALUE) : neededLast;
+    long[] grown = new long[(int) (newLast - newFirst + 1)];
+    System.arraycopy(this.counts, 0, grown, (int) (this.firstBucket - newFirst),
+        this.counts.length);
+    this.firstBucket = (int) newFirst;
+    this.counts = grown;
+  }
+
+  public String toString() {
+    return "IntHistogram(total=" + this.total + ", counts=" + Arrays.toString(this.counts) + ")";
+  }
+}
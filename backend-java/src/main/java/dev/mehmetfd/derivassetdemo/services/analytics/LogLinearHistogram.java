@@ -0,0 +1,129 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+/**
+ * The type Log linear histogram, estimates percentiles of non-negative int values in constant
+ * memory.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} get a bucket of their own. Above that, each power of two is
+ * split into {@value #SUB_BUCKETS} / 2 equal buckets, so a percentile is never off by more than
+ * 1 / 64 of its value while the whole int range fits in {@value #BUCKETS} counters.
+ */
+final class LogLinearHistogram implements IntAccumulator<LogLinearHistogram> {
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private static final int BUCKETS = SUB_BUCKETS + (31 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+  private long total;
+  private long sum;
+  private int min = Integer.MAX_VALUE;
+  private int max = Integer.MIN_VALUE;
+
+  @Override
+  public void add(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must not be negative: " + value);
+    }
+    this.counts[bucketOf(value)]++;
+    this.total++;
+    this.sum += value;
+    this.min = Math.min(this.min, value);
+    this.max = Math.max(this.max, value);
+  }
+
+  @Override
+  public void merge(LogLinearHistogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      this.counts[i] += other.counts[i];
+    }
+    this.total += other.total;
+    this.sum += other.sum;
+    this.min = Math.min(this.min, other.min);
+    this.max = Math.max(this.max, other.max);
+  }
+
+  /**
+   * Gets the number of values.
+   *
+   * @return the number of values
+   */
+  long getTotal() {
+    return this.total;
+  }
+
+  /**
+   * Gets the sum of the values.
+   *
+   * @return the sum of the values
+   */
+  long getSum() {
+    return this.sum;
+  }
+
+  /**
+   * Gets the lowest value.
+   *
+   * @return the lowest value, {@code 0} without values
+   */
+  int getMin() {
+    return this.total == 0 ? 0 : this.min;
+  }
+
+  /**
+   * Gets the highest value.
+   *
+   * @return the highest value, {@code 0} without values
+   */
+  int getMax() {
+    return this.total == 0 ? 0 : this.max;
+  }
+
+  /**
+   * Estimates a percentile.
+   *
+   * @param percentile the percentile between 0 and 100
+   * @return the highest value of the bucket holding the percentile, never above the highest
+   * value, {@code 0} without values
+   */
+  int getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    if (this.total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += this.counts[i];
+      if (seen >= rank) {
+        return Math.max(this.min, Math.min(highestValueOf(i), this.max));
+      }
+    }
+    return this.max;
+  }
+
+  static int bucketOf(int value) {
+    if (value < SUB_BUCKETS) {
+      return value;
+    }
+    int exponent = 31 - Integer.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS + 1;
+    return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + ((value >>> shift) - HALF_SUB_BUCKETS);
+  }
+
+  static int highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+    long mantissa = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+    return (int) Math.min(((mantissa + 1) << shift) - 1, Integer.MAX_VALUE);
+  }
+}
@@ -0,0 +1,115 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * The type Parallel int aggregator.
+ * <p>
+ * The rows of a stream are read on the calling thread, which owns the database cursor, and copied
+ * into primitive chunks. Each chunk is aggregated by a fork-join task and the partial aggregates
+ * are merged as they complete. At most a fixed number of chunks is in flight, so the memory stays
+ * bounded however many rows are streamed.
+ */
+final class ParallelIntAggregator {
+
+  private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+  private final int maxChunksInFlight;
+
+  /**
+   * Instantiates a new Parallel int aggregator.
+   *
+   * @param pool              the pool aggregating the chunks
+   * @param chunkSize         the number of values per chunk
+   * @param maxChunksInFlight the maximum number of chunks read but not yet merged
+   */
+  ParallelIntAggregator(ForkJoinPool pool, int chunkSize, int maxChunksInFlight) {
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+    this.maxChunksInFlight = maxChunksInFlight;
+  }
+
+  /**
+   * Aggregates the values of a stream.
+   *
+   * @param rows           the rows, consumed but not closed
+   * @param value          extracts the value of a row
+   * @param newAccumulator creates empty accumulators
+   * @param <T>            the type of the rows
+   * @param <A>            the type of the accumulator
+   * @return the accumulator holding every value
+   */
+  <T, A extends IntAccumulator<A>> A aggregate(Stream<T> rows, ToIntFunction<T> value,
+      Supplier<A> newAccumulator) {
+    A result = newAccumulator.get();
+    Deque<ForkJoinTask<A>> inFlight = new ArrayDeque<>();
+    int[] chunk = new int[this.chunkSize];
+    int length = 0;
+    Iterator<T> iterator = rows.iterator();
+    while (iterator.hasNext()) {
+      chunk[length++] = value.applyAsInt(iterator.next());
+      if (length == this.chunkSize) {
+        inFlight.add(this.pool.submit(new ChunkTask<>(chunk, 0, length, newAccumulator)));
+        if (inFlight.size() >= this.maxChunksInFlight) {
+          result.merge(inFlight.poll().join());
+        }
+        chunk = new int[this.chunkSize];
+        length = 0;
+      }
+    }
+    if (length > 0) {
+      inFlight.add(this.pool.submit(new ChunkTask<>(chunk, 0, length, newAccumulator)));
+    }
+    while (!inFlight.isEmpty()) {
+      result.merge(inFlight.poll().join());
+    }
+    return result;
+  }
+
+  private static final class ChunkTask<A extends IntAccumulator<A>> extends RecursiveTask<A> {
+
+    private final int[] values;
+    private final int from;
+    private final int to;
+    private final Supplier<A> newAccumulator;
+
+    private ChunkTask(int[] values, int from, int to, Supplier<A> newAccumulator) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.newAccumulator = newAccumulator;
+    }
+
+    @Override
+    protected A compute() {
+      if (this.to - this.from <= SEQUENTIAL_THRESHOLD) {
+        A accumulator = this.newAccumulator.get();
+        for (int i = this.from; i < this.to; i++) {
+          accumulator.add(this.values[i]);
+        }
+        return accumulator;
+      }
+      int middle = (this.from + this.to) >>> 1;
+      ChunkTask<A> left = new ChunkTask<>(this.values, this.from, middle, this.newAccumulator);
+      left.fork();
+      A right = new ChunkTask<>(this.values, middle, this.to, this.newAccumulator).compute();
+      A result = left.join();
+      result.merge(right);
+      return result;
+    }
+  }
+}
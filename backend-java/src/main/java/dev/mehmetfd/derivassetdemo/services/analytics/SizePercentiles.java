@@ -0,0 +1,87 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * The type Size percentiles, the distribution of sizes in bytes.
+ */
+public class SizePercentiles implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final long count;
+  private final long min;
+  private final long max;
+  private final double mean;
+  private final Map<String, Long> percentiles;
+
+  /**
+   * Instantiates new Size percentiles.
+   *
+   * @param count       the number of sizes
+   * @param min         the smallest size
+   * @param max         the largest size
+   * @param mean        the mean size
+   * @param percentiles the estimated percentiles keyed by their names, e.g. {@code p99}
+   */
+  public SizePercentiles(long count, long min, long max, double mean,
+      Map<String, Long> percentiles) {
+    this.count = count;
+    this.min = min;
+    this.max = max;
+    this.mean = mean;
+    this.percentiles = percentiles;
+  }
+
+  /**
+   * Gets the number of sizes.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return this.count;
+  }
+
+  /**
+   * Gets the smallest size.
+   *
+   * @return the min
+   */
+  public long getMin() {
+    return this.min;
+  }
+
+  /**
+   * Gets the largest size.
+   *
+   * @return the max
+   */
+  public long getMax() {
+    return this.max;
+  }
+
+  /**
+   * Gets the mean size.
+   *
+   * @return the mean
+   */
+  public double getMean() {
+    return this.mean;
+  }
+
+  /**
+   * Gets the percentiles, within 1 / 64 of the exact values.
+   *
+   * @return the percentiles keyed by their names
+   */
+  public Map<String, Long> getPercentiles() {
+    return this.percentiles;
+  }
+}
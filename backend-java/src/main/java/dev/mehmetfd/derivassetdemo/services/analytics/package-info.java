@@ -0,0 +1,8 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+/**
+ * Catalog-wide analytics aggregated in parallel over streamed columns
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
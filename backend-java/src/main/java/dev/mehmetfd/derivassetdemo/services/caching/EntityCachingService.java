@@ -13,6 +13,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The type Entity caching service.
@@ -43,6 +44,7 @@ public class EntityCachingService {
    * @return the cached author
    */
   @Cacheable(value = "authors", unless = "#result == null")
+  @Transactional(readOnly = true)
   public Author getCachedAuthor(Long authorId) {
     return authorRepository.findById(authorId).orElse(null);
   }
@@ -54,6 +56,7 @@ public class EntityCachingService {
    * @return the cached book
    */
   @Cacheable(value = "books", unless = "#result == null")
+  @Transactional(readOnly = true)
   public Book getCachedBook(Long bookId) {
     return bookRepository.findById(bookId).orElse(null);
   }
@@ -0,0 +1,135 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.content;
+
+import dev.mehmetfd.derivassetdemo.jfr.BlobReadEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Book content service.
+ * <p>
+ * Serves the data of a Book without loading the Book. The data is read in slices of the chunk
+ * size with {@code SUBSTRING}, each slice as a binary stream copied to the output through a fixed
+ * buffer, so neither Hibernate nor the driver ever holds more than one slice of it. All slices are
+ * read in one read-only, repeatable read transaction, along with the length reported before the
+ * first slice is written, so they all come from the same version of the data.
+ */
+@Service
+public class BookContentService {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final String LENGTH_QUERY = "SELECT OCTET_LENGTH(data) FROM book WHERE id = ?";
+  private static final String SLICE_QUERY =
+      "SELECT SUBSTRING(data FROM ? FOR ?) FROM book WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  /**
+   * Instantiates a new Book content service.
+   *
+   * @param jdbcTemplate       the jdbc template
+   * @param transactionManager the transaction manager
+   * @param chunkSize          the number of bytes read per query
+   */
+  @Autowired
+  public BookContentService(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.books.content.chunk-size:65536}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Writes the data of a Book to an output.
+   *
+   * @param bookId       the book id
+   * @param outputStream the output, left open
+   * @param lengthReader called with the length of the data before it is written, e.g. to set the
+   *                     headers of a response; not called if there is no such Book
+   * @return {@link Optional}{@code <}{@link Long}{@code >} <ul> <li>{@link Optional} containing the
+   * number of written bytes</li> <li>{@link Optional#empty()} if there is no such Book</li> </ul>
+   * @throws IOException if the output cannot be written
+   */
+  public Optional<Long> writeContent(Long bookId, OutputStream outputStream,
+      LongConsumer lengthReader) throws IOException {
+    if (bookId == null) {
+      return Optional.empty();
+    }
+    byte[] buffer = new byte[BUFFER_SIZE];
+    BlobReadEvent event = new BlobReadEvent();
+    event.begin();
+    try {
+      Long content = this.transactionTemplate.execute(status -> {
+        Long length = queryLength(bookId);
+        if (length == null) {
+          return null;
+        }
+        lengthReader.accept(length);
+        long written = 0;
+        while (written < length) {
+          int sliceLength = (int) Math.min(this.chunkSize, length - written);
+          written += writeSlice(bookId, written, sliceLength, buffer, outputStream);
+        }
+        return written;
+      });
+      event.end();
+      if (content != null && event.shouldCommit()) {
+        event.bookId = bookId;
+        event.bytes = content;
+        event.commit();
+      }
+      return Optional.ofNullable(content);
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+  }
+
+  private Long queryLength(Long bookId) {
+    return this.jdbcTemplate.query(LENGTH_QUERY,
+        resultSet -> resultSet.next() ? resultSet.getLong(1) : null, bookId);
+  }
+
+  private long writeSlice(Long bookId, long offset, int sliceLength, byte[] buffer,
+      OutputStream outputStream) {
+    Long written = this.jdbcTemplate.query(SLICE_QUERY, resultSet -> {
+      if (!resultSet.next()) {
+        throw new IllegalStateException("Book " + bookId + " was removed while being read");
+      }
+      long sliceWritten = 0;
+      try (InputStream inputStream = resultSet.getBinaryStream(1)) {
+        int read;
+        while (inputStream != null && (read = inputStream.read(buffer)) != -1) {
+          outputStream.write(buffer, 0, read);
+          sliceWritten += read;
+        }
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+      return sliceWritten;
+    }, Math.toIntExact(offset + 1), sliceLength, bookId);
+    if (written == null || written == 0) {
+      throw new IllegalStateException("Book " + bookId + " is shorter than its length");
+    }
+    return written;
+  }
+}
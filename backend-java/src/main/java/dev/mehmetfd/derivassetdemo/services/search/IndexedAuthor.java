@@ -0,0 +1,45 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+
+/**
+ * The Author overview kept in the search index.
+ */
+public final class IndexedAuthor implements AuthorOverviewProjection {
+
+  private final Long id;
+  private final String name;
+  private final Integer yearBorn;
+
+  /**
+   * Instantiates a new Indexed author.
+   *
+   * @param id       the id
+   * @param name     the name
+   * @param yearBorn the year born
+   */
+  public IndexedAuthor(Long id, String name, Integer yearBorn) {
+    this.id = id;
+    this.name = name;
+    this.yearBorn = yearBorn;
+  }
+
+  @Override
+  public Long getId() {
+    return this.id;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public Integer getYearBorn() {
+    return this.yearBorn;
+  }
+}
@@ -0,0 +1,53 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import dev.mehmetfd.derivassetdemo.models.projections.BookAuthorProjection;
+
+/**
+ * The Book overview kept in the search index.
+ */
+public final class IndexedBook implements BookAuthorProjection {
+
+  private final Long id;
+  private final String name;
+  private final Integer yearPublished;
+  private final Long authorId;
+
+  /**
+   * Instantiates a new Indexed book.
+   *
+   * @param id            the id
+   * @param name          the name
+   * @param yearPublished the year published
+   * @param authorId      the author id
+   */
+  public IndexedBook(Long id, String name, Integer yearPublished, Long authorId) {
+    this.id = id;
+    this.name = name;
+    this.yearPublished = yearPublished;
+    this.authorId = authorId;
+  }
+
+  @Override
+  public Long getId() {
+    return this.id;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public Integer getYearPublished() {
+    return this.yearPublished;
+  }
+
+  @Override
+  public Long getAuthorId() {
+    return this.authorId;
+  }
+}
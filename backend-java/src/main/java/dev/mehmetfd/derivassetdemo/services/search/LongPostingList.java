@@ -0,0 +1,113 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of {@code long} IDs backed by a primitive array.
+ * <p>
+ * IDs are generated in increasing order, so adding is an append in the common case. Not thread
+ * safe, callers synchronize.
+ */
+public class LongPostingList {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Adds an ID, does nothing if it is already present.
+   *
+   * @param id the id
+   */
+  public void add(long id) {
+    if (this.size > 0 && this.ids[this.size - 1] < id) {
+      ensureCapacity();
+      this.ids[this.size++] = id;
+      return;
+    }
+    int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+    if (index >= 0) {
+      return;
+    }
+    int insertionPoint = -index - 1;
+    ensureCapacity();
+    System.arraycopy(this.ids, insertionPoint, this.ids, insertionPoint + 1,
+        this.size - insertionPoint);
+    this.ids[insertionPoint] = id;
+    this.size++;
+  }
+
+  /**
+   * Removes an ID if it is present.
+   *
+   * @param id the id
+   * @return {@code true} if the ID was present
+   */
+  public boolean remove(long id) {
+    int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+    if (index < 0) {
+      return false;
+    }
+    System.arraycopy(this.ids, index + 1, this.ids, index, this.size - index - 1);
+    this.size--;
+    return true;
+  }
+
+  /**
+   * Checks if an ID is present.
+   *
+   * @param id the id
+   * @return {@code true} if the ID is present
+   */
+  public boolean contains(long id) {
+    return Arrays.binarySearch(this.ids, 0, this.size, id) >= 0;
+  }
+
+  /**
+   * Gets the ID at the given position, in ascending order.
+   *
+   * @param index the index
+   * @return the id
+   */
+  public long get(int index) {
+    return this.ids[index];
+  }
+
+  /**
+   * Gets the number of IDs.
+   *
+   * @return the size
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Checks if there are no IDs.
+   *
+   * @return {@code true} if empty
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Copies the IDs into a new array.
+   *
+   * @return the ids in ascending order
+   */
+  public long[] toArray() {
+    return Arrays.copyOf(this.ids, this.size);
+  }
+
+  private void ensureCapacity() {
+    if (this.size == this.ids.length) {
+      this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+    }
+  }
+}
@@ -0,0 +1,280 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory inverted index of 1, 2 and 3-grams over a name of each document.
+ * <p>
+ * Queries of up to three characters are answered by a single posting list. Longer queries
+ * intersect the posting lists of their trigrams and verify the remaining candidates, so both
+ * prefix and substring matches are found. Matches are ranked exact, prefix, word prefix and then
+ * substring; shorter names first within a rank.
+ *
+ * @param <T> the type of the indexed documents
+ */
+public class NGramIndex<T> {
+
+  /**
+   * The longest indexed gram.
+   */
+  static final int MAX_GRAM_LENGTH = 3;
+
+  private static final int EXACT_MATCH = 0;
+  private static final int PREFIX_MATCH = 1;
+  private static final int WORD_PREFIX_MATCH = 2;
+  private static final int SUBSTRING_MATCH = 3;
+
+  private static final Comparator<Match> MATCH_ORDER = Comparator.comparingInt(Match::rank)
+      .thenComparingInt(Match::length)
+      .thenComparingLong(Match::id);
+
+  private final Function<T, String> nameExtractor;
+  private final Map<Long, T> documents = new HashMap<>();
+  private final Map<Long, String> normalizedNames = new HashMap<>();
+  private final Map<Long, LongPostingList> postings = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Instantiates a new N-gram index.
+   *
+   * @param nameExtractor extracts the indexed name of a document
+   */
+  public NGramIndex(Function<T, String> nameExtractor) {
+    this.nameExtractor = nameExtractor;
+  }
+
+  /**
+   * Adds or replaces a document.
+   *
+   * @param id       the id of the document
+   * @param document the document
+   */
+  public void put(long id, T document) {
+    String name = normalize(this.nameExtractor.apply(document));
+    this.lock.writeLock().lock();
+    try {
+      removeUnderLock(id);
+      this.documents.put(id, document);
+      this.normalizedNames.put(id, name);
+      for (long gram : grams(name)) {
+        this.postings.computeIfAbsent(gram, key -> new LongPostingList()).add(id);
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a document if it is indexed.
+   *
+   * @param id the id of the document
+   */
+  public void remove(long id) {
+    this.lock.writeLock().lock();
+    try {
+      removeUnderLock(id);
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes every document.
+   */
+  public void clear() {
+    this.lock.writeLock().lock();
+    try {
+      this.documents.clear();
+      this.normalizedNames.clear();
+      this.postings.clear();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Gets an indexed document.
+   *
+   * @param id the id of the document
+   * @return the document, {@code null} if it is not indexed
+   */
+  public T get(long id) {
+    this.lock.readLock().lock();
+    try {
+      return this.documents.get(id);
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of indexed documents.
+   *
+   * @return the size
+   */
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.documents.size();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the best matching documents whose name contains the query, ignoring case.
+   *
+   * @param query the query
+   * @param limit the maximum number of results
+   * @return the matching documents, best match first
+   */
+  public List<T> search(String query, int limit) {
+    String normalizedQuery = normalize(query);
+    if (normalizedQuery.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    this.lock.readLock().lock();
+    try {
+      PriorityQueue<Match> topMatches = new PriorityQueue<>(limit + 1, MATCH_ORDER.reversed());
+      if (normalizedQuery.length() <= MAX_GRAM_LENGTH) {
+        LongPostingList candidates = this.postings.get(
+            gram(normalizedQuery, 0, normalizedQuery.length()));
+        if (candidates != null) {
+          for (int i = 0; i < candidates.size(); i++) {
+            offer(topMatches, candidates.get(i), normalizedQuery, limit);
+          }
+        }
+      } else {
+        LongPostingList[] lists = trigramPostings(normalizedQuery);
+        if (lists != null) {
+          LongPostingList smallest = lists[0];
+          for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            if (containedInAll(lists, id)) {
+              offer(topMatches, id, normalizedQuery, limit);
+            }
+          }
+        }
+      }
+      Match[] matches = topMatches.toArray(new Match[0]);
+      Arrays.sort(matches, MATCH_ORDER);
+      List<T> results = new ArrayList<>(matches.length);
+      for (Match match : matches) {
+        results.add(this.documents.get(match.id()));
+      }
+      return results;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void offer(PriorityQueue<Match> topMatches, long id, String normalizedQuery,
+      int limit) {
+    String name = this.normalizedNames.get(id);
+    int index = name.indexOf(normalizedQuery);
+    if (index < 0) {
+      return;
+    }
+    int rank;
+    if (index == 0) {
+      rank = name.length() == normalizedQuery.length() ? EXACT_MATCH : PREFIX_MATCH;
+    } else if (name.charAt(index - 1) == ' ') {
+      rank = WORD_PREFIX_MATCH;
+    } else {
+      rank = SUBSTRING_MATCH;
+    }
+    topMatches.offer(new Match(id, rank, name.length()));
+    if (topMatches.size() > limit) {
+      topMatches.poll();
+    }
+  }
+
+  private LongPostingList[] trigramPostings(String normalizedQuery) {
+    int count = normalizedQuery.length() - MAX_GRAM_LENGTH + 1;
+    LongPostingList[] lists = new LongPostingList[count];
+    for (int i = 0; i < count; i++) {
+      LongPostingList list = this.postings.get(gram(normalizedQuery, i, MAX_GRAM_LENGTH));
+      if (list == null) {
+        return null;
+      }
+      lists[i] = list;
+    }
+    Arrays.sort(lists, Comparator.comparingInt(LongPostingList::size));
+    return lists;
+  }
+
+  private static boolean containedInAll(LongPostingList[] lists, long id) {
+    for (int i = 1; i < lists.length; i++) {
+      if (!lists[i].contains(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void removeUnderLock(long id) {
+    String name = this.normalizedNames.remove(id);
+    if (name == null) {
+      return;
+    }
+    this.documents.remove(id);
+    for (long gram : grams(name)) {
+      LongPostingList list = this.postings.get(gram);
+      if (list != null && list.remove(id) && list.isEmpty()) {
+        this.postings.remove(gram);
+      }
+    }
+  }
+
+  private static long[] grams(String name) {
+    int length = name.length();
+    int count = 0;
+    for (int gramLength = 1; gramLength <= MAX_GRAM_LENGTH; gramLength++) {
+      count += Math.max(0, length - gramLength + 1);
+    }
+    long[] grams = new long[count];
+    int position = 0;
+    for (int gramLength = 1; gramLength <= MAX_GRAM_LENGTH; gramLength++) {
+      for (int start = 0; start + gramLength <= length; start++) {
+        grams[position++] = gram(name, start, gramLength);
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * Packs up to three UTF-16 chars and the gram length into one key.
+   */
+  private static long gram(String text, int start, int length) {
+    long key = length;
+    for (int i = 0; i < MAX_GRAM_LENGTH; i++) {
+      key <<= 16;
+      if (i < length) {
+        key |= text.charAt(start + i);
+      }
+    }
+    return key;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record Match(long id, int rank, int length) {
+
+  }
+}
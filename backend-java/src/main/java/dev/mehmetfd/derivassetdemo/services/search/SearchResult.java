@@ -0,0 +1,47 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import java.util.List;
+
+/**
+ * The type Search result.
+ */
+public class SearchResult {
+
+  private final List<AuthorOverviewProjection> authors;
+  private final List<BookOverviewProjection> books;
+
+  /**
+   * Instantiates a new Search result.
+   *
+   * @param authors the matching authors, best match first
+   * @param books   the matching books, best match first
+   */
+  public SearchResult(List<AuthorOverviewProjection> authors, List<BookOverviewProjection> books) {
+    this.authors = authors;
+    this.books = books;
+  }
+
+  /**
+   * Gets the matching authors.
+   *
+   * @return the authors
+   */
+  public List<AuthorOverviewProjection> getAuthors() {
+    return this.authors;
+  }
+
+  /**
+   * Gets the matching books.
+   *
+   * @return the books
+   */
+  public List<BookOverviewProjection> getBooks() {
+    return this.books;
+  }
+}
@@ -0,0 +1,176 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.BookAuthorProjection;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The type Search Service.
+ * <p>
+ * Keeps an in-memory {@link NGramIndex} over the names of every Author and Book. The index is
+ * built at startup by streaming the overviews from the database and is kept up to date by
+ * {@link dev.mehmetfd.derivassetdemo.services.AuthorService AuthorService} and
+ * {@link dev.mehmetfd.derivassetdemo.services.BookService BookService}.
+ */
+@Service
+public class SearchService {
+
+  /**
+   * The maximum number of results returned per entity type.
+   */
+  public static final int MAX_LIMIT = 100;
+
+  private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+  private final AuthorRepository authorRepository;
+  private final BookRepository bookRepository;
+
+  private final NGramIndex<AuthorOverviewProjection> authorIndex =
+      new NGramIndex<>(AuthorOverviewProjection::getName);
+  private final NGramIndex<IndexedBook> bookIndex = new NGramIndex<>(IndexedBook::getName);
+  private final Map<Long, LongPostingList> bookIdsByAuthorId = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new Search Service.
+   *
+   * @param authorRepository the author repository
+   * @param bookRepository   the book repository
+   */
+  @Autowired
+  public SearchService(AuthorRepository authorRepository, BookRepository bookRepository) {
+    this.authorRepository = authorRepository;
+    this.bookRepository = bookRepository;
+  }
+
+  /**
+   * Rebuilds the index from the database.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuildIndex() {
+    long start = System.nanoTime();
+    this.authorIndex.clear();
+    this.bookIndex.clear();
+    this.bookIdsByAuthorId.clear();
+    try (Stream<AuthorOverviewProjection> authors = this.authorRepository.streamAllOverviews()) {
+      authors.forEach(author -> this.authorIndex.put(author.getId(),
+          new IndexedAuthor(author.getId(), author.getName(), author.getYearBorn())));
+    }
+    try (Stream<BookAuthorProjection> books = this.bookRepository.streamAllOverviews()) {
+      books.forEach(book -> indexBook(new IndexedBook(book.getId(), book.getName(),
+          book.getYearPublished(), book.getAuthorId())));
+    }
+    logger.info("Indexed {} authors and {} books in {} ms", this.authorIndex.size(),
+        this.bookIndex.size(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * Searches Authors and Books whose names contain the query, ignoring case.
+   *
+   * @param query the query
+   * @param limit the maximum number of results per entity type, capped at {@link #MAX_LIMIT}
+   * @return the {@link SearchResult}, best matches first
+   */
+  public SearchResult search(String query, int limit) {
+    int cappedLimit = Math.min(limit, MAX_LIMIT);
+    return new SearchResult(this.authorIndex.search(query, cappedLimit),
+        List.copyOf(this.bookIndex.search(query, cappedLimit)));
+  }
+
+  /**
+   * Adds or updates an Author in the index.
+   *
+   * @param author the saved {@link Author}
+   */
+  public void indexAuthor(Author author) {
+    if (author == null || author.getId() == null) {
+      return;
+    }
+    this.authorIndex.put(author.getId(),
+        new IndexedAuthor(author.getId(), author.getName(), author.getYearBorn()));
+  }
+
+  /**
+   * Removes an Author and its Books from the index.
+   *
+   * @param authorId the ID of the deleted Author
+   */
+  public void removeAuthor(Long authorId) {
+    if (authorId == null) {
+      return;
+    }
+    this.authorIndex.remove(authorId);
+    LongPostingList bookIds = this.bookIdsByAuthorId.remove(authorId);
+    if (bookIds != null) {
+      long[] ids;
+      synchronized (bookIds) {
+        ids = bookIds.toArray();
+      }
+      for (long bookId : ids) {
+        this.bookIndex.remove(bookId);
+      }
+    }
+  }
+
+  /**
+   * Adds or updates a Book in the index.
+   *
+   * @param book the saved {@link Book}
+   */
+  public void indexBook(Book book) {
+    if (book == null || book.getId() == null || book.getAuthor() == null) {
+      return;
+    }
+    indexBook(new IndexedBook(book.getId(), book.getName(), book.getYearPublished(),
+        book.getAuthor().getId()));
+  }
+
+  /**
+   * Removes a Book from the index.
+   *
+   * @param bookId the ID of the deleted Book
+   */
+  public void removeBook(Long bookId) {
+    if (bookId == null) {
+      return;
+    }
+    IndexedBook book = this.bookIndex.get(bookId);
+    if (book == null) {
+      return;
+    }
+    this.bookIndex.remove(bookId);
+    LongPostingList bookIds = this.bookIdsByAuthorId.get(book.getAuthorId());
+    if (bookIds != null) {
+      synchronized (bookIds) {
+        bookIds.remove(bookId);
+      }
+    }
+  }
+
+  private void indexBook(IndexedBook book) {
+    this.bookIndex.put(book.getId(), book);
+    LongPostingList bookIds = this.bookIdsByAuthorId.computeIfAbsent(book.getAuthorId(),
+        key -> new LongPostingList());
+    synchronized (bookIds) {
+      bookIds.add(book.getId());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.stats;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * The type Author stats listener, reports inserted and deleted Authors and Books to the
+ * {@link AuthorStatsService}.
+ * <p>
+ * Created by Hibernate through the Spring bean container. The service is looked up lazily since
+ * the listener is created while the entity manager factory is being built.
+ */
+@Component
+public class AuthorStatsListener {
+
+  private final ObjectProvider<AuthorStatsService> authorStatsService;
+
+  /**
+   * Instantiates a new Author stats listener.
+   *
+   * @param authorStatsService the provider of the {@link AuthorStatsService}, missing in slices
+   *                           without services
+   */
+  @Autowired
+  public AuthorStatsListener(ObjectProvider<AuthorStatsService> authorStatsService) {
+    this.authorStatsService = authorStatsService;
+  }
+
+  /**
+   * Reports an inserted entity.
+   *
+   * @param entity the entity
+   */
+  @PostPersist
+  public void onPostPersist(Object entity) {
+    AuthorStatsService service = this.authorStatsService.getIfAvailable();
+    if (service != null) {
+      service.recordPersisted(entity);
+    }
+  }
+
+  /**
+   * Reports a deleted entity.
+   *
+   * @param entity the entity
+   */
+  @PostRemove
+  public void onPostRemove(Object entity) {
+    AuthorStatsService service = this.authorStatsService.getIfAvailable();
+    if (service != null) {
+      service.recordRemoved(entity);
+    }
+  }
+}
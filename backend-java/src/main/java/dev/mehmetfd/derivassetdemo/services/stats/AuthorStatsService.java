@@ -0,0 +1,245 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.stats;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.AuthorStats;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorStatsProjection;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorStatsRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The type Author stats service.
+ * <p>
+ * Inserted and deleted Books are collected per transaction by the {@link AuthorStatsListener}
+ * and applied to the {@link AuthorStats} of their Authors right before the transaction commits,
+ * so the stats are updated in the same transaction as the Books, with one update per Author
+ * instead of one per Book. The changes are applied by a process on the action queue of the
+ * Hibernate session, which runs after the flush of the commit, since that flush is where most
+ * inserts and deletes are executed and reported, after Spring's synchronizations already ran. A
+ * periodic reconciliation repairs the stats that drifted anyway, e.g. because of Books written
+ * outside of JPA.
+ */
+@Service
+public class AuthorStatsService {
+
+  private static final Logger logger = LoggerFactory.getLogger(AuthorStatsService.class);
+
+  private final AuthorStatsRepository authorStatsRepository;
+  private final BookRepository bookRepository;
+  private final EntityManager entityManager;
+
+  /**
+   * Instantiates a new Author stats service.
+   *
+   * @param authorStatsRepository the {@link AuthorStatsRepository Author Stats Repository}
+   * @param bookRepository        the {@link BookRepository Book Repository}
+   * @param entityManager         the shared entity manager
+   */
+  @Autowired
+  public AuthorStatsService(AuthorStatsRepository authorStatsRepository,
+      BookRepository bookRepository, EntityManager entityManager) {
+    this.authorStatsRepository = authorStatsRepository;
+    this.bookRepository = bookRepository;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Records an inserted Author or Book in the current transaction.
+   *
+   * @param entity the inserted entity
+   */
+  public void recordPersisted(Object entity) {
+    if (entity instanceof Author author) {
+      PendingChanges pendingChanges = pendingChanges();
+      if (pendingChanges != null) {
+        pendingChanges.of(author.getId()).authorCreated = true;
+      }
+    } else if (entity instanceof Book book && book.getAuthor() != null) {
+      PendingChanges pendingChanges = pendingChanges();
+      if (pendingChanges != null) {
+        pendingChanges.of(book.getAuthor().getId()).addBook(book);
+      }
+    }
+  }
+
+  /**
+   * Records a deleted Book in the current transaction.
+   *
+   * @param entity the deleted entity
+   */
+  public void recordRemoved(Object entity) {
+    if (entity instanceof Book book && book.getAuthor() != null) {
+      PendingChanges pendingChanges = pendingChanges();
+      if (pendingChanges != null) {
+        pendingChanges.of(book.getAuthor().getId()).removeBook(book);
+      }
+    }
+  }
+
+  /**
+   * Adds Books written outside of JPA, e.g. by bulk imports, to the stats of their Author in the
+   * current transaction.
+   *
+   * @param authorId  the ID of the Author
+   * @param bookCount the number of written Books
+   * @param dataBytes the total data size of the written Books
+   * @param minYear   the earliest year of publishing of the written Books
+   * @param maxYear   the latest year of publishing of the written Books
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void addBooks(Long authorId, long bookCount, long dataBytes, Integer minYear,
+      Integer maxYear) {
+    if (this.authorStatsRepository.addBooks(authorId, bookCount, dataBytes, minYear,
+        maxYear) == 0) {
+      recompute(authorId);
+    }
+  }
+
+  /**
+   * Recomputes the stats of an Author from its Books.
+   *
+   * @param authorId the ID of the Author
+   * @return the recomputed {@link AuthorStats}
+   */
+  @Transactional
+  public AuthorStats recompute(Long authorId) {
+    AuthorStatsProjection computed = this.bookRepository.computeAuthorStats(authorId);
+    AuthorStats authorStats = this.authorStatsRepository.findById(authorId)
+        .orElseGet(() -> new AuthorStats(authorId));
+    authorStats.setBookCount(computed.getBookCount());
+    authorStats.setTotalDataBytes(computed.getTotalDataBytes());
+    authorStats.setMinYearPublished(computed.getMinYearPublished());
+    authorStats.setMaxYearPublished(computed.getMaxYearPublished());
+    return this.authorStatsRepository.save(authorStats);
+  }
+
+  /**
+   * Recomputes the stats that are missing or do not match the Books of their Authors.
+   *
+   * @return the number of repaired stats
+   */
+  @Transactional
+  @Scheduled(initialDelayString = "${app.authors.stats.reconcile-interval:600000}",
+      fixedDelayString = "${app.authors.stats.reconcile-interval:600000}")
+  public int reconcile() {
+    List<Long> authorIds = this.authorStatsRepository.findAuthorIdsWithDriftedStats();
+    for (Long authorId : authorIds) {
+      recompute(authorId);
+    }
+    if (!authorIds.isEmpty()) {
+      logger.warn("Repaired the drifted stats of {} authors", authorIds.size());
+    }
+    return authorIds.size();
+  }
+
+  private PendingChanges pendingChanges() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      logger.warn("Books changed outside of a transaction, stats are left to reconciliation");
+      return null;
+    }
+    SessionImplementor session = this.entityManager.unwrap(SessionImplementor.class);
+    PendingChanges pendingChanges =
+        (PendingChanges) TransactionSynchronizationManager.getResource(session);
+    if (pendingChanges == null) {
+      pendingChanges = new PendingChanges();
+      session.getActionQueue().registerProcess(pendingChanges);
+      TransactionSynchronizationManager.bindResource(session, pendingChanges);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(session);
+        }
+      });
+    }
+    return pendingChanges;
+  }
+
+  private void applyPendingChanges(Map<Long, PendingChange> changes) {
+    changes.forEach((authorId, change) -> {
+      if (change.authorCreated) {
+        AuthorStats authorStats = new AuthorStats(authorId);
+        authorStats.setBookCount(change.addedBooks);
+        authorStats.setTotalDataBytes(change.addedDataBytes);
+        authorStats.setMinYearPublished(change.minYearAdded);
+        authorStats.setMaxYearPublished(change.maxYearAdded);
+        this.entityManager.persist(authorStats);
+      } else if (change.addedBooks > 0) {
+        addBooks(authorId, change.addedBooks, change.addedDataBytes, change.minYearAdded,
+            change.maxYearAdded);
+      }
+      if (change.removedBooks > 0) {
+        // Stats of deleted Authors are gone with them
+        this.authorStatsRepository.removeBooks(authorId, change.removedBooks,
+            change.removedDataBytes);
+      }
+    });
+    // The flush of the commit already ran
+    this.entityManager.flush();
+  }
+
+  /**
+   * The changes of a transaction, applied before it completes.
+   */
+  private final class PendingChanges implements BeforeTransactionCompletionProcess {
+
+    private final Map<Long, PendingChange> changes = new HashMap<>();
+
+    private PendingChange of(Long authorId) {
+      return this.changes.computeIfAbsent(authorId, id -> new PendingChange());
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+      if (!this.changes.isEmpty()) {
+        applyPendingChanges(this.changes);
+      }
+    }
+  }
+
+  private static final class PendingChange {
+
+    private boolean authorCreated;
+    private long addedBooks;
+    private long addedDataBytes;
+    private Integer minYearAdded;
+    private Integer maxYearAdded;
+    private long removedBooks;
+    private long removedDataBytes;
+
+    private void addBook(Book book) {
+      this.addedBooks++;
+      this.addedDataBytes += book.getData() == null ? 0 : book.getData().length;
+      Integer year = book.getYearPublished();
+      if (this.minYearAdded == null || year < this.minYearAdded) {
+        this.minYearAdded = year;
+      }
+      if (this.maxYearAdded == null || year > this.maxYearAdded) {
+        this.maxYearAdded = year;
+      }
+    }
+
+    private void removeBook(Book book) {
+      this.removedBooks++;
+      this.removedDataBytes += book.getData() == null ? 0 : book.getData().length;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes a batch of imported Books on the connection of the current transaction.
+ */
+interface BookBatchWriter {
+
+  /**
+   * Writes the Books.
+   *
+   * @param connection the connection of the current transaction
+   * @param books      the Books, with their IDs and Author IDs resolved
+   * @throws SQLException if the Books cannot be written
+   * @throws IOException  if the Books cannot be encoded
+   */
+  void write(Connection connection, List<ImportedBook> books) throws SQLException, IOException;
+
+  /**
+   * A Book ready to be written.
+   *
+   * @param id            the ID taken from the Book sequence
+   * @param name          the name
+   * @param yearPublished the year of publishing
+   * @param authorId      the ID of the Author
+   * @param data          the data
+   */
+  record ImportedBook(long id, String name, int yearPublished, long authorId, byte[] data) {
+
+  }
+}
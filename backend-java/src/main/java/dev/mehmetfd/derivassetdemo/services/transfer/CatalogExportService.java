@@ -0,0 +1,192 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Catalog export service.
+ * <p>
+ * Writes every Author and then every Book as one JSON object per line. The rows are read with
+ * forward-only JDBC cursors inside a read-only transaction, so the driver holds at most one fetch
+ * of rows, and each row is written to the output as soon as it is read. The data of the Books is
+ * optional; when included it is read as a binary stream and Base64 encoded chunk by chunk, with a
+ * smaller fetch size since every fetched row carries its data.
+ */
+@Service
+public class CatalogExportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(CatalogExportService.class);
+
+  private static final String AUTHORS_QUERY = "SELECT id, name, year_born FROM author ORDER BY id";
+  private static final String BOOKS_QUERY =
+      "SELECT id, name, year_published, author_id FROM book ORDER BY id";
+  private static final String BOOKS_WITH_DATA_QUERY =
+      "SELECT id, name, year_published, author_id, data FROM book ORDER BY id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final JsonFactory jsonFactory;
+  private final Counter exportedRows;
+  private final Timer exportTimer;
+  private final int fetchSize;
+  private final int dataFetchSize;
+  private final int flushInterval;
+
+  /**
+   * Instantiates a new Catalog export service.
+   *
+   * @param jdbcTemplate       the jdbc template
+   * @param transactionManager the transaction manager
+   * @param objectMapper       the object mapper providing the JSON factory
+   * @param meterRegistry      the meter registry
+   * @param fetchSize          the number of rows fetched at once without data
+   * @param dataFetchSize      the number of rows fetched at once with data
+   * @param flushInterval      the number of rows written between flushes of the output
+   */
+  @Autowired
+  public CatalogExportService(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.export.fetch-size:1000}") int fetchSize,
+      @Value("${app.export.data-fetch-size:16}") int dataFetchSize,
+      @Value("${app.export.flush-interval:1000}") int flushInterval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    // Both queries read one snapshot, so no Book is exported without its Author
+    this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.jsonFactory = objectMapper.getFactory();
+    this.exportedRows = Counter.builder("catalog.export.rows")
+        .description("Rows written by catalog exports, its rate is the export throughput")
+        .register(meterRegistry);
+    this.exportTimer = Timer.builder("catalog.export")
+        .description("Duration of catalog exports")
+        .register(meterRegistry);
+    this.fetchSize = fetchSize;
+    this.dataFetchSize = dataFetchSize;
+    this.flushInterval = flushInterval;
+  }
+
+  /**
+   * Exports the catalog as NDJSON. Every line has a {@code type} of {@code author} or
+   * {@code book}; Authors come first, so every Book follows its Author. Both are read from the
+   * same snapshot of the catalog.
+   *
+   * @param outputStream the output, left open
+   * @param includeData  whether the Base64 encoded data of the Books is included
+   * @return the number of exported rows
+   * @throws IOException if the output cannot be written
+   */
+  public long export(OutputStream outputStream, boolean includeData) throws IOException {
+    long start = System.nanoTime();
+    try (JsonGenerator generator = this.jsonFactory.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      RowWriter writer = new RowWriter(generator);
+      this.transactionTemplate.executeWithoutResult(status -> {
+        query(AUTHORS_QUERY, this.fetchSize, writer::writeAuthor);
+        query(includeData ? BOOKS_WITH_DATA_QUERY : BOOKS_QUERY,
+            includeData ? this.dataFetchSize : this.fetchSize,
+            resultSet -> writer.writeBook(resultSet, includeData));
+      });
+      generator.flush();
+      long elapsedNanos = System.nanoTime() - start;
+      this.exportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+      logger.info("Exported {} rows in {} ms ({} rows/s)", writer.rows,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          writer.rows * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+      return writer.rows;
+    } catch (UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+  }
+
+  private void query(String sql, int fetchSize, RowCallbackHandler rowCallbackHandler) {
+    this.jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(sql,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      return statement;
+    }, rowCallbackHandler);
+  }
+
+  private final class RowWriter {
+
+    private final JsonGenerator generator;
+    private long rows;
+
+    private RowWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    private void writeAuthor(ResultSet resultSet) throws SQLException {
+      try {
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "author");
+        this.generator.writeNumberField("id", resultSet.getLong("id"));
+        this.generator.writeStringField("name", resultSet.getString("name"));
+        this.generator.writeNumberField("yearBorn", resultSet.getInt("year_born"));
+        this.generator.writeEndObject();
+        endRow();
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+
+    private void writeBook(ResultSet resultSet, boolean includeData) throws SQLException {
+      try {
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "book");
+        this.generator.writeNumberField("id", resultSet.getLong("id"));
+        this.generator.writeStringField("name", resultSet.getString("name"));
+        this.generator.writeNumberField("yearPublished", resultSet.getInt("year_published"));
+        this.generator.writeNumberField("authorId", resultSet.getLong("author_id"));
+        if (includeData) {
+          this.generator.writeFieldName("data");
+          try (InputStream data = resultSet.getBinaryStream("data")) {
+            this.generator.writeBinary(data, -1);
+          }
+        }
+        this.generator.writeEndObject();
+        endRow();
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+
+    private void endRow() throws IOException {
+      this.generator.writeRaw('\n');
+      this.rows++;
+      CatalogExportService.this.exportedRows.increment();
+      if (this.rows % CatalogExportService.this.flushInterval == 0) {
+        this.generator.flush();
+      }
+    }
+  }
+}
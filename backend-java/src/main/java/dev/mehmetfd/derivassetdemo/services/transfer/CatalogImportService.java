@@ -0,0 +1,506 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.mehmetfd.derivassetdemo.jfr.BlobWriteEvent;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.services.caching.EntityCachingService;
+import dev.mehmetfd.derivassetdemo.services.search.SearchService;
+import dev.mehmetfd.derivassetdemo.services.stats.AuthorStatsService;
+import dev.mehmetfd.derivassetdemo.services.transfer.BookBatchWriter.ImportedBook;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.AuthorRow;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.BookRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Catalog import service.
+ * <p>
+ * A reader thread parses the stream into batches, bounded by rows and by data size, and hands
+ * them to a writer thread over a small queue. When the writer falls behind the queue fills up and
+ * the reader stops reading, which pushes back on the client. Both run on the threads of the
+ * service, the request thread is released while the upload is read. Each batch is committed in a
+ * transaction of its own: new Authors are inserted first, then the Books are written with
+ * {@code COPY} on PostgreSQL or a batched insert otherwise, with IDs taken from the Book sequence
+ * in the blocks Hibernate uses. Authors are resolved by name, or by their ID in the exporting
+ * catalog, through maps held in memory for the duration of the import.
+ * <p>
+ * Since the rows bypass JPA, the stats of the Authors are updated explicitly and the caches of
+ * the touched Authors are evicted once their batch is committed.
+ */
+@Service
+public class CatalogImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(CatalogImportService.class);
+
+  private static final String POSTGRES_PRODUCT_NAME = "PostgreSQL";
+  private static final String AUTHOR_NAMES_QUERY = "SELECT id, name FROM author ORDER BY id";
+  private static final String INSERT_AUTHOR_SQL =
+      "INSERT INTO author (name, year_born) VALUES (?, ?)";
+  private static final String INSERT_AUTHOR_STATS_SQL =
+      "INSERT INTO author_stats (author_id, book_count, total_data_bytes) VALUES (?, 0, 0)";
+  private static final String POSTGRES_NEXT_BOOK_ID_SQL = "SELECT nextval('book_seq')";
+  private static final String NEXT_BOOK_ID_SQL = "SELECT NEXT VALUE FOR book_seq";
+  private static final String AUTHOR_BOOKS_ROLE = Author.class.getName() + ".books";
+  private static final long HAND_OVER_TIMEOUT_MILLIS = 100;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+  private final JsonFactory jsonFactory;
+  private final AuthorStatsService authorStatsService;
+  private final EntityCachingService entityCachingService;
+  private final SearchService searchService;
+  private final Cache secondLevelCache;
+  private final Counter importedAuthors;
+  private final Counter importedBooks;
+  private final int batchSize;
+  private final long batchMaxBytes;
+  private final int queueCapacity;
+  private final long jobTimeToLiveMillis;
+  private final Semaphore permits;
+  private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+  private final ExecutorService importers = Executors.newCachedThreadPool(
+      new CustomizableThreadFactory("catalog-importer-"));
+
+  /**
+   * Instantiates a new Catalog import service.
+   *
+   * @param jdbcTemplate          the jdbc template
+   * @param transactionManager    the transaction manager
+   * @param objectMapper          the object mapper providing the JSON factory
+   * @param authorStatsService    the author stats service
+   * @param entityCachingService  the entity caching service
+   * @param searchService         the search service
+   * @param entityManagerFactory  the entity manager factory holding the second-level cache
+   * @param meterRegistry         the meter registry
+   * @param batchSize             the maximum number of rows committed at once
+   * @param batchMaxBytes         the maximum size of the data of the Books committed at once
+   * @param queueCapacity         the number of batches read ahead of the writer
+   * @param maxConcurrentImports  the maximum number of imports running at once
+   * @param jobTimeToLiveMillis   how long finished jobs are kept
+   */
+  @Autowired
+  public CatalogImportService(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+      AuthorStatsService authorStatsService, EntityCachingService entityCachingService,
+      SearchService searchService, EntityManagerFactory entityManagerFactory,
+      MeterRegistry meterRegistry,
+      @Value("${app.import.batch-size:5000}") int batchSize,
+      @Value("${app.import.batch-max-bytes:33554432}") long batchMaxBytes,
+      @Value("${app.import.queue-capacity:2}") int queueCapacity,
+      @Value("${app.import.max-concurrent:2}") int maxConcurrentImports,
+      @Value("${app.import.job-ttl:3600000}") long jobTimeToLiveMillis) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+    this.jsonFactory = objectMapper.getFactory();
+    this.authorStatsService = authorStatsService;
+    this.entityCachingService = entityCachingService;
+    this.searchService = searchService;
+    this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    this.importedAuthors = Counter.builder("catalog.import.rows").tag("type", "author")
+        .description("Rows committed by catalog imports").register(meterRegistry);
+    this.importedBooks = Counter.builder("catalog.import.rows").tag("type", "book")
+        .description("Rows committed by catalog imports").register(meterRegistry);
+    this.batchSize = batchSize;
+    this.batchMaxBytes = batchMaxBytes;
+    this.queueCapacity = queueCapacity;
+    this.permits = new Semaphore(maxConcurrentImports);
+    this.jobTimeToLiveMillis = jobTimeToLiveMillis;
+  }
+
+  /**
+   * Stops the readers and writers.
+   */
+  @PreDestroy
+  public void stop() {
+    this.importers.shutdownNow();
+  }
+
+  /**
+   * Starts importing a stream on the threads of the service.
+   *
+   * @param inputStream the stream, read but not closed
+   * @param format      the format of the stream
+   * @return {@link Optional}{@code <}{@link CompletableFuture}{@code <}{@link ImportJob}{@code >>}
+   * <ul> <li>{@link Optional} containing the job, completed once every row is read and committed
+   * or the import failed</li> <li>{@link Optional#empty()} if too many imports are running</li>
+   * </ul>
+   */
+  public Optional<CompletableFuture<ImportJob>> importCatalog(InputStream inputStream,
+      ImportFormat format) {
+    if (inputStream == null || format == null || !this.permits.tryAcquire()) {
+      return Optional.empty();
+    }
+    ImportJob job = new ImportJob(format);
+    this.jobs.put(job.getId(), job);
+    try {
+      return Optional.of(CompletableFuture.supplyAsync(() -> {
+        try {
+          run(job, inputStream);
+          return job;
+        } finally {
+          this.permits.release();
+        }
+      }, this.importers));
+    } catch (RuntimeException exception) {
+      this.permits.release();
+      fail(job, exception);
+      throw exception;
+    }
+  }
+
+  /**
+   * Gets a job.
+   *
+   * @param jobId the job id
+   * @return {@link Optional}{@code <}{@link ImportJob}{@code >} <ul> <li>{@link Optional}
+   * containing the job</li> <li>{@link Optional#empty()} if there is no such job or it has
+   * expired</li> </ul>
+   */
+  public Optional<ImportJob> getJob(String jobId) {
+    if (jobId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.jobs.get(jobId));
+  }
+
+  /**
+   * Gets the running and the recently finished jobs.
+   *
+   * @return the jobs, most recently started first
+   */
+  public List<ImportJob> getJobs() {
+    List<ImportJob> sortedJobs = new ArrayList<>(this.jobs.values());
+    sortedJobs.sort(Comparator.comparingLong(ImportJob::getStartedAtMillis).reversed());
+    return sortedJobs;
+  }
+
+  /**
+   * Removes finished jobs older than their time to live.
+   */
+  @Scheduled(fixedDelayString = "${app.import.job-cleanup-interval:60000}")
+  public void removeExpiredJobs() {
+    long expiredBefore = System.currentTimeMillis() - this.jobTimeToLiveMillis;
+    this.jobs.values().removeIf(job -> job.getStatus() != ImportJob.Status.RUNNING
+        && job.getFinishedAtMillis() < expiredBefore);
+  }
+
+  private void run(ImportJob job, InputStream inputStream) {
+    ImportState state;
+    try {
+      state = loadState();
+    } catch (RuntimeException exception) {
+      fail(job, exception);
+      return;
+    }
+    BlockingQueue<List<ImportRow>> queue = new ArrayBlockingQueue<>(this.queueCapacity);
+    Future<Void> writer = this.importers.submit(() -> {
+      for (List<ImportRow> batch = queue.take(); !batch.isEmpty(); batch = queue.take()) {
+        writeBatch(job, state, batch);
+      }
+      return null;
+    });
+    try (ImportReader reader = ImportReader.of(job.getFormat(), inputStream, this.jsonFactory)) {
+      List<ImportRow> batch = new ArrayList<>();
+      long batchBytes = 0;
+      for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+        batch.add(row);
+        if (row instanceof BookRow book && book.data() != null) {
+          batchBytes += book.data().length;
+        }
+        if (batch.size() >= this.batchSize || batchBytes >= this.batchMaxBytes) {
+          handOver(queue, batch, writer);
+          batch = new ArrayList<>();
+          batchBytes = 0;
+        }
+      }
+      if (!batch.isEmpty()) {
+        handOver(queue, batch, writer);
+      }
+      handOver(queue, List.of(), writer);
+      writer.get();
+      job.complete();
+      logger.info("Imported {} authors and {} books ({} rows/s), rejected {} rows",
+          job.getAuthorsImported(), job.getBooksImported(), (long) job.getRowsPerSecond(),
+          job.getRowsRejected());
+    } catch (ExecutionException exception) {
+      fail(job, exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      writer.cancel(true);
+      fail(job, exception);
+    } catch (IOException | RuntimeException exception) {
+      writer.cancel(true);
+      fail(job, exception);
+    }
+  }
+
+  /**
+   * Hands a batch to the writer, an empty batch ends the import. Blocks while the writer is
+   * behind, so the request is not read any further and the client is slowed down.
+   */
+  private static void handOver(BlockingQueue<List<ImportRow>> queue, List<ImportRow> batch,
+      Future<Void> writer) throws InterruptedException, ExecutionException {
+    do {
+      if (writer.isDone()) {
+        writer.get();
+        throw new IllegalStateException("The writer stopped");
+      }
+    } while (!queue.offer(batch, HAND_OVER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+  }
+
+  private ImportState loadState() {
+    boolean postgres = POSTGRES_PRODUCT_NAME.equals(this.jdbcTemplate.execute(
+        (ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName()));
+    ImportState state = new ImportState(postgres);
+    this.readOnlyTransactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(AUTHOR_NAMES_QUERY);
+          statement.setFetchSize(1000);
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> state.authorIdsByName.putIfAbsent(
+            resultSet.getString("name"), resultSet.getLong("id"))));
+    return state;
+  }
+
+  private void writeBatch(ImportJob job, ImportState state, List<ImportRow> rows) {
+    CommittedBatch batch = this.transactionTemplate.execute(status -> {
+      CommittedBatch written = new CommittedBatch();
+      insertNewAuthors(state, rows, written);
+
+      Map<Long, StatsDelta> deltas = new HashMap<>();
+      for (ImportRow row : rows) {
+        if (row instanceof AuthorRow author) {
+          if (author.sourceId() != null && author.name() != null) {
+            Long authorId = state.authorIdsByName.get(author.name());
+            if (authorId != null) {
+              state.authorIdsBySourceId.put(author.sourceId(), authorId);
+            }
+          }
+        } else if (row instanceof BookRow book) {
+          Long authorId = book.sourceAuthorId() != null
+              ? state.authorIdsBySourceId.get(book.sourceAuthorId())
+              : book.authorName() != null ? state.authorIdsByName.get(book.authorName()) : null;
+          if (authorId == null || book.name() == null || book.name().isBlank()
+              || book.yearPublished() == null) {
+            written.rejected++;
+            continue;
+          }
+          byte[] data = book.data() == null ? new byte[0] : book.data();
+          written.books.add(new ImportedBook(state.nextBookId(), book.name(),
+              book.yearPublished(), authorId, data));
+          deltas.computeIfAbsent(authorId, id -> new StatsDelta())
+              .add(book.yearPublished(), data.length);
+        }
+      }
+
+      if (!written.books.isEmpty()) {
+        BookBatchWriter bookWriter = state.postgres
+            ? new PostgresCopyBookWriter() : new JdbcBatchBookWriter();
+        BlobWriteEvent event = new BlobWriteEvent();
+        event.begin();
+        this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+          try {
+            bookWriter.write(connection, written.books);
+          } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+          }
+          return null;
+        });
+        event.commitWithTransaction(() -> {
+          event.bookId = written.books.get(0).id();
+          event.books = written.books.size();
+          for (ImportedBook importedBook : written.books) {
+            event.bytes += importedBook.data().length;
+          }
+        });
+      }
+      deltas.forEach((authorId, delta) -> this.authorStatsService.addBooks(authorId,
+          delta.books, delta.dataBytes, delta.minYear, delta.maxYear));
+      written.touchedAuthorIds.addAll(deltas.keySet());
+      return written;
+    });
+
+    job.addCommitted(batch.authors.size(), batch.books.size());
+    job.addRejected(batch.rejected);
+    this.importedAuthors.increment(batch.authors.size());
+    this.importedBooks.increment(batch.books.size());
+    for (Long authorId : batch.touchedAuthorIds) {
+      this.secondLevelCache.evictCollectionData(AUTHOR_BOOKS_ROLE, authorId);
+      this.entityCachingService.evictOnlyAuthorFromCache(authorId);
+    }
+    for (Author author : batch.authors) {
+      this.searchService.indexAuthor(author);
+    }
+    for (ImportedBook importedBook : batch.books) {
+      Author author = new Author();
+      author.setId(importedBook.authorId());
+      Book book = new Book();
+      book.setId(importedBook.id());
+      book.setName(importedBook.name());
+      book.setYearPublished(importedBook.yearPublished());
+      book.setAuthor(author);
+      this.searchService.indexBook(book);
+    }
+  }
+
+  private void insertNewAuthors(ImportState state, List<ImportRow> rows, CommittedBatch written) {
+    Map<String, Integer> newAuthors = new LinkedHashMap<>();
+    for (ImportRow row : rows) {
+      if (row instanceof AuthorRow author) {
+        if (author.name() == null || author.name().isBlank() || author.yearBorn() == null) {
+          written.rejected++;
+        } else if (!state.authorIdsByName.containsKey(author.name())) {
+          newAuthors.putIfAbsent(author.name(), author.yearBorn());
+        }
+      } else if (row instanceof BookRow book && book.sourceAuthorId() == null
+          && book.authorName() != null && !book.authorName().isBlank()
+          && book.authorYearBorn() != null
+          && !state.authorIdsByName.containsKey(book.authorName())) {
+        newAuthors.putIfAbsent(book.authorName(), book.authorYearBorn());
+      }
+    }
+    if (newAuthors.isEmpty()) {
+      return;
+    }
+
+    List<Map.Entry<String, Integer>> entries = new ArrayList<>(newAuthors.entrySet());
+    GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+    this.jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_AUTHOR_SQL, new String[]{"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement statement, int i) throws SQLException {
+            statement.setString(1, entries.get(i).getKey());
+            statement.setInt(2, entries.get(i).getValue());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return entries.size();
+          }
+        }, keyHolder);
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    List<Long> authorIds = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      Long authorId = ((Number) keys.get(i).values().iterator().next()).longValue();
+      Author author = new Author();
+      author.setId(authorId);
+      author.setName(entries.get(i).getKey());
+      author.setYearBorn(entries.get(i).getValue());
+      state.authorIdsByName.put(author.getName(), authorId);
+      authorIds.add(authorId);
+      written.authors.add(author);
+    }
+    this.jdbcTemplate.batchUpdate(INSERT_AUTHOR_STATS_SQL, authorIds, authorIds.size(),
+        (statement, authorId) -> statement.setLong(1, authorId));
+  }
+
+  private void fail(ImportJob job, Throwable cause) {
+    logger.warn("Import {} failed after {} books", job.getId(), job.getBooksImported(), cause);
+    job.fail(cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage());
+  }
+
+  private final class ImportState {
+
+    private final boolean postgres;
+    private final Map<String, Long> authorIdsByName = new HashMap<>();
+    private final Map<Long, Long> authorIdsBySourceId = new HashMap<>();
+    private long nextBookId = 1;
+    private long lastBookId = 0;
+
+    private ImportState(boolean postgres) {
+      this.postgres = postgres;
+    }
+
+    /**
+     * Takes the next ID from the Book sequence. Like the pooled optimizer of Hibernate, every
+     * value of the sequence reserves the block of IDs ending with it.
+     */
+    private long nextBookId() {
+      if (this.nextBookId > this.lastBookId) {
+        Long highest;
+        do {
+          highest = CatalogImportService.this.jdbcTemplate.queryForObject(
+              this.postgres ? POSTGRES_NEXT_BOOK_ID_SQL : NEXT_BOOK_ID_SQL, Long.class);
+        } while (highest == null || highest < Book.ID_ALLOCATION_SIZE);
+        this.nextBookId = highest - Book.ID_ALLOCATION_SIZE + 1;
+        this.lastBookId = highest;
+      }
+      return this.nextBookId++;
+    }
+  }
+
+  private static final class CommittedBatch {
+
+    private final List<Author> authors = new ArrayList<>();
+    private final List<ImportedBook> books = new ArrayList<>();
+    private final List<Long> touchedAuthorIds = new ArrayList<>();
+    private long rejected;
+  }
+
+  private static final class StatsDelta {
+
+    private long books;
+    private long dataBytes;
+    private Integer minYear;
+    private Integer maxYear;
+
+    private void add(int yearPublished, int dataLength) {
+      this.books++;
+      this.dataBytes += dataLength;
+      this.minYear = this.minYear == null ? yearPublished : Math.min(this.minYear, yearPublished);
+      this.maxYear = this.maxYear == null ? yearPublished : Math.max(this.maxYear, yearPublished);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.BookRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reads CSV rows of Books line by line. Fields may be quoted as in RFC 4180, but a quoted field
+ * cannot span lines.
+ */
+final class CsvImportReader implements ImportReader {
+
+  private final BufferedReader reader;
+  private final int nameColumn;
+  private final int yearPublishedColumn;
+  private final int authorNameColumn;
+  private final int authorYearBornColumn;
+  private final int dataColumn;
+  private int lineNumber;
+
+  /**
+   * Instantiates a new CSV import reader and reads the header.
+   *
+   * @param inputStream the UTF-8 encoded stream
+   * @throws IOException              if the stream cannot be read
+   * @throws IllegalArgumentException if the header lacks a required column
+   */
+  CsvImportReader(InputStream inputStream) throws IOException {
+    this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    String header = this.reader.readLine();
+    this.lineNumber = 1;
+    if (header == null) {
+      throw new IllegalArgumentException("Missing header");
+    }
+    List<String> columns = parseLine(header.strip());
+    this.nameColumn = requiredColumn(columns, "name");
+    this.yearPublishedColumn = requiredColumn(columns, "yearPublished");
+    this.authorNameColumn = requiredColumn(columns, "authorName");
+    this.authorYearBornColumn = columns.indexOf("authorYearBorn");
+    this.dataColumn = columns.indexOf("data");
+  }
+
+  @Override
+  public ImportRow next() throws IOException {
+    String line;
+    do {
+      line = this.reader.readLine();
+      this.lineNumber++;
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank());
+    List<String> fields = parseLine(line);
+    try {
+      String data = field(fields, this.dataColumn);
+      return new BookRow(field(fields, this.nameColumn),
+          toInteger(field(fields, this.yearPublishedColumn)), null,
+          field(fields, this.authorNameColumn),
+          toInteger(field(fields, this.authorYearBornColumn)),
+          data == null ? null : Base64.getDecoder().decode(data));
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalArgumentException(
+          "Malformed row at line " + this.lineNumber + ": " + exception.getMessage(), exception);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.reader.close();
+  }
+
+  /**
+   * Splits a line into its fields.
+   *
+   * @param line the line
+   * @return the unquoted fields
+   */
+  static List<String> parseLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quote");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static int requiredColumn(List<String> columns, String column) {
+    int index = columns.indexOf(column);
+    if (index < 0) {
+      throw new IllegalArgumentException("Missing column " + column);
+    }
+    return index;
+  }
+
+  private static String field(List<String> fields, int column) {
+    if (column < 0 || column >= fields.size() || fields.get(column).isEmpty()) {
+      return null;
+    }
+    return fields.get(column);
+  }
+
+  private static Integer toInteger(String value) {
+    return value == null ? null : Integer.valueOf(value.strip());
+  }
+}
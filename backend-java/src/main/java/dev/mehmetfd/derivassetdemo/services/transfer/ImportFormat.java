@@ -0,0 +1,21 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+/**
+ * The formats accepted by the {@link CatalogImportService}.
+ */
+public enum ImportFormat {
+  /**
+   * One JSON object per line, Authors and Books as written by the {@link CatalogExportService}.
+   */
+  NDJSON,
+  /**
+   * Books only, with a header naming the columns {@code name}, {@code yearPublished},
+   * {@code authorName}, optionally {@code authorYearBorn} to create unknown Authors and
+   * {@code data} holding Base64.
+   */
+  CSV
+}
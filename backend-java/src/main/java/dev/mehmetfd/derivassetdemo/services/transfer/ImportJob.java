@@ -0,0 +1,163 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The progress of an import run by the {@link CatalogImportService}.
+ */
+public class ImportJob {
+
+  /**
+   * The status of an import.
+   */
+  public enum Status {
+    /**
+     * The rows are being read and written.
+     */
+    RUNNING,
+    /**
+     * Every row is read and every batch is committed.
+     */
+    COMPLETED,
+    /**
+     * The import stopped, the batches committed before remain.
+     */
+    FAILED
+  }
+
+  private final String id = UUID.randomUUID().toString();
+  private final ImportFormat format;
+  private final long startedAtMillis = System.currentTimeMillis();
+  private final AtomicLong authorsImported = new AtomicLong();
+  private final AtomicLong booksImported = new AtomicLong();
+  private final AtomicLong rowsRejected = new AtomicLong();
+  private volatile Status status = Status.RUNNING;
+  private volatile String failureReason;
+  private volatile long finishedAtMillis;
+
+  /**
+   * Instantiates a new Import job.
+   *
+   * @param format the format of the imported stream
+   */
+  ImportJob(ImportFormat format) {
+    this.format = format;
+  }
+
+  /**
+   * Gets id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return this.id;
+  }
+
+  /**
+   * Gets format.
+   *
+   * @return the format
+   */
+  public ImportFormat getFormat() {
+    return this.format;
+  }
+
+  /**
+   * Gets status.
+   *
+   * @return the status
+   */
+  public Status getStatus() {
+    return this.status;
+  }
+
+  /**
+   * Gets the number of committed new Authors.
+   *
+   * @return the authors imported
+   */
+  public long getAuthorsImported() {
+    return this.authorsImported.get();
+  }
+
+  /**
+   * Gets the number of committed Books.
+   *
+   * @return the books imported
+   */
+  public long getBooksImported() {
+    return this.booksImported.get();
+  }
+
+  /**
+   * Gets the number of rows skipped for missing fields or unknown Authors.
+   *
+   * @return the rows rejected
+   */
+  public long getRowsRejected() {
+    return this.rowsRejected.get();
+  }
+
+  /**
+   * Gets the failure reason.
+   *
+   * @return the failure reason, {@code null} unless the status is {@link Status#FAILED}
+   */
+  public String getFailureReason() {
+    return this.failureReason;
+  }
+
+  /**
+   * Gets the time the import started at.
+   *
+   * @return the epoch millis
+   */
+  public long getStartedAtMillis() {
+    return this.startedAtMillis;
+  }
+
+  /**
+   * Gets the time the import finished at.
+   *
+   * @return the epoch millis, {@code 0} while running
+   */
+  public long getFinishedAtMillis() {
+    return this.finishedAtMillis;
+  }
+
+  /**
+   * Gets the committed Authors and Books per second so far.
+   *
+   * @return the rows per second
+   */
+  public double getRowsPerSecond() {
+    long end = this.finishedAtMillis == 0 ? System.currentTimeMillis() : this.finishedAtMillis;
+    long elapsedMillis = Math.max(end - this.startedAtMillis, 1);
+    return (getAuthorsImported() + getBooksImported()) * 1000.0 / elapsedMillis;
+  }
+
+  void addCommitted(long authors, long books) {
+    this.authorsImported.addAndGet(authors);
+    this.booksImported.addAndGet(books);
+  }
+
+  void addRejected(long rows) {
+    this.rowsRejected.addAndGet(rows);
+  }
+
+  void complete() {
+    this.finishedAtMillis = System.currentTimeMillis();
+    this.status = Status.COMPLETED;
+  }
+
+  void fail(String failureReason) {
+    this.failureReason = failureReason;
+    this.finishedAtMillis = System.currentTimeMillis();
+    this.status = Status.FAILED;
+  }
+}
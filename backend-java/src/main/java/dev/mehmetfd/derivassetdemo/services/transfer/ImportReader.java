@@ -0,0 +1,42 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads {@link ImportRow ImportRows} one at a time from a stream.
+ */
+interface ImportReader extends Closeable {
+
+  /**
+   * Reads the next row.
+   *
+   * @return the row, {@code null} at the end of the stream
+   * @throws IOException              if the stream cannot be read
+   * @throws IllegalArgumentException if the row is malformed
+   */
+  ImportRow next() throws IOException;
+
+  /**
+   * Creates a reader for a format.
+   *
+   * @param format      the format of the stream
+   * @param inputStream the stream
+   * @param jsonFactory the JSON factory
+   * @return the reader
+   * @throws IOException if the stream cannot be read
+   */
+  static ImportReader of(ImportFormat format, InputStream inputStream, JsonFactory jsonFactory)
+      throws IOException {
+    return switch (format) {
+      case NDJSON -> new NdjsonImportReader(jsonFactory.createParser(inputStream));
+      case CSV -> new CsvImportReader(inputStream);
+    };
+  }
+}
@@ -0,0 +1,38 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+/**
+ * A row read by an {@link ImportReader}.
+ */
+sealed interface ImportRow {
+
+  /**
+   * An Author to import, or to resolve by name if it exists.
+   *
+   * @param sourceId the ID in the exporting catalog, referenced by later Books, may be null
+   * @param name     the name
+   * @param yearBorn the year of birth
+   */
+  record AuthorRow(Long sourceId, String name, Integer yearBorn) implements ImportRow {
+
+  }
+
+  /**
+   * A Book to import. The Author is resolved by its source ID if present, by its name otherwise,
+   * and created if unknown and its year of birth is given.
+   *
+   * @param name           the name
+   * @param yearPublished  the year of publishing
+   * @param sourceAuthorId the ID of the Author in the exporting catalog, may be null
+   * @param authorName     the name of the Author, may be null
+   * @param authorYearBorn the year of birth of the Author, may be null
+   * @param data           the data, may be null
+   */
+  record BookRow(String name, Integer yearPublished, Long sourceAuthorId, String authorName,
+                 Integer authorYearBorn, byte[] data) implements ImportRow {
+
+  }
+}
@@ -0,0 +1,34 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes Books with a batched insert, for databases without {@code COPY} such as H2.
+ */
+final class JdbcBatchBookWriter implements BookBatchWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO book (id, name, year_published, author_id, data) VALUES (?, ?, ?, ?, ?)";
+
+  @Override
+  public void write(Connection connection, List<ImportedBook> books) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+      for (ImportedBook book : books) {
+        statement.setLong(1, book.id());
+        statement.setString(2, book.name());
+        statement.setInt(3, book.yearPublished());
+        statement.setLong(4, book.authorId());
+        statement.setBytes(5, book.data());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+}
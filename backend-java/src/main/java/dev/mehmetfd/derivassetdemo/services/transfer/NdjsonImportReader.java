@@ -0,0 +1,83 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.AuthorRow;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.BookRow;
+import java.io.IOException;
+
+/**
+ * Reads NDJSON rows with a streaming parser, one object at a time. Unknown fields are skipped,
+ * so the output of the {@link CatalogExportService} can be imported as is.
+ */
+final class NdjsonImportReader implements ImportReader {
+
+  private final JsonParser parser;
+
+  /**
+   * Instantiates a new NDJSON import reader.
+   *
+   * @param parser the parser of the stream
+   */
+  NdjsonImportReader(JsonParser parser) {
+    this.parser = parser;
+  }
+
+  @Override
+  public ImportRow next() throws IOException {
+    JsonToken token = this.parser.nextToken();
+    if (token == null) {
+      return null;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("Expected an object at line " + line());
+    }
+    String type = null;
+    Long id = null;
+    String name = null;
+    Integer yearBorn = null;
+    Integer yearPublished = null;
+    Long authorId = null;
+    String authorName = null;
+    Integer authorYearBorn = null;
+    byte[] data = null;
+    while (this.parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = this.parser.currentName();
+      if (this.parser.nextToken() == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "type" -> type = this.parser.getText();
+        case "id" -> id = this.parser.getLongValue();
+        case "name" -> name = this.parser.getText();
+        case "yearBorn" -> yearBorn = this.parser.getIntValue();
+        case "yearPublished" -> yearPublished = this.parser.getIntValue();
+        case "authorId" -> authorId = this.parser.getLongValue();
+        case "authorName" -> authorName = this.parser.getText();
+        case "authorYearBorn" -> authorYearBorn = this.parser.getIntValue();
+        case "data" -> data = this.parser.getBinaryValue();
+        default -> this.parser.skipChildren();
+      }
+    }
+    if ("author".equals(type)) {
+      return new AuthorRow(id, name, yearBorn);
+    }
+    if ("book".equals(type)) {
+      return new BookRow(name, yearPublished, authorId, authorName, authorYearBorn, data);
+    }
+    throw new IllegalArgumentException("Unknown type " + type + " at line " + line());
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.parser.close();
+  }
+
+  private int line() {
+    return this.parser.currentLocation().getLineNr();
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Writes Books with {@code COPY ... FROM STDIN} in the binary format, which sends the data as is
+ * instead of escaping it, and skips planning and executing an insert per row.
+ * <p>
+ * The only class using the API of the PostgreSQL driver, it is loaded on PostgreSQL only.
+ */
+final class PostgresCopyBookWriter implements BookBatchWriter {
+
+  private static final String COPY_SQL = "COPY book (id, name, year_published, author_id, data)"
+      + " FROM STDIN WITH (FORMAT binary)";
+  private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r',
+      '\n', 0};
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  @Override
+  public void write(Connection connection, List<ImportedBook> books)
+      throws SQLException, IOException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    try (DataOutputStream out = new DataOutputStream(
+        new PGCopyOutputStream(pgConnection, COPY_SQL, BUFFER_SIZE))) {
+      encode(out, books);
+    }
+  }
+
+  /**
+   * Encodes Books in the binary format of {@code COPY}, header and trailer included.
+   *
+   * @param out   the stream to write to
+   * @param books the Books
+   * @throws IOException if the stream cannot be written
+   */
+  static void encode(DataOutputStream out, List<ImportedBook> books) throws IOException {
+    out.write(SIGNATURE);
+    // Flags, then the length of the header extension
+    out.writeInt(0);
+    out.writeInt(0);
+    for (ImportedBook book : books) {
+      out.writeShort(5);
+      out.writeInt(Long.BYTES);
+      out.writeLong(book.id());
+      byte[] name = book.name().getBytes(StandardCharsets.UTF_8);
+      out.writeInt(name.length);
+      out.write(name);
+      out.writeInt(Integer.BYTES);
+      out.writeInt(book.yearPublished());
+      out.writeInt(Long.BYTES);
+      out.writeLong(book.authorId());
+      out.writeInt(book.data().length);
+      out.write(book.data());
+    }
+    out.writeShort(-1);
+  }
+}
@@ -0,0 +1,106 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.writebehind;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.UUID;
+
+/**
+ * The ticket of a Book creation queued in the {@link BookWriteBehindService}.
+ */
+public class BookCreationTicket {
+
+  /**
+   * The status of a Book creation.
+   */
+  public enum Status {
+    /**
+     * Waiting in the queue or being written.
+     */
+    QUEUED,
+    /**
+     * The Book is saved.
+     */
+    COMPLETED,
+    /**
+     * The Book could not be saved.
+     */
+    FAILED
+  }
+
+  private final String id = UUID.randomUUID().toString();
+  private volatile Status status = Status.QUEUED;
+  private volatile Long bookId;
+  private volatile String failureReason;
+  private volatile long finishedAtMillis;
+
+  /**
+   * Gets id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return this.id;
+  }
+
+  /**
+   * Gets status.
+   *
+   * @return the status
+   */
+  public Status getStatus() {
+    return this.status;
+  }
+
+  /**
+   * Gets the ID of the saved Book.
+   *
+   * @return the book id, {@code null} unless the status is {@link Status#COMPLETED}
+   */
+  public Long getBookId() {
+    return this.bookId;
+  }
+
+  /**
+   * Gets the failure reason.
+   *
+   * @return the failure reason, {@code null} unless the status is {@link Status#FAILED}
+   */
+  public String getFailureReason() {
+    return this.failureReason;
+  }
+
+  /**
+   * Gets the time the creation finished at.
+   *
+   * @return the epoch millis, {@code 0} while queued
+   */
+  @JsonIgnore
+  public long getFinishedAtMillis() {
+    return this.finishedAtMillis;
+  }
+
+  /**
+   * Marks the creation completed.
+   *
+   * @param bookId the ID of the saved Book
+   */
+  void complete(Long bookId) {
+    this.bookId = bookId;
+    this.finishedAtMillis = System.currentTimeMillis();
+    this.status = Status.COMPLETED;
+  }
+
+  /**
+   * Marks the creation failed.
+   *
+   * @param failureReason the failure reason
+   */
+  void fail(String failureReason) {
+    this.failureReason = failureReason;
+    this.finishedAtMillis = System.currentTimeMillis();
+    this.status = Status.FAILED;
+  }
+}
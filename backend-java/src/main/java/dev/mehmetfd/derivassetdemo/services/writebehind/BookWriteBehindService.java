@@ -0,0 +1,274 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.writebehind;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.services.AuthorService;
+import dev.mehmetfd.derivassetdemo.services.BookService;
+import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * The type Book write behind service.
+ * <p>
+ * Book creations are queued on a bounded queue and written by a group of workers. Each worker
+ * takes whatever has piled up in the queue, generating the data of the Books as it takes them,
+ * until the batch holds the batch size or the batch data size, and saves them with
+ * {@link BookService#saveBooks(List)}, so bursts are written as batched inserts instead of one
+ * transaction per request. A batch holds at most the batch data size plus the data of one Book.
+ */
+@Service
+public class BookWriteBehindService {
+
+  private static final Logger logger = LoggerFactory.getLogger(BookWriteBehindService.class);
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private final AuthorService authorService;
+  private final BookService bookService;
+  private final int workerCount;
+  private final int batchSize;
+  private final long batchMaxBytes;
+  private final long ticketTimeToLiveMillis;
+  private final Supplier<byte[]> dataGenerator;
+
+  private final BlockingQueue<PendingBook> queue;
+  private final Map<String, BookCreationTicket> tickets = new ConcurrentHashMap<>();
+  private ExecutorService workers;
+  private volatile boolean stopped;
+
+  /**
+   * Instantiates a new Book write behind service.
+   *
+   * @param authorService          the author service
+   * @param bookService            the book service
+   * @param meterRegistry          the meter registry
+   * @param queueCapacity          the maximum number of queued Books
+   * @param workerCount            the number of worker threads
+   * @param batchSize              the maximum number of Books saved in one transaction
+   * @param batchMaxBytes          the data size from which no more Books are added to a batch
+   * @param ticketTimeToLiveMillis how long finished tickets are kept
+   */
+  @Autowired
+  public BookWriteBehindService(AuthorService authorService, BookService bookService,
+      MeterRegistry meterRegistry,
+      @Value("${app.books.write-behind.queue-capacity:1000}") int queueCapacity,
+      @Value("${app.books.write-behind.workers:2}") int workerCount,
+      @Value("${app.books.write-behind.batch-size:50}") int batchSize,
+      @Value("${app.books.write-behind.batch-max-bytes:8388608}") long batchMaxBytes,
+      @Value("${app.books.write-behind.ticket-ttl:600000}") long ticketTimeToLiveMillis) {
+    this(authorService, bookService, meterRegistry, queueCapacity, workerCount, batchSize,
+        batchMaxBytes, ticketTimeToLiveMillis,
+        () -> RandomDataGenerator.generateBytes(RandomDataGenerator.BOOK_DATA_MAX_LENGTH));
+  }
+
+  /**
+   * Instantiates a new Book write behind service with the given data of the Books.
+   *
+   * @param authorService          the author service
+   * @param bookService            the book service
+   * @param meterRegistry          the meter registry
+   * @param queueCapacity          the maximum number of queued Books
+   * @param workerCount            the number of worker threads
+   * @param batchSize              the maximum number of Books saved in one transaction
+   * @param batchMaxBytes          the data size from which no more Books are added to a batch
+   * @param ticketTimeToLiveMillis how long finished tickets are kept
+   * @param dataGenerator          the generator of the data of each Book
+   */
+  BookWriteBehindService(AuthorService authorService, BookService bookService,
+      MeterRegistry meterRegistry, int queueCapacity, int workerCount, int batchSize,
+      long batchMaxBytes, long ticketTimeToLiveMillis, Supplier<byte[]> dataGenerator) {
+    this.authorService = authorService;
+    this.bookService = bookService;
+    this.workerCount = workerCount;
+    this.batchSize = batchSize;
+    this.batchMaxBytes = batchMaxBytes;
+    this.ticketTimeToLiveMillis = ticketTimeToLiveMillis;
+    this.dataGenerator = dataGenerator;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    Gauge.builder("books.write-behind.queue.size", this.queue, BlockingQueue::size)
+        .description("Book creations waiting to be written")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts the workers.
+   */
+  @PostConstruct
+  public void start() {
+    this.workers = Executors.newFixedThreadPool(this.workerCount,
+        new CustomizableThreadFactory("book-writer-"));
+    for (int i = 0; i < this.workerCount; i++) {
+      this.workers.execute(this::runWorker);
+    }
+  }
+
+  /**
+   * Stops the workers once the queue is drained.
+   *
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    this.stopped = true;
+    this.workers.shutdown();
+    if (!this.workers.awaitTermination(30, TimeUnit.SECONDS)) {
+      logger.warn("Book writers did not finish, {} creations are lost", this.queue.size());
+      this.workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Queues the creation of a Book.
+   *
+   * @param name          the name of the Book
+   * @param yearPublished the year the Book was published
+   * @param authorId      the ID of the Author of the Book
+   * @return {@link Optional}{@code <}{@link BookCreationTicket}{@code >} <ul> <li>{@link Optional}
+   * containing the ticket of the queued creation</li> <li>{@link Optional#empty()} if the queue is
+   * full or the service is stopped</li> </ul>
+   */
+  public Optional<BookCreationTicket> submit(String name, Integer yearPublished, Long authorId) {
+    if (this.stopped) {
+      return Optional.empty();
+    }
+    BookCreationTicket ticket = new BookCreationTicket();
+    this.tickets.put(ticket.getId(), ticket);
+    if (!this.queue.offer(new PendingBook(name, yearPublished, authorId, ticket))) {
+      this.tickets.remove(ticket.getId());
+      return Optional.empty();
+    }
+    return Optional.of(ticket);
+  }
+
+  /**
+   * Gets a ticket.
+   *
+   * @param ticketId the ticket id
+   * @return {@link Optional}{@code <}{@link BookCreationTicket}{@code >} <ul> <li>{@link Optional}
+   * containing the ticket</li> <li>{@link Optional#empty()} if there is no such ticket or it has
+   * expired</li> </ul>
+   */
+  public Optional<BookCreationTicket> getTicket(String ticketId) {
+    if (ticketId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.tickets.get(ticketId));
+  }
+
+  /**
+   * Removes finished tickets older than their time to live.
+   */
+  @Scheduled(fixedDelayString = "${app.books.write-behind.ticket-cleanup-interval:60000}")
+  public void removeExpiredTickets() {
+    long expiredBefore = System.currentTimeMillis() - this.ticketTimeToLiveMillis;
+    this.tickets.values().removeIf(ticket -> ticket.getStatus() != BookCreationTicket.Status.QUEUED
+        && ticket.getFinishedAtMillis() < expiredBefore);
+  }
+
+  private void runWorker() {
+    while (!this.stopped || !this.queue.isEmpty()) {
+      try {
+        PendingBook first = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          writeBatch(takeBatch(first));
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException exception) {
+        logger.error("Book writer failed", exception);
+      }
+    }
+  }
+
+  private List<GeneratedBook> takeBatch(PendingBook first) {
+    List<GeneratedBook> batch = new ArrayList<>();
+    long bytes = 0;
+    for (PendingBook pendingBook = first; pendingBook != null; pendingBook = this.queue.poll()) {
+      byte[] data = this.dataGenerator.get();
+      batch.add(new GeneratedBook(pendingBook, data));
+      bytes += data.length;
+      if (batch.size() >= this.batchSize || bytes >= this.batchMaxBytes) {
+        break;
+      }
+    }
+    return batch;
+  }
+
+  private void writeBatch(List<GeneratedBook> batch) {
+    Set<Long> authorIds = new HashSet<>();
+    for (GeneratedBook generatedBook : batch) {
+      authorIds.add(generatedBook.pendingBook().authorId());
+    }
+    Map<Long, Author> authors = this.authorService.getAuthorsForWrite(authorIds).stream()
+        .collect(Collectors.toMap(Author::getId, Function.identity()));
+
+    List<Book> books = new ArrayList<>(batch.size());
+    List<BookCreationTicket> batchTickets = new ArrayList<>(batch.size());
+    for (GeneratedBook generatedBook : batch) {
+      PendingBook pendingBook = generatedBook.pendingBook();
+      Author author = authors.get(pendingBook.authorId());
+      if (author == null) {
+        pendingBook.ticket().fail("Author not found");
+        continue;
+      }
+      Book book = new Book();
+      book.setName(pendingBook.name());
+      book.setYearPublished(pendingBook.yearPublished());
+      book.setAuthor(author);
+      book.setData(generatedBook.data());
+      books.add(book);
+      batchTickets.add(pendingBook.ticket());
+    }
+
+    try {
+      List<Book> savedBooks = this.bookService.saveBooks(books);
+      for (int i = 0; i < savedBooks.size(); i++) {
+        batchTickets.get(i).complete(savedBooks.get(i).getId());
+      }
+    } catch (RuntimeException exception) {
+      logger.warn("Could not save a batch of {} books", books.size(), exception);
+      for (BookCreationTicket ticket : batchTickets) {
+        ticket.fail("Could not save the book");
+      }
+    }
+  }
+
+  private record PendingBook(String name, Integer yearPublished, Long authorId,
+                             BookCreationTicket ticket) {
+
+  }
+
+  private record GeneratedBook(PendingBook pendingBook, byte[] data) {
+
+  }
+}
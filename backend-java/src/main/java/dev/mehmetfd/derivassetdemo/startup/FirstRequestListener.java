@@ -0,0 +1,57 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+/**
+ * The type First request listener.
+ * <p>
+ * Records the time from the start of the JVM until the first successful request was served as
+ * the {@code application.first-request.time} gauge, next to the started and ready times Spring
+ * Boot records. Every later request only reads a flag.
+ */
+@Component
+public class FirstRequestListener implements ApplicationListener<ServletRequestHandledEvent> {
+
+  private static final Logger logger = LoggerFactory.getLogger(FirstRequestListener.class);
+
+  private final MeterRegistry meterRegistry;
+  private final AtomicBoolean served = new AtomicBoolean();
+
+  /**
+   * Instantiates a new First request listener.
+   *
+   * @param meterRegistry the meter registry
+   */
+  @Autowired
+  public FirstRequestListener(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void onApplicationEvent(ServletRequestHandledEvent event) {
+    if (this.served.get() || event.wasFailure() || event.getStatusCode() >= 400
+        || !this.served.compareAndSet(false, true)) {
+      return;
+    }
+    long millis = event.getTimestamp() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    TimeGauge.builder("application.first-request.time", () -> millis, TimeUnit.MILLISECONDS)
+        .description("Time from the start of the JVM until the first successful request")
+        .register(this.meterRegistry);
+    logger.info("First request {} served {} ms after the JVM started", event.getRequestUrl(),
+        millis);
+  }
+}
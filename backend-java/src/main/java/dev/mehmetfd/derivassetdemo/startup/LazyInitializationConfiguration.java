@@ -0,0 +1,41 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.startup;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * The type Lazy initialization configuration.
+ * <p>
+ * Active with {@code app.startup.lazy-initialization.enabled=true}, which the
+ * {@code fast-startup} profile sets. The beans of {@code app.startup.lazy-initialization.packages}
+ * are then created by the first request that needs them; the Author and Book endpoints stay eager
+ * so the first requests the frontend sends do not pay for them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.startup.lazy-initialization.enabled", havingValue = "true")
+public class LazyInitializationConfiguration {
+
+  /**
+   * Post processor marking the beans of the configured packages lazy.
+   *
+   * @param environment the environment
+   * @return the post processor
+   */
+  @Bean
+  public static SelectiveLazyInitializationPostProcessor selectiveLazyInitializationPostProcessor(
+      Environment environment) {
+    List<String> packages = Binder.get(environment)
+        .bind("app.startup.lazy-initialization.packages", Bindable.listOf(String.class))
+        .orElse(List.of());
+    return new SelectiveLazyInitializationPostProcessor(packages);
+  }
+}
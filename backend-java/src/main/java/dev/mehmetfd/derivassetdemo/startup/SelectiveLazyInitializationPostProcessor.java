@@ -0,0 +1,83 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.startup;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+
+/**
+ * The type Selective lazy initialization post processor.
+ * <p>
+ * Marks the beans of the given packages lazy, so they are created on first use instead of while
+ * the context starts. A bean defined by a {@code @Bean} method belongs to the package of its
+ * configuration class. Beans with an explicit lazy setting, infrastructure beans and
+ * {@link SmartInitializingSingleton}s are left alone, as Spring Boot's global lazy
+ * initialization does.
+ */
+public class SelectiveLazyInitializationPostProcessor implements BeanFactoryPostProcessor {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+      SelectiveLazyInitializationPostProcessor.class);
+
+  private final List<String> packages;
+
+  /**
+   * Instantiates a new Selective lazy initialization post processor.
+   *
+   * @param packages the packages whose beans are initialized lazily
+   */
+  public SelectiveLazyInitializationPostProcessor(List<String> packages) {
+    this.packages = List.copyOf(packages);
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    int lazyBeans = 0;
+    for (String beanName : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+      if (!(beanDefinition instanceof AbstractBeanDefinition abstractBeanDefinition)
+          || abstractBeanDefinition.getLazyInit() != null
+          || beanDefinition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+          || !isInPackages(declaringClassName(beanFactory, beanDefinition))) {
+        continue;
+      }
+      Class<?> beanType = beanFactory.getType(beanName, false);
+      if (beanType != null && SmartInitializingSingleton.class.isAssignableFrom(beanType)) {
+        continue;
+      }
+      abstractBeanDefinition.setLazyInit(true);
+      lazyBeans++;
+    }
+    logger.info("Initializing {} beans of {} lazily", lazyBeans, this.packages);
+  }
+
+  private static String declaringClassName(ConfigurableListableBeanFactory beanFactory,
+      BeanDefinition beanDefinition) {
+    String factoryBeanName = beanDefinition.getFactoryBeanName();
+    if (beanDefinition.getBeanClassName() == null && factoryBeanName != null
+        && beanFactory.containsBeanDefinition(factoryBeanName)) {
+      return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+    }
+    return beanDefinition.getBeanClassName();
+  }
+
+  private boolean isInPackages(String className) {
+    if (className == null) {
+      return false;
+    }
+    for (String packageName : this.packages) {
+      if (className.startsWith(packageName + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Session event listener charging the JDBC work of Hibernate to {@link TimingPhase#DB}: waiting
+ * for a connection, preparing statements and executing them, batches included.
+ * <p>
+ * Hibernate creates one listener per session, so the phase left is kept in a field. Statements
+ * issued outside of a timed request only cost a thread local lookup.
+ */
+public class DatabaseTimingSessionEventListener extends BaseSessionEventListener {
+
+  private RequestTiming requestTiming;
+  private TimingPhase previous;
+
+  private void start() {
+    this.requestTiming = RequestTimingContext.current();
+    if (this.requestTiming != null) {
+      this.previous = this.requestTiming.enter(TimingPhase.DB);
+    }
+  }
+
+  private void end() {
+    if (this.requestTiming != null) {
+      this.requestTiming.exit(this.previous);
+      this.requestTiming = null;
+    }
+  }
+
+  @Override
+  public void jdbcConnectionAcquisitionStart() {
+    start();
+  }
+
+  @Override
+  public void jdbcConnectionAcquisitionEnd() {
+    end();
+  }
+
+  @Override
+  public void jdbcPrepareStatementStart() {
+    start();
+  }
+
+  @Override
+  public void jdbcPrepareStatementEnd() {
+    end();
+  }
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    start();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    end();
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    start();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    end();
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache charging every operation on the decorated cache to {@link TimingPhase#REDIS}. The loader
+ * of {@link #get(Object, Callable)} runs in the phase the cache was called from.
+ */
+public class RedisTimingCache implements Cache {
+
+  private final Cache cache;
+
+  /**
+   * Instantiates a new Redis timing cache.
+   *
+   * @param cache the decorated cache
+   */
+  public RedisTimingCache(Cache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public String getName() {
+    return this.cache.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this.cache.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      return this.cache.get(key);
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      return this.cache.get(key);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      return this.cache.get(key, type);
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      return this.cache.get(key, type);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      return this.cache.get(key, valueLoader);
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      return this.cache.get(key, () -> {
+        TimingPhase redis = requestTiming.enter(previous);
+        try {
+          return valueLoader.call();
+        } finally {
+          requestTiming.exit(redis);
+        }
+      });
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      this.cache.put(key, value);
+      return;
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      this.cache.put(key, value);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      return this.cache.putIfAbsent(key, value);
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      return this.cache.putIfAbsent(key, value);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public void evict(Object key) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      this.cache.evict(key);
+      return;
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      this.cache.evict(key);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    RequestTiming requestTiming = RequestTimingContext.current();
+    if (requestTiming == null) {
+      return this.cache.evictIfPresent(key);
+    }
+    TimingPhase previous = requestTiming.enter(TimingPhase.REDIS);
+    try {
+      return this.cache.evictIfPresent(key);
+    } finally {
+      requestTiming.exit(previous);
+    }
+  }
+
+  @Override
+  public void clear() {
+    this.cache.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return this.cache.invalidate();
+  }
+}
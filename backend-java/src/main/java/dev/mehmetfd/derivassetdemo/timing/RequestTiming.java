@@ -0,0 +1,129 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+/**
+ * The type Request timing, the time of one request split into {@link TimingPhase}s.
+ * <p>
+ * The request is in exactly one phase at a time, {@link TimingPhase#OTHER} unless told otherwise,
+ * and every nanosecond is charged to the phase it was spent in. A phase entered within another
+ * one, e.g. a database query run by a cache loader, pauses the outer phase until it is exited, so
+ * the phases add up to the total. Entering and exiting phases does not allocate. A request is
+ * timed by one thread at a time, also when its response is written by another thread, so the
+ * state is not synchronized.
+ */
+public class RequestTiming {
+
+  private static final TimingPhase[] PHASES = TimingPhase.values();
+
+  private final long startNanos;
+  private final long[] phaseNanos = new long[PHASES.length];
+  private TimingPhase phase = TimingPhase.OTHER;
+  private long phaseStartNanos;
+  private long totalNanos = -1;
+
+  /**
+   * Instantiates a new Request timing, starting now.
+   */
+  public RequestTiming() {
+    this.startNanos = System.nanoTime();
+    this.phaseStartNanos = this.startNanos;
+  }
+
+  /**
+   * Enters a phase.
+   *
+   * @param next the phase to enter
+   * @return the phase left, to be passed to {@link #exit(TimingPhase)}
+   */
+  public TimingPhase enter(TimingPhase next) {
+    long now = System.nanoTime();
+    TimingPhase previous = this.phase;
+    this.phaseNanos[previous.ordinal()] += now - this.phaseStartNanos;
+    this.phase = next;
+    this.phaseStartNanos = now;
+    return previous;
+  }
+
+  /**
+   * Exits the current phase, back to the phase it was entered from.
+   *
+   * @param previous the phase returned by {@link #enter(TimingPhase)}
+   */
+  public void exit(TimingPhase previous) {
+    enter(previous);
+  }
+
+  /**
+   * Stops the timing, later phases are not charged anymore.
+   */
+  public void finish() {
+    if (this.totalNanos < 0) {
+      enter(TimingPhase.OTHER);
+      this.totalNanos = this.phaseStartNanos - this.startNanos;
+    }
+  }
+
+  /**
+   * Whether the timing is stopped.
+   *
+   * @return {@code true} if finished
+   */
+  public boolean isFinished() {
+    return this.totalNanos >= 0;
+  }
+
+  /**
+   * Gets the time spent in a phase so far.
+   *
+   * @param timingPhase the phase
+   * @return the time in nanoseconds
+   */
+  public long getNanos(TimingPhase timingPhase) {
+    long nanos = this.phaseNanos[timingPhase.ordinal()];
+    if (!isFinished() && this.phase == timingPhase) {
+      nanos += System.nanoTime() - this.phaseStartNanos;
+    }
+    return nanos;
+  }
+
+  /**
+   * Gets the total time so far.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getTotalNanos() {
+    return isFinished() ? this.totalNanos : System.nanoTime() - this.startNanos;
+  }
+
+  /**
+   * Formats the phases and the total as the value of a {@code Server-Timing} header, in
+   * milliseconds.
+   *
+   * @return the header value
+   */
+  public String toHeaderValue() {
+    StringBuilder value = new StringBuilder(96);
+    for (TimingPhase timingPhase : PHASES) {
+      appendMetric(value, timingPhase.getMetricName(), getNanos(timingPhase));
+      value.append(", ");
+    }
+    appendMetric(value, "total", getTotalNanos());
+    return value.toString();
+  }
+
+  private static void appendMetric(StringBuilder value, String name, long nanos) {
+    long micros = nanos / 1000;
+    long fraction = micros % 1000;
+    value.append(name).append(";dur=").append(micros / 1000).append('.');
+    if (fraction < 100) {
+      value.append('0');
+    }
+    if (fraction < 10) {
+      value.append('0');
+    }
+    value.append(fraction);
+  }
+}
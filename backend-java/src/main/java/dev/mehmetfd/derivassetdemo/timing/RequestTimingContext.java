@@ -0,0 +1,44 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * The type Request timing context, holds the {@link RequestTiming} of the request the current
+ * thread works for.
+ * <p>
+ * Set by {@link ServerTimingFilter} on the request thread and registered with the
+ * {@link ContextRegistry}, so work handed off to an executor is timed too.
+ */
+public final class RequestTimingContext {
+
+  private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+  static {
+    ContextRegistry.getInstance().registerThreadLocalAccessor(
+        RequestTimingContext.class.getName(), CURRENT::get, CURRENT::set, CURRENT::remove);
+  }
+
+  private RequestTimingContext() {
+  }
+
+  /**
+   * Gets the request timing of the current thread.
+   *
+   * @return the request timing, {@code null} outside of a timed request
+   */
+  public static RequestTiming current() {
+    return CURRENT.get();
+  }
+
+  static void set(RequestTiming requestTiming) {
+    CURRENT.set(requestTiming);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
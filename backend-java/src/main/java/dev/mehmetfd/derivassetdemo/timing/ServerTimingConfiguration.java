@@ -0,0 +1,111 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The type Server timing configuration.
+ * <p>
+ * Times the requests of the Author and Book endpoints through {@link ServerTimingFilter}, ahead
+ * of every other filter, while {@code app.server-timing.enabled} is {@code true} or the
+ * {@code servertiming} actuator endpoint enabled it. JDBC work of Hibernate counts as
+ * {@link TimingPhase#DB} through {@link DatabaseTimingSessionEventListener}, the operations of the
+ * {@code cacheManager} caches as {@link TimingPhase#REDIS} and writing response bodies as
+ * {@link TimingPhase#SERIALIZATION}.
+ */
+@Configuration
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+  private static final String CACHE_MANAGER_BEAN_NAME = "cacheManager";
+
+  private final SerializationTimingAdvice serializationTimingAdvice;
+
+  /**
+   * Instantiates a new Server timing configuration.
+   *
+   * @param serializationTimingAdvice the serialization timing advice
+   */
+  @Autowired
+  public ServerTimingConfiguration(SerializationTimingAdvice serializationTimingAdvice) {
+    this.serializationTimingAdvice = serializationTimingAdvice;
+  }
+
+  /**
+   * Decorates the caches of the cache manager.
+   *
+   * @return the bean post processor
+   */
+  @Bean
+  public static BeanPostProcessor redisTimingCacheManagerPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (beanName.equals(CACHE_MANAGER_BEAN_NAME) && bean instanceof CacheManager cacheManager
+            && !(bean instanceof RedisTimingCacheManager)) {
+          return new RedisTimingCacheManager(cacheManager);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Registers the session event listener with every Hibernate session.
+   *
+   * @return the hibernate properties customizer
+   */
+  @Bean
+  public HibernatePropertiesCustomizer databaseTimingHibernatePropertiesCustomizer() {
+    return properties -> properties.put("hibernate.session.events.auto",
+        DatabaseTimingSessionEventListener.class.getName());
+  }
+
+  /**
+   * The server timing filter of the Author and Book endpoints.
+   *
+   * @param meterRegistry the meter registry
+   * @param enabled       whether requests are timed initially
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+      MeterRegistry meterRegistry,
+      @Value("${app.server-timing.enabled:false}") boolean enabled) {
+    FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+        new ServerTimingFilter(meterRegistry, enabled));
+    registration.addUrlPatterns("/authors/*", "/books/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  /**
+   * The endpoint switching the timing on and off.
+   *
+   * @param serverTimingFilter the server timing filter registration
+   * @return the endpoint
+   */
+  @Bean
+  public ServerTimingEndpoint serverTimingEndpoint(
+      FilterRegistrationBean<ServerTimingFilter> serverTimingFilter) {
+    return new ServerTimingEndpoint(serverTimingFilter.getFilter());
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(this.serializationTimingAdvice);
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * The type Server timing endpoint, switches the {@code Server-Timing} breakdown on and off at
+ * runtime, e.g. {@code POST /actuator/servertiming} with {@code {"enabled": true}}.
+ */
+@Endpoint(id = "servertiming")
+public class ServerTimingEndpoint {
+
+  private final ServerTimingFilter serverTimingFilter;
+
+  /**
+   * Instantiates a new Server timing endpoint.
+   *
+   * @param serverTimingFilter the server timing filter
+   */
+  public ServerTimingEndpoint(ServerTimingFilter serverTimingFilter) {
+    this.serverTimingFilter = serverTimingFilter;
+  }
+
+  /**
+   * Whether requests are timed.
+   *
+   * @return the status
+   */
+  @ReadOperation
+  public Map<String, Boolean> status() {
+    return Map.of("enabled", this.serverTimingFilter.isEnabled());
+  }
+
+  /**
+   * Enables or disables the timing of requests.
+   *
+   * @param enabled whether requests are timed
+   * @return the status
+   */
+  @WriteOperation
+  public Map<String, Boolean> setEnabled(boolean enabled) {
+    this.serverTimingFilter.setEnabled(enabled);
+    return status();
+  }
+}
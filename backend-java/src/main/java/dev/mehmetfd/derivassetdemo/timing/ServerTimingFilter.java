@@ -0,0 +1,175 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Server timing filter.
+ * <p>
+ * While enabled, times every request in {@link TimingPhase}s through a {@link RequestTiming}
+ * exposed by {@link RequestTimingContext}, answers with a {@code Server-Timing} header through
+ * {@link ServerTimingResponse} and records the phases once the response is complete, including
+ * asynchronous and streaming responses, as the {@code http.server.requests.breakdown} timer with
+ * a percentile histogram, tagged with the method, the route like {@code http.server.requests}
+ * and the phase as {@code component}. While disabled, requests pass untouched.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  private static final String COMPLETION_ATTRIBUTE =
+      ServerTimingFilter.class.getName() + ".completion";
+
+  private static final TimingPhase[] PHASES = TimingPhase.values();
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Map<String, Timer[]>> timers = new ConcurrentHashMap<>();
+  private volatile boolean enabled;
+
+  /**
+   * Instantiates a new Server timing filter.
+   *
+   * @param meterRegistry the meter registry
+   * @param enabled       whether requests are timed initially
+   */
+  public ServerTimingFilter(MeterRegistry meterRegistry, boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Whether requests are timed.
+   *
+   * @return {@code true} if enabled
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Enables or disables the timing of requests, requests already timed stay timed.
+   *
+   * @param enabled whether requests are timed
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Completion completion = (Completion) request.getAttribute(COMPLETION_ATTRIBUTE);
+    if (completion == null) {
+      if (!this.enabled || isAsyncDispatch(request)) {
+        filterChain.doFilter(request, response);
+        return;
+      }
+      RequestTiming requestTiming = new RequestTiming();
+      completion = new Completion(request.getMethod(), requestTiming,
+          new ServerTimingResponse(request, response, requestTiming));
+      request.setAttribute(COMPLETION_ATTRIBUTE, completion);
+    }
+    RequestTimingContext.set(completion.requestTiming);
+    try {
+      filterChain.doFilter(request, completion.response);
+    } finally {
+      RequestTimingContext.clear();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      if (pattern != null) {
+        completion.uri = pattern.toString();
+      }
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(completion);
+      } else {
+        completion.complete();
+      }
+    }
+  }
+
+  private Timer[] timers(String method, String uri) {
+    Map<String, Timer[]> timersByMethod = this.timers.get(uri);
+    if (timersByMethod == null) {
+      timersByMethod = this.timers.computeIfAbsent(uri, key -> new ConcurrentHashMap<>());
+    }
+    Timer[] timersByPhase = timersByMethod.get(method);
+    if (timersByPhase == null) {
+      timersByPhase = timersByMethod.computeIfAbsent(method, key -> {
+        Timer[] registered = new Timer[PHASES.length];
+        for (TimingPhase timingPhase : PHASES) {
+          registered[timingPhase.ordinal()] = Timer.builder("http.server.requests.breakdown")
+              .description("Time of the requests spent in each component")
+              .tags("method", method, "uri", uri, "component", timingPhase.getMetricName())
+              .publishPercentileHistogram()
+              .register(this.meterRegistry);
+        }
+        return registered;
+      });
+    }
+    return timersByPhase;
+  }
+
+  private class Completion implements AsyncListener {
+
+    private final String method;
+    private final RequestTiming requestTiming;
+    private final ServerTimingResponse response;
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile String uri = "UNKNOWN";
+
+    Completion(String method, RequestTiming requestTiming, ServerTimingResponse response) {
+      this.method = method;
+      this.requestTiming = requestTiming;
+      this.response = response;
+    }
+
+    void complete() {
+      if (!this.completed.compareAndSet(false, true)) {
+        return;
+      }
+      this.requestTiming.finish();
+      this.response.addServerTimingHeader();
+      Timer[] timersByPhase = timers(this.method, this.uri);
+      for (TimingPhase timingPhase : PHASES) {
+        timersByPhase[timingPhase.ordinal()].record(this.requestTiming.getNanos(timingPhase),
+            TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      complete();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
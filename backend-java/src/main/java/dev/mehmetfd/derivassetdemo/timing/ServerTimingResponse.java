@@ -0,0 +1,173 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * The type Server timing response, adds the {@code Server-Timing} header as late as possible.
+ * <p>
+ * Headers can not change once the response is committed, so the header is added right before
+ * the response is flushed, closed or about to overflow its buffer, or when a writer is asked
+ * for. Responses fitting into the buffer, which are most of them, get the complete time of their
+ * serialization; larger ones get the time up to the point the buffer filled up. Clients sending
+ * {@code TE: trailers} additionally get the complete timing as a trailer of the response.
+ */
+public class ServerTimingResponse extends HttpServletResponseWrapper {
+
+  /**
+   * The name of the header.
+   */
+  public static final String SERVER_TIMING = "Server-Timing";
+
+  private final RequestTiming requestTiming;
+  private TimingOutputStream outputStream;
+  private long contentLength = -1;
+  private boolean headerAdded;
+
+  /**
+   * Instantiates a new Server timing response.
+   *
+   * @param request       the request
+   * @param response      the response
+   * @param requestTiming the timing of the request
+   */
+  public ServerTimingResponse(HttpServletRequest request, HttpServletResponse response,
+      RequestTiming requestTiming) {
+    super(response);
+    this.requestTiming = requestTiming;
+    String te = request.getHeader("TE");
+    if (te != null && te.contains("trailers")) {
+      try {
+        response.setTrailerFields(() -> Map.of(SERVER_TIMING, requestTiming.toHeaderValue()));
+        response.setHeader("Trailer", SERVER_TIMING);
+      } catch (IllegalStateException exception) {
+        // The protocol does not support trailers
+      }
+    }
+  }
+
+  /**
+   * Adds the header unless already added or too late.
+   */
+  public void addServerTimingHeader() {
+    if (!this.headerAdded && !isCommitted()) {
+      this.headerAdded = true;
+      setHeader(SERVER_TIMING, this.requestTiming.toHeaderValue());
+    }
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if (this.outputStream == null) {
+      this.outputStream = new TimingOutputStream(super.getOutputStream());
+    }
+    return this.outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    addServerTimingHeader();
+    return super.getWriter();
+  }
+
+  @Override
+  public void setContentLength(int len) {
+    this.contentLength = len;
+    super.setContentLength(len);
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    this.contentLength = len;
+    super.setContentLengthLong(len);
+  }
+
+  @Override
+  public void flushBuffer() throws IOException {
+    addServerTimingHeader();
+    super.flushBuffer();
+  }
+
+  @Override
+  public void sendError(int sc, String msg) throws IOException {
+    addServerTimingHeader();
+    super.sendError(sc, msg);
+  }
+
+  @Override
+  public void sendError(int sc) throws IOException {
+    addServerTimingHeader();
+    super.sendError(sc);
+  }
+
+  @Override
+  public void sendRedirect(String location) throws IOException {
+    addServerTimingHeader();
+    super.sendRedirect(location);
+  }
+
+  private class TimingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream outputStream;
+    private long written;
+
+    TimingOutputStream(ServletOutputStream outputStream) {
+      this.outputStream = outputStream;
+    }
+
+    private void beforeWrite(int length) {
+      if (headerAdded) {
+        return;
+      }
+      this.written += length;
+      if (this.written > getBufferSize()
+          || (contentLength >= 0 && this.written >= contentLength)) {
+        addServerTimingHeader();
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      beforeWrite(1);
+      this.outputStream.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      beforeWrite(len);
+      this.outputStream.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      addServerTimingHeader();
+      this.outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      addServerTimingHeader();
+      this.outputStream.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return this.outputStream.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      this.outputStream.setWriteListener(writeListener);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+/**
+ * The parts the time of a response is split into.
+ */
+public enum TimingPhase {
+  /**
+   * Acquiring connections, preparing and executing statements.
+   */
+  DB("db"),
+  /**
+   * Reading and writing the Redis caches.
+   */
+  REDIS("redis"),
+  /**
+   * Writing the body of the response.
+   */
+  SERIALIZATION("serialization"),
+  /**
+   * Everything else.
+   */
+  OTHER("other");
+
+  private final String metricName;
+
+  TimingPhase(String metricName) {
+    this.metricName = metricName;
+  }
+
+  /**
+   * Gets the name used in the {@code Server-Timing} header and in metric tags.
+   *
+   * @return the name
+   */
+  public String getMetricName() {
+    return this.metricName;
+  }
+}
@@ -11,6 +11,11 @@ import java.util.Random;
  */
 public class RandomDataGenerator {
 
+  /**
+   * The maximum length of the data generated for a new Book.
+   */
+  public static final int BOOK_DATA_MAX_LENGTH = 1000000;
+
   private static final Random random = new Random();
 
   /**
@@ -0,0 +1,19 @@
+CREATE TABLE author
+(
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name      VARCHAR(255) NOT NULL,
+    year_born INTEGER      NOT NULL
+);
+
+CREATE TABLE book
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    year_published INTEGER      NOT NULL,
+    author_id      BIGINT       NOT NULL REFERENCES author (id),
+    data           VARBINARY    NOT NULL
+);
+
+CREATE INDEX book_author_id_idx ON book (author_id);
+
+CREATE INDEX book_year_published_idx ON book (year_published);
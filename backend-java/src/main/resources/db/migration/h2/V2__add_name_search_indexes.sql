@@ -0,0 +1,3 @@
+CREATE INDEX author_name_idx ON author (name);
+
+CREATE INDEX book_name_idx ON book (name);
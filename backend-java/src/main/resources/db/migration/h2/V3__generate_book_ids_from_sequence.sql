@@ -0,0 +1,3 @@
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE book ALTER COLUMN id DROP IDENTITY;
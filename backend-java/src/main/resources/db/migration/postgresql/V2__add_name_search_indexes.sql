@@ -0,0 +1,6 @@
+-- Case-insensitive prefix and substring search over names
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX author_name_trgm_idx ON author USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX book_name_trgm_idx ON book USING gin (lower(name) gin_trgm_ops);
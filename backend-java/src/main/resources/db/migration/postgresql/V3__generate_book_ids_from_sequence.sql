@@ -0,0 +1,7 @@
+-- Sequence ids let Hibernate batch book inserts, identity columns do not
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+
+-- The pooled optimizer hands out the 50 ids up to the returned value
+SELECT setval('book_seq', COALESCE(MAX(id), 0) + 50, false) FROM book;
+
+ALTER TABLE book ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,17 @@
+-- Maintained by the application on every book insert and delete, repaired by its reconciliation
+CREATE TABLE author_stats
+(
+    author_id          BIGINT PRIMARY KEY REFERENCES author (id) ON DELETE CASCADE,
+    book_count         BIGINT NOT NULL,
+    total_data_bytes   BIGINT NOT NULL,
+    min_year_published INTEGER,
+    max_year_published INTEGER
+);
+
+INSERT INTO author_stats (author_id, book_count, total_data_bytes, min_year_published,
+                          max_year_published)
+SELECT a.id, COUNT(b.id), COALESCE(SUM(OCTET_LENGTH(b.data)), 0), MIN(b.year_published),
+       MAX(b.year_published)
+FROM author a
+         LEFT JOIN book b ON b.author_id = a.id
+GROUP BY a.id;
@@ -0,0 +1,3 @@
+-- Uncompressed out-of-line storage lets SUBSTRING fetch only the TOAST chunks of a slice instead
+-- of decompressing the value up to it; the random data of the books does not compress anyway
+ALTER TABLE book ALTER COLUMN data SET STORAGE EXTERNAL;
@@ -0,0 +1,58 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * The type Reactive derivasset demo application.
+ * <p>
+ * Serves the same {@code /authors} and {@code /books} API as the servlet application on WebFlux,
+ * R2DBC and reactive Redis, on the same database and cache and with the same models. Only its own
+ * package is scanned. Without a JDBC DataSource, JPA stays off; Flyway still migrates over
+ * {@code spring.flyway.url}. Its components are conditional on a reactive web application, as
+ * the servlet application scans this package too when both are built together.
+ */
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class,
+    RedisRepositoriesAutoConfiguration.class})
+public class ReactiveDerivassetDemoApplication {
+
+  /**
+   * The entry point of application.
+   *
+   * @param args the input arguments
+   */
+  public static void main(String[] args) {
+    new SpringApplicationBuilder(ReactiveDerivassetDemoApplication.class)
+        .web(WebApplicationType.REACTIVE)
+        .profiles("reactive")
+        .run(args);
+  }
+
+  /**
+   * Cors configurer web flux configurer.
+   *
+   * @return the web flux configurer
+   */
+  @Bean
+  public WebFluxConfigurer corsConfigurer() {
+    return new WebFluxConfigurer() {
+      @Override
+      public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**").allowedOrigins("*");
+      }
+    };
+  }
+}
@@ -0,0 +1,25 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.controllers;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The type Create author request dto.
+ */
+class CreateAuthorRequestDTO {
+
+  /**
+   * The Name.
+   */
+  @NotBlank
+  public String name;
+  /**
+   * The Year born.
+   */
+  @NotNull
+  public Integer yearBorn;
+}
@@ -0,0 +1,30 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.controllers;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The type Create book request dto.
+ */
+class CreateBookRequestDTO {
+
+  /**
+   * The Name.
+   */
+  @NotBlank
+  public String name;
+  /**
+   * The Year published.
+   */
+  @NotNull
+  public Integer yearPublished;
+  /**
+   * The Author id.
+   */
+  @NotNull
+  public Long authorId;
+}
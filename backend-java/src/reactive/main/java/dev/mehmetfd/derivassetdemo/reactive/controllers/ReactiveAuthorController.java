@@ -0,0 +1,112 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.controllers;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.reactive.services.ReactiveAuthorService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * The type Reactive author controller.
+ */
+@RestController
+@RequestMapping("/authors")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveAuthorController {
+
+  private final ReactiveAuthorService authorService;
+
+  /**
+   * Instantiates a new Reactive author controller.
+   *
+   * @param authorService the author service
+   */
+  @Autowired
+  public ReactiveAuthorController(ReactiveAuthorService authorService) {
+    this.authorService = authorService;
+  }
+
+  /**
+   * Gets author by id.
+   *
+   * @param authorId the author id
+   * @return the author by id
+   */
+  @GetMapping(value = "/{authorId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Author>> getAuthorById(@PathVariable Long authorId) {
+    return authorService.getAuthor(authorId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Gets author by id cached.
+   *
+   * @param authorId the author id
+   * @return the author by id cached
+   */
+  @GetMapping(value = "/{authorId}/cached", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Author>> getAuthorByIdCached(@PathVariable Long authorId) {
+    return authorService.getAuthorCached(authorId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Gets author overview by id.
+   *
+   * @param authorId the author id
+   * @return the author overview by id
+   */
+  @GetMapping(value = "/{authorId}/overview", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<AuthorOverviewProjection>> getAuthorOverviewById(
+      @PathVariable Long authorId) {
+    return authorService.getAuthorOverview(authorId)
+        .map(overview -> ResponseEntity.ok((AuthorOverviewProjection) overview))
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Delete author by id response entity.
+   *
+   * @param authorId the author id
+   * @return the response entity
+   */
+  @DeleteMapping("/{authorId}")
+  public Mono<ResponseEntity<Void>> deleteAuthorById(@PathVariable Long authorId) {
+    return authorService.deleteAuthorIfExistsById(authorId)
+        .map(deleted -> deleted
+            ? ResponseEntity.ok().<Void>build()
+            : ResponseEntity.notFound().<Void>build());
+  }
+
+  /**
+   * Create author response entity.
+   *
+   * @param requestObject the request object
+   * @return the response entity
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<AuthorOverviewProjection>> createAuthor(
+      @RequestBody @Valid CreateAuthorRequestDTO requestObject) {
+    return authorService.createAuthor(requestObject.name, requestObject.yearBorn)
+        .map(overview -> ResponseEntity.ok((AuthorOverviewProjection) overview))
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.controllers;
+
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import dev.mehmetfd.derivassetdemo.reactive.services.ReactiveBookService;
+import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
+import jakarta.validation.Valid;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The type Reactive book controller.
+ */
+@RestController
+@RequestMapping("/books")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveBookController {
+
+  private final ReactiveBookService bookService;
+
+  /**
+   * Instantiates a new Reactive book controller.
+   *
+   * @param bookService the book service
+   */
+  @Autowired
+  public ReactiveBookController(ReactiveBookService bookService) {
+    this.bookService = bookService;
+  }
+
+  /**
+   * Gets book by id.
+   *
+   * @param bookId the book id
+   * @return the book by id
+   */
+  @GetMapping(value = "/{bookId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Book>> getBookById(@PathVariable Long bookId) {
+    return bookService.getBook(bookId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Gets book by id cached.
+   *
+   * @param bookId the book id
+   * @return the book by id cached
+   */
+  @GetMapping(value = "/{bookId}/cached", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Book>> getBookByIdCached(@PathVariable Long bookId) {
+    return bookService.getBookCached(bookId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Streams the data of a book as it is read, without loading the book. The headers are set once
+   * the length is read, in the transaction the data is read in, so the Content-Length always
+   * matches the data.
+   *
+   * @param bookId   the book id
+   * @param response the response, not committed before the first slice is written
+   * @return the completion of the response
+   */
+  @GetMapping(value = "/{bookId}/content", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public Mono<Void> getBookContent(@PathVariable Long bookId, ServerHttpResponse response) {
+    AtomicBoolean found = new AtomicBoolean();
+    Flux<DataBuffer> content = bookService.getContent(bookId, length -> {
+      found.set(true);
+      response.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+      response.getHeaders().setContentLength(length);
+    }).switchIfEmpty(Flux.defer(() -> {
+      if (!found.get()) {
+        response.setStatusCode(HttpStatus.NOT_FOUND);
+      }
+      return Flux.empty();
+    }));
+    return response.writeWith(content);
+  }
+
+  /**
+   * Gets book overview by id.
+   *
+   * @param bookId the book id
+   * @return the book overview by id
+   */
+  @GetMapping(value = "/{bookId}/overview", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<BookOverviewProjection>> getBookOverviewById(
+      @PathVariable Long bookId) {
+    return bookService.getBookOverview(bookId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Delete book by id response entity.
+   *
+   * @param bookId the book id
+   * @return the response entity
+   */
+  @DeleteMapping("/{bookId}")
+  public Mono<ResponseEntity<Void>> deleteBookById(@PathVariable Long bookId) {
+    return bookService.deleteBookIfExistsById(bookId)
+        .map(deleted -> deleted
+            ? ResponseEntity.ok().<Void>build()
+            : ResponseEntity.notFound().<Void>build());
+  }
+
+  /**
+   * Create book response entity. The data of the book is generated off the event loop.
+   *
+   * @param requestObject the request object
+   * @return the response entity
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<BookOverviewProjection>> createBook(
+      @RequestBody @Valid CreateBookRequestDTO requestObject) {
+    return Mono.fromSupplier(
+            () -> RandomDataGenerator.generateBytes(RandomDataGenerator.BOOK_DATA_MAX_LENGTH))
+        .subscribeOn(Schedulers.parallel())
+        .flatMap(data -> bookService.createBook(requestObject.authorId, requestObject.name,
+            requestObject.yearPublished, data))
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
+
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+
+/**
+ * The type Author overview, the overview of an Author with the stats of its Books as read over
+ * R2DBC.
+ */
+public class AuthorOverview implements AuthorOverviewWithStatsProjection {
+
+  private final Long id;
+  private final String name;
+  private final Integer yearBorn;
+  private final Long bookCount;
+  private final Long totalDataBytes;
+  private final Integer minYearPublished;
+  private final Integer maxYearPublished;
+
+  /**
+   * Instantiates a new Author overview.
+   *
+   * @param id               the id
+   * @param name             the name
+   * @param yearBorn         the year born
+   * @param bookCount        the number of Books
+   * @param totalDataBytes   the total size of the data of the Books
+   * @param minYearPublished the year the first Book was published
+   * @param maxYearPublished the year the last Book was published
+   */
+  public AuthorOverview(Long id, String name, Integer yearBorn, Long bookCount,
+      Long totalDataBytes, Integer minYearPublished, Integer maxYearPublished) {
+    this.id = id;
+    this.name = name;
+    this.yearBorn = yearBorn;
+    this.bookCount = bookCount;
+    this.totalDataBytes = totalDataBytes;
+    this.minYearPublished = minYearPublished;
+    this.maxYearPublished = maxYearPublished;
+  }
+
+  @Override
+  public Long getId() {
+    return this.id;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public Integer getYearBorn() {
+    return this.yearBorn;
+  }
+
+  @Override
+  public Long getBookCount() {
+    return this.bookCount;
+  }
+
+  @Override
+  public Long getTotalDataBytes() {
+    return this.totalDataBytes;
+  }
+
+  @Override
+  public Integer getMinYearPublished() {
+    return this.minYearPublished;
+  }
+
+  @Override
+  public Integer getMaxYearPublished() {
+    return this.maxYearPublished;
+  }
+}
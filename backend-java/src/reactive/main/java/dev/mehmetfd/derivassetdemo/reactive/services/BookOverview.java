@@ -0,0 +1,45 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
+
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+
+/**
+ * The type Book overview, the overview of a Book as read over R2DBC.
+ */
+public class BookOverview implements BookOverviewProjection {
+
+  private final Long id;
+  private final String name;
+  private final Integer yearPublished;
+
+  /**
+   * Instantiates a new Book overview.
+   *
+   * @param id            the id
+   * @param name          the name
+   * @param yearPublished the year published
+   */
+  public BookOverview(Long id, String name, Integer yearPublished) {
+    this.id = id;
+    this.name = name;
+    this.yearPublished = yearPublished;
+  }
+
+  @Override
+  public Long getId() {
+    return this.id;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public Integer getYearPublished() {
+    return this.yearPublished;
+  }
+}
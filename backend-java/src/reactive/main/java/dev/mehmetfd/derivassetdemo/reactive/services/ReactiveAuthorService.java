@@ -0,0 +1,185 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import io.r2dbc.spi.Readable;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * The type Reactive author service.
+ * <p>
+ * The reactive counterpart of {@link dev.mehmetfd.derivassetdemo.services.AuthorService}. Authors
+ * are read and written with plain SQL over R2DBC and keep the {@code author_stats} row and the
+ * Redis cache in step, as the servlet application does through JPA.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveAuthorService {
+
+  private static final String AUTHOR_QUERY =
+      "SELECT id, name, year_born FROM author WHERE id = :id";
+  private static final String BOOKS_OF_AUTHOR_QUERY =
+      "SELECT id, name, year_published, data FROM book WHERE author_id = :authorId ORDER BY id";
+  private static final String OVERVIEW_QUERY = "SELECT a.id, a.name, a.year_born,"
+      + " COALESCE(s.book_count, 0) AS book_count,"
+      + " COALESCE(s.total_data_bytes, 0) AS total_data_bytes,"
+      + " s.min_year_published, s.max_year_published"
+      + " FROM author a LEFT JOIN author_stats s ON s.author_id = a.id WHERE a.id = :id";
+  private static final String INSERT_AUTHOR =
+      "INSERT INTO author (name, year_born) VALUES (:name, :yearBorn) RETURNING id";
+  private static final String INSERT_STATS = "INSERT INTO author_stats (author_id, book_count,"
+      + " total_data_bytes) VALUES (:authorId, 0, 0)";
+  private static final String BOOK_IDS_OF_AUTHOR_QUERY =
+      "SELECT id FROM book WHERE author_id = :authorId";
+  private static final String DELETE_BOOKS_OF_AUTHOR =
+      "DELETE FROM book WHERE author_id = :authorId";
+  private static final String DELETE_AUTHOR = "DELETE FROM author WHERE id = :id";
+
+  private final DatabaseClient databaseClient;
+  private final ReactiveEntityCache entityCache;
+
+  /**
+   * Instantiates a new Reactive author service.
+   *
+   * @param databaseClient the database client
+   * @param entityCache    the entity cache
+   */
+  @Autowired
+  public ReactiveAuthorService(DatabaseClient databaseClient, ReactiveEntityCache entityCache) {
+    this.databaseClient = databaseClient;
+    this.entityCache = entityCache;
+  }
+
+  /**
+   * Gets an Author with its Books.
+   *
+   * @param authorId the ID of the Author
+   * @return the Author, empty if it cannot be found
+   */
+  @Transactional(readOnly = true)
+  public Mono<Author> getAuthor(Long authorId) {
+    if (authorId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(AUTHOR_QUERY)
+        .bind("id", authorId)
+        .map(ReactiveAuthorService::toAuthor)
+        .one()
+        .flatMap(author -> this.databaseClient.sql(BOOKS_OF_AUTHOR_QUERY)
+            .bind("authorId", authorId)
+            .map(row -> toBook(row, author))
+            .all()
+            .collectList()
+            .map(books -> {
+              author.setBooks(books);
+              return author;
+            }));
+  }
+
+  /**
+   * Gets an Author with its Books, uses Cache.
+   *
+   * @param authorId the ID of the Author
+   * @return the Author, empty if it cannot be found
+   */
+  public Mono<Author> getAuthorCached(Long authorId) {
+    if (authorId == null) {
+      return Mono.empty();
+    }
+    return this.entityCache.get(ReactiveEntityCache.AUTHORS, authorId, Author.class,
+        () -> getAuthor(authorId));
+  }
+
+  /**
+   * Gets Author overview by ID, along with the stats of its Books.
+   *
+   * @param authorId the ID of the Author
+   * @return the overview, empty if the Author cannot be found
+   */
+  public Mono<AuthorOverviewWithStatsProjection> getAuthorOverview(Long authorId) {
+    if (authorId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(OVERVIEW_QUERY)
+        .bind("id", authorId)
+        .map(row -> (AuthorOverviewWithStatsProjection) new AuthorOverview(
+            row.get("id", Long.class), row.get("name", String.class),
+            row.get("year_born", Integer.class), row.get("book_count", Long.class),
+            row.get("total_data_bytes", Long.class), row.get("min_year_published", Integer.class),
+            row.get("max_year_published", Integer.class)))
+        .one();
+  }
+
+  /**
+   * Creates an Author along with its empty stats.
+   *
+   * @param name     the name
+   * @param yearBorn the year born
+   * @return the overview of the created Author
+   */
+  @Transactional
+  public Mono<AuthorOverviewWithStatsProjection> createAuthor(String name, Integer yearBorn) {
+    return this.databaseClient.sql(INSERT_AUTHOR)
+        .bind("name", name)
+        .bind("yearBorn", yearBorn)
+        .map(row -> row.get("id", Long.class))
+        .one()
+        .flatMap(authorId -> this.databaseClient.sql(INSERT_STATS)
+            .bind("authorId", authorId)
+            .then()
+            .then(getAuthorOverview(authorId)));
+  }
+
+  /**
+   * Deletes an Author and its Books if it exists.
+   *
+   * @param authorId the ID of the Author
+   * @return whether the Author existed
+   */
+  @Transactional
+  public Mono<Boolean> deleteAuthorIfExistsById(Long authorId) {
+    if (authorId == null) {
+      return Mono.just(false);
+    }
+    return this.databaseClient.sql(BOOK_IDS_OF_AUTHOR_QUERY)
+        .bind("authorId", authorId)
+        .map(row -> row.get("id", Long.class))
+        .all()
+        .collectList()
+        .flatMap(bookIds -> this.entityCache.evict(ReactiveEntityCache.BOOKS, bookIds)
+            .then(this.entityCache.evict(ReactiveEntityCache.AUTHORS, List.of(authorId))))
+        .then(this.databaseClient.sql(DELETE_BOOKS_OF_AUTHOR).bind("authorId", authorId).then())
+        .then(this.databaseClient.sql(DELETE_AUTHOR).bind("id", authorId).fetch().rowsUpdated())
+        .map(rowsUpdated -> rowsUpdated > 0);
+  }
+
+  private static Author toAuthor(Readable row) {
+    Author author = new Author();
+    author.setId(row.get("id", Long.class));
+    author.setName(row.get("name", String.class));
+    author.setYearBorn(row.get("year_born", Integer.class));
+    return author;
+  }
+
+  private static Book toBook(Readable row, Author author) {
+    Book book = new Book();
+    book.setId(row.get("id", Long.class));
+    book.setName(row.get("name", String.class));
+    book.setYearPublished(row.get("year_published", Integer.class));
+    book.setData(row.get("data", byte[].class));
+    book.setAuthor(author);
+    return book;
+  }
+}
@@ -0,0 +1,269 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.BookOverviewProjection;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.LongConsumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The type Reactive book service.
+ * <p>
+ * The reactive counterpart of {@link dev.mehmetfd.derivassetdemo.services.BookService}. The data
+ * of a Book is also available as a stream of {@link DataBuffer DataBuffers}, read in
+ * {@code SUBSTRING} slices one at a time as the client consumes them, like
+ * {@link dev.mehmetfd.derivassetdemo.services.content.BookContentService} does for the servlet
+ * application.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveBookService {
+
+  private static final String BOOK_QUERY = "SELECT b.id, b.name, b.year_published, b.data,"
+      + " a.id AS author_id, a.name AS author_name, a.year_born"
+      + " FROM book b JOIN author a ON a.id = b.author_id WHERE b.id = :id";
+  private static final String OVERVIEW_QUERY =
+      "SELECT id, name, year_published FROM book WHERE id = :id";
+  private static final String LOCK_AUTHOR_QUERY =
+      "SELECT id FROM author WHERE id = :authorId FOR KEY SHARE";
+  private static final String NEXT_ID_QUERY = "SELECT nextval('book_seq')";
+  private static final String INSERT_BOOK = "INSERT INTO book (id, name, year_published,"
+      + " author_id, data) VALUES (:id, :name, :yearPublished, :authorId, :data)";
+  private static final String ADD_TO_STATS = "UPDATE author_stats SET book_count = book_count + 1,"
+      + " total_data_bytes = total_data_bytes + :dataBytes,"
+      + " min_year_published = CASE WHEN min_year_published IS NULL"
+      + " OR min_year_published > :yearPublished THEN :yearPublished ELSE min_year_published END,"
+      + " max_year_published = CASE WHEN max_year_published IS NULL"
+      + " OR max_year_published < :yearPublished THEN :yearPublished ELSE max_year_published END"
+      + " WHERE author_id = :authorId";
+  private static final String RECOMPUTE_STATS = "INSERT INTO author_stats (author_id, book_count,"
+      + " total_data_bytes, min_year_published, max_year_published)"
+      + " SELECT :authorId, COUNT(*), COALESCE(SUM(OCTET_LENGTH(data)), 0), MIN(year_published),"
+      + " MAX(year_published) FROM book WHERE author_id = :authorId"
+      + " ON CONFLICT (author_id) DO UPDATE SET book_count = EXCLUDED.book_count,"
+      + " total_data_bytes = EXCLUDED.total_data_bytes,"
+      + " min_year_published = EXCLUDED.min_year_published,"
+      + " max_year_published = EXCLUDED.max_year_published";
+  private static final String DELETE_BOOK = "DELETE FROM book WHERE id = :id RETURNING author_id";
+  private static final String LENGTH_QUERY =
+      "SELECT CAST(OCTET_LENGTH(data) AS BIGINT) FROM book WHERE id = :id";
+  private static final String SLICE_QUERY =
+      "SELECT SUBSTRING(data FROM :start FOR :length) FROM book WHERE id = :id";
+
+  private final DatabaseClient databaseClient;
+  private final ReactiveEntityCache entityCache;
+  private final DataBufferFactory dataBufferFactory = DefaultDataBufferFactory.sharedInstance;
+  private final int chunkSize;
+
+  /**
+   * Instantiates a new Reactive book service.
+   *
+   * @param databaseClient the database client
+   * @param entityCache    the entity cache
+   * @param chunkSize      the number of bytes of data read per query while streaming it
+   */
+  @Autowired
+  public ReactiveBookService(DatabaseClient databaseClient, ReactiveEntityCache entityCache,
+      @Value("${app.books.content.chunk-size:65536}") int chunkSize) {
+    this.databaseClient = databaseClient;
+    this.entityCache = entityCache;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Gets a Book with its Author.
+   *
+   * @param bookId the ID of the Book
+   * @return the Book, empty if it cannot be found
+   */
+  @Transactional(readOnly = true)
+  public Mono<Book> getBook(Long bookId) {
+    if (bookId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(BOOK_QUERY)
+        .bind("id", bookId)
+        .map(row -> {
+          Author author = new Author();
+          author.setId(row.get("author_id", Long.class));
+          author.setName(row.get("author_name", String.class));
+          author.setYearBorn(row.get("year_born", Integer.class));
+          Book book = new Book();
+          book.setId(row.get("id", Long.class));
+          book.setName(row.get("name", String.class));
+          book.setYearPublished(row.get("year_published", Integer.class));
+          book.setData(row.get("data", byte[].class));
+          book.setAuthor(author);
+          return book;
+        })
+        .one();
+  }
+
+  /**
+   * Gets a Book with its Author, uses Cache.
+   *
+   * @param bookId the ID of the Book
+   * @return the Book, empty if it cannot be found
+   */
+  public Mono<Book> getBookCached(Long bookId) {
+    if (bookId == null) {
+      return Mono.empty();
+    }
+    return this.entityCache.get(ReactiveEntityCache.BOOKS, bookId, Book.class,
+        () -> getBook(bookId));
+  }
+
+  /**
+   * Gets Book overview by ID.
+   *
+   * @param bookId the ID of the Book
+   * @return the overview, empty if the Book cannot be found
+   */
+  public Mono<BookOverviewProjection> getBookOverview(Long bookId) {
+    if (bookId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(OVERVIEW_QUERY)
+        .bind("id", bookId)
+        .map(row -> (BookOverviewProjection) new BookOverview(row.get("id", Long.class),
+            row.get("name", String.class), row.get("year_published", Integer.class)))
+        .one();
+  }
+
+  /**
+   * Creates a Book and adds it to the stats of its Author.
+   *
+   * @param authorId      the ID of the Author
+   * @param name          the name
+   * @param yearPublished the year published
+   * @param data          the data
+   * @return the overview of the created Book, empty if the Author cannot be found
+   */
+  @Transactional
+  public Mono<BookOverviewProjection> createBook(Long authorId, String name,
+      Integer yearPublished, byte[] data) {
+    if (authorId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(LOCK_AUTHOR_QUERY)
+        .bind("authorId", authorId)
+        .map(row -> row.get("id", Long.class))
+        .one()
+        .flatMap(lockedAuthorId -> this.databaseClient.sql(NEXT_ID_QUERY)
+            .map(row -> row.get(0, Long.class))
+            .one())
+        .flatMap(bookId -> this.databaseClient.sql(INSERT_BOOK)
+            .bind("id", bookId)
+            .bind("name", name)
+            .bind("yearPublished", yearPublished)
+            .bind("authorId", authorId)
+            .bind("data", ByteBuffer.wrap(data))
+            .then()
+            .then(addToStats(authorId, yearPublished, data.length))
+            .then(this.entityCache.evict(ReactiveEntityCache.AUTHORS, List.of(authorId)))
+            .thenReturn((BookOverviewProjection) new BookOverview(bookId, name, yearPublished)));
+  }
+
+  /**
+   * Deletes a Book if it exists and recomputes the stats of its Author.
+   *
+   * @param bookId the ID of the Book
+   * @return whether the Book existed
+   */
+  @Transactional
+  public Mono<Boolean> deleteBookIfExistsById(Long bookId) {
+    if (bookId == null) {
+      return Mono.just(false);
+    }
+    return this.databaseClient.sql(DELETE_BOOK)
+        .bind("id", bookId)
+        .map(row -> row.get("author_id", Long.class))
+        .one()
+        .flatMap(authorId -> recomputeStats(authorId)
+            .then(this.entityCache.evict(ReactiveEntityCache.BOOKS, List.of(bookId)))
+            .then(this.entityCache.evict(ReactiveEntityCache.AUTHORS, List.of(authorId)))
+            .thenReturn(true))
+        .defaultIfEmpty(false);
+  }
+
+  /**
+   * Gets the length of the data of a Book.
+   *
+   * @param bookId the ID of the Book
+   * @return the length in bytes, empty if the Book cannot be found
+   */
+  public Mono<Long> getContentLength(Long bookId) {
+    if (bookId == null) {
+      return Mono.empty();
+    }
+    return this.databaseClient.sql(LENGTH_QUERY)
+        .bind("id", bookId)
+        .map(row -> row.get(0, Long.class))
+        .one();
+  }
+
+  /**
+   * Streams the data of a Book. Slices are only read as the subscriber requests them, and all of
+   * them come from the same version of the data as the length reported before the first one.
+   *
+   * @param bookId       the ID of the Book
+   * @param lengthReader called with the length of the data before it is emitted, e.g. to set the
+   *                     headers of a response; not called if the Book cannot be found
+   * @return the data, empty if the Book cannot be found
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public Flux<DataBuffer> getContent(Long bookId, LongConsumer lengthReader) {
+    return getContentLength(bookId).flatMapMany(length -> {
+      lengthReader.accept(length);
+      int slices = (int) ((length + this.chunkSize - 1) / this.chunkSize);
+      return Flux.range(0, slices).concatMap(slice -> {
+        long offset = (long) slice * this.chunkSize;
+        return this.databaseClient.sql(SLICE_QUERY)
+            .bind("start", Math.toIntExact(offset + 1))
+            .bind("length", (int) Math.min(this.chunkSize, length - offset))
+            .bind("id", bookId)
+            .map(row -> row.get(0, ByteBuffer.class))
+            .one()
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                "Book " + bookId + " was removed while being read")))
+            .map(this.dataBufferFactory::wrap);
+      }, 1);
+    });
+  }
+
+  private Mono<Void> addToStats(Long authorId, Integer yearPublished, int dataBytes) {
+    return this.databaseClient.sql(ADD_TO_STATS)
+        .bind("dataBytes", (long) dataBytes)
+        .bind("yearPublished", yearPublished)
+        .bind("authorId", authorId)
+        .fetch()
+        .rowsUpdated()
+        .flatMap(rowsUpdated -> rowsUpdated > 0
+            ? Mono.<Void>empty()
+            : recomputeStats(authorId));
+  }
+
+  private Mono<Void> recomputeStats(Long authorId) {
+    return this.databaseClient.sql(RECOMPUTE_STATS)
+        .bind("authorId", authorId)
+        .then();
+  }
+}
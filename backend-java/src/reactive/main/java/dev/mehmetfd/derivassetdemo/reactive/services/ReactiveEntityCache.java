@@ -0,0 +1,104 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The type Reactive entity cache.
+ * <p>
+ * Reads and writes the {@code authors} and {@code books} caches of the servlet application in the
+ * same format: keys are {@code <cache>::<id>} and values are JDK serialized entities, so either
+ * application reads what the other has cached.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveEntityCache {
+
+  /**
+   * The name of the Author cache.
+   */
+  public static final String AUTHORS = "authors";
+
+  /**
+   * The name of the Book cache.
+   */
+  public static final String BOOKS = "books";
+
+  private final ReactiveRedisTemplate<String, Object> redisTemplate;
+  private final Duration timeToLive;
+
+  /**
+   * Instantiates a new Reactive entity cache.
+   *
+   * @param connectionFactory the reactive redis connection factory
+   * @param timeToLiveMillis  the time to live of cached entities
+   */
+  @Autowired
+  public ReactiveEntityCache(ReactiveRedisConnectionFactory connectionFactory,
+      @Value("${spring.cache.redis.time-to-live:300000}") long timeToLiveMillis) {
+    RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+        .<String, Object>newSerializationContext(
+            RedisSerializer.java(ReactiveEntityCache.class.getClassLoader()))
+        .key(RedisSerializer.string())
+        .hashKey(RedisSerializer.string())
+        .build();
+    this.redisTemplate = new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    this.timeToLive = Duration.ofMillis(timeToLiveMillis);
+  }
+
+  /**
+   * Gets a cached entity, loading and caching it on a miss.
+   *
+   * @param <T>       the type of the entity
+   * @param cacheName the cache name
+   * @param id        the id of the entity
+   * @param type      the type of the entity
+   * @param loader    loads the entity on a miss
+   * @return the entity, empty if it is neither cached nor loaded
+   */
+  public <T> Mono<T> get(String cacheName, Long id, Class<T> type, Supplier<Mono<T>> loader) {
+    String key = key(cacheName, id);
+    return this.redisTemplate.opsForValue().get(key)
+        .filter(type::isInstance)
+        .map(type::cast)
+        .switchIfEmpty(Mono.defer(() -> loader.get()
+            .flatMap(entity -> this.redisTemplate.opsForValue()
+                .set(key, entity, this.timeToLive)
+                .thenReturn(entity))));
+  }
+
+  /**
+   * Evicts entities.
+   *
+   * @param cacheName the cache name
+   * @param ids       the ids of the entities
+   * @return completes once evicted
+   */
+  public Mono<Void> evict(String cacheName, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Mono.empty();
+    }
+    return this.redisTemplate.delete(Flux.fromIterable(ids).map(id -> key(cacheName, id)))
+        .then();
+  }
+
+  private static String key(String cacheName, Long id) {
+    return cacheName + "::" + id;
+  }
+}
@@ -0,0 +1,8 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+/**
+ * Non-blocking access to the catalog over R2DBC and reactive Redis
+ */
+package dev.mehmetfd.derivassetdemo.reactive.services;
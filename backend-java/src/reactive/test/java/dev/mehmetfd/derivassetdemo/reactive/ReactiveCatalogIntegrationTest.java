@@ -0,0 +1,198 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Base64;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+/**
+ * The type Reactive catalog integration test, the reactive Author and Book API end to end.
+ */
+@SpringBootTest(classes = ReactiveDerivassetDemoApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@TestPropertySource(locations = "classpath:application-integration-tests.properties",
+    properties = {
+        "spring.r2dbc.url=r2dbc:postgresql://localhost:5432/library-management",
+        "spring.data.redis.host=localhost",
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "app.books.content.chunk-size=65536"
+    })
+public class ReactiveCatalogIntegrationTest {
+
+  private WebTestClient webTestClient;
+
+  /**
+   * Starts every run from a freshly migrated schema, the servlet tests drop theirs.
+   */
+  @TestConfiguration
+  static class CleanMigration {
+
+    @Bean
+    FlywayMigrationStrategy cleanMigrationStrategy() {
+      return (Flyway flyway) -> {
+        flyway.clean();
+        flyway.migrate();
+      };
+    }
+  }
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient the web test client
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient) {
+    this.webTestClient = webTestClient;
+  }
+
+  /**
+   * Test get by invalid id.
+   */
+  @Test
+  public void testGetByInvalidId() {
+    this.webTestClient.get()
+        .uri("/authors/-1")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    this.webTestClient.get()
+        .uri("/books/-1/content")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    this.webTestClient.get()
+        .uri("/books/bad-id")
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+    this.webTestClient.post()
+        .uri("/authors")
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(BodyInserters.fromValue("{\"name\": \"Author\"}"))
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  /**
+   * Test creating, reading and deleting an Author and its Book.
+   */
+  @Test
+  public void testAuthorAndBookLifecycle() {
+    JsonNode author = this.webTestClient.post()
+        .uri("/authors")
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(BodyInserters.fromValue("{\"name\": \"Author\", \"yearBorn\": 1000}"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody();
+    assertNotNull(author);
+    long authorId = author.get("id").asLong();
+
+    JsonNode book = this.webTestClient.post()
+        .uri("/books")
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(BodyInserters.fromValue(
+            "{\"name\": \"Book\", \"yearPublished\": 2000, \"authorId\": " + authorId + "}"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody();
+    assertNotNull(book);
+    long bookId = book.get("id").asLong();
+
+    this.webTestClient.get()
+        .uri("/authors/" + authorId + "/overview")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"name\": \"Author\", \"bookCount\": 1, \"minYearPublished\": 2000,"
+            + " \"maxYearPublished\": 2000}");
+    this.webTestClient.get()
+        .uri("/authors/" + authorId + "/cached")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"name\": \"Author\", \"books\": [{\"name\": \"Book\"}]}");
+
+    JsonNode fullBook = this.webTestClient.get()
+        .uri("/books/" + bookId + "/cached")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody();
+    assertNotNull(fullBook);
+    byte[] data = Base64.getDecoder().decode(fullBook.get("data").asText());
+    byte[] content = this.webTestClient.get()
+        .uri("/books/" + bookId + "/content")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentLength(data.length)
+        .expectBody(byte[].class)
+        .returnResult()
+        .getResponseBody();
+    assertArrayEquals(data, content);
+
+    this.webTestClient.delete()
+        .uri("/books/" + bookId)
+        .exchange()
+        .expectStatus()
+        .isOk();
+    this.webTestClient.get()
+        .uri("/books/" + bookId + "/cached")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    this.webTestClient.get()
+        .uri("/authors/" + authorId + "/overview")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"bookCount\": 0, \"totalDataBytes\": 0}");
+    this.webTestClient.delete()
+        .uri("/authors/" + authorId)
+        .exchange()
+        .expectStatus()
+        .isOk();
+    this.webTestClient.get()
+        .uri("/authors/" + authorId)
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The type Flyway migration integration test.
+ * <p>
+ * Runs the PostgreSQL migrations of the application into a schema of their own on the
+ * integration test database, emptied first, and starts JPA on it with {@code ddl-auto=validate},
+ * as the application does. The context fails to start when the migrated schema does not match
+ * the entities.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.flyway.schemas=" + FlywayMigrationIntegrationTest.SCHEMA,
+    "spring.flyway.clean-disabled=false",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.default_schema=" + FlywayMigrationIntegrationTest.SCHEMA
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+public class FlywayMigrationIntegrationTest {
+
+  static final String SCHEMA = "flyway_migration_test";
+
+  private Flyway flyway;
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Initialize before each test
+   *
+   * @param flyway       the Flyway instance the application context migrated with
+   * @param jdbcTemplate the JDBC template
+   */
+  @BeforeEach
+  public void initialize(@Autowired Flyway flyway, @Autowired JdbcTemplate jdbcTemplate) {
+    this.flyway = flyway;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Test that every PostgreSQL migration is applied.
+   */
+  @Test
+  public void testEveryMigrationIsApplied() {
+    // Given, When
+    MigrationInfo[] migrations = this.flyway.info().all();
+
+    // Then
+    assertEquals(5, migrations.length);
+    for (MigrationInfo migration : migrations) {
+      assertEquals(MigrationState.SUCCESS, migration.getState(), migration.getScript());
+    }
+    assertEquals("5", this.flyway.info().current().getVersion().getVersion());
+  }
+
+  /**
+   * Test that the PostgreSQL specific parts of the schema are created.
+   */
+  @Test
+  public void testPostgresSpecificSchema() {
+    // Given, When
+    List<String> indexes = this.jdbcTemplate.queryForList(
+        "SELECT indexname FROM pg_indexes WHERE schemaname = ?", String.class, SCHEMA);
+    String dataStorage = this.jdbcTemplate.queryForObject(
+        "SELECT attstorage FROM pg_attribute WHERE attrelid = ?::regclass AND attname = 'data'",
+        String.class, SCHEMA + ".book");
+
+    // Then
+    assertTrue(indexes.containsAll(List.of("author_name_trgm_idx", "book_name_trgm_idx",
+        "book_author_id_idx", "book_year_published_idx")), indexes.toString());
+    assertEquals("e", dataStorage);
+  }
+
+  /**
+   * Empties the schema before migrating it, so every run applies every migration.
+   */
+  @TestConfiguration
+  static class CleanMigrationConfiguration {
+
+    @Bean
+    FlywayMigrationStrategy cleanMigrationStrategy() {
+      return flyway -> {
+        flyway.clean();
+        flyway.migrate();
+      };
+    }
+  }
+}
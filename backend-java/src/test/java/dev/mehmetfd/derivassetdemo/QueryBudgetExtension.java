@@ -0,0 +1,46 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import dev.mehmetfd.derivassetdemo.queries.QueryBudget;
+import dev.mehmetfd.derivassetdemo.queries.QueryBudgetViolations;
+import java.util.List;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Extension failing every test during which a request issued more SQL statements than the
+ * {@link QueryBudget} of its handler.
+ * <p>
+ * Register it on a Spring Boot integration test with
+ * {@code @ExtendWith(QueryBudgetExtension.class)}; it does nothing when query accounting is
+ * disabled.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    drain(context);
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    List<String> violations = drain(context);
+    if (!violations.isEmpty()) {
+      fail("Query budget exceeded:\n" + String.join("\n", violations));
+    }
+  }
+
+  private static List<String> drain(ExtensionContext context) {
+    return SpringExtension.getApplicationContext(context)
+        .getBeanProvider(QueryBudgetViolations.class)
+        .getIfAvailable(QueryBudgetViolations::new)
+        .drain();
+  }
+}
@@ -0,0 +1,37 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Extension failing every test during which the session boundary was violated, see
+ * {@link SessionBoundaryViolations}.
+ * <p>
+ * Register it on a Spring Boot integration test with
+ * {@code @ExtendWith(SessionBoundaryExtension.class)}, after the Spring extension so the
+ * application context has configured logging already.
+ */
+public class SessionBoundaryExtension implements BeforeEachCallback, AfterEachCallback {
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    SessionBoundaryViolations.install();
+    SessionBoundaryViolations.drain();
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    List<String> violations = SessionBoundaryViolations.drain();
+    if (!violations.isEmpty()) {
+      fail("Session boundary violated:\n" + String.join("\n", violations));
+    }
+  }
+}
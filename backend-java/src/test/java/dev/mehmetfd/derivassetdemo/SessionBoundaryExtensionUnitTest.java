@@ -0,0 +1,141 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The type Session boundary extension unit test.
+ * <p>
+ * Runs without a test transaction, so the session of every repository call ends with it as it
+ * does on the request path.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SessionBoundaryExtensionUnitTest {
+
+  private final SessionBoundaryExtension extension = new SessionBoundaryExtension();
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private AuthorRepository authorRepository;
+  private BookRepository bookRepository;
+
+  /**
+   * Initialize before each test
+   *
+   * @param authorRepository the Author Repository
+   * @param bookRepository   the Book Repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired AuthorRepository authorRepository,
+      @Autowired BookRepository bookRepository) {
+    this.authorRepository = authorRepository;
+    this.bookRepository = bookRepository;
+    this.extension.beforeEach(null);
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    SessionBoundaryViolations.drain();
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  private Long saveAuthorWithBook() {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(new byte[]{1, 2, 3});
+    this.bookRepository.save(book);
+    return author.getId();
+  }
+
+  /**
+   * Test that serializing an Author whose Books were not fetched fails the test, even when the
+   * exception is swallowed as the services do
+   */
+  @Test
+  public void testSwallowedLazyLoadFailsTheTest() {
+    // Given
+    Long authorId = saveAuthorWithBook();
+    Author author = this.authorRepository.findAllById(List.of(authorId)).get(0);
+    assertFalse(Hibernate.isInitialized(author.getBooks()));
+
+    // When
+    try {
+      this.objectMapper.writeValueAsBytes(author);
+    } catch (Exception exception) {
+      // Swallowed
+    }
+
+    // Then
+    AssertionFailedError error = assertThrows(AssertionFailedError.class,
+        () -> this.extension.afterEach(null));
+    assertTrue(error.getMessage().contains("Author.books"), error.getMessage());
+  }
+
+  /**
+   * Test that the fetch plan of the Author endpoint serializes without violations
+   *
+   * @throws Exception if the Author can not be serialized
+   */
+  @Test
+  public void testFetchedAuthorPassesTheTest() throws Exception {
+    // Given
+    Long authorId = saveAuthorWithBook();
+    Author author = this.authorRepository.findById(authorId).orElseThrow();
+
+    // When
+    this.objectMapper.writeValueAsBytes(author);
+
+    // Then
+    this.extension.afterEach(null);
+    assertEquals(1, author.getBooks().size());
+  }
+
+  /**
+   * Test that statements outside of a transaction fail the test
+   */
+  @Test
+  public void testStatementOutsideOfTransactionFailsTheTest() {
+    // Given
+    TransactionBoundStatementInspector inspector = new TransactionBoundStatementInspector();
+
+    // When
+    assertThrows(IllegalStateException.class, () -> inspector.inspect("select 1"));
+
+    // Then
+    assertThrows(AssertionFailedError.class, () -> this.extension.afterEach(null));
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.hibernate.LazyInitializationException;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Violations of the session boundary: SQL statements issued outside of a transaction and lazy
+ * loads of entities whose session is closed.
+ * <p>
+ * Both are recorded where they happen, so they are reported even when the exception they raise
+ * is swallowed, e.g. by a service that turns every exception into an empty result. Lazy loads
+ * without a session fail before any SQL is issued; Hibernate logs every
+ * {@link LazyInitializationException} at trace level when it is created, which is recorded by an
+ * appender on its logger.
+ */
+public final class SessionBoundaryViolations {
+
+  private static final String APPENDER_NAME = "session-boundary-violations";
+
+  private static final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+  private SessionBoundaryViolations() {
+  }
+
+  /**
+   * Records lazy initialization failures from now on. Logging is reset whenever an application
+   * context starts, so this is repeated before every test.
+   */
+  public static void install() {
+    Logger logger = (Logger) LoggerFactory.getLogger(LazyInitializationException.class);
+    if (logger.getAppender(APPENDER_NAME) != null) {
+      return;
+    }
+    AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+      @Override
+      protected void append(ILoggingEvent event) {
+        record("Lazy load without a session: " + event.getFormattedMessage());
+      }
+    };
+    appender.setName(APPENDER_NAME);
+    appender.setContext(logger.getLoggerContext());
+    appender.start();
+    logger.setLevel(Level.TRACE);
+    logger.setAdditive(false);
+    logger.addAppender(appender);
+  }
+
+  /**
+   * Records a violation.
+   *
+   * @param violation the description of the violation
+   */
+  public static void record(String violation) {
+    violations.add(violation);
+  }
+
+  /**
+   * Removes the recorded violations.
+   *
+   * @return the violations recorded since the last call
+   */
+  public static List<String> drain() {
+    List<String> drained = new ArrayList<>();
+    for (String violation = violations.poll(); violation != null; violation = violations.poll()) {
+      drained.add(violation);
+    }
+    return drained;
+  }
+}
@@ -0,0 +1,30 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Statement inspector that fails every SQL statement issued outside of a transaction.
+ * <p>
+ * Every fetch plan of the request path is executed inside a service or repository transaction, so
+ * a statement without one escaped it. The statement is recorded in
+ * {@link SessionBoundaryViolations} as well, since the exception may be swallowed on its way up.
+ * Lazy loads after the session closed never reach the inspector, see
+ * {@link SessionBoundaryViolations}.
+ */
+public class TransactionBoundStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      String violation = "SQL statement issued outside of a transaction: " + sql;
+      SessionBoundaryViolations.record(violation);
+      throw new IllegalStateException(violation);
+    }
+    return sql;
+  }
+}
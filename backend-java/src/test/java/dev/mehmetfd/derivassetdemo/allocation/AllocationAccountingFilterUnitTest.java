@@ -0,0 +1,144 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Allocation accounting filter unit test.
+ */
+public class AllocationAccountingFilterUnitTest {
+
+  private static final int ALLOCATED = 4 * 1024 * 1024;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AllocationAccountingFilter filter = new AllocationAccountingFilter(
+      this.meterRegistry, 2, 1.5);
+  private ExecutorService executorService;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    assumeTrue(ThreadAllocation.isSupported());
+    this.executorService = Executors.newSingleThreadExecutor();
+  }
+
+  /**
+   * Shut the executor down after each test
+   */
+  @AfterEach
+  public void teardown() {
+    if (this.executorService != null) {
+      this.executorService.shutdownNow();
+    }
+  }
+
+  private static MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/books");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/books");
+    return request;
+  }
+
+  private DistributionSummary allocation() {
+    return this.meterRegistry.find("http.server.requests.allocation")
+        .tags("method", "POST", "uri", "/books")
+        .summary();
+  }
+
+  /**
+   * Test that the bytes a request allocates are recorded for its route
+   */
+  @Test
+  public void testAllocationIsRecordedPerRoute() throws Exception {
+    // When
+    this.filter.doFilter(request(), new MockHttpServletResponse(),
+        (servletRequest, servletResponse) -> assertNotNull(new byte[ALLOCATED]));
+
+    // Then
+    assertNull(AllocationContext.current());
+    assertEquals(1, allocation().count());
+    assertTrue(allocation().totalAmount() >= ALLOCATED);
+    assertNotNull(this.filter.getBaseline("POST", "/books"));
+  }
+
+  /**
+   * Test that the bytes a task of the request allocates on another thread are charged to it
+   */
+  @Test
+  public void testTasksOnOtherThreadsAreCharged() throws Exception {
+    // Given
+    ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+
+    // When
+    this.filter.doFilter(request(), new MockHttpServletResponse(),
+        (servletRequest, servletResponse) -> {
+          try {
+            this.executorService.submit(contextSnapshotFactory.captureAll()
+                .wrap(() -> assertNotNull(new byte[ALLOCATED]))).get();
+            this.executorService.submit(contextSnapshotFactory.captureAll()
+                .wrap(() -> assertNotNull(new byte[ALLOCATED]))).get();
+          } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+          }
+        });
+
+    // Then
+    assertTrue(allocation().totalAmount() >= 2L * ALLOCATED);
+    assertNull(this.executorService.submit(AllocationContext::current).get());
+  }
+
+  /**
+   * Test that requests served on a virtual thread, or handing work to one, are not recorded
+   */
+  @Test
+  public void testRequestsOnVirtualThreadsAreNotRecorded() throws Exception {
+    // Given
+    ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+    ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+    // When
+    Thread thread = Thread.ofVirtual().start(() -> {
+      try {
+        this.filter.doFilter(request(), new MockHttpServletResponse(),
+            (servletRequest, servletResponse) -> assertNotNull(new byte[ALLOCATED]));
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+    });
+    thread.join();
+    this.filter.doFilter(request(), new MockHttpServletResponse(),
+        (servletRequest, servletResponse) -> {
+          try {
+            virtualThreads.submit(contextSnapshotFactory.captureAll()
+                .wrap(() -> assertNotNull(new byte[ALLOCATED]))).get();
+          } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+          }
+        });
+    virtualThreads.shutdown();
+
+    // Then
+    assertNull(allocation());
+    assertNull(this.filter.getBaseline("POST", "/books"));
+  }
+}
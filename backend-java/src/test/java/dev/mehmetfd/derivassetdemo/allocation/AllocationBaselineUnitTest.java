@@ -0,0 +1,72 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.allocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Allocation baseline unit test.
+ */
+public class AllocationBaselineUnitTest {
+
+  private static boolean recordUntilChanged(AllocationBaseline baseline, long bytes, int max) {
+    for (int i = 0; i < max; i++) {
+      if (baseline.record(bytes)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Test that the baseline is the mean of the first requests
+   */
+  @Test
+  public void testBaselineIsMeanOfFirstRequests() {
+    // Given
+    AllocationBaseline baseline = new AllocationBaseline(4, 1.5);
+
+    // When
+    baseline.record(1000);
+    baseline.record(3000);
+    baseline.record(1000);
+    boolean growthBeforeBaseline = Double.isNaN(baseline.getGrowth());
+    baseline.record(3000);
+
+    // Then
+    assertTrue(growthBeforeBaseline);
+    assertEquals(2000, baseline.getBaselineBytes());
+    assertEquals(1.0, baseline.getGrowth());
+    assertFalse(baseline.isGrowing());
+  }
+
+  /**
+   * Test that a route is flagged once its allocation grows beyond the factor and unflagged once
+   * it is back
+   */
+  @Test
+  public void testGrowthIsFlaggedAndCleared() {
+    // Given
+    AllocationBaseline baseline = new AllocationBaseline(10, 1.5);
+    recordUntilChanged(baseline, 1000, 10);
+
+    // When
+    boolean stableChanged = recordUntilChanged(baseline, 1200, 200);
+    boolean grew = recordUntilChanged(baseline, 4000, 200);
+    boolean growing = baseline.isGrowing();
+    boolean recovered = recordUntilChanged(baseline, 1000, 200);
+
+    // Then
+    assertFalse(stableChanged);
+    assertTrue(grew);
+    assertTrue(growing);
+    assertTrue(recovered);
+    assertFalse(baseline.isGrowing());
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Bulkhead data source configuration unit test, using H2 databases as stand-ins for the
+ * pools on the primary and on the replica.
+ */
+public class BulkheadDataSourceConfigurationUnitTest {
+
+  private static DataSource createMarkedDataSource(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:bulkhead-pools-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(32))");
+    jdbcTemplate.execute("DELETE FROM marker");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  /**
+   * Leave no bulkhead behind on the test thread
+   */
+  @AfterEach
+  public void teardown() {
+    BulkheadContext.clear();
+  }
+
+  private static String queryMarkerIn(DataSource dataSource, boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(
+        new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+        .queryForObject("SELECT name FROM marker", String.class));
+  }
+
+  /**
+   * Test that read-only transactions use the replica pool of their bulkhead and every other
+   * transaction the primary pool of their bulkhead
+   */
+  @Test
+  public void testBulkheadsAreRoutedToPrimaryAndReplica() {
+    // Given
+    DataSource primary = BulkheadDataSourceConfiguration.bulkheadRouting(Map.of(
+            Bulkhead.CONTENT, createMarkedDataSource("content"),
+            Bulkhead.METADATA, createMarkedDataSource("metadata"),
+            Bulkhead.WRITE, createMarkedDataSource("write")),
+        createMarkedDataSource("default"));
+    DataSource replica = BulkheadDataSourceConfiguration.bulkheadRouting(Map.of(
+            Bulkhead.CONTENT, createMarkedDataSource("replica-content"),
+            Bulkhead.METADATA, createMarkedDataSource("replica-metadata")),
+        createMarkedDataSource("replica"));
+
+    // When
+    DataSource dataSource = BulkheadDataSourceConfiguration.readWriteRouting(primary, replica);
+
+    // Then
+    assertEquals("default", queryMarkerIn(dataSource, false));
+    assertEquals("replica", queryMarkerIn(dataSource, true));
+    BulkheadContext.set(Bulkhead.CONTENT);
+    assertEquals("content", queryMarkerIn(dataSource, false));
+    assertEquals("replica-content", queryMarkerIn(dataSource, true));
+    BulkheadContext.set(Bulkhead.METADATA);
+    assertEquals("metadata", queryMarkerIn(dataSource, false));
+    assertEquals("replica-metadata", queryMarkerIn(dataSource, true));
+    BulkheadContext.set(Bulkhead.WRITE);
+    assertEquals("write", queryMarkerIn(dataSource, false));
+    assertEquals("replica", queryMarkerIn(dataSource, true));
+  }
+
+  /**
+   * Test that the pools take the shared settings, but for their name and size
+   */
+  @Test
+  public void testPoolsTakeSharedSettings() {
+    // Given
+    HikariConfig hikariConfig = new HikariConfig();
+    hikariConfig.setConnectionTimeout(1234);
+    hikariConfig.setValidationTimeout(567);
+    hikariConfig.setConnectionTestQuery("SELECT 1");
+    hikariConfig.setMaximumPoolSize(50);
+    hikariConfig.setPoolName("shared");
+
+    // When
+    try (HikariDataSource dataSource = BulkheadDataSourceConfiguration.pool(hikariConfig,
+        "jdbc:h2:mem:bulkhead-pool", "sa", "", "org.h2.Driver", "content", 4)) {
+
+      // Then
+      assertEquals(1234, dataSource.getConnectionTimeout());
+      assertEquals(567, dataSource.getValidationTimeout());
+      assertEquals("SELECT 1", dataSource.getConnectionTestQuery());
+      assertEquals("content", dataSource.getPoolName());
+      assertEquals(4, dataSource.getMaximumPoolSize());
+      assertEquals("jdbc:h2:mem:bulkhead-pool", dataSource.getJdbcUrl());
+      assertNull(hikariConfig.getJdbcUrl());
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * The type Bulkhead interceptor unit test.
+ */
+public class BulkheadInterceptorUnitTest {
+
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  private Map<Bulkhead, BulkheadSlots> slots;
+  private BulkheadInterceptor interceptor;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    this.slots = new EnumMap<>(Bulkhead.class);
+    for (Bulkhead bulkhead : Bulkhead.values()) {
+      this.slots.put(bulkhead, new BulkheadSlots(1));
+    }
+    this.interceptor = new BulkheadInterceptor(this.slots);
+  }
+
+  private static HandlerMethod handlerMethod(String name) throws NoSuchMethodException {
+    return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+  }
+
+  /**
+   * Test that requests are put in their bulkheads
+   */
+  @Test
+  public void testRequestsArePutInBulkheads() throws Exception {
+    assertEquals(Bulkhead.CONTENT, Bulkhead.of("GET", handlerMethod("content")));
+    assertEquals(Bulkhead.METADATA, Bulkhead.of("GET", handlerMethod("overview")));
+    assertEquals(Bulkhead.METADATA, Bulkhead.of("HEAD", handlerMethod("overview")));
+    assertEquals(Bulkhead.WRITE, Bulkhead.of("POST", handlerMethod("content")));
+    assertEquals(Bulkhead.WRITE, Bulkhead.of("DELETE", handlerMethod("overview")));
+  }
+
+  /**
+   * Test that a full bulkhead rejects its requests and leaves the others alone
+   */
+  @Test
+  public void testFullBulkheadRejectsOnlyItsRequests() throws Exception {
+    // Given
+    HandlerMethod content = handlerMethod("content");
+    HandlerMethod overview = handlerMethod("overview");
+    MockHttpServletRequest first = new MockHttpServletRequest("GET", "/books/1");
+
+    // When
+    this.interceptor.preHandle(first, this.response, content);
+
+    // Then
+    assertEquals(Bulkhead.CONTENT, BulkheadContext.current());
+    assertThrows(BulkheadFullException.class, () -> this.interceptor.preHandle(
+        new MockHttpServletRequest("GET", "/books/2"), this.response, content));
+    assertTrue(this.interceptor.preHandle(new MockHttpServletRequest("GET", "/books/1/overview"),
+        this.response, overview));
+    assertEquals(1, this.slots.get(Bulkhead.CONTENT).getRejections());
+
+    this.interceptor.afterCompletion(first, this.response, content, null);
+    assertNull(BulkheadContext.current());
+    assertEquals(0, this.slots.get(Bulkhead.CONTENT).getInFlight());
+    assertTrue(this.interceptor.preHandle(new MockHttpServletRequest("GET", "/books/2"),
+        this.response, content));
+    BulkheadContext.clear();
+  }
+
+  /**
+   * Handlers of each kind.
+   */
+  public static class Handlers {
+
+    /**
+     * A content-heavy read.
+     */
+    @ContentHeavy
+    public void content() {
+    }
+
+    /**
+     * Any other read.
+     */
+    public void overview() {
+    }
+  }
+}
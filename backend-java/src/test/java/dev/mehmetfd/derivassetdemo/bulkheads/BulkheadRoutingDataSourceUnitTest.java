@@ -0,0 +1,105 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.bulkheads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * The type Bulkhead routing data source unit test, using H2 databases as stand-ins for the pools.
+ */
+public class BulkheadRoutingDataSourceUnitTest {
+
+  private JdbcTemplate jdbcTemplate;
+
+  private static DataSource createMarkedDataSource(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:bulkhead-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(16))");
+    jdbcTemplate.execute("DELETE FROM marker");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    BulkheadRoutingDataSource routingDataSource = new BulkheadRoutingDataSource();
+    routingDataSource.setTargetDataSources(Map.of(
+        Bulkhead.CONTENT, createMarkedDataSource(Bulkhead.CONTENT.getName()),
+        Bulkhead.METADATA, createMarkedDataSource(Bulkhead.METADATA.getName()),
+        Bulkhead.WRITE, createMarkedDataSource(Bulkhead.WRITE.getName())));
+    routingDataSource.setDefaultTargetDataSource(createMarkedDataSource("default"));
+    routingDataSource.afterPropertiesSet();
+    this.jdbcTemplate = new JdbcTemplate(routingDataSource);
+  }
+
+  /**
+   * Leave no bulkhead behind on the test thread
+   */
+  @AfterEach
+  public void teardown() {
+    BulkheadContext.clear();
+  }
+
+  private String queryMarker() {
+    return this.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+  }
+
+  /**
+   * Test that connections come from the pool of the current bulkhead
+   */
+  @Test
+  public void testStatementIsRoutedToBulkhead() {
+    for (Bulkhead bulkhead : Bulkhead.values()) {
+      BulkheadContext.set(bulkhead);
+      assertEquals(bulkhead.getName(), queryMarker());
+    }
+  }
+
+  /**
+   * Test that connections outside of a request come from the default pool
+   */
+  @Test
+  public void testStatementOutsideOfRequestIsRoutedToDefault() {
+    assertEquals("default", queryMarker());
+  }
+
+  /**
+   * Test that decorated tasks keep the bulkhead they were submitted from
+   */
+  @Test
+  public void testTaskDecoratorCarriesBulkhead() throws Exception {
+    // Given
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    BulkheadContext.set(Bulkhead.CONTENT);
+
+    // When
+    CompletableFuture<String> decorated = new CompletableFuture<>();
+    executorService.execute(new ContextPropagatingTaskDecorator()
+        .decorate(() -> decorated.complete(queryMarker())));
+    BulkheadContext.clear();
+    String afterwards = CompletableFuture.supplyAsync(this::queryMarker, executorService).get();
+    executorService.shutdown();
+
+    // Then
+    assertEquals(Bulkhead.CONTENT.getName(), decorated.get());
+    assertEquals("default", afterwards);
+  }
+}
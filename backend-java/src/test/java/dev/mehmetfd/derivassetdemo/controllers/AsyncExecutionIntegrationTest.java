@@ -0,0 +1,104 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+/**
+ * The type Async execution integration test, the controllers invoked on the database executor.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties",
+    properties = "app.server.execution-mode=async")
+@ExtendWith(SessionBoundaryExtension.class)
+public class AsyncExecutionIntegrationTest {
+
+  private WebTestClient webTestClient;
+
+  private AuthorRepository authorRepository;
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient    the web test client
+   * @param authorRepository the author repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient,
+      @Autowired AuthorRepository authorRepository) {
+    this.webTestClient = webTestClient;
+    this.authorRepository = authorRepository;
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Remove every Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Test that results and errors of offloaded handlers are written as usual.
+   */
+  @Test
+  public void testOffloadedHandlers() {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    author = this.authorRepository.save(author);
+
+    this.webTestClient.get()
+        .uri("/authors/" + author.getId())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"name\": \"Author\", \"yearBorn\": 1000}");
+    this.webTestClient.get()
+        .uri("/authors/-1")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    this.webTestClient.get()
+        .uri("/authors/bad-id")
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+    this.webTestClient.post()
+        .uri("/authors")
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(BodyInserters.fromValue("{\"name\": \"Author\"}"))
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  /**
+   * Test that exempt handlers still answer.
+   */
+  @Test
+  public void testHandlerOnRequestThread() {
+    this.webTestClient.get()
+        .uri("/authors/-1/cached")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+}
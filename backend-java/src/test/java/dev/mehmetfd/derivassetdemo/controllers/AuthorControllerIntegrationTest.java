@@ -4,11 +4,17 @@
  */
 package dev.mehmetfd.derivassetdemo.controllers;
 
+import dev.mehmetfd.derivassetdemo.QueryBudgetExtension;
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
 import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
 import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.services.BookService;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
@@ -23,23 +29,28 @@ import org.springframework.web.reactive.function.BodyInserters;
  */
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith({QueryBudgetExtension.class, SessionBoundaryExtension.class})
 public class AuthorControllerIntegrationTest {
 
   private WebTestClient webTestClient;
 
   private AuthorRepository authorRepository;
 
+  private BookService bookService;
+
   /**
    * Initialize before each.
    *
    * @param webTestClient    the web test client
    * @param authorRepository the author repository
+   * @param bookService      the book service
    */
   @BeforeEach
   public void initialize(@Autowired WebTestClient webTestClient,
-      @Autowired AuthorRepository authorRepository) {
+      @Autowired AuthorRepository authorRepository, @Autowired BookService bookService) {
     this.webTestClient = webTestClient;
     this.authorRepository = authorRepository;
+    this.bookService = bookService;
     this.authorRepository.deleteAll();
   }
 
@@ -201,4 +212,38 @@ public class AuthorControllerIntegrationTest {
         .expectBody()
         .json("{\"id\":1, \"name\": \"Author\", \"yearBorn\": 1000}");
   }
+
+  private static Book book(Author author, int yearPublished) {
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(yearPublished);
+    book.setAuthor(author);
+    book.setData(new byte[16]);
+    return book;
+  }
+
+  /**
+   * Test that the stats in the overview follow Books saved in a batch and deleted.
+   */
+  @Test
+  public void testOverviewStatsFollowBooks() {
+    Author author = generateAndSaveValidAuthor();
+    List<Book> books = this.bookService.saveBooks(List.of(book(author, 2000),
+        book(author, 2010)));
+
+    this.webTestClient.delete()
+        .uri("/books/" + books.get(0).getId())
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    this.webTestClient.get()
+        .uri("/authors/" + author.getId() + "/overview")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"bookCount\": 1, \"totalDataBytes\": 16, \"minYearPublished\": 2010,"
+            + " \"maxYearPublished\": 2010}");
+  }
 }
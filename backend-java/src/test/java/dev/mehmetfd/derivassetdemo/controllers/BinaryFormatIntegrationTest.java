@@ -0,0 +1,157 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import dev.mehmetfd.derivassetdemo.serialization.BinaryFormatConfiguration;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * The type Binary format integration test.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith(SessionBoundaryExtension.class)
+public class BinaryFormatIntegrationTest {
+
+  private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(
+      BinaryFormatConfiguration.APPLICATION_SMILE_VALUE);
+
+  private WebTestClient webTestClient;
+
+  private BookRepository bookRepository;
+  private AuthorRepository authorRepository;
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient    the web test client
+   * @param bookRepository   the book repository
+   * @param authorRepository the author repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient,
+      @Autowired BookRepository bookRepository,
+      @Autowired AuthorRepository authorRepository) {
+    this.webTestClient = webTestClient;
+    this.bookRepository = bookRepository;
+    this.authorRepository = authorRepository;
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  private Book generateAndSaveValidBook() {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    byte[] data = new byte[10_000];
+    new Random(40).nextBytes(data);
+    book.setData(data);
+    return this.bookRepository.save(book);
+  }
+
+  private JsonNode get(String uri, MediaType mediaType, ObjectMapper objectMapper)
+      throws IOException {
+    byte[] body = this.webTestClient.get()
+        .uri(uri)
+        .accept(mediaType)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(mediaType)
+        .expectBody(byte[].class)
+        .returnResult()
+        .getResponseBody();
+    return objectMapper.readTree(body);
+  }
+
+  /**
+   * Test that Books are written in the format asked for, with the data as raw binary.
+   *
+   * @throws IOException if a response can not be read
+   */
+  @Test
+  public void testGetBookInBinaryFormats() throws IOException {
+    // Given
+    Book book = generateAndSaveValidBook();
+
+    // When
+    JsonNode cbor = get("/books/" + book.getId(), MediaType.APPLICATION_CBOR, new CBORMapper());
+    JsonNode smile = get("/books/" + book.getId(), APPLICATION_SMILE, new SmileMapper());
+    JsonNode json = get("/books/" + book.getId(), MediaType.APPLICATION_JSON, new ObjectMapper());
+
+    // Then
+    for (JsonNode node : new JsonNode[]{cbor, smile}) {
+      Assertions.assertTrue(node.get("data").isBinary());
+      Assertions.assertArrayEquals(book.getData(), node.get("data").binaryValue());
+      Assertions.assertEquals(book.getName(), node.get("name").asText());
+    }
+    Assertions.assertTrue(json.get("data").isTextual());
+    Assertions.assertArrayEquals(book.getData(), json.get("data").binaryValue());
+  }
+
+  /**
+   * Test that overviews are written in the format asked for and JSON stays the default.
+   *
+   * @throws IOException if a response can not be read
+   */
+  @Test
+  public void testGetOverviewInBinaryFormats() throws IOException {
+    // Given
+    Book book = generateAndSaveValidBook();
+
+    // When
+    JsonNode cbor = get("/authors/" + book.getAuthor().getId() + "/overview",
+        MediaType.APPLICATION_CBOR, new CBORMapper());
+    JsonNode smile = get("/books/" + book.getId() + "/overview", APPLICATION_SMILE,
+        new SmileMapper());
+
+    // Then
+    Assertions.assertEquals("Author", cbor.get("name").asText());
+    Assertions.assertEquals(2000, smile.get("yearPublished").asInt());
+    this.webTestClient.get()
+        .uri("/books/" + book.getId() + "/overview")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_JSON);
+  }
+}
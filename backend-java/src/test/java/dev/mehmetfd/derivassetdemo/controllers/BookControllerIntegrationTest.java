@@ -4,6 +4,8 @@
  */
 package dev.mehmetfd.derivassetdemo.controllers;
 
+import dev.mehmetfd.derivassetdemo.QueryBudgetExtension;
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
 import dev.mehmetfd.derivassetdemo.models.Author;
 import dev.mehmetfd.derivassetdemo.models.Book;
 import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
@@ -12,9 +14,13 @@ import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
@@ -30,6 +36,7 @@ import org.springframework.web.reactive.function.BodyInserters;
  */
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith({QueryBudgetExtension.class, SessionBoundaryExtension.class})
 public class BookControllerIntegrationTest {
 
   private WebTestClient webTestClient;
@@ -135,6 +142,50 @@ public class BookControllerIntegrationTest {
         .isBadRequest();
   }
 
+  /**
+   * Test get content by invalid id.
+   */
+  @Test
+  public void testGetContentByInvalidId() {
+    this.webTestClient.get()
+        .uri("/books/-1/content")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    this.webTestClient.get()
+        .uri("/books/bad-id/content")
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  /**
+   * Test get content by valid id, with data spanning several chunks.
+   */
+  @Test
+  @DirtiesContext
+  public void testGetContentByValidId() {
+    Book book = generateAndSaveValidBook();
+    byte[] data = new byte[200_001];
+    new Random(36).nextBytes(data);
+    book.setData(data);
+    this.bookRepository.save(book);
+
+    byte[] content = this.webTestClient.get()
+        .uri("/books/" + book.getId() + "/content")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .expectHeader()
+        .contentLength(data.length)
+        .expectBody(byte[].class)
+        .returnResult()
+        .getResponseBody();
+    Assertions.assertArrayEquals(data, content);
+  }
+
   /**
    * Test delete by invalid id.
    */
@@ -232,4 +283,64 @@ public class BookControllerIntegrationTest {
         .expectBody()
         .json("{\"id\":1, \"name\": \"Book\", \"yearPublished\": 2000}");
   }
+
+  /**
+   * Test that an asynchronous creation is accepted, its ticket completes and the Book is saved.
+   *
+   * @throws InterruptedException if interrupted while polling the ticket
+   */
+  @Test
+  public void testCreateBookAsync() throws InterruptedException {
+    Author author = new Author();
+    author.setYearBorn(1000);
+    author.setName("Author");
+    this.authorRepository.save(author);
+
+    String location = this.webTestClient.post()
+        .uri("/books/async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(BodyInserters.fromValue("{"
+            + "\"name\": \"Book\","
+            + "\"yearPublished\": 2000,"
+            + "\"authorId\": " + author.getId()
+            + "}"))
+        .exchange()
+        .expectStatus()
+        .isAccepted()
+        .returnResult(Map.class)
+        .getResponseHeaders()
+        .getLocation()
+        .toString();
+
+    Map<?, ?> ticket = Map.of("status", "QUEUED");
+    for (int i = 0; i < 100 && "QUEUED".equals(ticket.get("status")); i++) {
+      Thread.sleep(50);
+      ticket = this.webTestClient.get()
+          .uri(location)
+          .exchange()
+          .expectStatus()
+          .isOk()
+          .expectBody(Map.class)
+          .returnResult()
+          .getResponseBody();
+    }
+    Assertions.assertEquals("COMPLETED", ticket.get("status"));
+    this.webTestClient.get()
+        .uri("/books/" + ticket.get("bookId"))
+        .exchange()
+        .expectStatus()
+        .isOk();
+  }
+
+  /**
+   * Test get ticket by invalid id.
+   */
+  @Test
+  public void testGetTicketByInvalidId() {
+    this.webTestClient.get()
+        .uri("/books/tickets/unknown")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
 }
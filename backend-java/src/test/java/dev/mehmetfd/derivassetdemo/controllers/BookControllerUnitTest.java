@@ -0,0 +1,56 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.mehmetfd.derivassetdemo.controllers.book_controller.BookController;
+import dev.mehmetfd.derivassetdemo.services.writebehind.BookWriteBehindService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * The type Book controller unit test.
+ * <p>
+ * The write behind service is never started, so queued creations stay in its queue.
+ */
+public class BookControllerUnitTest {
+
+  private static final String BODY = "{\"name\": \"Book\", \"yearPublished\": 2000, "
+      + "\"authorId\": 1}";
+
+  /**
+   * Test that creations are accepted until the queue is full, then rejected with a Retry-After
+   *
+   * @throws Exception if the requests fail
+   */
+  @Test
+  public void testCreateBookAsyncWhenQueueIsFull() throws Exception {
+    // Given
+    BookWriteBehindService bookWriteBehindService = new BookWriteBehindService(null, null,
+        new SimpleMeterRegistry(), 1, 1, 50, 8388608, 600000);
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+        new BookController(null, bookWriteBehindService, null)).build();
+
+    // When
+    mockMvc.perform(post("/books/async").contentType(MediaType.APPLICATION_JSON).content(BODY))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/books/tickets/")))
+        .andExpect(jsonPath("$.status").value("QUEUED"));
+
+    // Then
+    mockMvc.perform(post("/books/async").contentType(MediaType.APPLICATION_JSON).content(BODY))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+  }
+}
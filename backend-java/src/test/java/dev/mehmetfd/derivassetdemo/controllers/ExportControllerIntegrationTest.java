@@ -0,0 +1,128 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.util.Base64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * The type Export controller integration test.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith(SessionBoundaryExtension.class)
+public class ExportControllerIntegrationTest {
+
+  private WebTestClient webTestClient;
+
+  private BookRepository bookRepository;
+  private AuthorRepository authorRepository;
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient    the web test client
+   * @param bookRepository   the book repository
+   * @param authorRepository the author repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient,
+      @Autowired BookRepository bookRepository,
+      @Autowired AuthorRepository authorRepository) {
+    this.webTestClient = webTestClient;
+    this.bookRepository = bookRepository;
+    this.authorRepository = authorRepository;
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  private Book saveAuthorWithBook() {
+    Author author = new Author();
+    author.setYearBorn(1000);
+    author.setName("Author");
+    this.authorRepository.save(author);
+
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(new byte[]{1, 2, 3});
+    return this.bookRepository.save(book);
+  }
+
+  private String[] export(String uri) {
+    String body = this.webTestClient.get()
+        .uri(uri)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBody(String.class)
+        .returnResult()
+        .getResponseBody();
+    assertNotNull(body);
+    return body.split("\n");
+  }
+
+  /**
+   * Test export without data.
+   */
+  @Test
+  public void testExportWithoutData() {
+    Book book = saveAuthorWithBook();
+
+    String[] lines = export("/export");
+
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].contains("\"type\":\"author\""));
+    assertTrue(lines[0].contains("\"id\":" + book.getAuthor().getId()));
+    assertTrue(lines[1].contains("\"type\":\"book\""));
+    assertTrue(lines[1].contains("\"authorId\":" + book.getAuthor().getId()));
+    assertFalse(lines[1].contains("\"data\""));
+  }
+
+  /**
+   * Test export with data.
+   */
+  @Test
+  public void testExportWithData() {
+    saveAuthorWithBook();
+
+    String[] lines = export("/export?includeData=true");
+
+    assertEquals(2, lines.length);
+    assertTrue(lines[1].contains(
+        "\"data\":\"" + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}) + "\""));
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+/**
+ * The type Import controller integration test.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith(SessionBoundaryExtension.class)
+public class ImportControllerIntegrationTest {
+
+  private WebTestClient webTestClient;
+
+  private BookRepository bookRepository;
+  private AuthorRepository authorRepository;
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient    the web test client
+   * @param bookRepository   the book repository
+   * @param authorRepository the author repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient,
+      @Autowired BookRepository bookRepository,
+      @Autowired AuthorRepository authorRepository) {
+    this.webTestClient = webTestClient;
+    this.bookRepository = bookRepository;
+    this.authorRepository = authorRepository;
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Test import of NDJSON.
+   */
+  @Test
+  public void testImportNdjson() {
+    this.webTestClient.post()
+        .uri("/import")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(BodyInserters.fromValue(
+            "{\"type\":\"author\",\"id\":7,\"name\":\"Author\",\"yearBorn\":1900}\n"
+                + "{\"type\":\"book\",\"name\":\"Book\",\"yearPublished\":1950,\"authorId\":7,"
+                + "\"data\":\"AQID\"}\n"
+                + "{\"type\":\"book\",\"name\":\"Other\",\"yearPublished\":1960,"
+                + "\"authorName\":\"Author\"}\n"
+                + "{\"type\":\"book\",\"name\":\"Orphan\",\"yearPublished\":1960,\"authorId\":8}\n"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"status\":\"COMPLETED\",\"authorsImported\":1,\"booksImported\":2,"
+            + "\"rowsRejected\":1}");
+
+    assertEquals(1, this.authorRepository.count());
+    assertEquals(2, this.bookRepository.count());
+  }
+
+  /**
+   * Test import of CSV creating unknown Authors.
+   */
+  @Test
+  public void testImportCsv() {
+    this.webTestClient.post()
+        .uri("/import")
+        .contentType(MediaType.parseMediaType("text/csv"))
+        .body(BodyInserters.fromValue("name,yearPublished,authorName,authorYearBorn,data\n"
+            + "Book,2000,\"Doe, Jane\",1970,AQID\n"
+            + "Other,2001,\"Doe, Jane\",,\n"))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json("{\"status\":\"COMPLETED\",\"authorsImported\":1,\"booksImported\":2}");
+
+    assertEquals(1, this.authorRepository.count());
+    assertEquals(2, this.bookRepository.count());
+  }
+
+  /**
+   * Test import of malformed content.
+   */
+  @Test
+  public void testImportMalformed() {
+    this.webTestClient.post()
+        .uri("/import")
+        .contentType(MediaType.parseMediaType("text/csv"))
+        .body(BodyInserters.fromValue("title\nBook\n"))
+        .exchange()
+        .expectStatus()
+        .isEqualTo(422)
+        .expectBody()
+        .json("{\"status\":\"FAILED\"}");
+  }
+}
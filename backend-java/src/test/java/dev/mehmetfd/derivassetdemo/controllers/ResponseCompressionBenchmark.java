@@ -0,0 +1,208 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.mehmetfd.derivassetdemo.DerivassetDemoApplication;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+/**
+ * The type Response compression benchmark, replays the fetches of the frontend benchmark with and
+ * without response compression and HTTP/2.
+ * <p>
+ * Starts the application once per variant against the integration test database and Redis,
+ * creates Authors and Books through the API the way the frontend does and then fetches every one
+ * of them sequentially, as full data, cached full data and overview. The client always offers
+ * gzip, as browsers do, and decompresses what it gets inside the measured time. Body bytes on the
+ * wire, decoded bytes and latency percentiles are logged per variant and fetch; headers are not
+ * counted, so the savings of HTTP/2 header compression are not included.
+ * <p>
+ * Not part of the build; run it with
+ * {@code ./mvnw test -Dtest=ResponseCompressionBenchmark -Dbenchmark=true}, optionally with
+ * {@code -Dbenchmark.authors}, {@code -Dbenchmark.books} and {@code -Dbenchmark.rounds}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ResponseCompressionBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(ResponseCompressionBenchmark.class);
+
+  private static final List<Variant> VARIANTS = List.of(
+      new Variant("identity, HTTP/1.1", false, false),
+      new Variant("gzip, HTTP/1.1", true, false),
+      new Variant("gzip, h2c", true, true));
+
+  private static final List<String> FETCHES = List.of("", "/cached", "/overview");
+
+  private final int authors = Integer.getInteger("benchmark.authors", 100);
+  private final int books = Integer.getInteger("benchmark.books", 100);
+  private final int rounds = Integer.getInteger("benchmark.rounds", 5);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  /**
+   * Benchmark every variant.
+   *
+   * @throws Exception if the benchmark fails
+   */
+  @Test
+  public void benchmark() throws Exception {
+    List<String> results = new ArrayList<>();
+    for (Variant variant : VARIANTS) {
+      try (ConfigurableApplicationContext context = start(variant)) {
+        results.addAll(run(variant, context));
+      }
+    }
+    logger.info("{} authors, {} books, {} rounds per fetch\n{}", this.authors, this.books,
+        this.rounds, String.join("\n", results));
+  }
+
+  private ConfigurableApplicationContext start(Variant variant) throws IOException {
+    Properties properties = PropertiesLoaderUtils.loadProperties(
+        new ClassPathResource("application-integration-tests.properties"));
+    properties.setProperty("server.port", "0");
+    properties.setProperty("server.compression.enabled", String.valueOf(variant.compression()));
+    properties.setProperty("server.http2.enabled", String.valueOf(variant.http2()));
+    List<String> arguments = new ArrayList<>();
+    properties.forEach((key, value) -> arguments.add("--" + key + "=" + value));
+    return new SpringApplicationBuilder(DerivassetDemoApplication.class)
+        .run(arguments.toArray(String[]::new));
+  }
+
+  private List<String> run(Variant variant, ConfigurableApplicationContext context)
+      throws Exception {
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    String baseUrl = "http://localhost:" + port;
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(variant.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .build();
+
+    Random random = new Random(39);
+    List<Long> authorIds = new ArrayList<>();
+    for (int i = 0; i < this.authors; i++) {
+      authorIds.add(create(httpClient, baseUrl + "/authors",
+          "{\"name\": \"Author" + i + "\", \"yearBorn\": " + i + "}"));
+    }
+    List<Long> bookIds = new ArrayList<>();
+    for (int i = 0; i < this.books; i++) {
+      long authorId = authorIds.get(random.nextInt(authorIds.size()));
+      bookIds.add(create(httpClient, baseUrl + "/books",
+          "{\"authorId\": " + authorId + ", \"name\": \"Book" + i + "\", \"yearPublished\": " + i
+              + "}"));
+    }
+
+    List<String> results = new ArrayList<>();
+    for (String fetch : FETCHES) {
+      Transfers transfers = new Transfers();
+      for (int round = 0; round <= this.rounds; round++) {
+        // The first round warms up the caches and the JIT and is not recorded
+        Transfers recorded = round == 0 ? new Transfers() : transfers;
+        for (Long authorId : authorIds) {
+          fetch(httpClient, URI.create(baseUrl + "/authors/" + authorId + fetch), recorded);
+        }
+        for (Long bookId : bookIds) {
+          fetch(httpClient, URI.create(baseUrl + "/books/" + bookId + fetch), recorded);
+        }
+      }
+      results.add(transfers.summarize(variant.name() + " " + (fetch.isEmpty() ? "/full" : fetch)));
+    }
+    return results;
+  }
+
+  private long create(HttpClient httpClient, String uri, String body) throws Exception {
+    HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(uri))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Could not create " + body + ": " + response.statusCode());
+    }
+    return this.objectMapper.readTree(response.body()).get("id").asLong();
+  }
+
+  private static void fetch(HttpClient httpClient, URI uri, Transfers transfers)
+      throws Exception {
+    long start = System.nanoTime();
+    HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri)
+        .header("Accept-Encoding", "gzip")
+        .GET()
+        .build(), HttpResponse.BodyHandlers.ofByteArray());
+    byte[] body = response.body();
+    long decodedBytes = body.length;
+    if (response.headers().firstValue("Content-Encoding").filter("gzip"::equals).isPresent()) {
+      try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+        decodedBytes = inputStream.readAllBytes().length;
+      }
+    }
+    transfers.record(System.nanoTime() - start, response.statusCode(), body.length, decodedBytes);
+  }
+
+  private record Variant(String name, boolean compression, boolean http2) {
+
+  }
+
+  private static class Transfers {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+    private long wireBytes;
+    private long decodedBytes;
+
+    void record(long elapsedNanos, int status, long wireBytes, long decodedBytes) {
+      if (status != 200) {
+        this.errors++;
+        return;
+      }
+      if (this.count == this.nanos.length) {
+        this.nanos = Arrays.copyOf(this.nanos, this.count * 2);
+      }
+      this.nanos[this.count++] = elapsedNanos;
+      this.wireBytes += wireBytes;
+      this.decodedBytes += decodedBytes;
+    }
+
+    String summarize(String name) {
+      long[] sorted = Arrays.copyOf(this.nanos, this.count);
+      Arrays.sort(sorted);
+      long requests = Math.max(this.count, 1);
+      return String.format(
+          "%-28s %9d B/req on the wire  %9d B/req decoded  mean %7.2f ms  p50 %7.2f ms"
+              + "  p99 %7.2f ms  %d errors",
+          name, this.wireBytes / requests, this.decodedBytes / requests,
+          Arrays.stream(sorted).average().orElse(0) / 1_000_000.0, percentileMillis(sorted, 50),
+          percentileMillis(sorted, 99), this.errors);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+      return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+  }
+}
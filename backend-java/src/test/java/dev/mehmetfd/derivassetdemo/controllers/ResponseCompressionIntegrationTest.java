@@ -0,0 +1,106 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.controllers;
+
+import dev.mehmetfd.derivassetdemo.SessionBoundaryExtension;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import dev.mehmetfd.derivassetdemo.util.RandomDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * The type Response compression integration test.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@ExtendWith(SessionBoundaryExtension.class)
+public class ResponseCompressionIntegrationTest {
+
+  private WebTestClient webTestClient;
+
+  private BookRepository bookRepository;
+  private AuthorRepository authorRepository;
+
+  /**
+   * Initialize before each.
+   *
+   * @param webTestClient    the web test client
+   * @param bookRepository   the book repository
+   * @param authorRepository the author repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired WebTestClient webTestClient,
+      @Autowired BookRepository bookRepository,
+      @Autowired AuthorRepository authorRepository) {
+    this.webTestClient = webTestClient;
+    this.bookRepository = bookRepository;
+    this.authorRepository = authorRepository;
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  /**
+   * Test that JSON is gzipped when it is accepted, while book content never is.
+   */
+  @Test
+  public void testCompressionIsNegotiated() {
+    // Given
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(RandomDataGenerator.generateBytes(RandomDataGenerator.BOOK_DATA_MAX_LENGTH));
+    this.bookRepository.save(book);
+
+    // When, Then
+    this.webTestClient.get()
+        .uri("/books/" + book.getId())
+        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+    this.webTestClient.get()
+        .uri("/books/" + book.getId())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .doesNotExist(HttpHeaders.CONTENT_ENCODING);
+    this.webTestClient.get()
+        .uri("/books/" + book.getId() + "/content")
+        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .doesNotExist(HttpHeaders.CONTENT_ENCODING);
+  }
+}
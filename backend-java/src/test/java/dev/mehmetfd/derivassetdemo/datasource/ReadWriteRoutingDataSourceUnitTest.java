@@ -0,0 +1,88 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Read write routing data source unit test, using two H2 databases as stand-ins for the
+ * primary and the replica.
+ */
+public class ReadWriteRoutingDataSourceUnitTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private DataSourceTransactionManager transactionManager;
+
+  private static DataSource createMarkedDataSource(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(16))");
+    jdbcTemplate.execute("DELETE FROM marker");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+    DataSource primaryDataSource = createMarkedDataSource(ReadWriteRoutingDataSource.PRIMARY);
+    routingDataSource.setTargetDataSources(Map.of(
+        ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+        ReadWriteRoutingDataSource.REPLICA,
+        createMarkedDataSource(ReadWriteRoutingDataSource.REPLICA)));
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionManager = new DataSourceTransactionManager(dataSource);
+  }
+
+  private String queryMarkerIn(boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(
+        status -> this.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+  }
+
+  /**
+   * Test read only transaction is routed to replica
+   */
+  @Test
+  public void testReadOnlyTransactionIsRoutedToReplica() {
+    assertEquals(ReadWriteRoutingDataSource.REPLICA, queryMarkerIn(true));
+  }
+
+  /**
+   * Test read write transaction is routed to primary
+   */
+  @Test
+  public void testReadWriteTransactionIsRoutedToPrimary() {
+    assertEquals(ReadWriteRoutingDataSource.PRIMARY, queryMarkerIn(false));
+  }
+
+  /**
+   * Test statement outside of transaction is routed to primary
+   */
+  @Test
+  public void testNonTransactionalStatementIsRoutedToPrimary() {
+    assertEquals(ReadWriteRoutingDataSource.PRIMARY,
+        this.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+  }
+}
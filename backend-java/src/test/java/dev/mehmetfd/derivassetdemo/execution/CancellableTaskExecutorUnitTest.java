@@ -0,0 +1,97 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The type Cancellable task executor unit test.
+ */
+public class CancellableTaskExecutorUnitTest {
+
+  private ThreadPoolTaskExecutor databaseExecutor;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    this.databaseExecutor = new ThreadPoolTaskExecutor();
+    this.databaseExecutor.setCorePoolSize(1);
+    this.databaseExecutor.setMaxPoolSize(1);
+    this.databaseExecutor.initialize();
+  }
+
+  /**
+   * Shut the executor down after each test
+   */
+  @AfterEach
+  public void teardown() {
+    this.databaseExecutor.shutdown();
+  }
+
+  /**
+   * Test that cancelling interrupts the running invocation and drops the waiting one
+   */
+  @Test
+  public void testCancelInterruptsRunningAndDropsWaitingInvocations() throws Exception {
+    // Given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicBoolean waitingRan = new AtomicBoolean();
+    CancellableTaskExecutor running = new CancellableTaskExecutor(this.databaseExecutor);
+    CancellableTaskExecutor waiting = new CancellableTaskExecutor(this.databaseExecutor);
+    running.submit(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (InterruptedException exception) {
+        interrupted.countDown();
+      }
+      return null;
+    });
+    Future<?> waitingFuture = waiting.submit(() -> waitingRan.set(true));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // When
+    waiting.cancel();
+    running.cancel();
+
+    // Then
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertTrue(waitingFuture.isCancelled());
+    this.databaseExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+    assertFalse(waitingRan.get());
+  }
+
+  /**
+   * Test that an invocation cancelled before it is submitted never runs
+   */
+  @Test
+  public void testCancelBeforeSubmit() throws Exception {
+    // Given
+    AtomicBoolean ran = new AtomicBoolean();
+    CancellableTaskExecutor executor = new CancellableTaskExecutor(this.databaseExecutor);
+
+    // When
+    executor.cancel();
+    Future<?> future = executor.submit(() -> ran.set(true));
+
+    // Then
+    assertTrue(future.isCancelled());
+    this.databaseExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+    assertFalse(ran.get());
+  }
+}
@@ -0,0 +1,132 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * The type Offloading handler adapter unit test.
+ */
+public class OffloadingHandlerAdapterUnitTest {
+
+  private static HandlerMethod handlerMethod(Object controller, String name) throws Exception {
+    return new HandlerMethod(controller, controller.getClass().getMethod(name));
+  }
+
+  /**
+   * Test that blocking handlers are offloaded
+   */
+  @Test
+  public void testBlockingHandlersAreOffloaded() throws Exception {
+    // Given
+    Controller controller = new Controller();
+
+    // When, Then
+    assertTrue(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "entity")));
+    assertTrue(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "body")));
+  }
+
+  /**
+   * Test that asynchronous and exempt handlers stay on the request thread
+   */
+  @Test
+  public void testAsyncAndExemptHandlersAreNotOffloaded() throws Exception {
+    // Given
+    Controller controller = new Controller();
+
+    // When, Then
+    assertFalse(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "streaming")));
+    assertFalse(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "callable")));
+    assertFalse(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "future")));
+    assertFalse(OffloadingHandlerAdapter.isOffloaded(handlerMethod(controller, "exempt")));
+    assertFalse(OffloadingHandlerAdapter.isOffloaded(
+        handlerMethod(new ExemptController(), "entity")));
+  }
+
+  /**
+   * Controller with every kind of handler.
+   */
+  public static class Controller {
+
+    /**
+     * Blocking handler returning an entity.
+     *
+     * @return the entity
+     */
+    public ResponseEntity<String> entity() {
+      return ResponseEntity.ok("entity");
+    }
+
+    /**
+     * Blocking handler returning a body.
+     *
+     * @return the body
+     */
+    public String body() {
+      return "body";
+    }
+
+    /**
+     * Streaming handler.
+     *
+     * @return the streaming body
+     */
+    public ResponseEntity<StreamingResponseBody> streaming() {
+      return ResponseEntity.ok(outputStream -> outputStream.write(1));
+    }
+
+    /**
+     * Callable handler.
+     *
+     * @return the callable
+     */
+    public Callable<String> callable() {
+      return () -> "callable";
+    }
+
+    /**
+     * Future handler.
+     *
+     * @return the future
+     */
+    public CompletableFuture<String> future() {
+      return CompletableFuture.completedFuture("future");
+    }
+
+    /**
+     * Exempt handler.
+     *
+     * @return the body
+     */
+    @RunOnRequestThread
+    public String exempt() {
+      return "exempt";
+    }
+  }
+
+  /**
+   * Controller exempt as a whole.
+   */
+  @RunOnRequestThread
+  public static class ExemptController {
+
+    /**
+     * Blocking handler returning an entity.
+     *
+     * @return the entity
+     */
+    public ResponseEntity<String> entity() {
+      return ResponseEntity.ok("entity");
+    }
+  }
+}
@@ -0,0 +1,236 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.execution;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.mehmetfd.derivassetdemo.DerivassetDemoApplication;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * The type Request execution benchmark, compares the execution modes under database latency.
+ * <p>
+ * Starts the application once per mode against the integration test database and Redis, with
+ * every database connection held for an injected latency after it is obtained, as a slow
+ * database would. Clients then alternate between a Book read from the database and the same Book
+ * read from Redis, and the throughput and latency percentiles of both are logged per mode. Tomcat
+ * gets fewer threads than there are clients, so in the platform mode the cache hits queue behind
+ * the slow reads.
+ * <p>
+ * Not part of the build; run it with
+ * {@code ./mvnw test -Dtest=RequestExecutionBenchmark -Dbenchmark=true}, optionally with
+ * {@code -Dbenchmark.clients}, {@code -Dbenchmark.seconds}, {@code -Dbenchmark.latency-millis}
+ * and {@code -Dbenchmark.tomcat-threads}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RequestExecutionBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(RequestExecutionBenchmark.class);
+
+  private static final Map<String, Map<String, String>> MODES = new LinkedHashMap<>();
+
+  static {
+    MODES.put("platform", Map.of("app.server.execution-mode", "platform"));
+    MODES.put("virtual", Map.of("spring.threads.virtual.enabled", "true"));
+    MODES.put("async", Map.of("app.server.execution-mode", "async"));
+  }
+
+  private final int clients = Integer.getInteger("benchmark.clients", 128);
+  private final int seconds = Integer.getInteger("benchmark.seconds", 20);
+  private final int latencyMillis = Integer.getInteger("benchmark.latency-millis", 50);
+  private final int tomcatThreads = Integer.getInteger("benchmark.tomcat-threads", 32);
+
+  /**
+   * Benchmark every mode.
+   *
+   * @throws Exception if the benchmark fails
+   */
+  @Test
+  public void benchmark() throws Exception {
+    List<String> results = new ArrayList<>();
+    for (String mode : MODES.keySet()) {
+      try (ConfigurableApplicationContext context = start(MODES.get(mode))) {
+        results.addAll(run(mode, context));
+      }
+    }
+    logger.info("{} clients, {} s per mode, {} ms database latency, {} Tomcat threads\n{}",
+        this.clients, this.seconds, this.latencyMillis, this.tomcatThreads,
+        String.join("\n", results));
+  }
+
+  private ConfigurableApplicationContext start(Map<String, String> mode) throws IOException {
+    Properties properties = PropertiesLoaderUtils.loadProperties(
+        new ClassPathResource("application-integration-tests.properties"));
+    properties.setProperty("server.port", "0");
+    properties.setProperty("server.tomcat.threads.max", String.valueOf(this.tomcatThreads));
+    properties.putAll(mode);
+    // Compares the execution modes at full load, not how many requests the limits shed
+    properties.setProperty("app.limits.enabled", "false");
+    List<String> arguments = new ArrayList<>();
+    properties.forEach((key, value) -> arguments.add("--" + key + "=" + value));
+    return new SpringApplicationBuilder(DerivassetDemoApplication.class)
+        .initializers(context -> context.getBeanFactory()
+            .addBeanPostProcessor(new LatencyInjectingPostProcessor(this.latencyMillis)))
+        .run(arguments.toArray(String[]::new));
+  }
+
+  private List<String> run(String mode, ConfigurableApplicationContext context)
+      throws Exception {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    context.getBean(AuthorRepository.class).save(author);
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(new byte[1024]);
+    context.getBean(BookRepository.class).save(book);
+
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    URI databaseUri = URI.create("http://localhost:" + port + "/books/" + book.getId());
+    URI cacheUri = URI.create(databaseUri + "/cached");
+    HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    send(httpClient, cacheUri);
+
+    ExecutorService clientThreads = Executors.newFixedThreadPool(this.clients);
+    long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.seconds);
+    List<Future<Latencies[]>> futures = new ArrayList<>();
+    for (int i = 0; i < this.clients; i++) {
+      boolean databaseFirst = i % 2 == 0;
+      futures.add(clientThreads.submit(() -> {
+        Latencies database = new Latencies();
+        Latencies cache = new Latencies();
+        boolean nextDatabase = databaseFirst;
+        while (System.nanoTime() < end) {
+          long start = System.nanoTime();
+          int status = send(httpClient, nextDatabase ? databaseUri : cacheUri);
+          (nextDatabase ? database : cache).record(System.nanoTime() - start, status);
+          nextDatabase = !nextDatabase;
+        }
+        return new Latencies[]{database, cache};
+      }));
+    }
+    Latencies database = new Latencies();
+    Latencies cache = new Latencies();
+    for (Future<Latencies[]> future : futures) {
+      Latencies[] latencies = future.get();
+      database.merge(latencies[0]);
+      cache.merge(latencies[1]);
+    }
+    clientThreads.shutdown();
+    return List.of(database.summarize(mode + " database", this.seconds),
+        cache.summarize(mode + " cache", this.seconds));
+  }
+
+  private static int send(HttpClient httpClient, URI uri) throws InterruptedException {
+    try {
+      return httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+          HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException exception) {
+      return -1;
+    }
+  }
+
+  private static class Latencies {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long elapsedNanos, int status) {
+      if (status != 200) {
+        this.errors++;
+        return;
+      }
+      if (this.count == this.nanos.length) {
+        this.nanos = Arrays.copyOf(this.nanos, this.count * 2);
+      }
+      this.nanos[this.count++] = elapsedNanos;
+    }
+
+    void merge(Latencies other) {
+      for (int i = 0; i < other.count; i++) {
+        record(other.nanos[i], 200);
+      }
+      this.errors += other.errors;
+    }
+
+    String summarize(String name, int seconds) {
+      long[] sorted = Arrays.copyOf(this.nanos, this.count);
+      Arrays.sort(sorted);
+      return String.format("%-18s %8.1f req/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  %d errors",
+          name, (double) this.count / seconds, percentileMillis(sorted, 50),
+          percentileMillis(sorted, 99), percentileMillis(sorted, 100), this.errors);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+      return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+  }
+
+  private static class LatencyInjectingPostProcessor implements BeanPostProcessor {
+
+    private final int latencyMillis;
+
+    LatencyInjectingPostProcessor(int latencyMillis) {
+      this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      // The pools only, a routing data source in front of them would add the latency again
+      if (!(bean instanceof HikariDataSource dataSource)) {
+        return bean;
+      }
+      return new DelegatingDataSource(dataSource) {
+        @Override
+        public Connection getConnection() throws SQLException {
+          Connection connection = super.getConnection();
+          try {
+            Thread.sleep(latencyMillis);
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+          return connection;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * The type Flight recordings unit test.
+ */
+public class FlightRecordingsUnitTest {
+
+  private final FlightRecordings flightRecordings = new FlightRecordings("default",
+      Duration.ofMinutes(1));
+
+  /**
+   * Close the recording after each test
+   */
+  @AfterEach
+  public void teardown() {
+    this.flightRecordings.destroy();
+  }
+
+  /**
+   * Test that a recording captures the cache lookups with their keys and outcomes
+   */
+  @Test
+  public void testRecordingCapturesCacheLookups() throws Exception {
+    // Given
+    Cache cache = new CacheLookupRecordingCache(new ConcurrentMapCache("books"));
+    cache.put(1L, "Book");
+    Map<String, Object> status = this.flightRecordings.start(Duration.ofHours(1));
+    long id = (Long) status.get("id");
+
+    // When
+    cache.get(1L);
+    cache.get(2L);
+    cache.get(3L, () -> "Loaded");
+    this.flightRecordings.stop();
+    Path file = this.flightRecordings.dump(id);
+
+    // Then
+    assertEquals("STOPPED", this.flightRecordings.getStatus().get("state"));
+    assertEquals("PT1M", status.get("duration"));
+    assertNull(this.flightRecordings.dump(id + 1));
+    assertNotNull(file);
+    try {
+      List<RecordedEvent> lookups = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName()
+              .equals("dev.mehmetfd.derivassetdemo.CacheLookup"))
+          .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+          .toList();
+      assertEquals(3, lookups.size());
+      assertEquals("books", lookups.get(0).getString("cache"));
+      assertEquals(List.of("1", "2", "3"),
+          lookups.stream().map(event -> event.getString("key")).toList());
+      assertEquals(List.of(true, false, false),
+          lookups.stream().map(event -> event.getBoolean("hit")).toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * Test that a blob write is recorded when its transaction commits, and not when it rolls back
+   */
+  @Test
+  public void testBlobWritesEndWithTheirTransaction() throws Exception {
+    // Given
+    Map<String, Object> status = this.flightRecordings.start(Duration.ofHours(1));
+    long id = (Long) status.get("id");
+
+    // When
+    writeBlobInTransaction(1L, TransactionSynchronization.STATUS_COMMITTED);
+    writeBlobInTransaction(2L, TransactionSynchronization.STATUS_ROLLED_BACK);
+    BlobWriteEvent outside = new BlobWriteEvent();
+    outside.begin();
+    outside.commitWithTransaction(() -> outside.bookId = 3L);
+    this.flightRecordings.stop();
+    Path file = this.flightRecordings.dump(id);
+
+    // Then
+    assertNotNull(file);
+    try {
+      List<RecordedEvent> writes = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName()
+              .equals("dev.mehmetfd.derivassetdemo.BlobWrite"))
+          .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+          .toList();
+      assertEquals(List.of(1L, 3L),
+          writes.stream().map(event -> event.getLong("bookId")).toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void writeBlobInTransaction(long bookId, int completionStatus) {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      BlobWriteEvent event = new BlobWriteEvent();
+      event.begin();
+      event.commitWithTransaction(() -> event.bookId = bookId);
+      TransactionSynchronizationUtils.invokeAfterCompletion(
+          TransactionSynchronizationManager.getSynchronizations(), completionStatus);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Adaptive concurrency limiter unit test.
+ */
+public class AdaptiveConcurrencyLimiterUnitTest {
+
+  private static final int WINDOW_SIZE = 10;
+
+  private static AdaptiveConcurrencyLimiter newLimiter() {
+    return new AdaptiveConcurrencyLimiter(20, 4, 100, 2.0, 0.2, WINDOW_SIZE);
+  }
+
+  /**
+   * Runs rounds of as many requests in flight as the limit admits, completing them all with the
+   * same latency.
+   */
+  private static void runSaturatedRounds(AdaptiveConcurrencyLimiter limiter, int rounds,
+      long latencyMillis) {
+    for (int round = 0; round < rounds; round++) {
+      int admitted = 0;
+      while (limiter.tryAcquire()) {
+        admitted++;
+      }
+      for (int i = 0; i < admitted; i++) {
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+      }
+    }
+  }
+
+  /**
+   * Test that requests over the limit are rejected and counted
+   */
+  @Test
+  public void testRejectsOverLimit() {
+    // Given
+    AdaptiveConcurrencyLimiter limiter = newLimiter();
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+
+    // Then
+    assertFalse(limiter.tryAcquire());
+    assertEquals(20, limiter.getInFlight());
+    assertEquals(1, limiter.getRejections());
+    limiter.release(1);
+    assertTrue(limiter.tryAcquire());
+  }
+
+  /**
+   * Test that the limit shrinks when latency rises and grows back when it recovers
+   */
+  @Test
+  public void testLimitFollowsLatency() {
+    // Given
+    AdaptiveConcurrencyLimiter limiter = newLimiter();
+    runSaturatedRounds(limiter, 5, 10);
+    int steadyLimit = limiter.getLimit();
+
+    // When
+    runSaturatedRounds(limiter, 5, 200);
+    int slowLimit = limiter.getLimit();
+    runSaturatedRounds(limiter, 40, 10);
+    int recoveredLimit = limiter.getLimit();
+
+    // Then
+    assertTrue(steadyLimit > 20, "limit grows while latency is steady");
+    assertTrue(slowLimit < steadyLimit, "limit shrinks when latency rises");
+    assertTrue(slowLimit >= 4, "limit stays above the minimum");
+    assertTrue(recoveredLimit > slowLimit, "limit grows back when latency recovers");
+  }
+
+  /**
+   * Test that the limit does not grow while it is barely used
+   */
+  @Test
+  public void testLimitDoesNotGrowWhenIdle() {
+    // Given
+    AdaptiveConcurrencyLimiter limiter = newLimiter();
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      limiter.tryAcquire();
+      limiter.release(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    // Then
+    assertEquals(20, limiter.getLimit());
+  }
+}
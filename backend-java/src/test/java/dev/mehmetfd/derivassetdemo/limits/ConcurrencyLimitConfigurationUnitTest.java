@@ -0,0 +1,70 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+/**
+ * The type Concurrency limit configuration unit test.
+ */
+public class ConcurrencyLimitConfigurationUnitTest {
+
+  /**
+   * Test that each path is limited by the limiter of its group only, the content of Books apart
+   * from the other Book endpoints
+   *
+   * @throws Exception if an interceptor fails
+   */
+  @Test
+  public void testGroups() throws Exception {
+    // Given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ExposedInterceptorRegistry registry = new ExposedInterceptorRegistry();
+    new ConcurrencyLimitConfiguration(meterRegistry, 20, 4, 200, 2.0, 0.2, 20)
+        .addInterceptors(registry);
+
+    // When
+    for (String path : List.of("/authors", "/authors/1", "/books", "/books/1",
+        "/books/1/overview", "/books/1/content", "/books/2/content", "/stats/books-per-year")) {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+      ServletRequestPathUtils.parseAndCache(request);
+      for (Object interceptor : registry.interceptors()) {
+        MappedInterceptor mappedInterceptor = (MappedInterceptor) interceptor;
+        if (mappedInterceptor.matches(request)) {
+          mappedInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        }
+      }
+    }
+
+    // Then
+    assertEquals(2, inFlight(meterRegistry, "authors"));
+    assertEquals(3, inFlight(meterRegistry, "books"));
+    assertEquals(2, inFlight(meterRegistry, "content"));
+  }
+
+  private static double inFlight(SimpleMeterRegistry meterRegistry, String group) {
+    return meterRegistry.get("http.server.concurrency.in-flight").tag("group", group).gauge()
+        .value();
+  }
+
+  /**
+   * An interceptor registry exposing the interceptors it built.
+   */
+  private static class ExposedInterceptorRegistry extends InterceptorRegistry {
+
+    List<Object> interceptors() {
+      return getInterceptors();
+    }
+  }
+}
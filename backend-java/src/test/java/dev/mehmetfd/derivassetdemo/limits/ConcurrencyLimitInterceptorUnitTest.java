@@ -0,0 +1,68 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * The type Concurrency limit interceptor unit test.
+ */
+public class ConcurrencyLimitInterceptorUnitTest {
+
+  /**
+   * Test that requests over the limit are rejected until a request completes
+   */
+  @Test
+  public void testRejectsUntilCompletion() {
+    // Given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 2.0, 0.2, 10);
+    ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor("books", limiter);
+    MockHttpServletRequest first = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    assertTrue(interceptor.preHandle(first, response, new Object()));
+
+    // Then
+    assertThrows(ConcurrencyLimitExceededException.class,
+        () -> interceptor.preHandle(new MockHttpServletRequest(), response, new Object()));
+    interceptor.afterCompletion(first, response, new Object(), null);
+    assertEquals(0, limiter.getInFlight());
+    assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, new Object()));
+  }
+
+  /**
+   * Test that an asynchronous request stays in flight until it completes
+   */
+  @Test
+  public void testAsyncRequestsStayInFlight() {
+    // Given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 2.0, 0.2, 10);
+    ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor("books", limiter);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    interceptor.preHandle(request, response, new Object());
+    request.startAsync();
+    interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+    interceptor.afterCompletion(request, response, new Object(), null);
+
+    // Then
+    assertEquals(1, limiter.getInFlight());
+    request.setDispatcherType(DispatcherType.ASYNC);
+    assertTrue(interceptor.preHandle(request, response, new Object()));
+    request.getAsyncContext().complete();
+    assertEquals(0, limiter.getInFlight());
+  }
+}
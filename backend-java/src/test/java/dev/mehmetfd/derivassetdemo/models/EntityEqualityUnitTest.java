@@ -0,0 +1,66 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Entity equality unit test.
+ */
+public class EntityEqualityUnitTest {
+
+  private static final byte[] DATA = {1, 2, 3};
+
+  private static Author author(long id) {
+    Author author = new Author();
+    author.setId(id);
+    author.setName("Author");
+    author.setYearBorn(1000);
+    Book book = new Book();
+    book.setId(id);
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(DATA);
+    author.getBooks().add(book);
+    return author;
+  }
+
+  /**
+   * Test that an Author and its Books compare and hash without recursing into each other
+   */
+  @Test
+  public void testEqualsAndHashCodeOfAuthorWithBooks() {
+    // Given
+    Author author = author(1);
+    Author copy = author(1);
+    Author other = author(2);
+
+    // Then
+    assertEquals(author, copy);
+    assertEquals(author.hashCode(), copy.hashCode());
+    assertEquals(author.getBooks().get(0), copy.getBooks().get(0));
+    assertEquals(author.getBooks().get(0).hashCode(), copy.getBooks().get(0).hashCode());
+    assertNotEquals(author, other);
+    assertNotEquals(author.getBooks().get(0), other.getBooks().get(0));
+  }
+
+  /**
+   * Test that Books of different Authors are not equal
+   */
+  @Test
+  public void testBooksOfDifferentAuthors() {
+    // Given
+    Book book = author(1).getBooks().get(0);
+    Book otherBook = author(1).getBooks().get(0);
+    otherBook.setAuthor(author(2));
+
+    // Then
+    assertNotEquals(book, otherBook);
+  }
+}
@@ -0,0 +1,161 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.queries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * The type Query accounting data source unit test, using an H2 database.
+ */
+public class QueryAccountingDataSourceUnitTest {
+
+  private final QueryBudgetViolations violations = new QueryBudgetViolations();
+
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:query-accounting;DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate setup = new JdbcTemplate(dataSource);
+    setup.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT, data VARBINARY(1000))");
+    setup.execute("DELETE FROM item");
+    for (long id = 1; id <= 3; id++) {
+      setup.update("INSERT INTO item (id, data) VALUES (?, ?)", id, new byte[100]);
+    }
+    this.jdbcTemplate = new JdbcTemplate(new QueryAccountingDataSource(dataSource));
+  }
+
+  /**
+   * Leave no query stats behind on the test thread
+   */
+  @AfterEach
+  public void teardown() {
+    QueryStatsContext.clear();
+  }
+
+  /**
+   * Test that statements, rows and bytes of a request are counted
+   */
+  @Test
+  public void testRequestIsAccounted() {
+    // Given
+    QueryStats queryStats = new QueryStats("GET /items", -1, this.violations);
+    QueryStatsContext.set(queryStats);
+
+    // When
+    List<byte[]> data = this.jdbcTemplate.queryForList("SELECT data FROM item", byte[].class);
+    this.jdbcTemplate.update("UPDATE item SET data = ? WHERE id = ?", new byte[10], 1L);
+    long streamed = this.jdbcTemplate.query("SELECT data FROM item WHERE id = 2", resultSet -> {
+      resultSet.next();
+      try (InputStream inputStream = resultSet.getBinaryStream(1)) {
+        return inputStream.transferTo(OutputStream.nullOutputStream());
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+
+    // Then
+    assertEquals(3, data.size());
+    assertEquals(100, streamed);
+    assertEquals(3, queryStats.getStatements());
+    assertEquals(4, queryStats.getRows());
+    assertEquals(400, queryStats.getBytes());
+  }
+
+  /**
+   * Test that statements outside of a request are not counted
+   */
+  @Test
+  public void testStatementOutsideOfRequestIsNotAccounted() {
+    // Given
+    QueryStats queryStats = new QueryStats("GET /items", -1, this.violations);
+
+    // When
+    this.jdbcTemplate.queryForList("SELECT data FROM item", byte[].class);
+
+    // Then
+    assertEquals(0, queryStats.getStatements());
+  }
+
+  /**
+   * Test that a statement repeated per row is found and the budget is enforced
+   */
+  @Test
+  public void testRepeatedStatementsAndBudget() {
+    // Given
+    QueryStats queryStats = new QueryStats("GET /items", 2, this.violations);
+    QueryStatsContext.set(queryStats);
+
+    // When
+    for (long id = 1; id <= 3; id++) {
+      this.jdbcTemplate.queryForObject("SELECT data FROM item WHERE id = ?", byte[].class, id);
+    }
+
+    // Then
+    Map.Entry<String, Long> repeated = queryStats.getMostRepeatedStatement(3).orElseThrow();
+    assertEquals("SELECT data FROM item WHERE id = ?", repeated.getKey());
+    assertEquals(3, repeated.getValue());
+    assertTrue(queryStats.getMostRepeatedStatement(4).isEmpty());
+    List<String> violations = this.violations.drain();
+    assertEquals(1, violations.size());
+    assertTrue(violations.get(0).startsWith("GET /items issued more than 2 SQL statements"));
+    assertEquals("SELECT data FROM item WHERE id = ?", queryStats.getOverBudgetStatement());
+  }
+
+  /**
+   * Test that a request exceeding its budget is still accounted when violations are not collected
+   */
+  @Test
+  public void testBudgetWithoutCollectedViolations() {
+    // Given
+    QueryStats queryStats = new QueryStats("GET /items", 1, null);
+    QueryStats withinBudget = new QueryStats("GET /items", 5, null);
+
+    // When
+    queryStats.recordStatement("SELECT 1");
+    queryStats.recordStatement("SELECT 2");
+    withinBudget.recordStatement("SELECT 1");
+
+    // Then
+    assertEquals("SELECT 2", queryStats.getOverBudgetStatement());
+    assertNull(withinBudget.getOverBudgetStatement());
+  }
+
+  /**
+   * Test that only the latest violations are kept
+   */
+  @Test
+  public void testViolationsAreCapped() {
+    // Given
+    QueryBudgetViolations capped = new QueryBudgetViolations(2);
+
+    // When
+    capped.report("first");
+    capped.report("second");
+    capped.report("third");
+
+    // Then
+    assertEquals(List.of("second", "third"), capped.drain());
+    assertTrue(capped.drain().isEmpty());
+  }
+}
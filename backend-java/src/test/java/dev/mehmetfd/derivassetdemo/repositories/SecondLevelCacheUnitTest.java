@@ -0,0 +1,240 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Second-level cache unit test.
+ * <p>
+ * Runs without a test transaction, entities are cached when their transactions commit.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheUnitTest {
+
+  private static final int DATA_LENGTH = 1024;
+
+  private EntityManager entityManager;
+  private EntityManagerFactory entityManagerFactory;
+  private TransactionTemplate transactionTemplate;
+  private AuthorRepository authorRepository;
+  private BookRepository bookRepository;
+  private Statistics statistics;
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Initialize before each test
+   *
+   * @param entityManager        the shared Entity Manager
+   * @param entityManagerFactory the Entity Manager Factory
+   * @param transactionManager   the Transaction Manager
+   * @param authorRepository     the Author Repository
+   * @param bookRepository       the Book Repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired EntityManager entityManager,
+      @Autowired EntityManagerFactory entityManagerFactory,
+      @Autowired PlatformTransactionManager transactionManager,
+      @Autowired AuthorRepository authorRepository,
+      @Autowired BookRepository bookRepository) {
+    this.entityManager = entityManager;
+    this.entityManagerFactory = entityManagerFactory;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.authorRepository = authorRepository;
+    this.bookRepository = bookRepository;
+    SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(
+        SessionFactoryImplementor.class);
+    this.statistics = sessionFactory.getStatistics();
+    this.meterRegistry = new SimpleMeterRegistry();
+    new HibernateMetrics(sessionFactory, "entityManagerFactory", Tags.empty())
+        .bindTo(this.meterRegistry);
+  }
+
+  /**
+   * Remove every Book and Author and empty the caches
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+    this.entityManagerFactory.getCache().evictAll();
+  }
+
+  private Author saveAuthorWithBooks(byte[]... data) {
+    Author author = this.transactionTemplate.execute(status -> {
+      Author newAuthor = new Author();
+      newAuthor.setName("Author");
+      newAuthor.setYearBorn(1000);
+      this.entityManager.persist(newAuthor);
+      for (byte[] bookData : data) {
+        Book book = new Book();
+        book.setName("Book");
+        book.setYearPublished(2000);
+        book.setAuthor(newAuthor);
+        book.setData(bookData);
+        this.entityManager.persist(book);
+        newAuthor.getBooks().add(book);
+      }
+      return newAuthor;
+    });
+    // Start from empty regions and counters, inserts put entities too
+    this.entityManagerFactory.getCache().evictAll();
+    this.statistics.clear();
+    return author;
+  }
+
+  private static byte[] data(long seed) {
+    byte[] data = new byte[DATA_LENGTH];
+    new Random(seed).nextBytes(data);
+    return data;
+  }
+
+  private void loadAuthorWithBooks(Long authorId) {
+    this.transactionTemplate.executeWithoutResult(status -> {
+      Author author = this.entityManager.find(Author.class, authorId);
+      author.getBooks().forEach(Book::getData);
+    });
+  }
+
+  private double requests(String region, String result) {
+    return this.meterRegistry.get("hibernate.second.level.cache.requests")
+        .tags("region", region, "result", result)
+        .functionCounter()
+        .count();
+  }
+
+  /**
+   * Test that the data of Books is not stored in any region, whichever way Books are read
+   *
+   * @throws IOException if a cached value can not be serialized
+   */
+  @Test
+  public void testBookDataIsNeverCached() throws IOException {
+    // Given
+    byte[] data = data(27);
+    Author author = saveAuthorWithBooks(data, data(28));
+    Long bookId = author.getBooks().get(0).getId();
+
+    // When
+    loadAuthorWithBooks(author.getId());
+    loadAuthorWithBooks(author.getId());
+    this.authorRepository.findById(author.getId());
+    this.bookRepository.findById(bookId);
+    this.bookRepository.getBookOverviewById(bookId);
+    this.authorRepository.getAuthorOverviewById(author.getId());
+
+    // Then
+    assertTrue(this.entityManagerFactory.getCache().contains(Author.class, author.getId()));
+    assertFalse(this.entityManagerFactory.getCache().contains(Book.class, bookId));
+    List<String> regionsWithData = new ArrayList<>();
+    CacheManager cacheManager = ((JCacheRegionFactory) this.entityManagerFactory
+        .unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry()
+        .getService(RegionFactory.class)).getCacheManager();
+    for (String cacheName : cacheManager.getCacheNames()) {
+      for (Cache.Entry<Object, Object> entry : cacheManager.getCache(cacheName)) {
+        if (contains(serialize(entry.getValue()), data)) {
+          regionsWithData.add(cacheName);
+        }
+      }
+    }
+    assertEquals(List.of(), regionsWithData);
+  }
+
+  /**
+   * Test that the hits and misses of the entity, collection and query regions are counted
+   */
+  @Test
+  public void testRegionHitsAndMisses() {
+    // Given
+    Author author = saveAuthorWithBooks(data(27), data(28));
+    Long bookId = author.getBooks().get(0).getId();
+
+    // When
+    loadAuthorWithBooks(author.getId());
+    this.bookRepository.getBookOverviewById(bookId);
+
+    // Then
+    assertRegion(this.statistics.getDomainDataRegionStatistics("author"), 0, 1, 1);
+    assertRegion(this.statistics.getDomainDataRegionStatistics("author.books"), 0, 1, 1);
+    assertRegion(this.statistics.getQueryRegionStatistics("overview"), 0, 1, 1);
+    assertEquals(0, requests("author", "hit"));
+    assertEquals(1, requests("author", "miss"));
+
+    // When
+    loadAuthorWithBooks(author.getId());
+    this.bookRepository.getBookOverviewById(bookId);
+
+    // Then
+    assertRegion(this.statistics.getDomainDataRegionStatistics("author"), 1, 1, 1);
+    assertRegion(this.statistics.getDomainDataRegionStatistics("author.books"), 1, 1, 1);
+    assertRegion(this.statistics.getQueryRegionStatistics("overview"), 1, 1, 1);
+    assertEquals(1, requests("author", "hit"));
+    assertEquals(1, requests("author", "miss"));
+    assertEquals(1, requests("author.books", "hit"));
+  }
+
+  private static void assertRegion(CacheRegionStatistics regionStatistics, long hits,
+      long misses, long puts) {
+    assertEquals(hits, regionStatistics.getHitCount(), "hits");
+    assertEquals(misses, regionStatistics.getMissCount(), "misses");
+    assertEquals(puts, regionStatistics.getPutCount(), "puts");
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+      objectOutputStream.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static boolean contains(byte[] bytes, byte[] part) {
+    outer:
+    for (int i = 0; i <= bytes.length - part.length; i++) {
+      for (int j = 0; j < part.length; j++) {
+        if (bytes[i + j] != part[j]) {
+          continue outer;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import dev.mehmetfd.derivassetdemo.services.search.IndexedAuthor;
+import dev.mehmetfd.derivassetdemo.services.search.IndexedBook;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The type Streaming serializers unit test.
+ */
+public class StreamingSerializersUnitTest {
+
+  private final ObjectMapper beanMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final ObjectMapper streamingMapper = Jackson2ObjectMapperBuilder.json()
+      .serializers(new AuthorSerializer(), new BookSerializer(), new AuthorOverviewSerializer(),
+          new BookOverviewSerializer())
+      .build();
+
+  private static Author generateAuthor() {
+    Random random = new Random(41);
+    Author author = new Author();
+    author.setId(1L);
+    author.setName("Author \"1\"");
+    author.setYearBorn(1000);
+    for (int i = 0; i < 3; i++) {
+      Book book = new Book();
+      book.setId((long) i + 1);
+      book.setName("Book" + i);
+      book.setYearPublished(2000 + i);
+      book.setAuthor(author);
+      byte[] data = new byte[1000 * i + 1];
+      random.nextBytes(data);
+      book.setData(data);
+      author.getBooks().add(book);
+    }
+    return author;
+  }
+
+  private void assertSameJson(Object value) throws Exception {
+    assertEquals(this.beanMapper.readTree(this.beanMapper.writeValueAsBytes(value)),
+        this.streamingMapper.readTree(this.streamingMapper.writeValueAsBytes(value)));
+  }
+
+  /**
+   * Test that Authors and Books are written as the bean serializers write them
+   */
+  @Test
+  public void testEntitiesMatchBeanSerialization() throws Exception {
+    // Given
+    Author author = generateAuthor();
+    Book bookWithNulls = new Book();
+
+    // When, Then
+    assertSameJson(author);
+    assertSameJson(author.getBooks().get(2));
+    assertSameJson(bookWithNulls);
+  }
+
+  /**
+   * Test that overviews are written as the bean serializers write them
+   */
+  @Test
+  public void testOverviewsMatchBeanSerialization() throws Exception {
+    // Given
+    AuthorOverviewWithStats authorWithStats = new AuthorOverviewWithStats();
+
+    // When, Then
+    assertSameJson(new IndexedAuthor(1L, "Author", 1000));
+    assertSameJson(new IndexedBook(2L, "Book", 2000, 1L));
+    assertSameJson(authorWithStats);
+  }
+
+  /**
+   * Test that binary formats get the data of Books as raw binary
+   */
+  @Test
+  public void testDataIsBinaryInBinaryFormats() throws Exception {
+    // Given
+    Author author = generateAuthor();
+    ObjectMapper cborMapper = CBORMapper.builder()
+        .addModule(new SimpleModule()
+            .addSerializer(new AuthorSerializer()))
+        .build();
+
+    // When
+    JsonNode node = cborMapper.readTree(cborMapper.writeValueAsBytes(author));
+
+    // Then
+    for (int i = 0; i < author.getBooks().size(); i++) {
+      JsonNode data = node.get("books").get(i).get("data");
+      assertTrue(data.isBinary());
+      assertArrayEquals(author.getBooks().get(i).getData(), data.binaryValue());
+    }
+  }
+
+  /**
+   * Overview of an Author with stats, one of them missing.
+   */
+  public static class AuthorOverviewWithStats implements AuthorOverviewWithStatsProjection {
+
+    @Override
+    public Long getId() {
+      return 1L;
+    }
+
+    @Override
+    public String getName() {
+      return "Author";
+    }
+
+    @Override
+    public Integer getYearBorn() {
+      return 1000;
+    }
+
+    @Override
+    public Long getBookCount() {
+      return 0L;
+    }
+
+    @Override
+    public Long getTotalDataBytes() {
+      return 0L;
+    }
+
+    @Override
+    public Integer getMinYearPublished() {
+      return null;
+    }
+
+    @Override
+    public Integer getMaxYearPublished() {
+      return null;
+    }
+  }
+}
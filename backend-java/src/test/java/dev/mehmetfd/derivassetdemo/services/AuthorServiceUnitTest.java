@@ -12,7 +12,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import dev.mehmetfd.derivassetdemo.models.Author;
 import dev.mehmetfd.derivassetdemo.models.Book;
-import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewProjection;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
 import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
 import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
 import java.util.List;
@@ -44,7 +44,7 @@ public class AuthorServiceUnitTest {
 
   public void initialize(@Autowired TestEntityManager entityManager,
       @Autowired AuthorRepository authorRepository) {
-    this.authorService = new AuthorService(authorRepository, null);
+    this.authorService = new AuthorService(authorRepository, null, null);
     this.entityManager = entityManager;
     this.entityManager.clear();
   }
@@ -190,6 +190,28 @@ public class AuthorServiceUnitTest {
     assertTrue(foundAuthorOptional.isPresent());
   }
 
+  /**
+   * Test get author for write
+   */
+  @Test
+  public void testGetAuthorForWrite() {
+    // Given
+    Author author = generateValidAuthor();
+    Optional<Author> savedAuthorOptional = authorService.saveAuthor(author);
+    assumeTrue(savedAuthorOptional.isPresent());
+    Author savedAuthor = savedAuthorOptional.get();
+
+    // When
+    Optional<Author> foundAuthorOptional = authorService.getAuthorForWrite(savedAuthor.getId());
+
+    // Then
+    assertTrue(foundAuthorOptional.isPresent());
+    assertTrue(authorService.getAuthorForWrite(savedAuthor.getId() + 1).isEmpty());
+    assertTrue(authorService.getAuthorForWrite(null).isEmpty());
+    assertEquals(1, authorService.getAuthorsForWrite(
+        List.of(savedAuthor.getId(), savedAuthor.getId() + 1)).size());
+  }
+
   /**
    * Test get invalid author overview
    */
@@ -202,8 +224,8 @@ public class AuthorServiceUnitTest {
     Author savedAuthor = savedAuthorOptional.get();
 
     // When
-    Optional<AuthorOverviewProjection> foundAuthorOverviewOptional = authorService.getAuthorOverview(
-        savedAuthor.getId() + 1);
+    Optional<AuthorOverviewWithStatsProjection> foundAuthorOverviewOptional =
+        authorService.getAuthorOverview(savedAuthor.getId() + 1);
 
     // Then
     assertTrue(foundAuthorOverviewOptional.isEmpty());
@@ -227,13 +249,13 @@ public class AuthorServiceUnitTest {
     Author savedAuthor = savedAuthorOptional.get();
 
     // When
-    Optional<AuthorOverviewProjection> foundAuthorOverviewOptional = authorService.getAuthorOverview(
-        savedAuthor.getId());
+    Optional<AuthorOverviewWithStatsProjection> foundAuthorOverviewOptional =
+        authorService.getAuthorOverview(savedAuthor.getId());
 
     // Then
     assertTrue(foundAuthorOverviewOptional.isPresent());
 
-    AuthorOverviewProjection authorOverview = foundAuthorOverviewOptional.get();
+    AuthorOverviewWithStatsProjection authorOverview = foundAuthorOverviewOptional.get();
     assertEquals(authorOverview.getName(), savedAuthor.getName());
     assertEquals(authorOverview.getYearBorn(), savedAuthor.getYearBorn());
   }
@@ -44,8 +44,8 @@ public class BookServiceUnitTest {
   @BeforeEach
   public void initialize(@Autowired TestEntityManager entityManager,
       @Autowired AuthorRepository authorRepository, @Autowired BookRepository bookRepository) {
-    this.authorService = new AuthorService(authorRepository, null);
-    this.bookService = new BookService(authorService, bookRepository, null);
+    this.authorService = new AuthorService(authorRepository, null, null);
+    this.bookService = new BookService(authorService, bookRepository, null, null);
     this.entityManager = entityManager;
     this.entityManager.clear();
   }
@@ -0,0 +1,80 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Log linear histogram unit test.
+ */
+public class LogLinearHistogramUnitTest {
+
+  /**
+   * Test every bucket holds the values up to its highest value
+   */
+  @Test
+  public void testBuckets() {
+    int previous = -1;
+    for (int value : new int[]{0, 1, 127, 128, 129, 255, 256, 1000000, Integer.MAX_VALUE}) {
+      int bucket = LogLinearHistogram.bucketOf(value);
+      assertTrue(bucket >= previous);
+      assertTrue(LogLinearHistogram.highestValueOf(bucket) >= value);
+      if (bucket > 0) {
+        assertTrue(LogLinearHistogram.highestValueOf(bucket - 1) < value);
+      }
+      previous = bucket;
+    }
+  }
+
+  /**
+   * Test percentiles stay within 1 / 64 of the exact values
+   */
+  @Test
+  public void testPercentiles() {
+    // Given
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (int value = 1; value <= 100000; value++) {
+      histogram.add(value);
+    }
+
+    // Then
+    assertEquals(100000, histogram.getTotal());
+    assertEquals(1, histogram.getMin());
+    assertEquals(100000, histogram.getMax());
+    assertEquals(100000, histogram.getPercentile(100));
+    assertEquals(1, histogram.getPercentile(0));
+    for (double percentile : new double[]{50, 90, 99, 99.9}) {
+      double exact = percentile * 1000;
+      assertEquals(exact, histogram.getPercentile(percentile), exact / 64);
+    }
+  }
+
+  /**
+   * Test merged histograms match a single one
+   */
+  @Test
+  public void testMerge() {
+    // Given
+    LogLinearHistogram single = new LogLinearHistogram();
+    LogLinearHistogram first = new LogLinearHistogram();
+    LogLinearHistogram second = new LogLinearHistogram();
+    for (int value = 0; value < 5000; value++) {
+      single.add(value * 31);
+      (value % 2 == 0 ? first : second).add(value * 31);
+    }
+
+    // When
+    first.merge(second);
+
+    // Then
+    assertEquals(single.getTotal(), first.getTotal());
+    assertEquals(single.getSum(), first.getSum());
+    assertEquals(single.getPercentile(50), first.getPercentile(50));
+    assertEquals(single.getPercentile(99), first.getPercentile(99));
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Parallel int aggregator unit test.
+ */
+public class ParallelIntAggregatorUnitTest {
+
+  private ForkJoinPool pool;
+
+  private ParallelIntAggregator aggregator;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    this.pool = new ForkJoinPool(4);
+    this.aggregator = new ParallelIntAggregator(this.pool, 10000, 8);
+  }
+
+  /**
+   * Stop the pool after each test
+   */
+  @AfterEach
+  public void teardown() {
+    this.pool.shutdownNow();
+  }
+
+  /**
+   * Test counting years per decade over more rows than fit in flight
+   */
+  @Test
+  public void testAggregate() {
+    // Given
+    Stream<Integer> years = IntStream.range(0, 1000000).map(i -> 1900 + i % 100).boxed();
+
+    // When
+    IntHistogram histogram = this.aggregator.aggregate(years, Integer::intValue,
+        () -> new IntHistogram(10));
+
+    // Then
+    assertEquals(1000000, histogram.getTotal());
+    Map<Integer, Long> counts = histogram.toCounts();
+    assertEquals(10, counts.size());
+    for (int decade = 1900; decade < 2000; decade += 10) {
+      assertEquals(100000, counts.get(decade));
+    }
+  }
+
+  /**
+   * Test empty streams and negative values
+   */
+  @Test
+  public void testAggregateEdgeCases() {
+    IntHistogram empty = this.aggregator.aggregate(Stream.<Integer>empty(), Integer::intValue,
+        () -> new IntHistogram(1));
+    assertEquals(0, empty.getTotal());
+    assertTrue(empty.toCounts().isEmpty());
+
+    IntHistogram histogram = this.aggregator.aggregate(Stream.of(-15, -5, 5, 2005),
+        Integer::intValue, () -> new IntHistogram(10));
+    assertEquals(Map.of(-20, 1L, -10, 1L, 0, 1L, 2000, 1L), histogram.toCounts());
+  }
+}
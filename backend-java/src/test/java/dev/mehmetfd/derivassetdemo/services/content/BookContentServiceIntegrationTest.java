@@ -0,0 +1,148 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.content;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The type Book content service integration test.
+ * <p>
+ * Runs without a test transaction against the integration test database, so a Book can be
+ * deleted by another transaction while its data is being read.
+ */
+@DataJpaTest(properties = "app.books.content.chunk-size=1024")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(locations = "classpath:application-integration-tests.properties")
+@Import(BookContentService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BookContentServiceIntegrationTest {
+
+  private BookContentService bookContentService;
+  private AuthorRepository authorRepository;
+  private BookRepository bookRepository;
+  private TransactionTemplate newTransaction;
+
+  /**
+   * Initialize before each test
+   *
+   * @param bookContentService the Book Content Service
+   * @param authorRepository   the Author Repository
+   * @param bookRepository     the Book Repository
+   * @param transactionManager the transaction manager
+   */
+  @BeforeEach
+  public void initialize(@Autowired BookContentService bookContentService,
+      @Autowired AuthorRepository authorRepository,
+      @Autowired BookRepository bookRepository,
+      @Autowired PlatformTransactionManager transactionManager) {
+    this.bookContentService = bookContentService;
+    this.authorRepository = authorRepository;
+    this.bookRepository = bookRepository;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  private Book saveBook(byte[] data) {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(2000);
+    book.setAuthor(author);
+    book.setData(data);
+    return this.bookRepository.save(book);
+  }
+
+  /**
+   * Test that a Book deleted by another transaction once its length is read is still written
+   * whole, as long as the reported length
+   *
+   * @throws IOException if the output cannot be written
+   */
+  @Test
+  public void testBookDeletedWhileBeingRead() throws IOException {
+    // Given
+    byte[] data = new byte[10_000];
+    new Random(36).nextBytes(data);
+    Book book = saveBook(data);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    List<Long> lengths = new ArrayList<>();
+
+    // When
+    Optional<Long> written = this.bookContentService.writeContent(book.getId(), outputStream,
+        length -> {
+          lengths.add(length);
+          this.newTransaction.executeWithoutResult(
+              status -> this.bookRepository.deleteById(book.getId()));
+        });
+
+    // Then
+    assertTrue(this.bookRepository.findById(book.getId()).isEmpty());
+    assertEquals(List.of((long) data.length), lengths);
+    assertEquals(Optional.of((long) data.length), written);
+    assertArrayEquals(data, outputStream.toByteArray());
+  }
+
+  /**
+   * Test that a Book deleted before it is read is not found and reports no length
+   *
+   * @throws IOException if the output cannot be written
+   */
+  @Test
+  public void testBookDeletedBeforeBeingRead() throws IOException {
+    // Given
+    Book book = saveBook(new byte[]{1, 2, 3});
+    this.bookRepository.deleteById(book.getId());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    List<Long> lengths = new ArrayList<>();
+
+    // When
+    Optional<Long> written = this.bookContentService.writeContent(book.getId(), outputStream,
+        lengths::add);
+
+    // Then
+    assertTrue(written.isEmpty());
+    assertEquals(List.of(), lengths);
+    assertEquals(0, outputStream.size());
+  }
+}
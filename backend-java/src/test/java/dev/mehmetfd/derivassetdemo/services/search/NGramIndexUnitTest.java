@@ -0,0 +1,65 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type N-gram index unit test.
+ */
+public class NGramIndexUnitTest {
+
+  private NGramIndex<String> index;
+
+  /**
+   * Initialize before each test
+   */
+  @BeforeEach
+  public void initialize() {
+    this.index = new NGramIndex<>(Function.identity());
+    List<String> names = List.of("Author", "The Author", "Authority", "Book of Sand", "Sandman");
+    for (int i = 0; i < names.size(); i++) {
+      this.index.put(i + 1, names.get(i));
+    }
+  }
+
+  /**
+   * Test matches are ranked exact, prefix, word prefix and substring
+   */
+  @Test
+  public void testRanking() {
+    assertEquals(List.of("Author", "Authority", "The Author"), this.index.search("AUTHOR", 10));
+    assertEquals(List.of("Sandman", "Book of Sand"), this.index.search("sand", 10));
+  }
+
+  /**
+   * Test short queries and limits
+   */
+  @Test
+  public void testShortQueryIsLimited() {
+    assertEquals(List.of("Author", "Authority"), this.index.search("a", 2));
+    assertTrue(this.index.search("xyz", 10).isEmpty());
+    assertTrue(this.index.search(" ", 10).isEmpty());
+  }
+
+  /**
+   * Test removed and renamed documents
+   */
+  @Test
+  public void testRemoveAndRename() {
+    this.index.remove(1);
+    this.index.put(2, "Renamed");
+
+    assertEquals(List.of("Authority"), this.index.search("author", 10));
+    assertEquals(List.of("Renamed"), this.index.search("ren", 10));
+    assertEquals(4, this.index.size());
+  }
+}
@@ -0,0 +1,159 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.AuthorStats;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorStatsRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import dev.mehmetfd.derivassetdemo.services.BookService;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The type Author Stats Listener unit test.
+ * <p>
+ * Runs without a test transaction, the stats are only updated when the transactions of the
+ * Books commit.
+ */
+@DataJpaTest
+@Import(AuthorStatsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AuthorStatsListenerUnitTest {
+
+  private AuthorRepository authorRepository;
+  private AuthorStatsRepository authorStatsRepository;
+  private BookRepository bookRepository;
+  private AuthorStatsService authorStatsService;
+  private BookService bookService;
+
+  /**
+   * Initialize before each test
+   *
+   * @param authorRepository      the Author Repository
+   * @param authorStatsRepository the Author Stats Repository
+   * @param bookRepository        the Book Repository
+   * @param authorStatsService    the Author Stats Service
+   */
+  @BeforeEach
+  public void initialize(@Autowired AuthorRepository authorRepository,
+      @Autowired AuthorStatsRepository authorStatsRepository,
+      @Autowired BookRepository bookRepository,
+      @Autowired AuthorStatsService authorStatsService) {
+    this.authorRepository = authorRepository;
+    this.authorStatsRepository = authorStatsRepository;
+    this.bookRepository = bookRepository;
+    this.authorStatsService = authorStatsService;
+    this.bookService = new BookService(null, bookRepository, null, null);
+  }
+
+  /**
+   * Remove every Book and Author
+   */
+  @AfterEach
+  public void teardown() {
+    this.bookRepository.deleteAll();
+    this.authorRepository.deleteAll();
+  }
+
+  private static Book book(Author author, int yearPublished) {
+    Book book = new Book();
+    book.setName("Book");
+    book.setYearPublished(yearPublished);
+    book.setAuthor(author);
+    book.setData(new byte[16]);
+    return book;
+  }
+
+  /**
+   * Test that the stats follow the Books saved in batches and deleted without a flush, the
+   * inserts and deletes of both being executed by the flush of their commit
+   */
+  @Test
+  public void testStatsFollowSavedAndDeletedBooks() {
+    // Given
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+
+    // Then
+    AuthorStats authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(0, authorStats.getBookCount());
+    assertNull(authorStats.getMinYearPublished());
+
+    // When
+    List<Book> books = this.bookService.saveBooks(List.of(book(author, 2000),
+        book(author, 2010)));
+
+    // Then
+    authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(2, authorStats.getBookCount());
+    assertEquals(2 * 16, authorStats.getTotalDataBytes());
+    assertEquals(2000, authorStats.getMinYearPublished());
+    assertEquals(2010, authorStats.getMaxYearPublished());
+
+    // When
+    assertTrue(this.bookService.deleteBookIfExistsById(books.get(0).getId()));
+
+    // Then
+    authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(1, authorStats.getBookCount());
+    assertEquals(16, authorStats.getTotalDataBytes());
+    assertEquals(2010, authorStats.getMinYearPublished());
+    assertEquals(2010, authorStats.getMaxYearPublished());
+
+    // When
+    assertTrue(this.bookService.deleteBookIfExistsById(books.get(1).getId()));
+
+    // Then
+    authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(0, authorStats.getBookCount());
+    assertEquals(0, authorStats.getTotalDataBytes());
+    assertNull(authorStats.getMinYearPublished());
+    assertNull(authorStats.getMaxYearPublished());
+    assertEquals(0, this.authorStatsService.reconcile());
+  }
+
+  /**
+   * Test that the stats are left untouched when the transaction of the Books rolls back
+   */
+  @Test
+  public void testRolledBackBooksAreNotCounted() {
+    // Given
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.authorRepository.save(author);
+    Book invalidBook = book(author, 2000);
+    invalidBook.setName(null);
+
+    // When
+    try {
+      this.bookService.saveBooks(List.of(book(author, 1990), invalidBook));
+    } catch (RuntimeException exception) {
+      // Expected
+    }
+
+    // Then
+    assertEquals(0, this.bookRepository.count());
+    AuthorStats authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(0, authorStats.getBookCount());
+    assertNull(authorStats.getMinYearPublished());
+  }
+}
@@ -0,0 +1,216 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.AuthorStats;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.models.projections.AuthorOverviewWithStatsProjection;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorRepository;
+import dev.mehmetfd.derivassetdemo.repositories.AuthorStatsRepository;
+import dev.mehmetfd.derivassetdemo.repositories.BookRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * The type Author Stats Service unit test.
+ */
+@DataJpaTest
+public class AuthorStatsServiceUnitTest {
+
+  private TestEntityManager entityManager;
+
+  private AuthorRepository authorRepository;
+
+  private AuthorStatsRepository authorStatsRepository;
+
+  private AuthorStatsService authorStatsService;
+
+  /**
+   * Initialize before each test
+   *
+   * @param entityManager         the Entity Manager to clear everything after the tests
+   * @param authorRepository      the Author Repository
+   * @param authorStatsRepository the Author Stats Repository
+   * @param bookRepository        the Book Repository
+   */
+  @BeforeEach
+  public void initialize(@Autowired TestEntityManager entityManager,
+      @Autowired AuthorRepository authorRepository,
+      @Autowired AuthorStatsRepository authorStatsRepository,
+      @Autowired BookRepository bookRepository) {
+    this.entityManager = entityManager;
+    this.authorRepository = authorRepository;
+    this.authorStatsRepository = authorStatsRepository;
+    this.authorStatsService = new AuthorStatsService(authorStatsRepository, bookRepository,
+        entityManager.getEntityManager());
+    this.entityManager.clear();
+  }
+
+  /**
+   * Remove every object from entity tree after each test
+   */
+  @AfterEach
+  public void teardown() {
+    this.entityManager.clear();
+  }
+
+  private Author persistAuthorWithBooks(int... yearsPublished) {
+    Author author = new Author();
+    author.setName("Author");
+    author.setYearBorn(1000);
+    this.entityManager.persist(author);
+    persistBooks(author, yearsPublished);
+    return author;
+  }
+
+  private void persistBooks(Author author, int... yearsPublished) {
+    for (int yearPublished : yearsPublished) {
+      Book book = new Book();
+      book.setName("Book");
+      book.setYearPublished(yearPublished);
+      book.setAuthor(author);
+      book.setData(new byte[16]);
+      this.entityManager.persist(book);
+    }
+    this.entityManager.flush();
+  }
+
+  /**
+   * Test recompute.
+   */
+  @Test
+  public void testRecompute() {
+    // Given
+    Author author = persistAuthorWithBooks(2001, 1999, 2023);
+
+    // When
+    AuthorStats authorStats = this.authorStatsService.recompute(author.getId());
+
+    // Then
+    assertEquals(3, authorStats.getBookCount());
+    assertEquals(3 * 16, authorStats.getTotalDataBytes());
+    assertEquals(1999, authorStats.getMinYearPublished());
+    assertEquals(2023, authorStats.getMaxYearPublished());
+  }
+
+  /**
+   * Test recompute without books.
+   */
+  @Test
+  public void testRecomputeWithoutBooks() {
+    // Given
+    Author author = persistAuthorWithBooks();
+
+    // When
+    AuthorStats authorStats = this.authorStatsService.recompute(author.getId());
+
+    // Then
+    assertEquals(0, authorStats.getBookCount());
+    assertEquals(0, authorStats.getTotalDataBytes());
+    assertNull(authorStats.getMinYearPublished());
+    assertNull(authorStats.getMaxYearPublished());
+  }
+
+  /**
+   * Test reconcile repairs drifted stats.
+   */
+  @Test
+  public void testReconcile() {
+    // Given
+    Author author = persistAuthorWithBooks(2000, 2010);
+    AuthorStats driftedStats = new AuthorStats(author.getId());
+    driftedStats.setBookCount(5);
+    this.authorStatsRepository.saveAndFlush(driftedStats);
+
+    // When
+    int repaired = this.authorStatsService.reconcile();
+
+    // Then
+    assertEquals(1, repaired);
+    this.entityManager.flush();
+    this.entityManager.clear();
+    Optional<AuthorOverviewWithStatsProjection> overviewOptional =
+        this.authorRepository.getAuthorOverviewById(author.getId());
+    assertTrue(overviewOptional.isPresent());
+    AuthorOverviewWithStatsProjection overview = overviewOptional.get();
+    assertEquals(2, overview.getBookCount());
+    assertEquals(2 * 16, overview.getTotalDataBytes());
+    assertEquals(2000, overview.getMinYearPublished());
+    assertEquals(2010, overview.getMaxYearPublished());
+
+    // When
+    repaired = this.authorStatsService.reconcile();
+
+    // Then
+    assertEquals(0, repaired);
+  }
+
+  private void deleteBooks(Integer... yearsPublished) {
+    this.entityManager.getEntityManager()
+        .createQuery("delete from Book b where b.yearPublished in :years")
+        .setParameter("years", List.of(yearsPublished))
+        .executeUpdate();
+  }
+
+  /**
+   * Test incremental updates of the stats, the range of years is recomputed from the remaining
+   * Books on removals and cleared once none remain.
+   */
+  @Test
+  public void testAddAndRemoveBooks() {
+    // Given
+    Author author = persistAuthorWithBooks(2000, 2010);
+    this.authorStatsService.recompute(author.getId());
+    this.entityManager.flush();
+
+    // When
+    persistBooks(author, 1990);
+    this.authorStatsRepository.addBooks(author.getId(), 1, 16, 1990, 1990);
+    this.entityManager.clear();
+
+    // Then
+    AuthorStats authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(3, authorStats.getBookCount());
+    assertEquals(3 * 16, authorStats.getTotalDataBytes());
+    assertEquals(1990, authorStats.getMinYearPublished());
+    assertEquals(2010, authorStats.getMaxYearPublished());
+
+    // When
+    deleteBooks(1990, 2000);
+    this.authorStatsRepository.removeBooks(author.getId(), 2, 2 * 16);
+    this.entityManager.clear();
+
+    // Then
+    authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(1, authorStats.getBookCount());
+    assertEquals(16, authorStats.getTotalDataBytes());
+    assertEquals(2010, authorStats.getMinYearPublished());
+    assertEquals(2010, authorStats.getMaxYearPublished());
+
+    // When
+    deleteBooks(2010);
+    this.authorStatsRepository.removeBooks(author.getId(), 1, 16);
+    this.entityManager.clear();
+
+    // Then
+    authorStats = this.authorStatsRepository.findById(author.getId()).orElseThrow();
+    assertEquals(0, authorStats.getBookCount());
+    assertEquals(0, authorStats.getTotalDataBytes());
+    assertNull(authorStats.getMinYearPublished());
+    assertNull(authorStats.getMaxYearPublished());
+    assertEquals(0, this.authorStatsService.reconcile());
+  }
+}
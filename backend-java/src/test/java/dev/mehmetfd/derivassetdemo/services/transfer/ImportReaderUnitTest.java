@@ -0,0 +1,105 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.AuthorRow;
+import dev.mehmetfd.derivassetdemo.services.transfer.ImportRow.BookRow;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Import reader unit test.
+ */
+public class ImportReaderUnitTest {
+
+  private static ImportReader reader(ImportFormat format, String content) throws IOException {
+    InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    return ImportReader.of(format, inputStream, new JsonFactory());
+  }
+
+  /**
+   * Test reading the NDJSON written by an export
+   *
+   * @throws IOException if the content cannot be read
+   */
+  @Test
+  public void testNdjson() throws IOException {
+    try (ImportReader reader = reader(ImportFormat.NDJSON,
+        "{\"type\":\"author\",\"id\":7,\"name\":\"Author\",\"yearBorn\":1900}\n"
+            + "{\"type\":\"book\",\"id\":3,\"name\":\"Book\",\"yearPublished\":1950,"
+            + "\"authorId\":7,\"extra\":{\"a\":[1]},\"data\":\"AQID\"}\n")) {
+      assertEquals(new AuthorRow(7L, "Author", 1900), reader.next());
+      BookRow book = (BookRow) reader.next();
+      assertEquals("Book", book.name());
+      assertEquals(1950, book.yearPublished());
+      assertEquals(7L, book.sourceAuthorId());
+      assertArrayEquals(new byte[]{1, 2, 3}, book.data());
+      assertNull(reader.next());
+    }
+  }
+
+  /**
+   * Test unknown NDJSON types are rejected
+   *
+   * @throws IOException if the content cannot be read
+   */
+  @Test
+  public void testNdjsonUnknownType() throws IOException {
+    try (ImportReader reader = reader(ImportFormat.NDJSON, "{\"type\":\"shelf\"}")) {
+      assertThrows(IllegalArgumentException.class, reader::next);
+    }
+  }
+
+  /**
+   * Test reading CSV with quoted fields and optional columns
+   *
+   * @throws IOException if the content cannot be read
+   */
+  @Test
+  public void testCsv() throws IOException {
+    try (ImportReader reader = reader(ImportFormat.CSV,
+        "authorName,name,yearPublished,data\n"
+            + "\"Doe, Jane\",\"The \"\"Book\"\"\",2001,AQID\n"
+            + "\n"
+            + "Author,Other,2002,\n")) {
+      BookRow book = (BookRow) reader.next();
+      assertEquals("Doe, Jane", book.authorName());
+      assertEquals("The \"Book\"", book.name());
+      assertEquals(2001, book.yearPublished());
+      assertNull(book.authorYearBorn());
+      assertArrayEquals(new byte[]{1, 2, 3}, book.data());
+      book = (BookRow) reader.next();
+      assertEquals("Other", book.name());
+      assertNull(book.data());
+      assertNull(reader.next());
+    }
+  }
+
+  /**
+   * Test malformed CSV
+   *
+   * @throws IOException if the content cannot be read
+   */
+  @Test
+  public void testMalformedCsv() throws IOException {
+    assertThrows(IllegalArgumentException.class, () -> reader(ImportFormat.CSV, "name,data\n"));
+    try (ImportReader reader = reader(ImportFormat.CSV,
+        "name,yearPublished,authorName\nBook,later,Author\n")) {
+      assertThrows(IllegalArgumentException.class, reader::next);
+    }
+    assertEquals(List.of("a", "", "b"), CsvImportReader.parseLine("a,,b"));
+    assertThrows(IllegalArgumentException.class, () -> CsvImportReader.parseLine("\"a"));
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.mehmetfd.derivassetdemo.services.transfer.BookBatchWriter.ImportedBook;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Postgres copy book writer unit test.
+ * <p>
+ * Decodes the encoded Books field by field as the binary format of {@code COPY} lays them out.
+ */
+public class PostgresCopyBookWriterUnitTest {
+
+  private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r',
+      '\n', 0};
+
+  private static DataInputStream encode(List<ImportedBook> books) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      PostgresCopyBookWriter.encode(out, books);
+    }
+    return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+  }
+
+  private static byte[] readField(DataInputStream in, int expectedLength) throws IOException {
+    assertEquals(expectedLength, in.readInt());
+    return in.readNBytes(expectedLength);
+  }
+
+  private static long readLongField(DataInputStream in) throws IOException {
+    assertEquals(Long.BYTES, in.readInt());
+    return in.readLong();
+  }
+
+  private static int readIntField(DataInputStream in) throws IOException {
+    assertEquals(Integer.BYTES, in.readInt());
+    return in.readInt();
+  }
+
+  /**
+   * Test the header, the tuples and the trailer
+   *
+   * @throws IOException if the Books cannot be encoded
+   */
+  @Test
+  public void testEncode() throws IOException {
+    // Given
+    byte[] name = "Bücher".getBytes(StandardCharsets.UTF_8);
+    List<ImportedBook> books = List.of(
+        new ImportedBook(51, "Bücher", 1950, 7, new byte[]{1, 2, 3}),
+        new ImportedBook(52, "Book", -1, Long.MAX_VALUE, new byte[0]));
+
+    // When
+    DataInputStream in = encode(books);
+
+    // Then
+    assertArrayEquals(SIGNATURE, in.readNBytes(SIGNATURE.length));
+    assertEquals(0, in.readInt());
+    assertEquals(0, in.readInt());
+
+    assertEquals(5, in.readShort());
+    assertEquals(51, readLongField(in));
+    assertArrayEquals(name, readField(in, name.length));
+    assertEquals(1950, readIntField(in));
+    assertEquals(7, readLongField(in));
+    assertArrayEquals(new byte[]{1, 2, 3}, readField(in, 3));
+
+    assertEquals(5, in.readShort());
+    assertEquals(52, readLongField(in));
+    assertArrayEquals(new byte[]{'B', 'o', 'o', 'k'}, readField(in, 4));
+    assertEquals(-1, readIntField(in));
+    assertEquals(Long.MAX_VALUE, readLongField(in));
+    assertArrayEquals(new byte[0], readField(in, 0));
+
+    assertEquals(-1, in.readShort());
+    assertEquals(-1, in.read());
+  }
+
+  /**
+   * Test that an empty batch is a header and a trailer only
+   *
+   * @throws IOException if the Books cannot be encoded
+   */
+  @Test
+  public void testEncodeNoBooks() throws IOException {
+    // When
+    DataInputStream in = encode(List.of());
+
+    // Then
+    assertArrayEquals(SIGNATURE, in.readNBytes(SIGNATURE.length));
+    assertEquals(0, in.readLong());
+    assertEquals(-1, in.readShort());
+    assertEquals(-1, in.read());
+  }
+}
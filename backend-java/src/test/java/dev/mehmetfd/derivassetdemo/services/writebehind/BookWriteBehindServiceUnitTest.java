@@ -0,0 +1,236 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.services.writebehind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.mehmetfd.derivassetdemo.models.Author;
+import dev.mehmetfd.derivassetdemo.models.Book;
+import dev.mehmetfd.derivassetdemo.services.AuthorService;
+import dev.mehmetfd.derivassetdemo.services.BookService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Book write behind service unit test.
+ * <p>
+ * Books are submitted before the single worker starts and written when it is stopped, so the
+ * batches are taken from a full queue.
+ */
+public class BookWriteBehindServiceUnitTest {
+
+  private static final long AUTHOR_ID = 1L;
+
+  private final RecordingBookService bookService = new RecordingBookService();
+
+  private BookWriteBehindService service(int queueCapacity, int batchSize, long batchMaxBytes,
+      int dataLength) {
+    return new BookWriteBehindService(new KnownAuthorService(), this.bookService,
+        new SimpleMeterRegistry(), queueCapacity, 1, batchSize, batchMaxBytes, 600000,
+        () -> new byte[dataLength]);
+  }
+
+  private static List<BookCreationTicket> submit(BookWriteBehindService service, int count,
+      Long authorId) {
+    List<BookCreationTicket> tickets = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      tickets.add(service.submit("Book" + i, 2000, authorId).orElseThrow());
+    }
+    return tickets;
+  }
+
+  /**
+   * Test that the queue is batched by the batch size and flushed when stopped
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testBatchesByCountAndFlushesOnStop() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = service(10, 2, Long.MAX_VALUE, 10);
+    List<BookCreationTicket> tickets = submit(service, 7, AUTHOR_ID);
+
+    // When
+    service.start();
+    service.stop();
+
+    // Then
+    assertEquals(List.of(2, 2, 2, 1), this.bookService.batchSizes);
+    for (BookCreationTicket ticket : tickets) {
+      assertEquals(BookCreationTicket.Status.COMPLETED, ticket.getStatus());
+      assertTrue(ticket.getFinishedAtMillis() > 0);
+    }
+    assertEquals(7, tickets.stream().map(BookCreationTicket::getBookId).distinct().count());
+  }
+
+  /**
+   * Test that a batch stops growing once its data reaches the batch data size
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testBatchesByBytes() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = service(10, 50, 1000, 400);
+    submit(service, 7, AUTHOR_ID);
+
+    // When
+    service.start();
+    service.stop();
+
+    // Then
+    assertEquals(List.of(3, 3, 1), this.bookService.batchSizes);
+  }
+
+  /**
+   * Test the ticket of a queued creation and of creations that fail
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testTicketStates() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = service(10, 50, Long.MAX_VALUE, 10);
+    BookCreationTicket queued = service.submit("Book", 2000, AUTHOR_ID).orElseThrow();
+    BookCreationTicket unknownAuthor = service.submit("Book", 2000, -1L).orElseThrow();
+    assertEquals(BookCreationTicket.Status.QUEUED, queued.getStatus());
+    assertNull(queued.getBookId());
+    assertEquals(0, queued.getFinishedAtMillis());
+
+    // When
+    service.start();
+    service.stop();
+
+    // Then
+    assertEquals(BookCreationTicket.Status.COMPLETED, queued.getStatus());
+    assertEquals(Optional.of(queued), service.getTicket(queued.getId()));
+    assertEquals(BookCreationTicket.Status.FAILED, unknownAuthor.getStatus());
+    assertEquals("Author not found", unknownAuthor.getFailureReason());
+    assertNull(unknownAuthor.getBookId());
+    assertEquals(List.of(1), this.bookService.batchSizes);
+  }
+
+  /**
+   * Test that every ticket of a batch fails when the batch can not be saved
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testFailedBatchFailsItsTickets() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = service(10, 50, Long.MAX_VALUE, 10);
+    List<BookCreationTicket> tickets = submit(service, 3, AUTHOR_ID);
+    this.bookService.failing = true;
+
+    // When
+    service.start();
+    service.stop();
+
+    // Then
+    for (BookCreationTicket ticket : tickets) {
+      assertEquals(BookCreationTicket.Status.FAILED, ticket.getStatus());
+      assertEquals("Could not save the book", ticket.getFailureReason());
+    }
+  }
+
+  /**
+   * Test that creations are rejected when the queue is full or the service is stopped
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testRejectsWhenFullOrStopped() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = service(1, 50, Long.MAX_VALUE, 10);
+    BookCreationTicket ticket = service.submit("Book", 2000, AUTHOR_ID).orElseThrow();
+
+    // When
+    Optional<BookCreationTicket> rejected = service.submit("Book", 2000, AUTHOR_ID);
+
+    // Then
+    assertTrue(rejected.isEmpty());
+    service.start();
+    service.stop();
+    assertEquals(BookCreationTicket.Status.COMPLETED, ticket.getStatus());
+    assertTrue(service.submit("Book", 2000, AUTHOR_ID).isEmpty());
+  }
+
+  /**
+   * Test that finished tickets are removed once expired and queued ones are kept
+   *
+   * @throws InterruptedException if interrupted while stopping
+   */
+  @Test
+  public void testRemovesExpiredTickets() throws InterruptedException {
+    // Given
+    BookWriteBehindService service = new BookWriteBehindService(new KnownAuthorService(),
+        this.bookService, new SimpleMeterRegistry(), 10, 1, 50, Long.MAX_VALUE, -1,
+        () -> new byte[10]);
+    BookCreationTicket finished = service.submit("Book", 2000, AUTHOR_ID).orElseThrow();
+    service.start();
+    service.stop();
+
+    // When
+    service.removeExpiredTickets();
+
+    // Then
+    assertTrue(service.getTicket(finished.getId()).isEmpty());
+    assertTrue(service.getTicket(null).isEmpty());
+  }
+
+  /**
+   * An Author service that knows the Author of {@link #AUTHOR_ID} only.
+   */
+  private static class KnownAuthorService extends AuthorService {
+
+    KnownAuthorService() {
+      super(null, null, null);
+    }
+
+    @Override
+    public List<Author> getAuthorsForWrite(Collection<Long> authorIds) {
+      List<Author> authors = new ArrayList<>();
+      if (authorIds.contains(AUTHOR_ID)) {
+        Author author = new Author();
+        author.setId(AUTHOR_ID);
+        authors.add(author);
+      }
+      return authors;
+    }
+  }
+
+  /**
+   * A Book service that records the size of each saved batch and assigns IDs.
+   */
+  private static class RecordingBookService extends BookService {
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile boolean failing;
+    private long nextId = 1;
+
+    RecordingBookService() {
+      super(null, null, null, null);
+    }
+
+    @Override
+    public List<Book> saveBooks(List<Book> books) {
+      if (this.failing) {
+        throw new IllegalStateException("Failing");
+      }
+      this.batchSizes.add(books.size());
+      for (Book book : books) {
+        book.setId(this.nextId++);
+      }
+      return books;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.startup;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+/**
+ * The type Selective lazy initialization post processor unit test.
+ */
+public class SelectiveLazyInitializationPostProcessorUnitTest {
+
+  private static Boolean lazyInit(DefaultListableBeanFactory beanFactory, String beanName) {
+    return ((AbstractBeanDefinition) beanFactory.getBeanDefinition(beanName)).getLazyInit();
+  }
+
+  /**
+   * Test that only the beans of the packages become lazy
+   */
+  @Test
+  public void testBeansOfPackagesBecomeLazy() {
+    // Given
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerBeanDefinition("service", new RootBeanDefinition(Service.class));
+    beanFactory.registerBeanDefinition("configuration",
+        new RootBeanDefinition(Configuration.class));
+    RootBeanDefinition factoryMethodBean = new RootBeanDefinition();
+    factoryMethodBean.setFactoryBeanName("configuration");
+    factoryMethodBean.setFactoryMethodName("createService");
+    beanFactory.registerBeanDefinition("factoryMethodBean", factoryMethodBean);
+    beanFactory.registerBeanDefinition("outside", new RootBeanDefinition(StringBuilder.class));
+
+    // When
+    new SelectiveLazyInitializationPostProcessor(List.of("dev.mehmetfd.derivassetdemo.startup"))
+        .postProcessBeanFactory(beanFactory);
+
+    // Then
+    assertTrue(lazyInit(beanFactory, "service"));
+    assertTrue(lazyInit(beanFactory, "configuration"));
+    assertTrue(lazyInit(beanFactory, "factoryMethodBean"));
+    assertNull(lazyInit(beanFactory, "outside"));
+  }
+
+  /**
+   * Test that explicitly eager beans and smart initializing singletons stay eager
+   */
+  @Test
+  public void testEagerBeansStayEager() {
+    // Given
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    RootBeanDefinition eagerService = new RootBeanDefinition(Service.class);
+    eagerService.setLazyInit(false);
+    beanFactory.registerBeanDefinition("eagerService", eagerService);
+    beanFactory.registerBeanDefinition("initializer", new RootBeanDefinition(Initializer.class));
+
+    // When
+    new SelectiveLazyInitializationPostProcessor(List.of("dev.mehmetfd.derivassetdemo.startup"))
+        .postProcessBeanFactory(beanFactory);
+
+    // Then
+    assertFalse(lazyInit(beanFactory, "eagerService"));
+    assertNull(lazyInit(beanFactory, "initializer"));
+  }
+
+  /**
+   * Plain bean.
+   */
+  public static class Service {
+
+  }
+
+  /**
+   * Configuration with a factory method.
+   */
+  public static class Configuration {
+
+    /**
+     * Create service.
+     *
+     * @return the service
+     */
+    public Service createService() {
+      return new Service();
+    }
+  }
+
+  /**
+   * Bean initialized after every singleton.
+   */
+  public static class Initializer implements SmartInitializingSingleton {
+
+    @Override
+    public void afterSingletonsInstantiated() {
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+/**
+ * The type Startup benchmark, measures the time to the first successful request.
+ * <p>
+ * Starts the packaged application as a new JVM, several times per mode, against the integration
+ * test database and Redis, and requests {@code benchmark.path} until it answers with
+ * {@code 200}. The time from starting the process to that answer is logged per mode: the plain
+ * jar, the {@code fast-startup} profile with lazily initialized beans and the same profile on
+ * the class data sharing archive of {@code build-cds-archive.sh}, which the benchmark trains
+ * first.
+ * <p>
+ * Not part of the build; package the application, then run it with
+ * {@code ./mvnw test -Dtest=StartupBenchmark -Dbenchmark=true}, optionally with
+ * {@code -Dbenchmark.runs} and {@code -Dbenchmark.path}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StartupBenchmark {
+
+  private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+
+  private static final Path JAR = Path.of("target", "derivasset-demo-0.0.1.jar");
+  private static final Path CDS_DIRECTORY = Path.of("target", "startup-benchmark-cds");
+  private static final Path LOG = Path.of("target", "startup-benchmark.log");
+  private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+  private final int runs = Integer.getInteger("benchmark.runs", 5);
+  private final String path = System.getProperty("benchmark.path", "/health");
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofMillis(100))
+      .build();
+
+  /**
+   * Benchmark every mode.
+   *
+   * @throws Exception if the benchmark fails
+   */
+  @Test
+  public void benchmark() throws Exception {
+    if (!Files.exists(JAR)) {
+      throw new IllegalStateException(JAR + " is missing, run ./mvnw package -DskipTests first");
+    }
+    Process training = new ProcessBuilder("sh", "build-cds-archive.sh", JAR.toString(),
+        CDS_DIRECTORY.toString())
+        .inheritIO()
+        .start();
+    if (training.waitFor() != 0) {
+      throw new IllegalStateException("Could not train the class data sharing archive");
+    }
+
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    String jar = JAR.toAbsolutePath().toString();
+    List<String> results = new ArrayList<>();
+    results.add(run("jar", null, List.of(java, "-jar", jar)));
+    results.add(run("fast-startup", null,
+        List.of(java, "-Dspring.profiles.active=fast-startup", "-jar", jar)));
+    results.add(run("fast-startup, CDS", CDS_DIRECTORY.toFile(),
+        List.of(java, "-XX:SharedArchiveFile=application.jsa",
+            "-Dspring.profiles.active=fast-startup", "-jar", "application.jar")));
+    logger.info("Time to the first successful {}, {} runs per mode\n{}", this.path, this.runs,
+        String.join("\n", results));
+  }
+
+  private String run(String mode, File directory, List<String> command) throws Exception {
+    long[] millis = new long[this.runs];
+    for (int i = 0; i < this.runs; i++) {
+      int port = freePort();
+      List<String> arguments = new ArrayList<>(command);
+      arguments.addAll(applicationArguments(port));
+      long start = System.nanoTime();
+      Process process = new ProcessBuilder(arguments)
+          .directory(directory)
+          .redirectErrorStream(true)
+          .redirectOutput(LOG.toAbsolutePath().toFile())
+          .start();
+      try {
+        awaitFirstSuccessfulRequest(process, URI.create("http://localhost:" + port + this.path));
+        millis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      } finally {
+        process.destroy();
+        process.waitFor(30, TimeUnit.SECONDS);
+      }
+    }
+    Arrays.sort(millis);
+    return String.format("%-20s min %6d ms  median %6d ms  max %6d ms", mode, millis[0],
+        millis[millis.length / 2], millis[millis.length - 1]);
+  }
+
+  private void awaitFirstSuccessfulRequest(Process process, URI uri) throws Exception {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("The application exited, see " + LOG);
+      }
+      try {
+        if (this.httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()
+            == 200) {
+          return;
+        }
+      } catch (IOException exception) {
+        // Not listening yet
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("No successful request within " + TIMEOUT);
+  }
+
+  private static List<String> applicationArguments(int port) throws IOException {
+    Properties properties = PropertiesLoaderUtils.loadProperties(
+        new ClassPathResource("application-integration-tests.properties"));
+    // The statement inspector is a test class the packaged application does not have
+    properties.remove("spring.jpa.properties.hibernate.session_factory.statement_inspector");
+    properties.setProperty("spring.data.redis.host", "localhost");
+    properties.setProperty("server.port", String.valueOf(port));
+    properties.setProperty("management.server.port", String.valueOf(freePort()));
+    List<String> arguments = new ArrayList<>();
+    properties.forEach((key, value) -> arguments.add("--" + key + "=" + value));
+    return arguments;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      return serverSocket.getLocalPort();
+    }
+  }
+}
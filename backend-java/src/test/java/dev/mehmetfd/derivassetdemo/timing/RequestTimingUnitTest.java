@@ -0,0 +1,89 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Request timing unit test.
+ */
+public class RequestTimingUnitTest {
+
+  private static final Pattern HEADER = Pattern.compile(
+      "db;dur=\\d+\\.\\d{3}, redis;dur=\\d+\\.\\d{3}, serialization;dur=\\d+\\.\\d{3}, "
+          + "other;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+
+  /**
+   * Test that a nested phase pauses the outer one and the phases add up to the total
+   */
+  @Test
+  public void testNestedPhasesAddUpToTotal() throws Exception {
+    // Given
+    RequestTiming requestTiming = new RequestTiming();
+
+    // When
+    TimingPhase outside = requestTiming.enter(TimingPhase.REDIS);
+    Thread.sleep(20);
+    TimingPhase redis = requestTiming.enter(TimingPhase.DB);
+    Thread.sleep(30);
+    requestTiming.exit(redis);
+    requestTiming.exit(outside);
+    requestTiming.finish();
+
+    // Then
+    assertEquals(TimingPhase.OTHER, outside);
+    assertEquals(TimingPhase.REDIS, redis);
+    assertTrue(requestTiming.getNanos(TimingPhase.DB) >= 30_000_000);
+    assertTrue(requestTiming.getNanos(TimingPhase.REDIS) >= 20_000_000);
+    assertTrue(requestTiming.getNanos(TimingPhase.REDIS) < 30_000_000 + 20_000_000);
+    long sum = 0;
+    for (TimingPhase timingPhase : TimingPhase.values()) {
+      sum += requestTiming.getNanos(timingPhase);
+    }
+    assertEquals(requestTiming.getTotalNanos(), sum);
+  }
+
+  /**
+   * Test that a finished timing stops charging time
+   */
+  @Test
+  public void testFinishedTimingStops() throws Exception {
+    // Given
+    RequestTiming requestTiming = new RequestTiming();
+    requestTiming.enter(TimingPhase.SERIALIZATION);
+    requestTiming.finish();
+    long total = requestTiming.getTotalNanos();
+    long serialization = requestTiming.getNanos(TimingPhase.SERIALIZATION);
+
+    // When
+    Thread.sleep(10);
+    requestTiming.finish();
+
+    // Then
+    assertTrue(requestTiming.isFinished());
+    assertEquals(total, requestTiming.getTotalNanos());
+    assertEquals(serialization, requestTiming.getNanos(TimingPhase.SERIALIZATION));
+  }
+
+  /**
+   * Test that the header lists every phase and the total in milliseconds
+   */
+  @Test
+  public void testHeaderValue() {
+    // Given
+    RequestTiming requestTiming = new RequestTiming();
+    requestTiming.finish();
+
+    // When
+    String value = requestTiming.toHeaderValue();
+
+    // Then
+    assertTrue(HEADER.matcher(value).matches(), value);
+  }
+}
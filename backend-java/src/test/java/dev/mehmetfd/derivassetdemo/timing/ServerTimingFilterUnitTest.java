@@ -0,0 +1,112 @@
+/**
+ * <p>Author: Mehmet F. Dogan <a href="mailto:mehmet@mehmetfd.dev">mehmet@mehmetfd.dev</a></p>
+ * <p>Created: 19.10.2026</p>
+ */
+package dev.mehmetfd.derivassetdemo.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * The type Server timing filter unit test.
+ */
+public class ServerTimingFilterUnitTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private static MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/books/{id}");
+    return request;
+  }
+
+  private Timer timer(String component) {
+    return this.meterRegistry.find("http.server.requests.breakdown")
+        .tags("method", "GET", "uri", "/books/{id}", "component", component)
+        .timer();
+  }
+
+  /**
+   * Test that a timed request gets the header before its body and records the breakdown
+   */
+  @Test
+  public void testTimedRequest() throws Exception {
+    // Given
+    ServerTimingFilter filter = new ServerTimingFilter(this.meterRegistry, true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request(), response, (servletRequest, servletResponse) -> {
+      RequestTiming requestTiming = RequestTimingContext.current();
+      TimingPhase previous = requestTiming.enter(TimingPhase.DB);
+      requestTiming.exit(previous);
+      requestTiming.enter(TimingPhase.SERIALIZATION);
+      servletResponse.getOutputStream().write(new byte[]{'{', '}'});
+      servletResponse.flushBuffer();
+    });
+
+    // Then
+    assertNull(RequestTimingContext.current());
+    assertTrue(response.isCommitted());
+    String header = response.getHeader(ServerTimingResponse.SERVER_TIMING);
+    assertNotNull(header);
+    assertTrue(header.startsWith("db;dur="), header);
+    for (TimingPhase timingPhase : TimingPhase.values()) {
+      assertEquals(1, timer(timingPhase.getMetricName()).count());
+    }
+  }
+
+  /**
+   * Test that an asynchronous request is recorded once its response is complete
+   */
+  @Test
+  public void testAsyncRequestRecordedOnCompletion() throws Exception {
+    // Given
+    ServerTimingFilter filter = new ServerTimingFilter(this.meterRegistry, true);
+    MockHttpServletRequest request = request();
+    request.setAsyncSupported(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, (servletRequest, servletResponse) ->
+        servletRequest.startAsync(servletRequest, servletResponse));
+
+    // Then
+    assertNull(timer("other"));
+    AsyncContext asyncContext = request.getAsyncContext();
+    asyncContext.complete();
+    assertEquals(1, timer("other").count());
+    assertNotNull(response.getHeader(ServerTimingResponse.SERVER_TIMING));
+  }
+
+  /**
+   * Test that requests pass untouched while disabled
+   */
+  @Test
+  public void testDisabledFilterPassesRequests() throws Exception {
+    // Given
+    ServerTimingFilter filter = new ServerTimingFilter(this.meterRegistry, false);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request(), response, (servletRequest, servletResponse) ->
+        assertNull(RequestTimingContext.current()));
+    filter.setEnabled(true);
+    filter.doFilter(request(), response, (servletRequest, servletResponse) ->
+        assertNotNull(RequestTimingContext.current()));
+
+    // Then
+    assertTrue(filter.isEnabled());
+    assertEquals(1, timer("other").count());
+  }
+}